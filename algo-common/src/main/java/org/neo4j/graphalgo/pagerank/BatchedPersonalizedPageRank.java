@@ -0,0 +1,373 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.pagerank;
+
+import org.neo4j.graphalgo.Algorithm;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.RelationshipConsumer;
+import org.neo4j.graphalgo.api.RelationshipWithPropertyConsumer;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeFloatMatrix;
+import org.neo4j.graphalgo.core.utils.partition.Partition;
+import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
+import org.neo4j.graphalgo.core.utils.queue.BoundedLongLongPriorityQueue;
+import org.neo4j.graphalgo.core.utils.queue.BoundedLongPriorityQueue;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.neo4j.graphalgo.pagerank.PageRank.DEFAULT_WEIGHT;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Personalized Page Rank for many source nodes.
+ * <p>
+ * Every source node gets its own personalization vector. Instead of running one Page Rank per source,
+ * up to {@code batchSize} sources are computed together: every node holds one score lane per source
+ * of the current batch, and every iteration gathers all lanes of the incoming neighbours in a single
+ * scan over the inverse adjacency. Scores are stored as floats in {@link HugeFloatMatrix matrices}
+ * of {@code nodeCount * batchSize} entries, which are reused for all batches.
+ * </p>
+ * <p>
+ * Only the {@code topK} highest scoring nodes are kept for every source.
+ * </p>
+ */
+public class BatchedPersonalizedPageRank extends Algorithm<BatchedPersonalizedPageRank, BatchedPersonalizedPageRank> {
+
+    private final Graph graph;
+    private final PageRankVariant pageRankVariant;
+    private final long[] sourceNodeIds;
+    private final double dampingFactor;
+    private final double tolerance;
+    private final int maxIterations;
+    private final int batchSize;
+    private final int topK;
+    private final int concurrency;
+    private final ExecutorService executor;
+    private final AllocationTracker tracker;
+
+    private final BoundedLongPriorityQueue[] topKScores;
+
+    private PullContribution contribution;
+    private HugeDoubleArray shares;
+    private HugeFloatMatrix scores;
+    private HugeFloatMatrix deltas;
+    private HugeFloatMatrix nextDeltas;
+    private int batchLanes;
+    private int ranIterations;
+
+    public static MemoryEstimation memoryEstimation(int sourceCount, int batchSize, int topK) {
+        int lanes = Math.max(1, Math.min(sourceCount, batchSize));
+        return MemoryEstimations.builder(BatchedPersonalizedPageRank.class)
+            .perNode("shares", HugeDoubleArray::memoryEstimation)
+            .perNode("scores", nodeCount -> HugeFloatMatrix.memoryEstimation(nodeCount, lanes))
+            .perNode("deltas", nodeCount -> HugeFloatMatrix.memoryEstimation(nodeCount, lanes))
+            .perNode("next deltas", nodeCount -> HugeFloatMatrix.memoryEstimation(nodeCount, lanes))
+            .add("top k scores", BoundedLongPriorityQueue.memoryEstimation(topK).times(sourceCount))
+            .build();
+    }
+
+    public BatchedPersonalizedPageRank(
+        Graph graph,
+        PageRankVariant pageRankVariant,
+        LongStream sourceNodeIds,
+        PageRankBaseConfig algoConfig,
+        int batchSize,
+        int topK,
+        int concurrency,
+        ExecutorService executor,
+        ProgressLogger progressLogger,
+        AllocationTracker tracker
+    ) {
+        assert algoConfig.maxIterations() >= 1;
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException(formatWithLocale("Batch size must be positive, but was %d.", batchSize));
+        }
+        if (topK <= 0) {
+            throw new IllegalArgumentException(formatWithLocale("TopK must be positive, but was %d.", topK));
+        }
+        this.graph = graph;
+        this.pageRankVariant = pageRankVariant;
+        this.sourceNodeIds = sourceNodeIds.map(graph::toMappedNodeId).filter(mappedId -> mappedId != -1L).toArray();
+        this.dampingFactor = algoConfig.dampingFactor();
+        this.tolerance = algoConfig.tolerance();
+        this.maxIterations = algoConfig.maxIterations();
+        this.batchSize = batchSize;
+        this.topK = (int) Math.min(topK, Math.max(1, graph.nodeCount()));
+        this.concurrency = Math.max(1, concurrency);
+        this.executor = executor;
+        this.tracker = tracker;
+        this.topKScores = new BoundedLongPriorityQueue[this.sourceNodeIds.length];
+        this.progressLogger = progressLogger;
+    }
+
+    /**
+     * @return the number of sources that exist in the graph.
+     */
+    public int sourceCount() {
+        return sourceNodeIds.length;
+    }
+
+    /**
+     * @return the mapped id of the source with the given index.
+     */
+    public long sourceNodeId(int sourceIndex) {
+        return sourceNodeIds[sourceIndex];
+    }
+
+    /**
+     * @return the highest scoring nodes for the source with the given index, ordered by descending score.
+     */
+    public BoundedLongPriorityQueue topK(int sourceIndex) {
+        return topKScores[sourceIndex];
+    }
+
+    /**
+     * Calls the consumer with the mapped source id, the mapped target id and the score
+     * of every retained result, grouped by source.
+     */
+    public void forEach(BoundedLongLongPriorityQueue.Consumer consumer) {
+        for (int sourceIndex = 0; sourceIndex < sourceNodeIds.length; sourceIndex++) {
+            long sourceNodeId = sourceNodeIds[sourceIndex];
+            BoundedLongPriorityQueue queue = topKScores[sourceIndex];
+            if (queue != null) {
+                queue.forEach((nodeId, score) -> consumer.accept(sourceNodeId, nodeId, score));
+            }
+        }
+    }
+
+    /**
+     * @return the number of iterations of the batch that took the most iterations to converge.
+     */
+    public int iterations() {
+        return ranIterations;
+    }
+
+    @Override
+    public BatchedPersonalizedPageRank compute() {
+        getProgressLogger().logMessage(":: Start");
+
+        if (!graph.hasInverseIndex()) {
+            throw new IllegalArgumentException(
+                "Batched personalized PageRank requires an undirected graph or relationships projected with `indexInverse: true`."
+            );
+        }
+
+        ExecutorService executor = ParallelUtil.canRunInParallel(this.executor) ? this.executor : null;
+        DegreeCache degreeCache = pageRankVariant.degreeComputer(graph).degree(executor, concurrency, tracker);
+        contribution = pageRankVariant.pullContribution(graph, degreeCache);
+        if (contribution.normalizeDeltas()) {
+            throw new IllegalArgumentException("Batched personalized PageRank does not support normalized scores.");
+        }
+
+        int lanes = Math.min(batchSize, sourceNodeIds.length);
+        if (lanes == 0) {
+            getProgressLogger().logMessage(":: Finished");
+            return this;
+        }
+
+        long nodeCount = graph.nodeCount();
+        List<Partition> partitions = PartitionUtils.degreeBalancedPartitions(graph, concurrency, executor, tracker);
+
+        shares = HugeDoubleArray.newArray(nodeCount, tracker);
+        scores = HugeFloatMatrix.newMatrix(nodeCount, lanes, tracker);
+        deltas = HugeFloatMatrix.newMatrix(nodeCount, lanes, tracker);
+        nextDeltas = HugeFloatMatrix.newMatrix(nodeCount, lanes, tracker);
+
+        ParallelUtil.runWithConcurrency(
+            concurrency,
+            partitions.stream().map(partition -> (Runnable) () -> computeShares(partition)).collect(Collectors.toList()),
+            terminationFlag,
+            executor
+        );
+
+        List<GatherTask> gatherTasks = partitions.stream().map(GatherTask::new).collect(Collectors.toList());
+        float initialValue = (float) contribution.initialValue(dampingFactor, nodeCount);
+
+        for (int offset = 0; offset < sourceNodeIds.length && running(); offset += lanes) {
+            int firstSource = offset;
+            batchLanes = Math.min(lanes, sourceNodeIds.length - offset);
+            getProgressLogger().logMessage(formatWithLocale(
+                ":: Batch of sources %d to %d :: Start",
+                firstSource + 1,
+                firstSource + batchLanes
+            ));
+
+            ParallelUtil.runWithConcurrency(
+                concurrency,
+                partitions.stream().map(partition -> (Runnable) () -> resetPartition(partition)).collect(Collectors.toList()),
+                terminationFlag,
+                executor
+            );
+            for (int lane = 0; lane < batchLanes; lane++) {
+                long sourceNodeId = sourceNodeIds[firstSource + lane];
+                scores.set(sourceNodeId, lane, initialValue);
+                deltas.set(sourceNodeId, lane, initialValue);
+            }
+
+            runIterations(gatherTasks, executor);
+
+            ParallelUtil.runWithConcurrency(
+                concurrency,
+                IntStream.range(0, batchLanes).mapToObj(lane -> (Runnable) () -> collectTopK(firstSource, lane)).collect(Collectors.toList()),
+                terminationFlag,
+                executor
+            );
+
+            getProgressLogger().logMessage(formatWithLocale(
+                ":: Batch of sources %d to %d :: Finished",
+                firstSource + 1,
+                firstSource + batchLanes
+            ));
+        }
+
+        release();
+        getProgressLogger().logMessage(":: Finished");
+        return this;
+    }
+
+    private void runIterations(List<GatherTask> gatherTasks, ExecutorService executor) {
+        boolean didConverge = false;
+        int iteration;
+        for (iteration = 0; iteration < maxIterations && !didConverge; iteration++) {
+            ParallelUtil.runWithConcurrency(concurrency, gatherTasks, terminationFlag, executor);
+            didConverge = gatherTasks.stream().allMatch(task -> task.stable);
+
+            HugeFloatMatrix previousDeltas = deltas;
+            deltas = nextDeltas;
+            nextDeltas = previousDeltas;
+
+            getProgressLogger().reset(graph.relationshipCount());
+        }
+        ranIterations = Math.max(ranIterations, iteration);
+    }
+
+    private void computeShares(Partition partition) {
+        long endNode = partition.startNode + partition.nodeCount;
+        for (long nodeId = partition.startNode; nodeId < endNode; nodeId++) {
+            shares.set(nodeId, contribution.sourceShare(nodeId));
+        }
+    }
+
+    private void resetPartition(Partition partition) {
+        long endNode = partition.startNode + partition.nodeCount;
+        for (long nodeId = partition.startNode; nodeId < endNode; nodeId++) {
+            scores.fillRow(nodeId, 0F);
+            deltas.fillRow(nodeId, 0F);
+        }
+    }
+
+    private void collectTopK(int firstSource, int lane) {
+        BoundedLongPriorityQueue queue = BoundedLongPriorityQueue.max(topK);
+        HugeFloatMatrix scores = this.scores;
+        for (long nodeId = 0; nodeId < scores.rows(); nodeId++) {
+            float score = scores.get(nodeId, lane);
+            if (score > 0) {
+                queue.offer(nodeId, score);
+            }
+        }
+        topKScores[firstSource + lane] = queue;
+    }
+
+    @Override
+    public BatchedPersonalizedPageRank me() {
+        return this;
+    }
+
+    @Override
+    public void release() {
+        if (scores != null) {
+            tracker.remove(shares.release());
+            tracker.remove(scores.release());
+            tracker.remove(deltas.release());
+            tracker.remove(nextDeltas.release());
+            shares = null;
+            scores = null;
+            deltas = null;
+            nextDeltas = null;
+        }
+    }
+
+    /**
+     * Sums up the deltas of all incoming neighbours of every node in the partition, for all lanes at once.
+     */
+    private final class GatherTask implements Runnable, RelationshipConsumer, RelationshipWithPropertyConsumer {
+        private final Partition partition;
+        private final Graph localGraph;
+        private boolean stable;
+
+        private GatherTask(Partition partition) {
+            this.partition = partition;
+            this.localGraph = graph.concurrentCopy();
+        }
+
+        @Override
+        public void run() {
+            boolean weighted = contribution.weighted();
+            boolean stable = true;
+            HugeFloatMatrix nextDeltas = BatchedPersonalizedPageRank.this.nextDeltas;
+            long endNode = partition.startNode + partition.nodeCount;
+            for (long nodeId = partition.startNode; nodeId < endNode; nodeId++) {
+                nextDeltas.fillRow(nodeId, 0F);
+                if (weighted) {
+                    localGraph.forEachInverseRelationship(nodeId, DEFAULT_WEIGHT, this);
+                } else {
+                    localGraph.forEachInverseRelationship(nodeId, this);
+                }
+                for (int lane = 0; lane < batchLanes; lane++) {
+                    float delta = (float) contribution.delta(dampingFactor, nextDeltas.get(nodeId, lane));
+                    if (delta > tolerance) {
+                        stable = false;
+                    }
+                    nextDeltas.set(nodeId, lane, delta);
+                    scores.addTo(nodeId, lane, delta);
+                }
+                progressLogger.logProgress(localGraph.inverseDegree(nodeId));
+            }
+            this.stable = stable;
+        }
+
+        @Override
+        public boolean accept(long nodeId, long sourceNodeId) {
+            double share = shares.get(sourceNodeId);
+            if (share > 0) {
+                nextDeltas.addScaledRow(nodeId, 0, deltas, sourceNodeId, (float) share);
+            }
+            return true;
+        }
+
+        @Override
+        public boolean accept(long nodeId, long sourceNodeId, double property) {
+            double share = shares.get(sourceNodeId);
+            if (share > 0 && property > 0) {
+                nextDeltas.addScaledRow(nodeId, 0, deltas, sourceNodeId, (float) (share * property));
+            }
+            return true;
+        }
+    }
+}
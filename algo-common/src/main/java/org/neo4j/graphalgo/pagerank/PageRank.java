@@ -97,6 +97,11 @@ import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
  * in order to batch partitions and keep the number of threads in use predictable/configurable.
  * </p>
  * <p>
+ * The partitioned score arrays grow with {@code concurrency * nodeCount}.
+ * With {@link PageRankStrategy#PULL}, scores are instead gathered over incoming relationships
+ * into shared arrays, see {@link PullComputeSteps}.
+ * </p>
+ * <p>
  * [1]: <a href="http://delab.csd.auth.gr/~dimitris/courses/ir_spring06/page_rank_computing/01531136.pdf">An Efficient Partition-Based Parallel PageRank Algorithm</a><br>
  * [2]: <a href="https://www.cs.purdue.edu/homes/dgleich/publications/gleich2004-parallel.pdf">Fast Parallel PageRank: A Linear System Approach</a>
  * </p>
@@ -119,8 +124,10 @@ public class PageRank extends Algorithm<PageRank, PageRank> {
     private final Graph graph;
     private final LongStream sourceNodeIds;
     private final PageRankVariant pageRankVariant;
+    private final PageRankStrategy strategy;
 
     private ComputeSteps computeSteps;
+    private PullComputeSteps pullComputeSteps;
 
     private final HugeDoubleArray result;
 
@@ -154,6 +161,7 @@ public class PageRank extends Algorithm<PageRank, PageRank> {
         this.toleranceValue = algoConfig.tolerance();
         this.sourceNodeIds = sourceNodeIds;
         this.pageRankVariant = pageRankVariant;
+        this.strategy = algoConfig.strategy();
         this.result = HugeDoubleArray.newArray(graph.nodeCount(), tracker);
         this.progressLogger = progressLogger;
     }
@@ -177,9 +185,16 @@ public class PageRank extends Algorithm<PageRank, PageRank> {
     public PageRank compute() {
         getProgressLogger().logMessage(":: Start");
 
-        initializeSteps();
-        computeSteps.run(maxIterations);
-        computeSteps.mergeResults();
+        if (strategy == PageRankStrategy.PULL) {
+            initializePullSteps();
+            pullComputeSteps.run(maxIterations);
+            ranIterations = pullComputeSteps.ranIterations();
+            didConverge = pullComputeSteps.didConverge();
+        } else {
+            initializeSteps();
+            computeSteps.run(maxIterations);
+            computeSteps.mergeResults();
+        }
 
         getProgressLogger().logMessage(":: Finished");
         return this;
@@ -210,6 +225,30 @@ public class PageRank extends Algorithm<PageRank, PageRank> {
                 executor);
     }
 
+    private void initializePullSteps() {
+        if (pullComputeSteps != null) {
+            return;
+        }
+
+        ExecutorService executor = ParallelUtil.canRunInParallel(this.executor)
+                ? this.executor : null;
+
+        DegreeCache degreeCache = pageRankVariant.degreeComputer(graph).degree(executor, concurrency, tracker);
+
+        pullComputeSteps = new PullComputeSteps(
+                graph,
+                pageRankVariant.pullContribution(graph, degreeCache),
+                sourceNodeIds.map(graph::toMappedNodeId).filter(mappedId -> mappedId != -1L).toArray(),
+                result,
+                dampingFactor,
+                toleranceValue,
+                Math.max(1, concurrency),
+                executor,
+                terminationFlag,
+                progressLogger,
+                tracker);
+    }
+
     private int adjustBatchSize(int batchSize) {
         if (batchSize == 0) {
             return Partition.MAX_NODE_COUNT;
@@ -416,7 +455,12 @@ public class PageRank extends Algorithm<PageRank, PageRank> {
 
     @Override
     public void release() {
-        computeSteps.release();
+        if (computeSteps != null) {
+            computeSteps.release();
+        }
+        if (pullComputeSteps != null) {
+            pullComputeSteps.release();
+        }
     }
 
     public final class ComputeSteps {
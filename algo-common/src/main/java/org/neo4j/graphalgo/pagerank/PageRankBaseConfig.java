@@ -20,6 +20,7 @@
 package org.neo4j.graphalgo.pagerank;
 
 import org.immutables.value.Value;
+import org.neo4j.graphalgo.annotation.Configuration;
 import org.neo4j.graphalgo.config.AlgoBaseConfig;
 import org.neo4j.graphalgo.config.IterationsConfig;
 import org.neo4j.graphalgo.config.RelationshipWeightConfig;
@@ -50,6 +51,13 @@ public interface PageRankBaseConfig extends
         return 0.85;
     }
 
+    @Value.Default
+    @Configuration.ConvertWith("org.neo4j.graphalgo.pagerank.PageRankStrategy#parse")
+    @Configuration.ToMapValue("org.neo4j.graphalgo.pagerank.PageRankStrategy#toString")
+    default PageRankStrategy strategy() {
+        return PageRankStrategy.PUSH;
+    }
+
     // TODO: consider moving this to WeightConfig or create a sub interface of that
     @Value.Default
     default boolean cacheWeights() {
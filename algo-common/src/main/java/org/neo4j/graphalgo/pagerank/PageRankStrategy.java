@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.pagerank;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Controls how {@link PageRank} propagates scores between iterations.
+ */
+public enum PageRankStrategy {
+    /**
+     * Every partition pushes its scores along outgoing relationships into
+     * per-partition score arrays, which are synchronized after each iteration.
+     * Requires {@code concurrency^2} score arrays.
+     */
+    PUSH,
+    /**
+     * Every node pulls the scores of its incoming neighbours into a single shared array.
+     * Requires a graph that is undirected or has been projected with an inverse index.
+     */
+    PULL;
+
+    public static PageRankStrategy of(String value) {
+        try {
+            return PageRankStrategy.valueOf(value.toUpperCase(Locale.ENGLISH));
+        } catch (IllegalArgumentException e) {
+            String availableStrategies = Arrays
+                .stream(PageRankStrategy.values())
+                .map(PageRankStrategy::name)
+                .collect(Collectors.joining(", "));
+            throw new IllegalArgumentException(formatWithLocale(
+                "PageRank strategy `%s` is not supported. Must be one of: %s.",
+                value,
+                availableStrategies
+            ));
+        }
+    }
+
+    public static PageRankStrategy parse(Object object) {
+        if (object == null) {
+            return null;
+        }
+        if (object instanceof String) {
+            return of((String) object);
+        }
+        if (object instanceof PageRankStrategy) {
+            return (PageRankStrategy) object;
+        }
+        return null;
+    }
+
+    public static String toString(PageRankStrategy strategy) {
+        return strategy.name();
+    }
+}
@@ -38,6 +38,8 @@ public interface PageRankVariant {
             ProgressLogger progressLogger
     );
 
+    PullContribution pullContribution(Graph graph, DegreeCache degreeCache);
+
     DegreeComputer degreeComputer(Graph graph);
 }
 
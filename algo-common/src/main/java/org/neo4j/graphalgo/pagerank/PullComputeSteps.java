@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.pagerank;
+
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.RelationshipConsumer;
+import org.neo4j.graphalgo.api.RelationshipWithPropertyConsumer;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.ProgressLogger;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
+import org.neo4j.graphalgo.core.utils.partition.Partition;
+import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+
+import static org.neo4j.graphalgo.pagerank.PageRank.DEFAULT_WEIGHT;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Pull based parallel Page Rank.
+ * <p>
+ * Every iteration runs in two phases. First, every node computes the share of its delta
+ * that it passes along a single outgoing relationship. Afterwards, every node sums up the
+ * shares of its incoming neighbours, using the inverse adjacency of the graph.
+ * Each node is only written by the partition that owns it, so all partitions share a single
+ * score array, a single delta array and a single contribution array, independent of the concurrency.
+ * </p>
+ */
+final class PullComputeSteps {
+
+    private final Graph graph;
+    private final PullContribution contribution;
+    private final double dampingFactor;
+    private final double tolerance;
+    private final int concurrency;
+    private final ExecutorService executor;
+    private final TerminationFlag terminationFlag;
+    private final ProgressLogger progressLogger;
+    private final AllocationTracker tracker;
+
+    private final HugeDoubleArray pageRank;
+    private HugeDoubleArray deltas;
+    private HugeDoubleArray contributions;
+
+    private final List<ScatterTask> scatterTasks;
+    private final List<GatherTask> gatherTasks;
+
+    private double deltaScale;
+    private int ranIterations;
+    private boolean didConverge;
+
+    PullComputeSteps(
+        Graph graph,
+        PullContribution contribution,
+        long[] sourceNodeIds,
+        HugeDoubleArray pageRank,
+        double dampingFactor,
+        double tolerance,
+        int concurrency,
+        ExecutorService executor,
+        TerminationFlag terminationFlag,
+        ProgressLogger progressLogger,
+        AllocationTracker tracker
+    ) {
+        if (!graph.hasInverseIndex()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The `%s` strategy requires an undirected graph or relationships projected with `indexInverse: true`.",
+                PageRankStrategy.PULL.name()
+            ));
+        }
+        this.graph = graph;
+        this.contribution = contribution;
+        this.dampingFactor = dampingFactor;
+        this.tolerance = tolerance;
+        this.concurrency = concurrency;
+        this.executor = executor;
+        this.terminationFlag = terminationFlag;
+        this.progressLogger = progressLogger;
+        this.tracker = tracker;
+
+        long nodeCount = graph.nodeCount();
+        this.pageRank = pageRank;
+        this.deltas = HugeDoubleArray.newArray(nodeCount, tracker);
+        this.contributions = HugeDoubleArray.newArray(nodeCount, tracker);
+
+        double initialValue = contribution.initialValue(dampingFactor, nodeCount);
+        if (sourceNodeIds.length == 0) {
+            pageRank.fill(initialValue);
+        } else {
+            pageRank.fill(0.0);
+            for (long sourceNodeId : sourceNodeIds) {
+                pageRank.set(sourceNodeId, initialValue);
+            }
+        }
+        pageRank.copyTo(deltas, nodeCount);
+        this.deltaScale = 1.0;
+
+        List<Partition> partitions = PartitionUtils.degreeBalancedPartitions(graph, concurrency, executor, tracker);
+        this.scatterTasks = partitions.stream().map(ScatterTask::new).collect(Collectors.toList());
+        this.gatherTasks = partitions.stream().map(GatherTask::new).collect(Collectors.toList());
+    }
+
+    int ranIterations() {
+        return ranIterations;
+    }
+
+    boolean didConverge() {
+        return didConverge;
+    }
+
+    void run(int iterations) {
+        didConverge = false;
+        for (ranIterations = 0; ranIterations < iterations && !didConverge; ranIterations++) {
+            progressLogger.logMessage(formatWithLocale(":: Iteration %d :: Start", ranIterations + 1));
+
+            ParallelUtil.runWithConcurrency(concurrency, scatterTasks, terminationFlag, executor);
+            ParallelUtil.runWithConcurrency(concurrency, gatherTasks, terminationFlag, executor);
+
+            didConverge = gatherTasks.stream().allMatch(task -> task.stable);
+            if (contribution.normalizeDeltas()) {
+                double l2Norm = Math.sqrt(gatherTasks.stream().mapToDouble(task -> task.squaredDeltas).sum());
+                deltaScale = l2Norm > 0 ? 1.0 / l2Norm : 1.0;
+            }
+
+            if ((ranIterations < iterations - 1) && !didConverge) {
+                progressLogger.reset(graph.relationshipCount());
+            }
+
+            progressLogger.logMessage(formatWithLocale(":: Iteration %d :: Finished", ranIterations + 1));
+        }
+    }
+
+    void release() {
+        tracker.remove(deltas.release());
+        tracker.remove(contributions.release());
+        deltas = null;
+        contributions = null;
+    }
+
+    /**
+     * Computes the share of the current delta that every node passes to each of its neighbours.
+     */
+    private final class ScatterTask implements Runnable {
+        private final Partition partition;
+
+        private ScatterTask(Partition partition) {
+            this.partition = partition;
+        }
+
+        @Override
+        public void run() {
+            long endNode = partition.startNode + partition.nodeCount;
+            for (long nodeId = partition.startNode; nodeId < endNode; nodeId++) {
+                double delta = deltas.get(nodeId) * deltaScale;
+                contributions.set(nodeId, delta > 0 ? delta * contribution.sourceShare(nodeId) : 0.0);
+            }
+        }
+    }
+
+    /**
+     * Sums up the contributions of all incoming neighbours of every node in the partition.
+     */
+    private final class GatherTask implements Runnable, RelationshipConsumer, RelationshipWithPropertyConsumer {
+        private final Partition partition;
+        private final Graph localGraph;
+        private double sum;
+        private double squaredDeltas;
+        private boolean stable;
+
+        private GatherTask(Partition partition) {
+            this.partition = partition;
+            this.localGraph = graph.concurrentCopy();
+        }
+
+        @Override
+        public void run() {
+            boolean weighted = contribution.weighted();
+            boolean stable = true;
+            double squaredDeltas = 0.0;
+            long endNode = partition.startNode + partition.nodeCount;
+            for (long nodeId = partition.startNode; nodeId < endNode; nodeId++) {
+                sum = 0.0;
+                if (weighted) {
+                    localGraph.forEachInverseRelationship(nodeId, DEFAULT_WEIGHT, this);
+                } else {
+                    localGraph.forEachInverseRelationship(nodeId, this);
+                }
+                double delta = contribution.delta(dampingFactor, sum);
+                if (delta > tolerance) {
+                    stable = false;
+                }
+                squaredDeltas += delta * delta;
+                pageRank.addTo(nodeId, delta);
+                deltas.set(nodeId, delta);
+                progressLogger.logProgress(localGraph.inverseDegree(nodeId));
+            }
+            this.stable = stable;
+            this.squaredDeltas = squaredDeltas;
+        }
+
+        @Override
+        public boolean accept(long nodeId, long sourceNodeId) {
+            sum += contributions.get(sourceNodeId);
+            return true;
+        }
+
+        @Override
+        public boolean accept(long nodeId, long sourceNodeId, double property) {
+            if (property > 0) {
+                sum += property * contributions.get(sourceNodeId);
+            }
+            return true;
+        }
+    }
+}
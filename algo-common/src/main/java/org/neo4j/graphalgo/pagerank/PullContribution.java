@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.pagerank;
+
+/**
+ * Describes how a {@link PageRankVariant} distributes scores
+ * when running with {@link PageRankStrategy#PULL}.
+ */
+public interface PullContribution {
+
+    /**
+     * @return the fraction of the delta of the given node that is passed along
+     *     a single outgoing relationship, or {@code 0} if the node does not contribute.
+     *     For weighted contributions, the fraction is multiplied with the relationship weight.
+     */
+    double sourceShare(long nodeId);
+
+    /**
+     * @return true iff relationship weights should be applied to the source share.
+     *     Relationships with a non-positive weight do not contribute.
+     */
+    default boolean weighted() {
+        return false;
+    }
+
+    default double initialValue(double dampingFactor, long nodeCount) {
+        return 1.0 - dampingFactor;
+    }
+
+    /**
+     * Turns the sum of all contributions a node received into its delta for this iteration.
+     */
+    default double delta(double dampingFactor, double sum) {
+        return dampingFactor * sum;
+    }
+
+    /**
+     * @return true iff the deltas should be divided by their L2 norm after every iteration.
+     */
+    default boolean normalizeDeltas() {
+        return false;
+    }
+}
@@ -38,10 +38,13 @@ import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeLongLongMap;
 import org.neo4j.graphalgo.core.utils.paged.PageFiller;
+import org.neo4j.graphalgo.core.utils.partition.Partition;
+import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
 import org.neo4j.graphalgo.utils.CloseableThreadLocal;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.stream.LongStream;
 
@@ -188,7 +191,7 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
         long nextAvailableInternalCommunityId = -1;
 
         for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
-            long seedCommunity = (long) seedProperty.nodeProperty(nodeId, -1);
+            long seedCommunity = seedProperty.nodeProperty(nodeId, -1) >= 0 ? seedProperty.longValue(nodeId) : -1;
             seedCommunity = seedCommunity >= 0 ? seedCommunity : graph.toOriginalNodeId(nodeId) + maxSeedCommunity;
             if (communityMapping.getOrDefault(seedCommunity, -1) < 0) {
                 communityMapping.addTo(seedCommunity, ++nextAvailableInternalCommunityId);
@@ -274,13 +277,26 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
     }
 
     private Collection<ModularityOptimizationTask> createModularityOptimizationTasks(long currentColor) {
-        final Collection<ModularityOptimizationTask> tasks = new ArrayList<>(concurrency);
-        for (long i = 0L; i < this.nodeCount; i += batchSize) {
+        // at least batchSize nodes per task, but several tasks per thread to balance skewed degrees
+        int partitionCount = (int) Math.min(
+            ParallelUtil.threadCount(batchSize, nodeCount),
+            (long) Math.max(1, concurrency) * PartitionUtils.PARTITIONS_PER_THREAD
+        );
+        List<Partition> partitions = PartitionUtils.degreeBalancedPartitions(
+            graph,
+            concurrency,
+            partitionCount,
+            executor,
+            tracker
+        );
+
+        final Collection<ModularityOptimizationTask> tasks = new ArrayList<>(partitions.size());
+        for (Partition partition : partitions) {
             tasks.add(
                 new ModularityOptimizationTask(
                     graph,
-                    i,
-                    Math.min(i + batchSize, nodeCount),
+                    partition.startNode,
+                    partition.startNode + partition.nodeCount,
                     currentColor,
                     totalNodeWeight,
                     colors,
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.pregel;
+
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.RelationshipIterator;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+
+import java.util.concurrent.ExecutorService;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Stores messages in two primitive, paged double buffers that are swapped after each superstep.
+ * <p>
+ * Every node owns a fixed slice in each buffer, which is sized by the number of its incoming
+ * relationships. Senders reserve a slot in the receivers slice using an atomic counter, so that
+ * sending and receiving messages does not allocate.
+ * <p>
+ * Only supports synchronous computations and a node may send at most one message per
+ * relationship and superstep.
+ * <p>
+ * The message count of a node is reset once its messages have been read,
+ * so that swapping the buffers does not require to reset all nodes.
+ */
+final class ArrayMessenger implements Messenger<ArrayMessenger.ArrayIterator> {
+
+    private final long nodeCount;
+
+    // offsets[nodeId] is the start of the nodes slice in both message buffers
+    private HugeLongArray offsets;
+
+    private HugeDoubleArray readMessages;
+    private HugeDoubleArray writeMessages;
+
+    private HugeAtomicLongArray readCounts;
+    private HugeAtomicLongArray writeCounts;
+
+    ArrayMessenger(Graph graph, int concurrency, ExecutorService executor, AllocationTracker tracker) {
+        this.nodeCount = graph.nodeCount();
+
+        HugeAtomicLongArray inDegrees = HugeAtomicLongArray.newArray(nodeCount, tracker);
+        ParallelUtil.readParallel(concurrency, nodeCount, executor, (start, end) -> {
+            RelationshipIterator relationshipIterator = graph.concurrentCopy();
+            for (long nodeId = start; nodeId < end; nodeId++) {
+                relationshipIterator.forEachRelationship(nodeId, (sourceNodeId, targetNodeId) -> {
+                    inDegrees.getAndAdd(targetNodeId, 1L);
+                    return true;
+                });
+            }
+        });
+
+        this.offsets = HugeLongArray.newArray(nodeCount + 1, tracker);
+        long offset = 0L;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            offsets.set(nodeId, offset);
+            offset += inDegrees.get(nodeId);
+        }
+        offsets.set(nodeCount, offset);
+        inDegrees.release();
+
+        this.readMessages = HugeDoubleArray.newArray(offset, tracker);
+        this.writeMessages = HugeDoubleArray.newArray(offset, tracker);
+        this.readCounts = HugeAtomicLongArray.newArray(nodeCount, tracker);
+        this.writeCounts = HugeAtomicLongArray.newArray(nodeCount, tracker);
+    }
+
+    @Override
+    public void initIteration(int iteration, HugeAtomicBitSet receivers) {
+        // messages written in the previous superstep become readable
+        HugeDoubleArray tmpMessages = readMessages;
+        readMessages = writeMessages;
+        writeMessages = tmpMessages;
+
+        HugeAtomicLongArray tmpCounts = readCounts;
+        readCounts = writeCounts;
+        writeCounts = tmpCounts;
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double message) {
+        long slot = writeCounts.getAndAdd(targetNodeId, 1L);
+        long offset = offsets.get(targetNodeId);
+        if (offset + slot >= offsets.get(targetNodeId + 1)) {
+            throw new IllegalStateException(formatWithLocale(
+                "Node %d received more messages than it has incoming relationships. " +
+                "Nodes must send at most one message per relationship and superstep.",
+                targetNodeId
+            ));
+        }
+        writeMessages.set(offset + slot, message);
+    }
+
+    @Override
+    public ArrayIterator messageIterator() {
+        return new ArrayIterator();
+    }
+
+    @Override
+    public void initMessageIterator(ArrayIterator messageIterator, long nodeId, boolean hasMessages) {
+        if (hasMessages) {
+            long offset = offsets.get(nodeId);
+            messageIterator.init(readMessages, offset, offset + readCounts.get(nodeId));
+            readCounts.set(nodeId, 0L);
+        } else {
+            messageIterator.init(readMessages, 0L, 0L);
+        }
+    }
+
+    @Override
+    public void release() {
+        offsets.release();
+        readMessages.release();
+        writeMessages.release();
+        readCounts.release();
+        writeCounts.release();
+        offsets = null;
+        readMessages = null;
+        writeMessages = null;
+        readCounts = null;
+        writeCounts = null;
+    }
+
+    static final class ArrayIterator implements Messages.MessageIterator {
+
+        private HugeDoubleArray messages;
+        private long position;
+        private long end;
+
+        void init(HugeDoubleArray messages, long start, long end) {
+            this.messages = messages;
+            this.position = start;
+            this.end = end;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return position < end;
+        }
+
+        @Override
+        public double nextDouble() {
+            return messages.get(position++);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return position >= end;
+        }
+    }
+}
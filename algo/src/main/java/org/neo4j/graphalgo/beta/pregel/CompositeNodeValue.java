@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.pregel;
+
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
+
+/**
+ * Holds one column per element of a {@link NodeSchema}.
+ * This is the result of a Pregel computation, the values of each element
+ * can be read as a separate column by its key.
+ */
+public final class CompositeNodeValue {
+
+    private final NodeSchema schema;
+    private final HugeLongArray[] longColumns;
+    private final HugeDoubleArray[] doubleColumns;
+    private final HugeObjectArray<double[]>[] doubleArrayColumns;
+
+    @SuppressWarnings("unchecked")
+    static CompositeNodeValue of(NodeSchema schema, long nodeCount, AllocationTracker tracker) {
+        HugeLongArray[] longColumns = new HugeLongArray[schema.slotCount(NodeSchema.ValueType.LONG)];
+        for (int slot = 0; slot < longColumns.length; slot++) {
+            longColumns[slot] = HugeLongArray.newArray(nodeCount, tracker);
+        }
+        HugeDoubleArray[] doubleColumns = new HugeDoubleArray[schema.slotCount(NodeSchema.ValueType.DOUBLE)];
+        for (int slot = 0; slot < doubleColumns.length; slot++) {
+            doubleColumns[slot] = HugeDoubleArray.newArray(nodeCount, tracker);
+        }
+        HugeObjectArray<double[]>[] doubleArrayColumns =
+            new HugeObjectArray[schema.slotCount(NodeSchema.ValueType.DOUBLE_ARRAY)];
+        for (int slot = 0; slot < doubleArrayColumns.length; slot++) {
+            doubleArrayColumns[slot] = HugeObjectArray.newArray(double[].class, nodeCount, tracker);
+        }
+        return new CompositeNodeValue(schema, longColumns, doubleColumns, doubleArrayColumns);
+    }
+
+    private CompositeNodeValue(
+        NodeSchema schema,
+        HugeLongArray[] longColumns,
+        HugeDoubleArray[] doubleColumns,
+        HugeObjectArray<double[]>[] doubleArrayColumns
+    ) {
+        this.schema = schema;
+        this.longColumns = longColumns;
+        this.doubleColumns = doubleColumns;
+        this.doubleArrayColumns = doubleArrayColumns;
+    }
+
+    public NodeSchema schema() {
+        return schema;
+    }
+
+    public HugeDoubleArray doubleProperties(String key) {
+        return doubleColumns[schema.slot(key, NodeSchema.ValueType.DOUBLE)];
+    }
+
+    public HugeLongArray longProperties(String key) {
+        return longColumns[schema.slot(key, NodeSchema.ValueType.LONG)];
+    }
+
+    public HugeObjectArray<double[]> doubleArrayProperties(String key) {
+        return doubleArrayColumns[schema.slot(key, NodeSchema.ValueType.DOUBLE_ARRAY)];
+    }
+
+    HugeDoubleArray doubleColumn(int slot) {
+        return doubleColumns[slot];
+    }
+
+    HugeLongArray longColumn(int slot) {
+        return longColumns[slot];
+    }
+
+    HugeObjectArray<double[]> doubleArrayColumn(int slot) {
+        return doubleArrayColumns[slot];
+    }
+}
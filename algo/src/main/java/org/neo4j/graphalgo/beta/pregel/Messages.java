@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.pregel;
+
+/**
+ * A read-only cursor over the messages a node received in the previous superstep (synchronous mode)
+ * or since its last computation (asynchronous mode).
+ * <p>
+ * Messages are primitive doubles and are consumed without boxing:
+ * <pre>
+ * while (messages.hasNext()) {
+ *     double message = messages.nextDouble();
+ *     ...
+ * }
+ * </pre>
+ * The cursor is reused across nodes of the same compute step and must not be
+ * retained outside of {@link PregelComputation#compute(PregelContext, long, Messages)}.
+ */
+public final class Messages {
+
+    private final MessageIterator iterator;
+
+    Messages(MessageIterator iterator) {
+        this.iterator = iterator;
+    }
+
+    public boolean hasNext() {
+        return iterator.hasNext();
+    }
+
+    public double nextDouble() {
+        return iterator.nextDouble();
+    }
+
+    public boolean isEmpty() {
+        return iterator.isEmpty();
+    }
+
+    interface MessageIterator {
+
+        boolean hasNext();
+
+        double nextDouble();
+
+        boolean isEmpty();
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.pregel;
+
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicBitSet;
+
+
+/**
+ * Stores the messages that are sent between nodes during a Pregel computation.
+ * <p>
+ * Implementations must support concurrent calls to {@link #sendTo(long, double)}
+ * from multiple compute steps. Message iterators are not thread-safe and are
+ * created once per compute step.
+ */
+interface Messenger<ITERATOR extends Messages.MessageIterator> {
+
+    /**
+     * Called once before each superstep.
+     *
+     * @param iteration the superstep that is about to start
+     * @param receivers tracks nodes that received messages in the previous superstep
+     */
+    void initIteration(int iteration, HugeAtomicBitSet receivers);
+
+    void sendTo(long targetNodeId, double message);
+
+    ITERATOR messageIterator();
+
+    /**
+     * Prepares the given iterator to return the messages for the given node.
+     * If {@code hasMessages} is {@code false}, the iterator must be empty.
+     * Every node that received messages is initialized exactly once in the following superstep,
+     * which allows implementations to reset the state of the node when its messages are read.
+     */
+    void initMessageIterator(ITERATOR messageIterator, long nodeId, boolean hasMessages);
+
+    void release();
+}
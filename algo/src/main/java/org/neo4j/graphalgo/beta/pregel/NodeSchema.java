@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.pregel;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Declares the values that are stored for each node during a Pregel computation.
+ * Every element is identified by a unique key and backed by a separate column.
+ * <p>
+ * Computations resolve the keys they use to a slot once, via {@link #slot(String, ValueType)},
+ * and access the values through the typed methods of {@link PregelContext} that take the slot.
+ * Slots only depend on the order in which elements are added, so a slot resolved on one schema
+ * is valid for every schema built the same way.
+ * <p>
+ * The default schema contains a single {@link ValueType#DOUBLE} element
+ * with key {@link #DEFAULT_NODE_VALUE_KEY}, which is accessed via
+ * {@link PregelContext#getNodeValue(long)} and {@link PregelContext#setNodeValue(long, double)}.
+ * Initial node values are stored in the element with that key, which can also be of type {@link ValueType#LONG}.
+ */
+public final class NodeSchema {
+
+    public static final String DEFAULT_NODE_VALUE_KEY = "value";
+
+    public enum ValueType {
+        LONG,
+        DOUBLE,
+        DOUBLE_ARRAY
+    }
+
+    private static final NodeSchema DEFAULT = builder().putElement(DEFAULT_NODE_VALUE_KEY, ValueType.DOUBLE).build();
+
+    private final Map<String, ValueType> elements;
+    private final Map<String, Integer> slots;
+    private final int[] slotCounts;
+
+    private NodeSchema(Map<String, ValueType> elements) {
+        this.elements = Collections.unmodifiableMap(elements);
+        this.slots = new HashMap<>();
+        this.slotCounts = new int[ValueType.values().length];
+        // slots are numbered per type, so that every type can keep its columns in an array
+        elements.forEach((key, type) -> slots.put(key, slotCounts[type.ordinal()]++));
+    }
+
+    public static NodeSchema defaultSchema() {
+        return DEFAULT;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public Map<String, ValueType> elements() {
+        return elements;
+    }
+
+    public boolean hasDefaultNodeValue() {
+        return elements.get(DEFAULT_NODE_VALUE_KEY) == ValueType.DOUBLE;
+    }
+
+    /**
+     * Returns the slot of the element with the given key, which is used to access its values.
+     *
+     * @throws IllegalArgumentException if there is no such element or it is not of the given type
+     */
+    public int slot(String key, ValueType type) {
+        ValueType actualType = elements.get(key);
+        if (actualType == null) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The node schema does not contain an element with key `%s`.",
+                key
+            ));
+        }
+        if (actualType != type) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The node schema element `%s` is of type %s, but %s was requested.",
+                key,
+                actualType,
+                type
+            ));
+        }
+        return slots.get(key);
+    }
+
+    int slotCount(ValueType type) {
+        return slotCounts[type.ordinal()];
+    }
+
+    public static final class Builder {
+
+        private final Map<String, ValueType> elements = new LinkedHashMap<>();
+
+        private Builder() {}
+
+        public Builder putElement(String key, ValueType type) {
+            if (elements.containsKey(key)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "The node schema already contains an element with key `%s`.",
+                    key
+                ));
+            }
+            elements.put(key, type);
+            return this;
+        }
+
+        public NodeSchema build() {
+            if (elements.isEmpty()) {
+                throw new IllegalArgumentException("The node schema must contain at least one element.");
+            }
+            return new NodeSchema(new LinkedHashMap<>(elements));
+        }
+    }
+}
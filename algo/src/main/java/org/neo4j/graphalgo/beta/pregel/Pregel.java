@@ -19,34 +19,29 @@
  */
 package org.neo4j.graphalgo.beta.pregel;
 
-import com.carrotsearch.hppc.BitSet;
-import org.jctools.queues.MpscLinkedQueue;
 import org.neo4j.graphalgo.api.Degrees;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.api.NodeProperties;
 import org.neo4j.graphalgo.api.RelationshipIterator;
 import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
-import org.neo4j.graphalgo.core.utils.LazyBatchCollection;
 import org.neo4j.graphalgo.core.utils.LazyMappingCollection;
-import org.neo4j.graphalgo.core.utils.collection.primitive.PrimitiveLongCollections;
-import org.neo4j.graphalgo.core.utils.collection.primitive.PrimitiveLongIterable;
-import org.neo4j.graphalgo.core.utils.collection.primitive.PrimitiveLongIterator;
 import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
-import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+import org.neo4j.graphalgo.core.utils.partition.Partition;
+import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.Queue;
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
-import java.util.function.Function;
 import java.util.stream.LongStream;
 
-public final class Pregel {
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
 
-    // Marks the end of messages from the previous iteration in synchronous mode.
-    private static final Double TERMINATION_SYMBOL = Double.NaN;
+public final class Pregel {
 
     private final PregelConfig config;
 
@@ -54,13 +49,14 @@ public final class Pregel {
 
     private final Graph graph;
 
-    private final HugeDoubleArray nodeValues;
+    private final CompositeNodeValue nodeValues;
 
-    private final HugeObjectArray<MpscLinkedQueue<Double>> messageQueues;
+    private final Messenger<?> messenger;
 
     private final int batchSize;
     private final int concurrency;
     private final ExecutorService executor;
+    private final AllocationTracker tracker;
 
     private int iterations;
 
@@ -73,25 +69,25 @@ public final class Pregel {
             final ExecutorService executor,
             final AllocationTracker tracker) {
 
-        // HugeDoubleArray is faster for set operations compared to HugeNodePropertyMap
+        Pregel pregel = new Pregel(graph, config, computation, batchSize, concurrency, executor, tracker);
+
+        NodeSchema schema = computation.nodeSchema();
         double defaultNodeValue = config.getInitialNodeValue();
-        HugeDoubleArray hugeDoubleArray = HugeDoubleArray.newArray(graph.nodeCount(), tracker);
-        ParallelUtil.parallelStreamConsume(
-                LongStream.range(0, graph.nodeCount()),
-                concurrency,
-                nodeIds -> nodeIds.forEach(nodeId -> hugeDoubleArray.set(nodeId, defaultNodeValue))
-        );
+        NodeSchema.ValueType defaultType = schema.elements().get(NodeSchema.DEFAULT_NODE_VALUE_KEY);
+        if (defaultType == NodeSchema.ValueType.DOUBLE) {
+            // HugeDoubleArray is faster for set operations compared to HugeNodePropertyMap
+            HugeDoubleArray hugeDoubleArray = pregel.nodeValues.doubleProperties(NodeSchema.DEFAULT_NODE_VALUE_KEY);
+            ParallelUtil.parallelStreamConsume(
+                    LongStream.range(0, graph.nodeCount()),
+                    concurrency,
+                    nodeIds -> nodeIds.forEach(nodeId -> hugeDoubleArray.set(nodeId, defaultNodeValue))
+            );
+        } else if (defaultType == NodeSchema.ValueType.LONG) {
+            HugeLongArray hugeLongArray = pregel.nodeValues.longProperties(NodeSchema.DEFAULT_NODE_VALUE_KEY);
+            hugeLongArray.fill((long) defaultNodeValue);
+        }
 
-        return new Pregel(
-                graph,
-                config,
-                computation,
-                hugeDoubleArray,
-                batchSize,
-                concurrency,
-                executor,
-                tracker
-        );
+        return pregel;
     }
 
     public static Pregel withInitialNodeValues(
@@ -104,31 +100,50 @@ public final class Pregel {
             final ExecutorService executor,
             final AllocationTracker tracker) {
 
-        // HugeDoubleArray is faster for set operations compared to HugeNodePropertyMap
-        HugeDoubleArray hugeDoubleArray = HugeDoubleArray.newArray(graph.nodeCount(), tracker);
-        ParallelUtil.parallelStreamConsume(
-                LongStream.range(0, graph.nodeCount()),
-                concurrency,
-                nodeIds -> nodeIds.forEach(nodeId -> hugeDoubleArray.set(nodeId, initialNodeValues.nodeProperty(nodeId)))
-        );
+        NodeSchema schema = computation.nodeSchema();
+        NodeSchema.ValueType defaultType = schema.elements().get(NodeSchema.DEFAULT_NODE_VALUE_KEY);
+        if (defaultType != NodeSchema.ValueType.DOUBLE && defaultType != NodeSchema.ValueType.LONG) {
+            throw new IllegalArgumentException(formatWithLocale(
+                    "Initial node values require a node schema element `%s` of type %s or %s.",
+                    NodeSchema.DEFAULT_NODE_VALUE_KEY,
+                    NodeSchema.ValueType.DOUBLE,
+                    NodeSchema.ValueType.LONG
+            ));
+        }
 
-        return new Pregel(
-                graph,
-                config,
-                computation,
-                hugeDoubleArray,
-                batchSize,
-                concurrency,
-                executor,
-                tracker
-        );
+        Pregel pregel = new Pregel(graph, config, computation, batchSize, concurrency, executor, tracker);
+
+        if (defaultType == NodeSchema.ValueType.DOUBLE) {
+            // HugeDoubleArray is faster for set operations compared to HugeNodePropertyMap
+            HugeDoubleArray hugeDoubleArray = pregel.nodeValues.doubleProperties(NodeSchema.DEFAULT_NODE_VALUE_KEY);
+            ParallelUtil.parallelStreamConsume(
+                    LongStream.range(0, graph.nodeCount()),
+                    concurrency,
+                    nodeIds -> nodeIds.forEach(nodeId -> hugeDoubleArray.set(nodeId, initialNodeValues.nodeProperty(nodeId)))
+            );
+        } else {
+            // nodes without an initial value get the configured default, as there is no long equivalent of NaN
+            long defaultNodeValue = (long) config.getInitialNodeValue();
+            HugeLongArray hugeLongArray = pregel.nodeValues.longProperties(NodeSchema.DEFAULT_NODE_VALUE_KEY);
+            ParallelUtil.parallelStreamConsume(
+                    LongStream.range(0, graph.nodeCount()),
+                    concurrency,
+                    nodeIds -> nodeIds.forEach(nodeId -> hugeLongArray.set(
+                            nodeId,
+                            Double.isNaN(initialNodeValues.nodeProperty(nodeId))
+                                    ? defaultNodeValue
+                                    : initialNodeValues.longValue(nodeId)
+                    ))
+            );
+        }
+
+        return pregel;
     }
 
     private Pregel(
             final Graph graph,
             final PregelConfig config,
             final PregelComputation computation,
-            final HugeDoubleArray initialNodeValues,
             final int batchSize,
             final int concurrency,
             final ExecutorService executor,
@@ -136,42 +151,81 @@ public final class Pregel {
         this.graph = graph;
         this.config = config;
         this.computation = computation;
-        this.nodeValues = initialNodeValues;
+        this.nodeValues = CompositeNodeValue.of(computation.nodeSchema(), graph.nodeCount(), tracker);
         this.batchSize = batchSize;
         this.concurrency = concurrency;
         this.executor = executor;
-
-        this.messageQueues = initLinkedQueues(graph, tracker);
+        this.tracker = tracker;
+
+        Optional<Reducer> reducer = computation.reducer();
+        if (reducer.isPresent()) {
+            this.messenger = new ReducingMessenger(graph.nodeCount(), config, reducer.get(), concurrency, tracker);
+        } else if (config.getMessageStore() == PregelConfig.MessageStore.ARRAY) {
+            this.messenger = new ArrayMessenger(graph, concurrency, executor, tracker);
+        } else {
+            this.messenger = new QueueMessenger(graph.nodeCount(), config, concurrency, tracker);
+        }
     }
 
+    /**
+     * Runs the computation and returns the default node values.
+     * Computations that declare a custom {@link NodeSchema}
+     * need to use {@link #computeNodeValues(int)} instead.
+     */
     public HugeDoubleArray run(final int maxIterations) {
+        if (!nodeValues.schema().hasDefaultNodeValue()) {
+            throw new IllegalStateException(formatWithLocale(
+                    "The node schema does not contain the default element `%s` of type %s, use `computeNodeValues` instead.",
+                    NodeSchema.DEFAULT_NODE_VALUE_KEY,
+                    NodeSchema.ValueType.DOUBLE
+            ));
+        }
+        return computeNodeValues(maxIterations).doubleProperties(NodeSchema.DEFAULT_NODE_VALUE_KEY);
+    }
+
+    public CompositeNodeValue computeNodeValues(final int maxIterations) {
         iterations = 0;
         boolean canHalt = false;
-        // Tracks if a node received messages in the previous iteration
-        // TODO: try RoaringBitSet instead
-        BitSet receiverBits = new BitSet(graph.nodeCount());
+        // Tracks if a node received messages in the previous iteration,
+        // bits are cleared once the messages have been read
+        HugeAtomicBitSet receiverBits = HugeAtomicBitSet.create(graph.nodeCount(), tracker);
+        // Tracks if a node received messages in the current iteration
+        HugeAtomicBitSet senderBits = HugeAtomicBitSet.create(graph.nodeCount(), tracker);
         // Tracks if a node voted to halt in the previous iteration
-        BitSet voteBits = new BitSet(graph.nodeCount());
-
-        // TODO: maybe try degree partitioning or clustering (better locality)
-        Collection<PrimitiveLongIterable> nodeBatches = LazyBatchCollection.of(
-                graph.nodeCount(),
-                batchSize,
-                (start, length) -> () -> PrimitiveLongCollections.range(start, start + length - 1L));
+        HugeAtomicBitSet voteBits = HugeAtomicBitSet.create(graph.nodeCount(), tracker);
+
+        // Batches are balanced by degree, so that batches containing high-degree nodes
+        // do not dominate the runtime of a superstep.
+        int batchCount = Math.toIntExact(ParallelUtil.threadCount((long) batchSize, graph.nodeCount()));
+        Collection<Partition> nodeBatches = PartitionUtils.degreeBalancedPartitions(
+            graph,
+            concurrency,
+            batchCount,
+            executor,
+            tracker
+        );
 
         while (iterations < maxIterations && !canHalt) {
             int iteration = iterations++;
 
-            final List<ComputeStep> computeSteps = runComputeSteps(nodeBatches, iteration, receiverBits, voteBits);
+            boolean hasSentMessages = runComputeSteps(nodeBatches, iteration, receiverBits, senderBits, voteBits);
 
-            receiverBits = unionBitSets(computeSteps, ComputeStep::getSenders);
-            voteBits = unionBitSets(computeSteps, ComputeStep::getVotes);
+            // Messages sent in this iteration are received in the next one.
+            // Every receiver has been computed and cleared its bit,
+            // so the previous receivers can be reused without clearing them.
+            HugeAtomicBitSet tmp = receiverBits;
+            receiverBits = senderBits;
+            senderBits = tmp;
 
             // No messages have been sent
-            if (receiverBits.nextSetBit(0) == -1) {
+            if (!hasSentMessages) {
                 canHalt = true;
             }
         }
+        receiverBits.release();
+        senderBits.release();
+        voteBits.release();
+        messenger.release();
         return nodeValues;
     }
 
@@ -179,138 +233,131 @@ public final class Pregel {
         return iterations;
     }
 
-    private BitSet unionBitSets(Collection<ComputeStep> computeSteps, Function<ComputeStep, BitSet> fn) {
-        return ParallelUtil.parallelStream(computeSteps.stream(), concurrency, stream ->
-                stream.map(fn).reduce((bitSet1, bitSet2) -> {
-                    bitSet1.union(bitSet2);
-                    return bitSet1;
-                }).orElseGet(BitSet::new));
-    }
-
-    private List<ComputeStep> runComputeSteps(
-            Collection<PrimitiveLongIterable> nodeBatches,
+    private boolean runComputeSteps(
+            Collection<Partition> nodeBatches,
             final int iteration,
-            BitSet messageBits,
-            BitSet voteToHaltBits) {
-
-        final List<ComputeStep> tasks = new ArrayList<>(nodeBatches.size());
-
-        if (!config.isAsynchronous()) {
-            // Synchronization barrier:
-            // Add termination flag to message queues that
-            // received messages in the previous iteration.
-            if (iteration > 0) {
-                ParallelUtil.parallelStreamConsume(
-                        LongStream.range(0, graph.nodeCount()),
-                        concurrency,
-                        nodeIds -> nodeIds.forEach(nodeId -> {
-                            if (messageBits.get(nodeId)) {
-                                messageQueues.get(nodeId).add(TERMINATION_SYMBOL);
-                            }
-                        }));
-            }
-        }
+            HugeAtomicBitSet receiverBits,
+            HugeAtomicBitSet senderBits,
+            HugeAtomicBitSet voteBits) {
+
+        messenger.initIteration(iteration, receiverBits);
 
-        Collection<ComputeStep> computeSteps = LazyMappingCollection.of(
+        List<ComputeStep<?>> tasks = new ArrayList<>(nodeBatches.size());
+
+        Collection<ComputeStep<?>> computeSteps = LazyMappingCollection.of(
                 nodeBatches,
                 nodeBatch -> {
-                    ComputeStep task = new ComputeStep(
+                    ComputeStep<?> task = new ComputeStep<>(
                             computation,
                             config,
-                            graph.nodeCount(),
                             iteration,
                             nodeBatch,
                             graph,
                             nodeValues,
-                            messageBits,
-                            voteToHaltBits,
-                            messageQueues,
+                            receiverBits,
+                            senderBits,
+                            voteBits,
+                            messenger,
                             graph);
                     tasks.add(task);
                     return task;
                 });
 
         ParallelUtil.runWithConcurrency(concurrency, computeSteps, executor);
-        return tasks;
-    }
 
-    @SuppressWarnings({"unchecked"})
-    private HugeObjectArray<MpscLinkedQueue<Double>> initLinkedQueues(Graph graph, AllocationTracker tracker) {
-        // sad java 😞
-        Class<MpscLinkedQueue<Double>> queueClass = (Class<MpscLinkedQueue<Double>>) new MpscLinkedQueue<Double>().getClass();
-
-        HugeObjectArray<MpscLinkedQueue<Double>> messageQueues = HugeObjectArray.newArray(
-                queueClass,
-                graph.nodeCount(),
-                tracker);
-
-        ParallelUtil.parallelStreamConsume(
-                LongStream.range(0, graph.nodeCount()),
-                concurrency,
-                nodeIds -> nodeIds.forEach(nodeId -> messageQueues.set(nodeId, new MpscLinkedQueue<Double>())));
-
-        return messageQueues;
+        return tasks.stream().anyMatch(ComputeStep::hasSentMessages);
     }
 
-    public static final class ComputeStep implements Runnable {
+    public static final class ComputeStep<ITERATOR extends Messages.MessageIterator> implements Runnable {
 
         private final int iteration;
         private final PregelComputation computation;
         private final PregelContext pregelContext;
-        private final BitSet senderBits;
-        private final BitSet receiverBits;
-        private final BitSet voteBits;
-        private final PrimitiveLongIterable nodeBatch;
+        private final HugeAtomicBitSet receiverBits;
+        private final HugeAtomicBitSet senderBits;
+        private final HugeAtomicBitSet voteBits;
+        private final Partition nodeBatch;
         private final Degrees degrees;
-        private final HugeDoubleArray nodeValues;
-        private final HugeObjectArray<? extends Queue<Double>> messageQueues;
+        private final CompositeNodeValue nodeValues;
+        private final HugeDoubleArray defaultNodeValues;
+        private final Messenger<ITERATOR> messenger;
+        private final ITERATOR messageIterator;
+        private final Messages messages;
         private final RelationshipIterator relationshipIterator;
 
+        private boolean hasSentMessages;
+
         private ComputeStep(
                 final PregelComputation computation,
                 final PregelConfig config,
-                final long globalNodeCount,
                 final int iteration,
-                final PrimitiveLongIterable nodeBatch,
+                final Partition nodeBatch,
                 final Degrees degrees,
-                final HugeDoubleArray nodeValues,
-                final BitSet receiverBits,
-                final BitSet voteBits,
-                final HugeObjectArray<? extends Queue<Double>> messageQueues,
+                final CompositeNodeValue nodeValues,
+                final HugeAtomicBitSet receiverBits,
+                final HugeAtomicBitSet senderBits,
+                final HugeAtomicBitSet voteBits,
+                final Messenger<ITERATOR> messenger,
                 final RelationshipIterator relationshipIterator) {
             this.iteration = iteration;
             this.computation = computation;
-            this.senderBits = new BitSet(globalNodeCount);
             this.receiverBits = receiverBits;
+            this.senderBits = senderBits;
             this.voteBits = voteBits;
             this.nodeBatch = nodeBatch;
             this.degrees = degrees;
             this.nodeValues = nodeValues;
-            this.messageQueues = messageQueues;
+            this.defaultNodeValues = nodeValues.schema().hasDefaultNodeValue()
+                ? nodeValues.doubleProperties(NodeSchema.DEFAULT_NODE_VALUE_KEY)
+                : null;
+            this.messenger = messenger;
+            this.messageIterator = messenger.messageIterator();
+            this.messages = new Messages(messageIterator);
             this.relationshipIterator = relationshipIterator.concurrentCopy();
             this.pregelContext = new PregelContext(this, config);
         }
 
         @Override
         public void run() {
-            final PrimitiveLongIterator nodesIterator = nodeBatch.iterator();
+            long startNode = nodeBatch.startNode;
+            long endNode = startNode + nodeBatch.nodeCount;
+            if (startNode >= endNode) {
+                return;
+            }
 
-            while (nodesIterator.hasNext()) {
-                final long nodeId = nodesIterator.next();
+            // Only nodes that received messages or did not vote to halt are active.
+            // We evaluate whole bitset words, so that inactive ranges are skipped
+            // without touching individual nodes. A superstep still reads one word
+            // per 64 nodes, all other work is proportional to the active nodes.
+            long lastWordIndex = (endNode - 1) >>> 6;
+            for (long wordIndex = startNode >>> 6; wordIndex <= lastWordIndex; wordIndex++) {
+                long wordStart = wordIndex << 6;
+                long receivers = receiverBits.word(wordIndex);
+                long activeNodes = receivers | ~voteBits.word(wordIndex);
+                if (wordStart < startNode) {
+                    activeNodes &= -1L << startNode;
+                }
+                if (wordStart + 64 > endNode) {
+                    activeNodes &= -1L >>> (64 - (endNode - wordStart));
+                }
+
+                while (activeNodes != 0) {
+                    long nodeId = wordStart + Long.numberOfTrailingZeros(activeNodes);
+                    activeNodes &= activeNodes - 1;
 
-                if (receiverBits.get(nodeId) || !voteBits.get(nodeId)) {
                     voteBits.clear(nodeId);
-                    computation.compute(pregelContext, nodeId, receiveMessages(nodeId));
+                    boolean hasMessages = (receivers & (1L << nodeId)) != 0;
+                    if (hasMessages) {
+                        // leaves the bit set empty for reuse in the next superstep
+                        receiverBits.clear(nodeId);
+                    }
+                    computation.compute(pregelContext, nodeId, receiveMessages(nodeId, hasMessages));
                 }
             }
         }
 
-        BitSet getSenders() {
-            return senderBits;
-        }
-
-        BitSet getVotes() {
-            return voteBits;
+        boolean hasSentMessages() {
+            return hasSentMessages;
         }
 
         public int getIteration() {
@@ -322,11 +369,23 @@ public final class Pregel {
         }
 
         double getNodeValue(final long nodeId) {
-            return nodeValues.get(nodeId);
+            return defaultNodeValues().get(nodeId);
         }
 
         void setNodeValue(final long nodeId, final double value) {
-            nodeValues.set(nodeId, value);
+            defaultNodeValues().set(nodeId, value);
+        }
+
+        CompositeNodeValue nodeValues() {
+            return nodeValues;
+        }
+
+        private HugeDoubleArray defaultNodeValues() {
+            if (defaultNodeValues == null) {
+                // resolving the default key fails with a descriptive message
+                return nodeValues.doubleProperties(NodeSchema.DEFAULT_NODE_VALUE_KEY);
+            }
+            return defaultNodeValues;
         }
 
         void voteToHalt(long nodeId) {
@@ -334,15 +393,17 @@ public final class Pregel {
         }
 
         void sendMessages(final long nodeId, final double message) {
+            hasSentMessages |= degrees.degree(nodeId) > 0;
             relationshipIterator.forEachRelationship(nodeId, (sourceNodeId, targetNodeId) -> {
-                messageQueues.get(targetNodeId).add(message);
+                messenger.sendTo(targetNodeId, message);
                 senderBits.set(targetNodeId);
                 return true;
             });
         }
 
-        private Queue<Double> receiveMessages(final long nodeId) {
-            return receiverBits.get(nodeId) ? messageQueues.get(nodeId) : null;
+        private Messages receiveMessages(final long nodeId, final boolean hasMessages) {
+            messenger.initMessageIterator(messageIterator, nodeId, hasMessages);
+            return messages;
         }
     }
 }
@@ -19,10 +19,28 @@
  */
 package org.neo4j.graphalgo.beta.pregel;
 
-import java.util.Queue;
+import java.util.Optional;
 
 @FunctionalInterface
 public interface PregelComputation {
 
-    void compute(PregelContext context, long nodeId, Queue<Double> messages);
+    void compute(PregelContext context, long nodeId, Messages messages);
+
+    /**
+     * Declares the values stored for each node. By default, each node
+     * stores a single double value, see {@link NodeSchema#defaultSchema()}.
+     */
+    default NodeSchema nodeSchema() {
+        return NodeSchema.defaultSchema();
+    }
+
+    /**
+     * If a reducer is specified, all messages sent to a node are combined
+     * into a single message as they arrive. In that case, {@link Messages}
+     * contains at most one element and the message store configured in
+     * {@link PregelConfig} is not used.
+     */
+    default Optional<Reducer> reducer() {
+        return Optional.empty();
+    }
 }
@@ -22,10 +22,12 @@ package org.neo4j.graphalgo.beta.pregel;
 public final class PregelConfig {
     private final double initialNodeValue;
     private final boolean isAsynchronous;
+    private final MessageStore messageStore;
 
-    private PregelConfig(double initialNodeValue, boolean isAsynchronous) {
+    private PregelConfig(double initialNodeValue, boolean isAsynchronous, MessageStore messageStore) {
         this.initialNodeValue = initialNodeValue;
         this.isAsynchronous = isAsynchronous;
+        this.messageStore = messageStore;
     }
 
     double getInitialNodeValue() {
@@ -36,9 +38,27 @@ public final class PregelConfig {
         return isAsynchronous;
     }
 
+    MessageStore getMessageStore() {
+        return messageStore;
+    }
+
+    public enum MessageStore {
+        /**
+         * One concurrent queue per node, messages are boxed.
+         * Supports synchronous and asynchronous computations.
+         */
+        QUEUE,
+        /**
+         * Double-buffered primitive arrays, sliced by the incoming degree of each node.
+         * Does not allocate per message, but only supports synchronous computations.
+         */
+        ARRAY
+    }
+
     public static class Builder {
         private double initialNodeValue = -1.0;
         private boolean isAsynchronous = false;
+        private MessageStore messageStore = MessageStore.QUEUE;
 
         public Builder withInitialNodeValue(double initialNodeValue) {
             this.initialNodeValue = initialNodeValue;
@@ -50,8 +70,16 @@ public final class PregelConfig {
             return this;
         }
 
+        public Builder withMessageStore(MessageStore messageStore) {
+            this.messageStore = messageStore;
+            return this;
+        }
+
         public PregelConfig build() {
-            return new PregelConfig(initialNodeValue, isAsynchronous);
+            if (isAsynchronous && messageStore == MessageStore.ARRAY) {
+                throw new IllegalArgumentException("The array message store only supports synchronous computations.");
+            }
+            return new PregelConfig(initialNodeValue, isAsynchronous, messageStore);
         }
     }
 }
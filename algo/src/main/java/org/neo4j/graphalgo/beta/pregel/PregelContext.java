@@ -21,10 +21,10 @@ package org.neo4j.graphalgo.beta.pregel;
 
 public final class PregelContext {
 
-    private final Pregel.ComputeStep computeStep;
+    private final Pregel.ComputeStep<?> computeStep;
     private final PregelConfig config;
 
-    PregelContext(Pregel.ComputeStep computeStep, PregelConfig config) {
+    PregelContext(Pregel.ComputeStep<?> computeStep, PregelConfig config) {
         this.computeStep = computeStep;
         this.config = config;
     }
@@ -49,6 +49,34 @@ public final class PregelContext {
         computeStep.setNodeValue(nodeId, value);
     }
 
+    /**
+     * Returns the value of a {@link NodeSchema.ValueType#DOUBLE} element,
+     * the slot is resolved once via {@link NodeSchema#slot(String, NodeSchema.ValueType)}.
+     */
+    public double doubleNodeValue(long nodeId, int slot) {
+        return computeStep.nodeValues().doubleColumn(slot).get(nodeId);
+    }
+
+    public long longNodeValue(long nodeId, int slot) {
+        return computeStep.nodeValues().longColumn(slot).get(nodeId);
+    }
+
+    public double[] doubleArrayNodeValue(long nodeId, int slot) {
+        return computeStep.nodeValues().doubleArrayColumn(slot).get(nodeId);
+    }
+
+    public void setDoubleNodeValue(long nodeId, int slot, double value) {
+        computeStep.nodeValues().doubleColumn(slot).set(nodeId, value);
+    }
+
+    public void setLongNodeValue(long nodeId, int slot, long value) {
+        computeStep.nodeValues().longColumn(slot).set(nodeId, value);
+    }
+
+    public void setDoubleArrayNodeValue(long nodeId, int slot, double[] value) {
+        computeStep.nodeValues().doubleArrayColumn(slot).set(nodeId, value);
+    }
+
     public void sendMessages(long nodeId, double message) {
         computeStep.sendMessages(nodeId, message);
     }
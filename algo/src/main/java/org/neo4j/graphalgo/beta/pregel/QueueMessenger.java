@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.pregel;
+
+import org.jctools.queues.MpscLinkedQueue;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
+
+import java.util.stream.LongStream;
+
+/**
+ * Keeps one unbounded queue per node. Supports both, synchronous and asynchronous computations.
+ * Every message is boxed and allocates a queue node.
+ */
+final class QueueMessenger implements Messenger<QueueMessenger.QueueIterator> {
+
+    // Marks the end of messages from the previous iteration in synchronous mode.
+    private static final Double TERMINATION_SYMBOL = Double.NaN;
+
+    private final long nodeCount;
+    private final boolean isAsynchronous;
+    private final int concurrency;
+
+    private HugeObjectArray<MpscLinkedQueue<Double>> messageQueues;
+
+    QueueMessenger(long nodeCount, PregelConfig config, int concurrency, AllocationTracker tracker) {
+        this.nodeCount = nodeCount;
+        this.isAsynchronous = config.isAsynchronous();
+        this.concurrency = concurrency;
+        this.messageQueues = initLinkedQueues(tracker);
+    }
+
+    @Override
+    public void initIteration(int iteration, HugeAtomicBitSet receivers) {
+        if (!isAsynchronous) {
+            // Synchronization barrier:
+            // Add termination flag to message queues that
+            // received messages in the previous iteration.
+            if (iteration > 0) {
+                for (long nodeId = receivers.nextSetBit(0); nodeId != -1; nodeId = receivers.nextSetBit(nodeId + 1)) {
+                    messageQueues.get(nodeId).add(TERMINATION_SYMBOL);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double message) {
+        messageQueues.get(targetNodeId).add(message);
+    }
+
+    @Override
+    public QueueIterator messageIterator() {
+        return new QueueIterator(isAsynchronous);
+    }
+
+    @Override
+    public void initMessageIterator(QueueIterator messageIterator, long nodeId, boolean hasMessages) {
+        messageIterator.init(hasMessages ? messageQueues.get(nodeId) : null);
+    }
+
+    @Override
+    public void release() {
+        messageQueues.release();
+        messageQueues = null;
+    }
+
+    @SuppressWarnings({"unchecked"})
+    private HugeObjectArray<MpscLinkedQueue<Double>> initLinkedQueues(AllocationTracker tracker) {
+        // sad java 😞
+        Class<MpscLinkedQueue<Double>> queueClass = (Class<MpscLinkedQueue<Double>>) new MpscLinkedQueue<Double>().getClass();
+
+        HugeObjectArray<MpscLinkedQueue<Double>> messageQueues = HugeObjectArray.newArray(
+            queueClass,
+            nodeCount,
+            tracker
+        );
+
+        ParallelUtil.parallelStreamConsume(
+            LongStream.range(0, nodeCount),
+            concurrency,
+            nodeIds -> nodeIds.forEach(nodeId -> messageQueues.set(nodeId, new MpscLinkedQueue<>()))
+        );
+
+        return messageQueues;
+    }
+
+    static final class QueueIterator implements Messages.MessageIterator {
+
+        private final boolean isAsynchronous;
+
+        private MpscLinkedQueue<Double> queue;
+
+        QueueIterator(boolean isAsynchronous) {
+            this.isAsynchronous = isAsynchronous;
+        }
+
+        void init(MpscLinkedQueue<Double> queue) {
+            this.queue = queue;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (queue == null) {
+                return false;
+            }
+            Double head = queue.peek();
+            if (head == null) {
+                return false;
+            }
+            if (!isAsynchronous && head.isNaN()) {
+                // consume the termination symbol
+                queue.poll();
+                queue = null;
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public double nextDouble() {
+            return queue.poll();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return !hasNext();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.pregel;
+
+/**
+ * A reducer is used to combine messages sent to a single node. Based on
+ * a reduce function, multiple messages are condensed into a single one.
+ * Use cases are computing the sum, count, minimum or maximum of messages.
+ * <p>
+ * Specifying a reducer in {@link PregelComputation#reducer()} significantly
+ * reduces memory consumption and runtime of the computation, as only a
+ * single value per node and superstep needs to be stored.
+ */
+public interface Reducer {
+
+    /**
+     * The identity element is used as the initial value.
+     * It must be neutral with respect to the {@link #reduce} function.
+     */
+    double identity();
+
+    /**
+     * Computes a new value based on the current value and the message.
+     * The function must be associative and commutative, as the order
+     * in which messages arrive is not defined.
+     */
+    double reduce(double current, double message);
+
+    final class Sum implements Reducer {
+
+        @Override
+        public double identity() {
+            return 0.0;
+        }
+
+        @Override
+        public double reduce(double current, double message) {
+            return current + message;
+        }
+    }
+
+    final class Min implements Reducer {
+
+        @Override
+        public double identity() {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        @Override
+        public double reduce(double current, double message) {
+            return Math.min(current, message);
+        }
+    }
+
+    final class Max implements Reducer {
+
+        @Override
+        public double identity() {
+            return Double.NEGATIVE_INFINITY;
+        }
+
+        @Override
+        public double reduce(double current, double message) {
+            return Math.max(current, message);
+        }
+    }
+}
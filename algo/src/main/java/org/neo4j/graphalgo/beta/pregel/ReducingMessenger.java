@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.pregel;
+
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicDoubleArray;
+
+import java.util.stream.LongStream;
+
+/**
+ * Folds all messages sent to a node into a single value using a {@link Reducer}.
+ * <p>
+ * In synchronous mode, two arrays are used and swapped after each superstep,
+ * so that messages from the current superstep are not visible until the next one.
+ * In asynchronous mode, a single array is used and a separate bit set tracks
+ * whether a node has unread messages, as the reduced value might equal the identity.
+ * In both modes, the reduced value is reset to the identity once it has been read,
+ * so that swapping the arrays does not require to reset all nodes.
+ */
+final class ReducingMessenger implements Messenger<ReducingMessenger.SingleMessageIterator> {
+
+    private final long nodeCount;
+    private final int concurrency;
+    private final boolean isAsynchronous;
+    private final Reducer reducer;
+    private final double identity;
+
+    private HugeAtomicDoubleArray readMessages;
+    private HugeAtomicDoubleArray writeMessages;
+    // only used in asynchronous mode, messages might be read in the superstep they have been sent
+    private HugeAtomicBitSet unreadMessages;
+
+    ReducingMessenger(
+        long nodeCount,
+        PregelConfig config,
+        Reducer reducer,
+        int concurrency,
+        AllocationTracker tracker
+    ) {
+        this.nodeCount = nodeCount;
+        this.concurrency = concurrency;
+        this.isAsynchronous = config.isAsynchronous();
+        this.reducer = reducer;
+        this.identity = reducer.identity();
+
+        this.writeMessages = HugeAtomicDoubleArray.newArray(nodeCount, tracker);
+        fill(writeMessages);
+        if (isAsynchronous) {
+            this.readMessages = writeMessages;
+            this.unreadMessages = HugeAtomicBitSet.create(nodeCount, tracker);
+        } else {
+            this.readMessages = HugeAtomicDoubleArray.newArray(nodeCount, tracker);
+            fill(readMessages);
+        }
+    }
+
+    @Override
+    public void initIteration(int iteration, HugeAtomicBitSet receivers) {
+        if (!isAsynchronous) {
+            HugeAtomicDoubleArray tmp = readMessages;
+            readMessages = writeMessages;
+            writeMessages = tmp;
+        }
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double message) {
+        HugeAtomicDoubleArray messages = writeMessages;
+        double current = messages.get(targetNodeId);
+        while (!messages.compareAndSet(targetNodeId, current, reducer.reduce(current, message))) {
+            current = messages.get(targetNodeId);
+        }
+        if (isAsynchronous) {
+            unreadMessages.set(targetNodeId);
+        }
+    }
+
+    @Override
+    public SingleMessageIterator messageIterator() {
+        return new SingleMessageIterator();
+    }
+
+    @Override
+    public void initMessageIterator(SingleMessageIterator messageIterator, long nodeId, boolean hasMessages) {
+        if (!hasMessages) {
+            messageIterator.init(identity, false);
+        } else if (isAsynchronous) {
+            // the message might already have been consumed in the previous superstep
+            if (!unreadMessages.getAndClear(nodeId)) {
+                messageIterator.init(identity, false);
+                return;
+            }
+            // Take the current value and reset, concurrent senders continue on the identity.
+            // A sender that reduced its message before the reset but marks it as unread after
+            // clearing the bit, leaves the bit set for the identity. Reading the identity is
+            // neutral with respect to the reducer.
+            HugeAtomicDoubleArray messages = readMessages;
+            double current = messages.get(nodeId);
+            while (!messages.compareAndSet(nodeId, current, identity)) {
+                current = messages.get(nodeId);
+            }
+            messageIterator.init(current, true);
+        } else {
+            messageIterator.init(readMessages.get(nodeId), true);
+            readMessages.set(nodeId, identity);
+        }
+    }
+
+    @Override
+    public void release() {
+        writeMessages.release();
+        if (isAsynchronous) {
+            unreadMessages.release();
+        } else {
+            readMessages.release();
+        }
+        writeMessages = null;
+        readMessages = null;
+        unreadMessages = null;
+    }
+
+    private void fill(HugeAtomicDoubleArray messages) {
+        ParallelUtil.parallelStreamConsume(
+            LongStream.range(0, nodeCount),
+            concurrency,
+            nodeIds -> nodeIds.forEach(nodeId -> messages.set(nodeId, identity))
+        );
+    }
+
+    static final class SingleMessageIterator implements Messages.MessageIterator {
+
+        private double message;
+        private boolean hasNext;
+
+        void init(double message, boolean hasNext) {
+            this.message = message;
+            this.hasNext = hasNext;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return hasNext;
+        }
+
+        @Override
+        public double nextDouble() {
+            hasNext = false;
+            return message;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return !hasNext;
+        }
+    }
+}
@@ -19,40 +19,58 @@
  */
 package org.neo4j.graphalgo.beta.pregel.examples;
 
+import org.neo4j.graphalgo.beta.pregel.Messages;
+import org.neo4j.graphalgo.beta.pregel.NodeSchema;
 import org.neo4j.graphalgo.beta.pregel.PregelComputation;
 import org.neo4j.graphalgo.beta.pregel.PregelContext;
+import org.neo4j.graphalgo.beta.pregel.Reducer;
 
-import java.util.Queue;
+import java.util.Optional;
 
 public class ConnectedComponentsPregel implements PregelComputation {
 
+    // component ids are node ids, stored as longs to not lose precision
+    private static final NodeSchema NODE_SCHEMA = NodeSchema.builder()
+        .putElement(NodeSchema.DEFAULT_NODE_VALUE_KEY, NodeSchema.ValueType.LONG)
+        .build();
+
+    private static final int COMPONENT = NODE_SCHEMA.slot(NodeSchema.DEFAULT_NODE_VALUE_KEY, NodeSchema.ValueType.LONG);
+
+    @Override
+    public NodeSchema nodeSchema() {
+        return NODE_SCHEMA;
+    }
+
+    @Override
+    public Optional<Reducer> reducer() {
+        return Optional.of(new Reducer.Min());
+    }
+
     @Override
-    public void compute(PregelContext pregel, final long nodeId, Queue<Double> messages) {
+    public void compute(PregelContext pregel, final long nodeId, Messages messages) {
         if (pregel.isInitialSuperStep()) {
             // Incremental computation
-            double currentValue = pregel.getNodeValue(nodeId);
-            if (Double.compare(currentValue, pregel.getInitialNodeValue()) == 0) {
+            long currentValue = pregel.longNodeValue(nodeId, COMPONENT);
+            if (currentValue == (long) pregel.getInitialNodeValue()) {
                 pregel.sendMessages(nodeId, nodeId);
-                pregel.setNodeValue(nodeId, nodeId);
+                pregel.setLongNodeValue(nodeId, COMPONENT, nodeId);
             } else {
                 pregel.sendMessages(nodeId, currentValue);
             }
         } else {
-            long newComponentId = (long) pregel.getNodeValue(nodeId);
+            long newComponentId = pregel.longNodeValue(nodeId, COMPONENT);
             boolean hasChanged = false;
 
-            if (messages != null) {
-                Double message;
-                while ((message = messages.poll()) != null) {
-                    if (message < newComponentId) {
-                        newComponentId = message.longValue();
-                        hasChanged = true;
-                    }
+            while (messages.hasNext()) {
+                double message = messages.nextDouble();
+                if (message < newComponentId) {
+                    newComponentId = (long) message;
+                    hasChanged = true;
                 }
             }
 
             if (hasChanged) {
-                pregel.setNodeValue(nodeId, newComponentId);
+                pregel.setLongNodeValue(nodeId, COMPONENT, newComponentId);
                 pregel.sendMessages(nodeId, newComponentId);
             }
 
@@ -19,25 +19,39 @@
  */
 package org.neo4j.graphalgo.beta.pregel.examples;
 
+import org.neo4j.graphalgo.beta.pregel.Messages;
+import org.neo4j.graphalgo.beta.pregel.NodeSchema;
 import org.neo4j.graphalgo.beta.pregel.PregelComputation;
 import org.neo4j.graphalgo.beta.pregel.PregelContext;
 
 import java.util.Arrays;
-import java.util.Queue;
 
 /**
  * Basic implementation potentially suffering from osciallating vertex states due to synchronous computation.
  */
 public class LabelPropagationPregel implements PregelComputation {
 
+    public static final String LABEL_KEY = "label";
+
+    private static final NodeSchema NODE_SCHEMA = NodeSchema.builder()
+        .putElement(LABEL_KEY, NodeSchema.ValueType.LONG)
+        .build();
+
+    private static final int LABEL = NODE_SCHEMA.slot(LABEL_KEY, NodeSchema.ValueType.LONG);
+
+    @Override
+    public NodeSchema nodeSchema() {
+        return NODE_SCHEMA;
+    }
+
     @Override
-    public void compute(PregelContext pregel, long nodeId, Queue<Double> messages) {
+    public void compute(PregelContext pregel, long nodeId, Messages messages) {
         if (pregel.isInitialSuperStep()) {
-            pregel.setNodeValue(nodeId, nodeId);
+            pregel.setLongNodeValue(nodeId, LABEL, nodeId);
             pregel.sendMessages(nodeId, nodeId);
         } else {
-            if (messages != null) {
-                long oldValue = (long) pregel.getNodeValue(nodeId);
+            if (!messages.isEmpty()) {
+                long oldValue = pregel.longNodeValue(nodeId, LABEL);
                 long newValue = oldValue;
 
                 // TODO: could be shared across compute functions per thread
@@ -45,9 +59,9 @@ public class LabelPropagationPregel implements PregelComputation {
                 long[] buffer = new long[pregel.getDegree(nodeId)];
 
                 int messageCount = 0;
-                Double nextMessage;
-                while (!(nextMessage = messages.poll()).isNaN()) {
-                    buffer[messageCount++] = nextMessage.longValue();
+                while (messages.hasNext()) {
+                    double message = messages.nextDouble();
+                    buffer[messageCount++] = (long) message;
                 }
 
                 int maxOccurences = 1;
@@ -74,7 +88,7 @@ public class LabelPropagationPregel implements PregelComputation {
                 }
 
                 if (newValue != oldValue) {
-                    pregel.setNodeValue(nodeId, newValue);
+                    pregel.setLongNodeValue(nodeId, LABEL, newValue);
                     pregel.sendMessages(nodeId, newValue);
                 }
             }
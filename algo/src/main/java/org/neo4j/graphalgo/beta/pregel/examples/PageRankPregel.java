@@ -19,10 +19,12 @@
  */
 package org.neo4j.graphalgo.beta.pregel.examples;
 
+import org.neo4j.graphalgo.beta.pregel.Messages;
 import org.neo4j.graphalgo.beta.pregel.PregelComputation;
 import org.neo4j.graphalgo.beta.pregel.PregelContext;
+import org.neo4j.graphalgo.beta.pregel.Reducer;
 
-import java.util.Queue;
+import java.util.Optional;
 
 public class PageRankPregel implements PregelComputation {
 
@@ -37,17 +39,20 @@ public class PageRankPregel implements PregelComputation {
     }
 
     @Override
-    public void compute(PregelContext pregel, final long nodeId, Queue<Double> messages) {
+    public Optional<Reducer> reducer() {
+        return Optional.of(new Reducer.Sum());
+    }
+
+    @Override
+    public void compute(PregelContext pregel, final long nodeId, Messages messages) {
         double newRank = pregel.getNodeValue(nodeId);
 
         // compute new rank based on neighbor ranks
         if (!pregel.isInitialSuperStep()) {
             double sum = 0;
-            if (messages != null) {
-                Double nextMessage;
-                while (!(nextMessage = messages.poll()).isNaN()) {
-                    sum += nextMessage;
-                }
+            while (messages.hasNext()) {
+                double message = messages.nextDouble();
+                sum += message;
             }
             newRank = (jumpProbability / nodeCount) + dampingFactor * sum;
         }
@@ -19,10 +19,12 @@
  */
 package org.neo4j.graphalgo.beta.pregel.examples;
 
+import org.neo4j.graphalgo.beta.pregel.Messages;
 import org.neo4j.graphalgo.beta.pregel.PregelComputation;
 import org.neo4j.graphalgo.beta.pregel.PregelContext;
+import org.neo4j.graphalgo.beta.pregel.Reducer;
 
-import java.util.Queue;
+import java.util.Optional;
 
 public class SingleSourceShortestPathPregel implements PregelComputation {
 
@@ -33,7 +35,12 @@ public class SingleSourceShortestPathPregel implements PregelComputation {
     }
 
     @Override
-    public void compute(PregelContext pregel, long nodeId, Queue<Double> messages) {
+    public Optional<Reducer> reducer() {
+        return Optional.of(new Reducer.Min());
+    }
+
+    @Override
+    public void compute(PregelContext pregel, long nodeId, Messages messages) {
         if (pregel.isInitialSuperStep()) {
             if (nodeId == startNode) {
                 pregel.setNodeValue(nodeId, 0);
@@ -46,13 +53,11 @@ public class SingleSourceShortestPathPregel implements PregelComputation {
             long newDistance = (long) pregel.getNodeValue(nodeId);
             boolean hasChanged = false;
 
-            if (messages != null) {
-                Double message;
-                while ((message = messages.poll()) != null) {
-                    if (message < newDistance) {
-                        newDistance = message.longValue();
-                        hasChanged = true;
-                    }
+            while (messages.hasNext()) {
+                double message = messages.nextDouble();
+                if (message < newDistance) {
+                    newDistance = (long) message;
+                    hasChanged = true;
                 }
             }
 
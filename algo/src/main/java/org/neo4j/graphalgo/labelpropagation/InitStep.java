@@ -71,7 +71,7 @@ final class InitStep implements Step {
             // one are as stable as we need them to be for getting deterministic results.
             long existingLabel = Double.isNaN(existingLabelValue)
                     ? maxLabelId + graph.toOriginalNodeId(nodeId) + 1L
-                    : (long) existingLabelValue;
+                    : nodeProperties.longValue(nodeId);
             existingLabels.set(nodeId, existingLabel);
             progressLogger.logProgress(graph.degree(nodeId));
         }
@@ -24,15 +24,15 @@ import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.api.NodeProperties;
 import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
 import org.neo4j.graphalgo.core.loading.NullPropertyMap;
-import org.neo4j.graphalgo.core.utils.LazyBatchCollection;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.collection.primitive.PrimitiveLongCollections;
 import org.neo4j.graphalgo.core.utils.collection.primitive.PrimitiveLongIterable;
 import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+import org.neo4j.graphalgo.core.utils.partition.Partition;
+import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 
@@ -156,15 +156,21 @@ public class LabelPropagation extends Algorithm<LabelPropagation, LabelPropagati
         long nodeCount = graph.nodeCount();
         long batchSize = ParallelUtil.adjustedBatchSize(nodeCount, this.batchSize);
 
-        Collection<PrimitiveLongIterable> nodeBatches = LazyBatchCollection.of(
-            nodeCount,
-            batchSize,
-            (start, length) -> () -> PrimitiveLongCollections.range(start, start + length - 1L)
+        // the batch size determines the number of batches, but the batches are balanced by degree
+        int batchCount = Math.toIntExact(ParallelUtil.threadCount(batchSize, nodeCount));
+        List<Partition> nodeBatches = PartitionUtils.degreeBalancedPartitions(
+            graph,
+            config.concurrency(),
+            batchCount,
+            executor,
+            tracker
         );
 
-        int threads = nodeBatches.size();
-        List<StepRunner> tasks = new ArrayList<>(threads);
-        for (PrimitiveLongIterable iter : nodeBatches) {
+        List<StepRunner> tasks = new ArrayList<>(nodeBatches.size());
+        for (Partition partition : nodeBatches) {
+            long start = partition.startNode;
+            long end = start + partition.nodeCount - 1L;
+            PrimitiveLongIterable iter = () -> PrimitiveLongCollections.range(start, end);
             InitStep initStep = new InitStep(
                 graph,
                 nodeProperties,
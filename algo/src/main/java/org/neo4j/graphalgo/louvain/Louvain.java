@@ -23,6 +23,7 @@ import org.neo4j.graphalgo.Algorithm;
 import org.neo4j.graphalgo.Orientation;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.api.NodeProperties;
+import org.neo4j.graphalgo.api.ValueType;
 import org.neo4j.graphalgo.beta.modularity.ImmutableModularityOptimizationStreamConfig;
 import org.neo4j.graphalgo.beta.modularity.ModularityOptimization;
 import org.neo4j.graphalgo.beta.modularity.ModularityOptimizationFactory;
@@ -33,11 +34,19 @@ import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
 import org.neo4j.graphalgo.core.loading.IdMap;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.BitUtil;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeSparseLongArray;
+import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.neo4j.graphalgo.core.concurrency.ParallelUtil.DEFAULT_BATCH_SIZE;
 import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
@@ -95,7 +104,12 @@ public final class Louvain extends Algorithm<Louvain, Louvain> {
             dendrograms[ranLevels] = HugeLongArray.newArray(rootGraph.nodeCount(), tracker);
             long maxCommunityId = buildDendrogram(workingGraph, ranLevels, modularityOptimization);
 
-            workingGraph = summarizeGraph(workingGraph, modularityOptimization, maxCommunityId);
+            Graph nextGraph = summarizeGraph(workingGraph, modularityOptimization, maxCommunityId);
+            if (workingGraph != rootGraph) {
+                // intermediate levels are only needed to build the next level
+                workingGraph.release();
+            }
+            workingGraph = nextGraph;
             nextSeedingValues = new OriginalIdNodeProperties(workingGraph);
 
             getProgressLogger().logMessage(formatWithLocale("Level %d :: Finished", ranLevels + 1));
@@ -112,6 +126,10 @@ public final class Louvain extends Algorithm<Louvain, Louvain> {
             oldNodeCount = workingGraph.nodeCount();
         }
 
+        if (workingGraph != rootGraph) {
+            workingGraph.release();
+        }
+
         return this;
     }
 
@@ -133,7 +151,7 @@ public final class Louvain extends Algorithm<Louvain, Louvain> {
         ModularityOptimization modularityOptimization
     ) {
         AtomicLong maxCommunityId = new AtomicLong(0L);
-        ParallelUtil.parallelForEachNode(rootGraph, config.concurrency(), (nodeId) -> {
+        ParallelUtil.parallelForEachNode(rootGraph, config.concurrency(), executorService, tracker, (nodeId) -> {
             long prevId = level == 0
                 ? nodeId
                 : workingGraph.toMappedNodeId(dendrograms[level - 1].get(nodeId));
@@ -174,23 +192,13 @@ public final class Louvain extends Algorithm<Louvain, Louvain> {
         ModularityOptimization modularityOptimization,
         long maxCommunityId
     ) {
-        HugeGraphUtil.IdMapBuilder idMapBuilder = HugeGraphUtil.idMapBuilder(
-            maxCommunityId,
-            executorService,
-            tracker
-        );
-
         assertRunning();
 
-        workingGraph.forEachNode((nodeId) -> {
-            idMapBuilder.addNode(modularityOptimization.getCommunityId(nodeId));
-            return true;
-        });
+        IdMap idMap = communityIdMap(workingGraph, modularityOptimization, maxCommunityId);
 
         assertRunning();
 
         Orientation orientation = rootGraph.isUndirected() ? Orientation.UNDIRECTED : Orientation.NATURAL;
-        IdMap idMap = idMapBuilder.build();
         HugeGraphUtil.RelationshipsBuilder relationshipsBuilder = HugeGraphUtil.createRelImporter(
             idMap,
             orientation,
@@ -200,18 +208,100 @@ public final class Louvain extends Algorithm<Louvain, Louvain> {
             tracker
         );
 
-        workingGraph.forEachNode((nodeId) -> {
-            long communityId = modularityOptimization.getCommunityId(nodeId);
-            workingGraph.forEachRelationship(nodeId, 1.0, (source, target, property) -> {
-                relationshipsBuilder.add(communityId, modularityOptimization.getCommunityId(target), property);
-                return true;
-            });
-            return true;
-        });
+        List<Runnable> tasks = PartitionUtils
+            .degreeBalancedPartitions(workingGraph, config.concurrency(), executorService, tracker)
+            .stream()
+            .map(partition -> (Runnable) () -> {
+                Graph graph = workingGraph.concurrentCopy();
+                HugeGraphUtil.ThreadLocalImporter importer = relationshipsBuilder.threadLocalImporter();
+                long end = partition.startNode + partition.nodeCount;
+                for (long nodeId = partition.startNode; nodeId < end; nodeId++) {
+                    long source = idMap.toMappedNodeId(modularityOptimization.getCommunityId(nodeId));
+                    graph.forEachRelationship(nodeId, 1.0, (ignore, target, property) -> {
+                        importer.addFromInternal(
+                            source,
+                            idMap.toMappedNodeId(modularityOptimization.getCommunityId(target)),
+                            property
+                        );
+                        return true;
+                    });
+                }
+                importer.flush();
+            })
+            .collect(Collectors.toList());
+        ParallelUtil.runWithConcurrency(config.concurrency(), tasks, executorService);
 
         return HugeGraphUtil.create(idMap, relationshipsBuilder.build(), tracker);
     }
 
+    /**
+     * Maps the communities of the working graph to the nodes of the next level.
+     * Community ids are renumbered compactly and in ascending order: the set bits of each block
+     * of the community bit set are counted in parallel and the blocks are then numbered
+     * starting at the prefix sum of their counts.
+     */
+    private IdMap communityIdMap(
+        Graph workingGraph,
+        ModularityOptimization modularityOptimization,
+        long maxCommunityId
+    ) {
+        long communityCapacity = maxCommunityId + 1;
+        HugeAtomicBitSet communities = HugeAtomicBitSet.create(communityCapacity, tracker);
+        ParallelUtil.parallelForEachNode(
+            workingGraph,
+            config.concurrency(),
+            executorService,
+            tracker,
+            nodeId -> communities.set(modularityOptimization.getCommunityId(nodeId))
+        );
+
+        long wordCount = BitUtil.ceilDiv(communityCapacity, Long.SIZE);
+        int blockCount = (int) Math.min(wordCount, Math.max(1, config.concurrency()) * PartitionUtils.PARTITIONS_PER_THREAD);
+        long wordsPerBlock = BitUtil.ceilDiv(wordCount, Math.max(1, blockCount));
+        long[] blockOffsets = new long[blockCount + 1];
+
+        ParallelUtil.runWithConcurrency(config.concurrency(), blockTasks(blockCount, block -> {
+            long count = 0L;
+            long endWord = Math.min(wordCount, (block + 1) * wordsPerBlock);
+            for (long word = block * wordsPerBlock; word < endWord; word++) {
+                count += Long.bitCount(communities.word(word));
+            }
+            blockOffsets[block + 1] = count;
+        }), executorService);
+        for (int block = 0; block < blockCount; block++) {
+            blockOffsets[block + 1] += blockOffsets[block];
+        }
+
+        long communityCount = blockOffsets[blockCount];
+        HugeLongArray internalToOriginal = HugeLongArray.newArray(communityCount, tracker);
+        HugeSparseLongArray.Builder originalToInternal = HugeSparseLongArray.Builder.create(communityCapacity, tracker);
+
+        ParallelUtil.runWithConcurrency(config.concurrency(), blockTasks(blockCount, block -> {
+            long internalId = blockOffsets[block];
+            long endWord = Math.min(wordCount, (block + 1) * wordsPerBlock);
+            for (long word = block * wordsPerBlock; word < endWord; word++) {
+                long bits = communities.word(word);
+                while (bits != 0L) {
+                    long communityId = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                    internalToOriginal.set(internalId, communityId);
+                    originalToInternal.set(communityId, internalId);
+                    internalId++;
+                    bits &= bits - 1;
+                }
+            }
+        }), executorService);
+
+        tracker.remove(communities.release());
+        return new IdMap(internalToOriginal, originalToInternal.build(), communityCount);
+    }
+
+    private static List<Runnable> blockTasks(int blockCount, IntConsumer task) {
+        return IntStream
+            .range(0, blockCount)
+            .mapToObj(block -> (Runnable) () -> task.accept(block))
+            .collect(Collectors.toList());
+    }
+
     private boolean hasConverged() {
         if (ranLevels == 0) {
             return false;
@@ -273,9 +363,19 @@ public final class Louvain extends Algorithm<Louvain, Louvain> {
             this.graph = graph;
         }
 
+        @Override
+        public ValueType valueType() {
+            return ValueType.LONG;
+        }
+
         @Override
         public double nodeProperty(long nodeId) {
             return graph.toOriginalNodeId(nodeId);
         }
+
+        @Override
+        public long longValue(long nodeId) {
+            return graph.toOriginalNodeId(nodeId);
+        }
     }
 }
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.nodesim;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.graphalgo.core.utils.SetBitsIterable;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfLongArray;
+
+/**
+ * Maps every neighbour to the sorted list of compared nodes that are connected to it.
+ * Two nodes can only have a non-zero Jaccard similarity if they share a neighbour,
+ * so walking the lists of a node's neighbours yields all pairs worth comparing.
+ *
+ * Neighbours that are shared by more than {@code maxSharedNeighbourDegree} nodes
+ * do not get a list and are not used to generate candidates.
+ * Neighbours of a single node cannot produce a candidate and do not get a list either.
+ */
+final class InvertedNeighbourIndex {
+
+    private final HugeObjectArray<long[]> postings;
+    private final long workload;
+
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(InvertedNeighbourIndex.class)
+            .perNode("list sizes", HugeLongArray::memoryEstimation)
+            .add(
+                "lists",
+                MemoryEstimations.setup("", (dimensions, concurrency) -> {
+                    int averageDegree = dimensions.nodeCount() == 0
+                        ? 0
+                        : Math.toIntExact(dimensions.maxRelCount() / dimensions.nodeCount());
+                    long averageListSize = sizeOfLongArray(averageDegree);
+                    return MemoryEstimations.builder(HugeObjectArray.class)
+                        .perNode("array", nodeCount -> nodeCount * averageListSize).build();
+                })
+            )
+            .build();
+    }
+
+    static InvertedNeighbourIndex build(
+        HugeObjectArray<long[]> vectors,
+        BitSet nodeFilter,
+        int maxSharedNeighbourDegree,
+        AllocationTracker tracker
+    ) {
+        long nodeCount = vectors.size();
+        HugeLongArray sizes = HugeLongArray.newArray(nodeCount, tracker);
+        new SetBitsIterable(nodeFilter).stream().forEach(node -> {
+            for (long neighbour : vectors.get(node)) {
+                sizes.addTo(neighbour, 1);
+            }
+        });
+
+        long workload = 0;
+        HugeObjectArray<long[]> postings = HugeObjectArray.newArray(long[].class, nodeCount, tracker);
+        for (long neighbour = 0; neighbour < nodeCount; neighbour++) {
+            long size = sizes.get(neighbour);
+            if (size > 1 && (maxSharedNeighbourDegree == 0 || size <= maxSharedNeighbourDegree)) {
+                postings.set(neighbour, new long[(int) size]);
+                workload += size * (size - 1);
+            }
+            // from here on the array holds the next free position in the list
+            sizes.set(neighbour, 0);
+        }
+
+        // nodes are visited in ascending order, which keeps every list sorted
+        new SetBitsIterable(nodeFilter).stream().forEach(node -> {
+            for (long neighbour : vectors.get(node)) {
+                long[] posting = postings.get(neighbour);
+                if (posting != null) {
+                    long position = sizes.get(neighbour);
+                    posting[(int) position] = node;
+                    sizes.set(neighbour, position + 1);
+                }
+            }
+        });
+        sizes.release();
+
+        return new InvertedNeighbourIndex(postings, workload);
+    }
+
+    private InvertedNeighbourIndex(HugeObjectArray<long[]> postings, long workload) {
+        this.postings = postings;
+        this.workload = workload;
+    }
+
+    /**
+     * Number of list entries visited when generating the candidates of all nodes.
+     * Only half of them are visited if only candidates with a larger id are requested.
+     */
+    long workload(boolean largerOnly) {
+        return largerOnly ? workload / 2 : workload;
+    }
+
+    /**
+     * Returns the distinct nodes that share at least one indexed neighbour with {@code node}
+     * in ascending order, excluding {@code node} itself. If {@code largerOnly} is set, only
+     * candidates with an id larger than {@code node} are returned.
+     * The given consumer is notified about the number of visited list entries.
+     */
+    LongStream candidates(long node, long[] vector, boolean largerOnly, LongConsumer workConsumer) {
+        LongArrayList candidates = new LongArrayList();
+        for (long neighbour : vector) {
+            long[] posting = postings.get(neighbour);
+            if (posting == null) {
+                continue;
+            }
+            int visited = 0;
+            for (int i = posting.length - 1; i >= 0; i--) {
+                long candidate = posting[i];
+                if (candidate == node) {
+                    if (largerOnly) {
+                        break;
+                    }
+                    continue;
+                }
+                candidates.add(candidate);
+                visited++;
+            }
+            workConsumer.accept(visited);
+        }
+
+        long[] buffer = candidates.buffer;
+        int size = candidates.size();
+        Arrays.sort(buffer, 0, size);
+        int distinct = 0;
+        for (int i = 0; i < size; i++) {
+            if (distinct == 0 || buffer[distinct - 1] != buffer[i]) {
+                buffer[distinct++] = buffer[i];
+            }
+        }
+        return Arrays.stream(buffer, 0, distinct);
+    }
+
+    void release() {
+        postings.release();
+    }
+}
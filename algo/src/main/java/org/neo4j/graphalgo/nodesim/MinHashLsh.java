@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.nodesim;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeIntArray;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfLongArray;
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfObjectArray;
+
+/**
+ * Locality sensitive hashing of neighbour sets based on MinHash signatures.
+ *
+ * Every node gets a signature of {@code bands * rows} MinHash values, one for each of
+ * as many independent hash functions. The signature is split into bands and two nodes
+ * become candidates if all values of at least one band agree. For a pair with Jaccard
+ * similarity {@code s} this happens with probability {@code 1 - (1 - s^rows)^bands},
+ * so adding bands increases the recall and adding rows reduces the number of
+ * dissimilar candidates.
+ *
+ * Signatures are computed by calling {@link #computeSignature(long, long[])} for every node,
+ * possibly from multiple threads. Afterwards, {@link #buildBuckets(BitSet, AllocationTracker)}
+ * groups the nodes into buckets that are used to generate candidates.
+ *
+ * For every band, the buckets are stored as one sorted array of entries that pack the bucket
+ * hash into the high bits and the node id into the low bits. Nodes of the same bucket are
+ * adjacent and ordered by id. Buckets with a single node cannot produce a candidate and are
+ * dropped, so the memory is proportional to the nodes that share a bucket with another node.
+ */
+public final class MinHashLsh {
+
+    // signature of a node without neighbours, regular hash values are never negative
+    private static final int EMPTY = -1;
+
+    private final int bands;
+    private final int rows;
+    private final long[] hashSeeds;
+    private final int nodeBits;
+    private final long nodeMask;
+    private final HugeIntArray signatures;
+
+    private long[][] buckets;
+    private long workload;
+
+    public static MinHashLsh create(
+        long nodeCount,
+        int bands,
+        int rows,
+        long randomSeed,
+        AllocationTracker tracker
+    ) {
+        SplittableRandom random = new SplittableRandom(randomSeed);
+        long[] hashSeeds = random.longs(bands * rows).toArray();
+        HugeIntArray signatures = HugeIntArray.newArray(nodeCount * bands * rows, tracker);
+        return new MinHashLsh(bands, rows, hashSeeds, nodeBits(nodeCount), signatures);
+    }
+
+    public static MemoryEstimation memoryEstimation(int bands, int rows) {
+        return MemoryEstimations.builder(MinHashLsh.class)
+            .perNode("signatures", nodeCount -> HugeIntArray.memoryEstimation(nodeCount * bands * rows))
+            .perNode("buckets", nodeCount -> sizeOfObjectArray(bands) + bands * sizeOfLongArray(nodeCount))
+            .build();
+    }
+
+    private static int nodeBits(long nodeCount) {
+        return Long.SIZE - Long.numberOfLeadingZeros(Math.max(1L, nodeCount - 1));
+    }
+
+    private MinHashLsh(int bands, int rows, long[] hashSeeds, int nodeBits, HugeIntArray signatures) {
+        this.bands = bands;
+        this.rows = rows;
+        this.hashSeeds = hashSeeds;
+        this.nodeBits = nodeBits;
+        this.nodeMask = (1L << nodeBits) - 1;
+        this.signatures = signatures;
+    }
+
+    /**
+     * Computes the signature of the given node from its neighbours.
+     * Can be called concurrently for different nodes.
+     */
+    public void computeSignature(long node, long[] neighbours) {
+        long offset = node * hashSeeds.length;
+        for (int i = 0; i < hashSeeds.length; i++) {
+            int minHash = neighbours.length == 0 ? EMPTY : Integer.MAX_VALUE;
+            long hashSeed = hashSeeds[i];
+            for (long neighbour : neighbours) {
+                minHash = Math.min(minHash, (int) (mix(neighbour + hashSeed) >>> 33));
+            }
+            signatures.set(offset + i, minHash);
+        }
+    }
+
+    /**
+     * Groups all nodes in the filter into one bucket per band.
+     * Must only be called after all signatures have been computed.
+     */
+    public void buildBuckets(BitSet nodeFilter, AllocationTracker tracker) {
+        int nodeCount = Math.toIntExact(nodeFilter.cardinality());
+        long[] entries = new long[nodeCount];
+        buckets = new long[bands][];
+        workload = 0;
+        for (int band = 0; band < bands; band++) {
+            int size = 0;
+            for (long node = nodeFilter.nextSetBit(0L); node >= 0; node = nodeFilter.nextSetBit(node + 1)) {
+                if (signatures.get(node * hashSeeds.length) != EMPTY) {
+                    entries[size++] = bucketEntry(node, band);
+                }
+            }
+            Arrays.sort(entries, 0, size);
+
+            // keep only buckets with at least two nodes, compacting them to the front
+            int kept = 0;
+            for (int start = 0, end; start < size; start = end) {
+                end = endOfBucket(entries, start, size);
+                long bucketSize = end - start;
+                if (bucketSize > 1) {
+                    System.arraycopy(entries, start, entries, kept, (int) bucketSize);
+                    kept += bucketSize;
+                    workload += bucketSize * (bucketSize - 1);
+                }
+            }
+            buckets[band] = Arrays.copyOf(entries, kept);
+            tracker.add(sizeOfLongArray(kept));
+        }
+    }
+
+    /**
+     * Number of bucket entries visited when generating the candidates of all nodes.
+     * Only half of them are visited if only candidates with a larger id are requested.
+     */
+    public long workload(boolean largerOnly) {
+        return largerOnly ? workload / 2 : workload;
+    }
+
+    /**
+     * Returns the distinct nodes that share at least one bucket with {@code node}
+     * in ascending order, excluding {@code node} itself. If {@code largerOnly} is set,
+     * only candidates with an id larger than {@code node} are returned.
+     * The given consumer is notified about the number of visited bucket entries.
+     */
+    public LongStream candidates(long node, boolean largerOnly, LongConsumer workConsumer) {
+        if (signatures.get(node * hashSeeds.length) == EMPTY) {
+            return LongStream.empty();
+        }
+        LongArrayList candidates = new LongArrayList();
+        for (int band = 0; band < bands; band++) {
+            long[] entries = buckets[band];
+            long bucket = bucketEntry(node, band) & ~nodeMask;
+            int start = Arrays.binarySearch(entries, bucket);
+            if (start < 0) {
+                start = -start - 1;
+            }
+            int end = endOfBucket(entries, start, entries.length);
+            int visited = 0;
+            for (int i = start; i < end; i++) {
+                long candidate = entries[i] & nodeMask;
+                if (candidate == node || (largerOnly && candidate < node)) {
+                    continue;
+                }
+                candidates.add(candidate);
+                visited++;
+            }
+            workConsumer.accept(visited);
+        }
+
+        long[] buffer = candidates.buffer;
+        int size = candidates.size();
+        Arrays.sort(buffer, 0, size);
+        int distinct = 0;
+        for (int i = 0; i < size; i++) {
+            if (distinct == 0 || buffer[distinct - 1] != buffer[i]) {
+                buffer[distinct++] = buffer[i];
+            }
+        }
+        return Arrays.stream(buffer, 0, distinct);
+    }
+
+    public void release() {
+        signatures.release();
+        buckets = null;
+    }
+
+    private int endOfBucket(long[] entries, int start, int size) {
+        if (start >= size) {
+            return start;
+        }
+        long bucket = entries[start] & ~nodeMask;
+        int end = start + 1;
+        while (end < size && (entries[end] & ~nodeMask) == bucket) {
+            end++;
+        }
+        return end;
+    }
+
+    // the bucket hash in the high bits followed by the node id in the low bits
+    private long bucketEntry(long node, int band) {
+        long offset = node * hashSeeds.length + band * rows;
+        long hash = mix(band);
+        for (int row = 0; row < rows; row++) {
+            hash = mix(hash + signatures.get(offset + row));
+        }
+        return (hash & ~nodeMask) | node;
+    }
+
+    // finalizer of MurmurHash3
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return value ^ (value >>> 33);
+    }
+}
@@ -32,6 +32,8 @@ import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.SetBitsIterable;
 import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
+import org.neo4j.graphalgo.core.utils.partition.Partition;
+import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
 
 import java.util.Comparator;
 import java.util.Objects;
@@ -51,6 +53,8 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
     private final BitSet nodeFilter;
 
     private HugeObjectArray<long[]> vectors;
+    private InvertedNeighbourIndex neighbourIndex;
+    private MinHashLsh minHash;
     private long nodesToCompare;
 
     public NodeSimilarity(
@@ -76,6 +80,12 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
     @Override
     public void release() {
         graph.release();
+        if (neighbourIndex != null) {
+            neighbourIndex.release();
+        }
+        if (minHash != null) {
+            minHash.release();
+        }
     }
 
     // The buffer is sized on the first call to the sizing strategy to hold exactly node degree elements
@@ -170,6 +180,34 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
             progressLogger.logProgress(graph.degree(node));
             return null;
         });
+
+        if (config.minHashBands() > 0) {
+            // Approximate: only pairs that end up in the same bucket of at least one band are compared.
+            minHash = MinHashLsh.create(
+                graph.nodeCount(),
+                config.minHashBands(),
+                config.minHashRows(),
+                config.randomSeed(),
+                tracker
+            );
+            ParallelUtil.parallelStreamConsume(
+                degreeBalancedPartitions(),
+                config.concurrency(),
+                stream -> stream
+                    .flatMapToLong(this::loggableAndTerminatableNodeStream)
+                    .forEach(node -> minHash.computeSignature(node, vectors.get(node)))
+            );
+            minHash.buildBuckets(nodeFilter, tracker);
+        } else if (config.similarityCutoff() > 0) {
+            // Pairs without a common neighbour have a similarity of 0.
+            // Unless those are requested, only pairs found via the index are compared.
+            neighbourIndex = InvertedNeighbourIndex.build(
+                vectors,
+                nodeFilter,
+                config.maxSharedNeighbourDegree(),
+                tracker
+            );
+        }
         progressLogger.logMessage("Finish :: NodeSimilarity#prepare");
     }
 
@@ -196,7 +234,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
             .boxed()
             .flatMap(node1 -> {
                 long[] vector1 = vectors.get(node1);
-                return nodeStream(node1 + 1)
+                return comparedNodes(node1, vector1, true)
                     .mapToObj(node2 -> {
                         double similarity = jaccard(vector1, vectors.get(node2));
                         return Double.isNaN(similarity) ? null : new SimilarityResult(node1, node2, similarity);
@@ -209,11 +247,11 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
         progressLogger.logMessage("NodeSimilarity#computeAllParallel");
 
         return ParallelUtil.parallelStream(
-            loggableAndTerminatableNodeStream(), config.concurrency(), stream -> stream
-                .boxed()
+            degreeBalancedPartitions(), config.concurrency(), stream -> stream
+                .flatMap(partition -> loggableAndTerminatableNodeStream(partition).boxed())
                 .flatMap(node1 -> {
                     long[] vector1 = vectors.get(node1);
-                    return nodeStream(node1 + 1)
+                    return comparedNodes(node1, vector1, true)
                         .mapToObj(node2 -> {
                             double similarity = jaccard(vector1, vectors.get(node2));
                             return Double.isNaN(similarity) ? null : new SimilarityResult(node1, node2, similarity);
@@ -231,7 +269,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
         loggableAndTerminatableNodeStream()
             .forEach(node1 -> {
                 long[] vector1 = vectors.get(node1);
-                nodeStream(node1 + 1)
+                comparedNodes(node1, vector1, true)
                     .forEach(node2 -> {
                         double similarity = jaccard(vector1, vectors.get(node2));
                         if (!Double.isNaN(similarity)) {
@@ -250,9 +288,10 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
         Comparator<SimilarityResult> comparator = config.normalizedK() > 0 ? SimilarityResult.DESCENDING : SimilarityResult.ASCENDING;
         TopKMap topKMap = new TopKMap(vectors.size(), nodeFilter, Math.abs(config.normalizedK()), comparator, tracker);
         ParallelUtil.parallelStreamConsume(
-            loggableAndTerminatableNodeStream(),
+            degreeBalancedPartitions(),
             config.concurrency(),
             stream -> stream
+                .flatMapToLong(this::loggableAndTerminatableNodeStream)
                 .forEach(node1 -> {
                     long[] vector1 = vectors.get(node1);
                     // We deliberately compute the full matrix (except the diagonal).
@@ -261,8 +300,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
                     // into these queues is not considered to be thread-safe.
                     // Hence, we need to ensure that down the stream, exactly one queue
                     // within the TopKMap processes all pairs for a single node.
-                    nodeStream()
-                        .filter(node2 -> node1 != node2)
+                    comparedNodes(node1, vector1, false)
                         .forEach(node2 -> {
                             double similarity = jaccard(vector1, vectors.get(node2));
                             if (!Double.isNaN(similarity)) {
@@ -283,7 +321,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
         loggableAndTerminatableNodeStream()
             .forEach(node1 -> {
                 long[] vector1 = vectors.get(node1);
-                nodeStream(node1 + 1)
+                comparedNodes(node1, vector1, true)
                     .forEach(node2 -> {
                         double similarity = jaccard(vector1, vectors.get(node2));
                         if (!Double.isNaN(similarity)) {
@@ -309,7 +347,6 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
         long intersection = Intersections.intersection3(vector1, vector2);
         double union = vector1.length + vector2.length - intersection;
         double similarity = union == 0 ? 0 : intersection / union;
-        getProgressLogger().logProgress();
         return similarity >= config.similarityCutoff() ? similarity : Double.NaN;
 
     }
@@ -318,10 +355,36 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
         return nodeStream(0);
     }
 
+    private LongStream comparedNodes(long node1, long[] vector1, boolean largerOnly) {
+        if (minHash != null) {
+            return minHash.candidates(node1, largerOnly, progressLogger::logProgress);
+        }
+        if (neighbourIndex != null) {
+            return neighbourIndex.candidates(node1, vector1, largerOnly, progressLogger::logProgress);
+        }
+        LongStream nodes = largerOnly
+            ? nodeStream(node1 + 1)
+            : nodeStream().filter(node2 -> node1 != node2);
+        return nodes.peek(node2 -> progressLogger.logProgress());
+    }
+
     private LongStream loggableAndTerminatableNodeStream() {
         return checkProgress(nodeStream());
     }
 
+    private LongStream loggableAndTerminatableNodeStream(Partition partition) {
+        long end = partition.startNode + partition.nodeCount;
+        return checkProgress(nodeStream(partition.startNode).takeWhile(node -> node < end));
+    }
+
+    // The cost of comparing a node is proportional to its degree. Splitting the node space
+    // into many degree-balanced partitions allows the FJ pool to spread the work evenly.
+    private Stream<Partition> degreeBalancedPartitions() {
+        return PartitionUtils
+            .degreeBalancedPartitions(graph, config.concurrency(), executorService, tracker)
+            .stream();
+    }
+
     private LongStream checkProgress(LongStream stream) {
         return stream.peek(node -> {
             if ((node & BatchingProgressLogger.MAXIMUM_LOG_INTERVAL) == 0) {
@@ -335,6 +398,12 @@ public class NodeSimilarity extends Algorithm<NodeSimilarity, NodeSimilarityResu
     }
 
     private long calculateWorkload() {
+        if (minHash != null) {
+            return minHash.workload(config.concurrency() == 1);
+        }
+        if (neighbourIndex != null) {
+            return neighbourIndex.workload(config.concurrency() == 1);
+        }
         long workload = nodesToCompare * nodesToCompare;
         if (config.concurrency() == 1) {
             workload = workload / 2;
@@ -51,6 +51,29 @@ public interface NodeSimilarityBaseConfig extends AlgoBaseConfig {
         return 1;
     }
 
+    @Value.Default
+    @Configuration.IntegerRange(min = 0)
+    default int maxSharedNeighbourDegree() {
+        return 0;
+    }
+
+    @Value.Default
+    @Configuration.IntegerRange(min = 0)
+    default int minHashBands() {
+        return 0;
+    }
+
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int minHashRows() {
+        return 3;
+    }
+
+    @Value.Default
+    default long randomSeed() {
+        return 1;
+    }
+
     @Value.Default
     @Configuration.Key(TOP_K_KEY)
     @Configuration.IntegerRange(min = 1)
@@ -64,6 +64,11 @@ public class NodeSimilarityFactory<CONFIG extends NodeSimilarityBaseConfig> exte
                         .perNode("array", nodeCount -> nodeCount * averageVectorSize).build();
                 })
             );
+        if (config.minHashBands() > 0) {
+            builder.add("min hash", MinHashLsh.memoryEstimation(config.minHashBands(), config.minHashRows()));
+        } else if (config.similarityCutoff() > 0) {
+            builder.add("inverted neighbour index", InvertedNeighbourIndex.memoryEstimation());
+        }
         if (config.computeToGraph() && !config.hasTopK()) {
             builder.add(
                 "similarity graph",
@@ -52,6 +52,14 @@ public class NonWeightedPageRankVariant implements PageRankVariant {
         );
     }
 
+    @Override
+    public PullContribution pullContribution(Graph graph, DegreeCache degreeCache) {
+        return nodeId -> {
+            int degree = graph.degree(nodeId);
+            return degree > 0 ? 1.0 / degree : 0.0;
+        };
+    }
+
     @Override
     public DegreeComputer degreeComputer(Graph graph) {
         return new NoOpDegreeComputer();
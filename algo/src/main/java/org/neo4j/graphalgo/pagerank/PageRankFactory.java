@@ -28,6 +28,7 @@ import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
 import org.neo4j.graphalgo.core.utils.mem.MemoryUsage;
 import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
 import org.neo4j.graphalgo.core.utils.partition.Partition;
 import org.neo4j.logging.Log;
 
@@ -72,6 +73,16 @@ public class PageRankFactory<CONFIG extends PageRankBaseConfig> extends Algorith
 
     @Override
     public MemoryEstimation memoryEstimation(CONFIG config) {
+        if (config.strategy() == PageRankStrategy.PULL) {
+            return MemoryEstimations.builder(PageRank.class)
+                .add(MemoryEstimations
+                    .builder(PullComputeSteps.class)
+                    .perNode("deltas", HugeDoubleArray::memoryEstimation)
+                    .perNode("contributions", HugeDoubleArray::memoryEstimation)
+                    .build())
+                .build();
+        }
+
         return MemoryEstimations.builder(PageRank.class)
             .add(MemoryEstimations.setup("computeSteps", (dimensions, concurrency) -> {
                 // adjust concurrency, if necessary
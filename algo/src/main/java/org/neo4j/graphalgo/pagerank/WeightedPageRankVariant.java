@@ -22,6 +22,7 @@ package org.neo4j.graphalgo.pagerank;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
 
 public class WeightedPageRankVariant implements PageRankVariant {
     private final boolean cacheWeights;
@@ -55,6 +56,23 @@ public class WeightedPageRankVariant implements PageRankVariant {
         );
     }
 
+    @Override
+    public PullContribution pullContribution(Graph graph, DegreeCache degreeCache) {
+        HugeDoubleArray aggregatedDegrees = degreeCache.aggregatedDegrees();
+        return new PullContribution() {
+            @Override
+            public double sourceShare(long nodeId) {
+                double sumOfWeights = aggregatedDegrees.get(nodeId);
+                return graph.degree(nodeId) > 0 && sumOfWeights > 0 ? 1.0 / sumOfWeights : 0.0;
+            }
+
+            @Override
+            public boolean weighted() {
+                return true;
+            }
+        };
+    }
+
     @Override
     public DegreeComputer degreeComputer(Graph graph) {
         return new WeightedDegreeComputer(graph, cacheWeights);
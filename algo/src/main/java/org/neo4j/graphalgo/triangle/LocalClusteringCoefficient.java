@@ -30,6 +30,7 @@ import org.neo4j.graphalgo.core.utils.paged.HugeAtomicLongArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
 
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.DoubleAdder;
 import java.util.function.Function;
 
@@ -38,6 +39,7 @@ import static org.neo4j.graphalgo.triangle.IntersectingTriangleCount.EXCLUDED_NO
 public class LocalClusteringCoefficient extends Algorithm<LocalClusteringCoefficient, LocalClusteringCoefficient.Result> {
 
     private final int concurrency;
+    private final ExecutorService executorService;
     private final AllocationTracker tracker;
     private final NodeProperties triangleCountProperty;
     private final LocalClusteringCoefficientBaseConfig configuration;
@@ -51,10 +53,12 @@ public class LocalClusteringCoefficient extends Algorithm<LocalClusteringCoeffic
     LocalClusteringCoefficient(
         Graph graph,
         LocalClusteringCoefficientBaseConfig configuration,
+        ExecutorService executorService,
         AllocationTracker tracker,
         ProgressLogger progressLogger
     ) {
         this.graph = graph;
+        this.executorService = executorService;
         this.tracker = tracker;
         this.progressLogger = progressLogger;
 
@@ -87,7 +91,7 @@ public class LocalClusteringCoefficient extends Algorithm<LocalClusteringCoeffic
         localClusteringCoefficients = HugeDoubleArray.newArray(nodeCount, tracker);
 
         DoubleAdder localClusteringCoefficientSum = new DoubleAdder();
-        ParallelUtil.parallelForEachNode(graph, concurrency, nodeId -> {
+        ParallelUtil.parallelForEachNode(graph, concurrency, executorService, tracker, nodeId -> {
             double localClusteringCoefficient = calculateCoefficient(
                 propertyValueFunction.apply(nodeId),
                 graph.degree(nodeId)
@@ -102,11 +106,12 @@ public class LocalClusteringCoefficient extends Algorithm<LocalClusteringCoeffic
 
     private HugeAtomicLongArray computeTriangleCounts() {
 
-        IntersectingTriangleCount intersectingTriangleCount = new IntersectingTriangleCountFactory<>().build(
+        IntersectingTriangleCount intersectingTriangleCount = new IntersectingTriangleCount(
             graph,
             LocalClusteringCoefficientFactory.createTriangleCountConfig(configuration),
+            executorService,
             tracker,
-            progressLogger.getLog()
+            progressLogger
         );
 
         return intersectingTriangleCount.compute().localTriangles();
@@ -21,6 +21,7 @@ package org.neo4j.graphalgo.triangle;
 
 import org.neo4j.graphalgo.AlgorithmFactory;
 import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.core.concurrency.Pools;
 import org.neo4j.graphalgo.core.utils.BatchingProgressLogger;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
@@ -46,6 +47,7 @@ public class LocalClusteringCoefficientFactory<CONFIG extends LocalClusteringCoe
         return new LocalClusteringCoefficient(
             graph,
             configuration,
+            Pools.DEFAULT,
             tracker,
             progressLogger
         );
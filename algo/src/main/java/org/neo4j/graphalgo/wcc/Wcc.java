@@ -19,6 +19,7 @@
  */
 package org.neo4j.graphalgo.wcc;
 
+import com.carrotsearch.hppc.LongLongHashMap;
 import org.neo4j.graphalgo.Algorithm;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.api.NodeProperties;
@@ -32,29 +33,39 @@ import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
 import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.paged.dss.DisjointSetStruct;
 import org.neo4j.graphalgo.core.utils.paged.dss.HugeAtomicDisjointSetStruct;
+import org.neo4j.graphalgo.core.utils.partition.Partition;
+import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
-
-import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Parallel Union-Find Algorithm based on the
  * "Wait-free Parallel Algorithms for the Union-Find Problem" paper.
+ * <p>
+ * With the {@link WccStrategy#AFFOREST} strategy, the first {@value #NEIGHBOR_ROUNDS} relationships of every node
+ * are unioned first, one round at a time. A sample of the nodes is then used to find the largest intermediate
+ * component. On undirected graphs, the nodes of that component skip their remaining relationships, because
+ * every relationship that leaves the component is also visited from its other end.
  *
  * @see HugeAtomicDisjointSetStruct
  * @see <a href="http://citeseerx.ist.psu.edu/viewdoc/download?doi=10.1.1.56.8354&rep=rep1&type=pdf">the paper</a>
+ * @see <a href="https://doi.org/10.1109/IPDPS.2018.00100">Afforest: A Fast Concurrent Connected Components Algorithm</a>
  */
 public class Wcc extends Algorithm<Wcc, DisjointSetStruct> {
 
+    static final int NEIGHBOR_ROUNDS = 2;
+    static final int COMPONENT_SAMPLE_SIZE = 1024;
+
     private final WccBaseConfig config;
     private final NodeProperties initialComponents;
     private final ExecutorService executor;
     private final AllocationTracker tracker;
     private final long nodeCount;
-    private final long batchSize;
-    private final int threadSize;
+    private final int partitionCount;
 
     private Graph graph;
 
@@ -81,24 +92,13 @@ public class Wcc extends Algorithm<Wcc, DisjointSetStruct> {
         this.executor = executor;
         this.tracker = tracker;
         this.nodeCount = graph.nodeCount();
-        this.batchSize = ParallelUtil.adjustedBatchSize(
-            nodeCount,
-            config.concurrency(),
-            minBatchSize,
-            Integer.MAX_VALUE
+        // at least minBatchSize nodes per partition, but several partitions per thread to balance skewed degrees
+        long maxPartitionCount = ParallelUtil.threadCount(Math.max(1, minBatchSize), nodeCount);
+        this.partitionCount = (int) Math.min(
+            maxPartitionCount,
+            (long) Math.max(1, config.concurrency()) * PartitionUtils.PARTITIONS_PER_THREAD
         );
 
-        long threadSize = ParallelUtil.threadCount(batchSize, nodeCount);
-        if (threadSize > Integer.MAX_VALUE) {
-            throw new IllegalArgumentException(formatWithLocale(
-                "Too many nodes (%d) to run union find with the given concurrency (%d) and batchSize (%d)",
-                nodeCount,
-                config.concurrency(),
-                batchSize
-            ));
-        }
-        this.threadSize = (int) threadSize;
-
         this.progressLogger = progressLogger;
     }
 
@@ -112,19 +112,79 @@ public class Wcc extends Algorithm<Wcc, DisjointSetStruct> {
             ? new HugeAtomicDisjointSetStruct(nodeCount, initialComponents, tracker, config.concurrency())
             : new HugeAtomicDisjointSetStruct(nodeCount, tracker, config.concurrency());
 
-        final Collection<Runnable> tasks = new ArrayList<>(threadSize);
-        for (long i = 0L; i < this.nodeCount; i += batchSize) {
-            WCCTask wccTask = Double.isNaN(threshold()) || threshold() == 0
-                ? new WCCTask(dss, i)
-                : new WCCWithThresholdTask(threshold(), dss, i);
-            tasks.add(wccTask);
+        List<Partition> partitions = PartitionUtils.degreeBalancedPartitions(
+            graph,
+            config.concurrency(),
+            partitionCount,
+            executor,
+            tracker
+        );
+        if (config.strategy() == WccStrategy.AFFOREST) {
+            afforest(dss, partitions);
+        } else {
+            unionFind(dss, partitions);
         }
-        ParallelUtil.run(tasks, executor);
 
         progressLogger.logMessage(":: Finished");
         return dss;
     }
 
+    private void unionFind(DisjointSetStruct dss, List<Partition> partitions) {
+        final Collection<Runnable> tasks = new ArrayList<>(partitions.size());
+        for (Partition partition : partitions) {
+            WCCTask wccTask = hasThreshold()
+                ? new WCCWithThresholdTask(threshold(), dss, partition)
+                : new WCCTask(dss, partition);
+            tasks.add(wccTask);
+        }
+        ParallelUtil.runWithConcurrency(config.concurrency(), tasks, executor);
+    }
+
+    private void afforest(DisjointSetStruct dss, List<Partition> partitions) {
+        for (int round = 0; round < NEIGHBOR_ROUNDS; round++) {
+            final Collection<Runnable> tasks = new ArrayList<>(partitions.size());
+            for (Partition partition : partitions) {
+                tasks.add(new NeighborSamplingTask(dss, partition, round));
+            }
+            ParallelUtil.runWithConcurrency(config.concurrency(), tasks, executor);
+            assertRunning();
+        }
+
+        // on directed graphs, a relationship into the largest component is only visible from its source
+        long largestComponentNode = graph.isUndirected() ? sampleLargestComponent(dss) : -1L;
+
+        final Collection<Runnable> tasks = new ArrayList<>(partitions.size());
+        for (Partition partition : partitions) {
+            tasks.add(new AfforestTask(dss, partition, largestComponentNode));
+        }
+        ParallelUtil.runWithConcurrency(config.concurrency(), tasks, executor);
+    }
+
+    /**
+     * @return a node of the most frequent component among randomly sampled nodes, or -1 if the graph is empty
+     */
+    private long sampleLargestComponent(DisjointSetStruct dss) {
+        if (nodeCount == 0) {
+            return -1L;
+        }
+        LongLongHashMap sampledComponentSizes = new LongLongHashMap();
+        LongLongHashMap sampledComponentNodes = new LongLongHashMap();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long largestComponentNode = -1L;
+        long largestComponentSize = 0L;
+        for (int i = 0; i < COMPONENT_SAMPLE_SIZE; i++) {
+            long node = random.nextLong(nodeCount);
+            long component = dss.setIdOf(node);
+            long size = sampledComponentSizes.addTo(component, 1L);
+            sampledComponentNodes.putIfAbsent(component, node);
+            if (size > largestComponentSize) {
+                largestComponentSize = size;
+                largestComponentNode = sampledComponentNodes.get(component);
+            }
+        }
+        return largestComponentNode;
+    }
+
     @Override
     public Wcc me() {
         return this;
@@ -139,6 +199,10 @@ public class Wcc extends Algorithm<Wcc, DisjointSetStruct> {
         return config.threshold();
     }
 
+    private boolean hasThreshold() {
+        return !(Double.isNaN(threshold()) || threshold() == 0);
+    }
+
     private static double defaultWeight(double threshold) {
         return threshold + 1;
     }
@@ -150,11 +214,11 @@ public class Wcc extends Algorithm<Wcc, DisjointSetStruct> {
         private final long offset;
         private final long end;
 
-        WCCTask(DisjointSetStruct struct, long offset) {
+        WCCTask(DisjointSetStruct struct, Partition partition) {
             this.struct = struct;
             this.rels = graph.concurrentCopy();
-            this.offset = offset;
-            this.end = Math.min(offset + batchSize, nodeCount);
+            this.offset = partition.startNode;
+            this.end = partition.startNode + partition.nodeCount;
         }
 
         @Override
@@ -184,8 +248,8 @@ public class Wcc extends Algorithm<Wcc, DisjointSetStruct> {
 
         private final double threshold;
 
-        WCCWithThresholdTask(double threshold, DisjointSetStruct struct, long offset) {
-            super(struct, offset);
+        WCCWithThresholdTask(double threshold, DisjointSetStruct struct, Partition partition) {
+            super(struct, partition);
             this.threshold = threshold;
         }
 
@@ -202,4 +266,110 @@ public class Wcc extends Algorithm<Wcc, DisjointSetStruct> {
             return true;
         }
     }
+
+    /**
+     * Visits the relationships of a node that pass the threshold, if one is configured,
+     * together with their position among those relationships.
+     */
+    private abstract class IndexedRelationshipTask implements Runnable, RelationshipConsumer, RelationshipWithPropertyConsumer {
+
+        final DisjointSetStruct struct;
+        final RelationshipIterator rels;
+        final long offset;
+        final long end;
+        private final boolean hasThreshold;
+        private final double threshold;
+        private int index;
+
+        IndexedRelationshipTask(DisjointSetStruct struct, Partition partition) {
+            this.struct = struct;
+            this.rels = graph.concurrentCopy();
+            this.offset = partition.startNode;
+            this.end = partition.startNode + partition.nodeCount;
+            this.hasThreshold = hasThreshold();
+            this.threshold = threshold();
+        }
+
+        void visit(long node) {
+            index = 0;
+            if (hasThreshold) {
+                rels.forEachRelationship(node, Wcc.defaultWeight(threshold), (RelationshipWithPropertyConsumer) this);
+            } else {
+                rels.forEachRelationship(node, (RelationshipConsumer) this);
+            }
+        }
+
+        abstract boolean visitRelationship(long sourceNodeId, long targetNodeId, int index);
+
+        @Override
+        public boolean accept(final long sourceNodeId, final long targetNodeId) {
+            return visitRelationship(sourceNodeId, targetNodeId, index++);
+        }
+
+        @Override
+        public boolean accept(final long sourceNodeId, final long targetNodeId, final double property) {
+            return property <= threshold || visitRelationship(sourceNodeId, targetNodeId, index++);
+        }
+    }
+
+    private final class NeighborSamplingTask extends IndexedRelationshipTask {
+
+        private final int round;
+
+        NeighborSamplingTask(DisjointSetStruct struct, Partition partition, int round) {
+            super(struct, partition);
+            this.round = round;
+        }
+
+        @Override
+        public void run() {
+            for (long node = offset; node < end; node++) {
+                visit(node);
+                if (node % RUN_CHECK_NODE_COUNT == 0) {
+                    assertRunning();
+                }
+            }
+        }
+
+        @Override
+        boolean visitRelationship(long sourceNodeId, long targetNodeId, int index) {
+            if (index == round) {
+                struct.union(sourceNodeId, targetNodeId);
+                return false;
+            }
+            return true;
+        }
+    }
+
+    private final class AfforestTask extends IndexedRelationshipTask {
+
+        private final long largestComponentNode;
+
+        AfforestTask(DisjointSetStruct struct, Partition partition, long largestComponentNode) {
+            super(struct, partition);
+            this.largestComponentNode = largestComponentNode;
+        }
+
+        @Override
+        public void run() {
+            for (long node = offset; node < end; node++) {
+                if (largestComponentNode == -1L || !struct.sameSet(node, largestComponentNode)) {
+                    visit(node);
+                }
+                if (node % RUN_CHECK_NODE_COUNT == 0) {
+                    assertRunning();
+                }
+
+                getProgressLogger().logProgress(graph.degree(node));
+            }
+        }
+
+        @Override
+        boolean visitRelationship(long sourceNodeId, long targetNodeId, int index) {
+            if (index >= NEIGHBOR_ROUNDS) {
+                struct.union(sourceNodeId, targetNodeId);
+            }
+            return true;
+        }
+    }
 }
@@ -33,6 +33,13 @@ public interface WccBaseConfig extends AlgoBaseConfig, SeedConfig, ConsecutiveId
         return 0D;
     }
 
+    @Value.Default
+    @Configuration.ConvertWith("org.neo4j.graphalgo.wcc.WccStrategy#parse")
+    @Configuration.ToMapValue("org.neo4j.graphalgo.wcc.WccStrategy#toString")
+    default WccStrategy strategy() {
+        return WccStrategy.UNION_FIND;
+    }
+
     @Value.Check
     default void validate() {
         if (threshold() > 0 && relationshipWeightProperty() == null) {
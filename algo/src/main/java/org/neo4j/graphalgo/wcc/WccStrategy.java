@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.wcc;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Controls how {@link Wcc} visits the relationships of the graph.
+ */
+public enum WccStrategy {
+    /**
+     * Every relationship is unioned into the disjoint set struct.
+     */
+    UNION_FIND,
+    /**
+     * The first few relationships of every node are unioned first. Afterwards, nodes that already belong to
+     * the largest intermediate component skip their remaining relationships, if the graph is undirected.
+     *
+     * @see <a href="https://doi.org/10.1109/IPDPS.2018.00100">Afforest: A Fast Concurrent Connected Components Algorithm</a>
+     */
+    AFFOREST;
+
+    public static WccStrategy of(String value) {
+        try {
+            return WccStrategy.valueOf(value.toUpperCase(Locale.ENGLISH));
+        } catch (IllegalArgumentException e) {
+            String availableStrategies = Arrays
+                .stream(WccStrategy.values())
+                .map(WccStrategy::name)
+                .collect(Collectors.joining(", "));
+            throw new IllegalArgumentException(formatWithLocale(
+                "WCC strategy `%s` is not supported. Must be one of: %s.",
+                value,
+                availableStrategies
+            ));
+        }
+    }
+
+    public static WccStrategy parse(Object object) {
+        if (object == null) {
+            return null;
+        }
+        if (object instanceof String) {
+            return of((String) object);
+        }
+        if (object instanceof WccStrategy) {
+            return (WccStrategy) object;
+        }
+        return null;
+    }
+
+    public static String toString(WccStrategy strategy) {
+        return strategy.name();
+    }
+}
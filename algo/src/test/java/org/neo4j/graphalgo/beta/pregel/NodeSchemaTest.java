@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.pregel;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class NodeSchemaTest {
+
+    private static final NodeSchema SCHEMA = NodeSchema.builder()
+        .putElement("a", NodeSchema.ValueType.LONG)
+        .putElement("b", NodeSchema.ValueType.DOUBLE)
+        .putElement("c", NodeSchema.ValueType.LONG)
+        .putElement("d", NodeSchema.ValueType.DOUBLE_ARRAY)
+        .build();
+
+    @Test
+    void shouldNumberSlotsPerType() {
+        assertEquals(0, SCHEMA.slot("a", NodeSchema.ValueType.LONG));
+        assertEquals(1, SCHEMA.slot("c", NodeSchema.ValueType.LONG));
+        assertEquals(0, SCHEMA.slot("b", NodeSchema.ValueType.DOUBLE));
+        assertEquals(0, SCHEMA.slot("d", NodeSchema.ValueType.DOUBLE_ARRAY));
+
+        assertEquals(2, SCHEMA.slotCount(NodeSchema.ValueType.LONG));
+        assertEquals(1, SCHEMA.slotCount(NodeSchema.ValueType.DOUBLE));
+        assertEquals(1, SCHEMA.slotCount(NodeSchema.ValueType.DOUBLE_ARRAY));
+    }
+
+    @Test
+    void shouldFailOnUnknownKey() {
+        IllegalArgumentException ex = assertThrows(
+            IllegalArgumentException.class,
+            () -> SCHEMA.slot("e", NodeSchema.ValueType.LONG)
+        );
+        assertEquals("The node schema does not contain an element with key `e`.", ex.getMessage());
+    }
+
+    @Test
+    void shouldFailOnWrongType() {
+        IllegalArgumentException ex = assertThrows(
+            IllegalArgumentException.class,
+            () -> SCHEMA.slot("a", NodeSchema.ValueType.DOUBLE)
+        );
+        assertEquals("The node schema element `a` is of type LONG, but DOUBLE was requested.", ex.getMessage());
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.pregel;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicBitSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReducingMessengerTest {
+
+    private static final int NODE_COUNT = 3;
+
+    private final HugeAtomicBitSet receivers = HugeAtomicBitSet.create(NODE_COUNT, AllocationTracker.EMPTY);
+
+    @Test
+    void shouldReduceMessagesOfThePreviousSuperstep() {
+        ReducingMessenger messenger = messenger(false, new Reducer.Sum());
+        ReducingMessenger.SingleMessageIterator iterator = messenger.messageIterator();
+
+        messenger.initIteration(0, receivers);
+        messenger.sendTo(1, 1.0);
+        messenger.sendTo(1, 2.0);
+
+        messenger.initIteration(1, receivers);
+        // sent in the current superstep, must not be visible until the next one
+        messenger.sendTo(1, 4.0);
+        messenger.initMessageIterator(iterator, 1, true);
+        assertTrue(iterator.hasNext());
+        assertEquals(3.0, iterator.nextDouble());
+        assertFalse(iterator.hasNext());
+        assertTrue(iterator.isEmpty());
+
+        messenger.initIteration(2, receivers);
+        // the reduced value has been reset after reading it
+        messenger.initMessageIterator(iterator, 1, true);
+        assertEquals(4.0, iterator.nextDouble());
+
+        messenger.initIteration(3, receivers);
+        messenger.sendTo(1, 8.0);
+        messenger.initIteration(4, receivers);
+        messenger.initMessageIterator(iterator, 1, true);
+        assertEquals(8.0, iterator.nextDouble());
+
+        messenger.release();
+    }
+
+    @Test
+    void shouldNotReturnMessagesForNodesWithoutMessages() {
+        ReducingMessenger messenger = messenger(false, new Reducer.Sum());
+        ReducingMessenger.SingleMessageIterator iterator = messenger.messageIterator();
+
+        messenger.initIteration(0, receivers);
+        messenger.initIteration(1, receivers);
+        messenger.initMessageIterator(iterator, 0, false);
+        assertFalse(iterator.hasNext());
+        assertTrue(iterator.isEmpty());
+
+        messenger.release();
+    }
+
+    @Test
+    void shouldReturnMessagesInTheSameSuperstepWhenAsynchronous() {
+        ReducingMessenger messenger = messenger(true, new Reducer.Max());
+        ReducingMessenger.SingleMessageIterator iterator = messenger.messageIterator();
+
+        messenger.initIteration(0, receivers);
+        messenger.sendTo(2, 1.0);
+        messenger.sendTo(2, 42.0);
+        messenger.initMessageIterator(iterator, 2, true);
+        assertTrue(iterator.hasNext());
+        assertEquals(42.0, iterator.nextDouble());
+        assertFalse(iterator.hasNext());
+
+        messenger.initIteration(1, receivers);
+        // the message has already been consumed in the previous superstep
+        messenger.initMessageIterator(iterator, 2, true);
+        assertFalse(iterator.hasNext());
+        assertTrue(iterator.isEmpty());
+
+        messenger.release();
+    }
+
+    @Test
+    void shouldReturnMessagesThatEqualTheIdentityWhenAsynchronous() {
+        ReducingMessenger messenger = messenger(true, new Reducer.Sum());
+        ReducingMessenger.SingleMessageIterator iterator = messenger.messageIterator();
+
+        messenger.initIteration(0, receivers);
+        messenger.sendTo(0, 0.0);
+
+        messenger.initIteration(1, receivers);
+        messenger.initMessageIterator(iterator, 0, true);
+        assertTrue(iterator.hasNext());
+        assertEquals(0.0, iterator.nextDouble());
+        assertFalse(iterator.hasNext());
+
+        messenger.release();
+    }
+
+    @Test
+    void shouldReturnExtremeValuesForMinAndMax() {
+        ReducingMessenger minMessenger = messenger(true, new Reducer.Min());
+        ReducingMessenger.SingleMessageIterator minIterator = minMessenger.messageIterator();
+        minMessenger.initIteration(0, receivers);
+        minMessenger.sendTo(0, Double.MAX_VALUE);
+        minMessenger.initMessageIterator(minIterator, 0, true);
+        assertEquals(Double.MAX_VALUE, minIterator.nextDouble());
+        minMessenger.release();
+
+        ReducingMessenger maxMessenger = messenger(false, new Reducer.Max());
+        ReducingMessenger.SingleMessageIterator maxIterator = maxMessenger.messageIterator();
+        maxMessenger.initIteration(0, receivers);
+        maxMessenger.sendTo(0, -Double.MAX_VALUE);
+        maxMessenger.initIteration(1, receivers);
+        maxMessenger.initMessageIterator(maxIterator, 0, true);
+        assertEquals(-Double.MAX_VALUE, maxIterator.nextDouble());
+        maxMessenger.release();
+    }
+
+    private ReducingMessenger messenger(boolean isAsynchronous, Reducer reducer) {
+        PregelConfig config = new PregelConfig.Builder()
+            .isAsynchronous(isAsynchronous)
+            .build();
+        return new ReducingMessenger(NODE_COUNT, config, reducer, 1, AllocationTracker.EMPTY);
+    }
+}
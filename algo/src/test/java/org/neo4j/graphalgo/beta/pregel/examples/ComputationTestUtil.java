@@ -21,11 +21,13 @@ package org.neo4j.graphalgo.beta.pregel.examples;
 
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
 import org.neo4j.graphdb.GraphDatabaseService;
 import org.neo4j.graphdb.Label;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.LongUnaryOperator;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.neo4j.graphalgo.compat.GraphDatabaseApiProxy.runInTransaction;
@@ -42,6 +44,26 @@ final class ComputationTestUtil {
             final Graph graph,
             HugeDoubleArray computedValues,
             final long... values) {
+        assertLongValues(db, nodeLabel, idProperty, graph, nodeId -> (long) computedValues.get(nodeId), values);
+    }
+
+    static void assertLongValues(
+            final GraphDatabaseService db,
+            Label nodeLabel,
+            String idProperty,
+            final Graph graph,
+            HugeLongArray computedValues,
+            final long... values) {
+        assertLongValues(db, nodeLabel, idProperty, graph, computedValues::get, values);
+    }
+
+    private static void assertLongValues(
+            final GraphDatabaseService db,
+            Label nodeLabel,
+            String idProperty,
+            final Graph graph,
+            LongUnaryOperator computedValues,
+            final long... values) {
         Map<Long, Long> expectedValues = new HashMap<>();
         runInTransaction(db, tx -> {
             for (int i = 0; i < values.length; i++) {
@@ -50,7 +72,7 @@ final class ComputationTestUtil {
         });
         expectedValues.forEach((idProp, expectedValue) -> {
             long neoId = graph.toOriginalNodeId(idProp);
-            long computedValue = (long) computedValues.get(neoId);
+            long computedValue = computedValues.applyAsLong(neoId);
             assertEquals(
                     (long) expectedValue,
                     computedValue,
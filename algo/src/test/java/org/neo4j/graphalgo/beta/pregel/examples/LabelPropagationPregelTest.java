@@ -20,7 +20,8 @@
 package org.neo4j.graphalgo.beta.pregel.examples;
 
 import org.junit.jupiter.api.BeforeEach;
-import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.neo4j.graphalgo.AlgoTestBase;
 import org.neo4j.graphalgo.Orientation;
 import org.neo4j.graphalgo.StoreLoaderBuilder;
@@ -32,7 +33,7 @@ import org.neo4j.graphalgo.core.Aggregation;
 import org.neo4j.graphalgo.core.concurrency.Pools;
 import org.neo4j.graphalgo.core.loading.NativeFactory;
 import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
-import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
 import org.neo4j.graphdb.Label;
 
 import static org.neo4j.graphalgo.beta.pregel.examples.ComputationTestUtil.assertLongValues;
@@ -77,13 +78,15 @@ class LabelPropagationPregelTest extends AlgoTestBase {
             .graph();
     }
 
-    @Test
-    void runLP() {
+    @ParameterizedTest
+    @EnumSource(PregelConfig.MessageStore.class)
+    void runLP(PregelConfig.MessageStore messageStore) {
         int batchSize = 10;
         int maxIterations = 10;
 
         PregelConfig config = new PregelConfig.Builder()
             .isAsynchronous(false)
+            .withMessageStore(messageStore)
             .build();
 
         Pregel pregelJob = Pregel.withDefaultNodeValues(
@@ -96,7 +99,9 @@ class LabelPropagationPregelTest extends AlgoTestBase {
             AllocationTracker.EMPTY
         );
 
-        HugeDoubleArray nodeValues = pregelJob.run(maxIterations);
+        HugeLongArray nodeValues = pregelJob
+            .computeNodeValues(maxIterations)
+            .longProperties(LabelPropagationPregel.LABEL_KEY);
 
         assertLongValues(db, NODE_LABEL, ID_PROPERTY, graph, nodeValues, 0, 0, 0, 4, 3, 0);
     }
@@ -365,12 +365,12 @@ class LouvainTest extends AlgoTestBase {
 
     static Stream<Arguments> memoryEstimationTuples() {
         return Stream.of(
-            arguments(1, 1, 6414177, 23941624),
-            arguments(1, 10, 6414177, 31141984),
-            arguments(4, 1, 6417465, 29746000),
-            arguments(4, 10, 6417465, 36946360),
-            arguments(42, 1, 6459113, 105719488),
-            arguments(42, 10, 6459113, 112919848)
+            arguments(1, 1, 6414177, 24741688),
+            arguments(1, 10, 6414177, 31942048),
+            arguments(4, 1, 6417465, 30546064),
+            arguments(4, 10, 6417465, 37746424),
+            arguments(42, 1, 6459113, 106519552),
+            arguments(42, 10, 6459113, 113719912)
         );
     }
 
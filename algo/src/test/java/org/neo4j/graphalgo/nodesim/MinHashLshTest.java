@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.nodesim;
+
+import com.carrotsearch.hppc.BitSet;
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MinHashLshTest {
+
+    private static final long[][] NEIGHBOURS = {
+        {1, 2, 3},
+        {1, 2, 3},
+        {},
+        {1, 2, 3},
+        {4, 5, 6, 7}
+    };
+
+    private static MinHashLsh minHash(int bands, int rows) {
+        MinHashLsh minHash = MinHashLsh.create(NEIGHBOURS.length, bands, rows, 42L, AllocationTracker.EMPTY);
+        for (int node = 0; node < NEIGHBOURS.length; node++) {
+            minHash.computeSignature(node, NEIGHBOURS[node]);
+        }
+        BitSet nodeFilter = new BitSet(NEIGHBOURS.length);
+        nodeFilter.set(0, NEIGHBOURS.length);
+        minHash.buildBuckets(nodeFilter, AllocationTracker.EMPTY);
+        return minHash;
+    }
+
+    @Test
+    void shouldAlwaysReturnNodesWithIdenticalNeighbours() {
+        MinHashLsh minHash = minHash(4, 8);
+
+        long[] candidates = minHash.candidates(0, false, work -> {}).filter(node -> node != 4).toArray();
+        assertArrayEquals(new long[]{1, 3}, candidates);
+
+        candidates = minHash.candidates(3, false, work -> {}).filter(node -> node != 4).toArray();
+        assertArrayEquals(new long[]{0, 1}, candidates);
+    }
+
+    @Test
+    void shouldOnlyReturnLargerCandidates() {
+        MinHashLsh minHash = minHash(4, 8);
+
+        long[] candidates = minHash.candidates(1, true, work -> {}).filter(node -> node != 4).toArray();
+        assertArrayEquals(new long[]{3}, candidates);
+    }
+
+    @Test
+    void shouldNotReturnCandidatesForNodesWithoutNeighbours() {
+        MinHashLsh minHash = minHash(4, 8);
+
+        assertEquals(0, minHash.candidates(2, false, work -> {}).count());
+        for (int node = 0; node < NEIGHBOURS.length; node++) {
+            assertEquals(0, minHash.candidates(node, false, work -> {}).filter(candidate -> candidate == 2).count());
+        }
+    }
+
+    @Test
+    void shouldReportVisitedBucketEntriesAsWork() {
+        MinHashLsh minHash = minHash(4, 8);
+
+        for (boolean largerOnly : new boolean[]{true, false}) {
+            AtomicLong work = new AtomicLong();
+            for (int node = 0; node < NEIGHBOURS.length; node++) {
+                minHash.candidates(node, largerOnly, work::addAndGet).count();
+            }
+            assertEquals(minHash.workload(largerOnly), work.get());
+        }
+    }
+}
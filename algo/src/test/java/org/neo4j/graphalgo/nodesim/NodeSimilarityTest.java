@@ -424,6 +424,61 @@ final class NodeSimilarityTest extends AlgoTestBase {
         );
     }
 
+    @ParameterizedTest(name = "concurrency = {0}")
+    @MethodSource("concurrencies")
+    void shouldNotCompareNodesThatOnlyShareNeighboursAboveMaxSharedNeighbourDegree(int concurrency) {
+        Graph graph =  new StoreLoaderBuilder()
+            .api(db)
+            .globalOrientation(REVERSE)
+            .build()
+            .graph();
+
+        // Alice and Dave like three items each, hence only Bob and Charlie are used to find candidates
+        NodeSimilarity nodeSimilarity = new NodeSimilarity(
+            graph,
+            configBuilder().similarityCutoff(0.1).maxSharedNeighbourDegree(2).concurrency(concurrency).build(),
+            Pools.DEFAULT,
+            progressLogger,
+            AllocationTracker.EMPTY
+        );
+
+        Set<String> result = nodeSimilarity
+            .computeToStream()
+            .map(NodeSimilarityTest::resultString)
+            .collect(Collectors.toSet());
+        nodeSimilarity.release();
+
+        assertEquals(Set.of(resultString(4, 5, 1.0), resultString(5, 4, 1.0)), result);
+    }
+
+    @ParameterizedTest(name = "orientation: {0}, concurrency: {1}")
+    @MethodSource("supportedLoadAndComputeDirections")
+    void shouldOnlyComputeExactSimilaritiesWithMinHash(Orientation orientation, int concurrency) {
+        Graph graph =  new StoreLoaderBuilder()
+            .api(db)
+            .globalOrientation(orientation)
+            .build()
+            .graph();
+
+        NodeSimilarity nodeSimilarity = new NodeSimilarity(
+            graph,
+            configBuilder().similarityCutoff(0.1).minHashBands(10).minHashRows(2).concurrency(concurrency).build(),
+            Pools.DEFAULT,
+            progressLogger,
+            AllocationTracker.EMPTY
+        );
+
+        Set<String> result = nodeSimilarity
+            .computeToStream()
+            .map(NodeSimilarityTest::resultString)
+            .collect(Collectors.toSet());
+        nodeSimilarity.release();
+
+        // Nodes with identical neighbours end up in the same buckets of every band
+        assertTrue((orientation == REVERSE ? EXPECTED_INCOMING_SIMILARITY_CUTOFF : EXPECTED_OUTGOING_SIMILARITY_CUTOFF).containsAll(result));
+        assertTrue(result.contains(orientation == REVERSE ? resultString(4, 5, 1.0) : resultString(0, 3, 1.0)));
+    }
+
     @ParameterizedTest(name = "concurrency = {0}")
     @MethodSource("concurrencies")
     void shouldComputeForUndirectedGraphs(int concurrency) {
@@ -682,7 +737,7 @@ final class NodeSimilarityTest extends AlgoTestBase {
 
         MemoryTree actual = new NodeSimilarityFactory<>().memoryEstimation(config).estimate(dimensions, 1);
 
-        long thisInstance = 56;
+        long thisInstance = 64;
 
         long nodeFilterRangeMin = 125_016L;
         long nodeFilterRangeMax = 125_016L;
@@ -732,7 +787,7 @@ final class NodeSimilarityTest extends AlgoTestBase {
 
         MemoryTree actual = new NodeSimilarityFactory<>().memoryEstimation(config).estimate(dimensions, 1);
 
-        long thisInstance = 56;
+        long thisInstance = 64;
 
         long nodeFilterRangeMin = 125_016L;
         long nodeFilterRangeMax = 125_016L;
@@ -835,5 +890,35 @@ final class NodeSimilarityTest extends AlgoTestBase {
         assertEquals(graph.relationshipCount(), progresses.get(0).get());
         assertEquals(concurrency == 1 ? comparisons / 2 : comparisons, progresses.get(1).get());
     }
+
+    @ParameterizedTest(name = "concurrency = {0}")
+    @ValueSource(ints = {1,2})
+    void shouldLogProgressForCandidatesFromNeighbourIndex(int concurrency) {
+        var graph =  new StoreLoaderBuilder()
+            .api(db)
+            .globalOrientation(NATURAL)
+            .build()
+            .graph();
+
+        var progressLogger = new TestProgressLogger(graph.relationshipCount(), "NodeSimilarity", concurrency);
+
+        var nodeSimilarity = new NodeSimilarity(
+            graph,
+            configBuilder().similarityCutoff(0.1).degreeCutoff(0).concurrency(concurrency).build(),
+            Pools.DEFAULT,
+            progressLogger,
+            AllocationTracker.EMPTY
+        );
+
+        nodeSimilarity.computeToStream().count();
+
+        List<AtomicLong> progresses = progressLogger.getProgresses();
+
+        assertEquals(2, progresses.size());
+
+        assertEquals(graph.relationshipCount(), progresses.get(0).get());
+        // Each item is liked by three persons, each of which visits the other two
+        assertEquals(concurrency == 1 ? 9 : 18, progresses.get(1).get());
+    }
 }
 
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.pagerank;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.neo4j.graphalgo.AlgoTestBase;
+import org.neo4j.graphalgo.Orientation;
+import org.neo4j.graphalgo.RelationshipProjection;
+import org.neo4j.graphalgo.StoreLoaderBuilder;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.queue.BoundedLongPriorityQueue;
+import org.neo4j.graphalgo.result.CentralityResult;
+
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchedPersonalizedPageRankTest extends AlgoTestBase {
+
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (f:Node)" +
+        ", (a)-[:TYPE]->(b)" +
+        ", (a)-[:TYPE]->(c)" +
+        ", (b)-[:TYPE]->(c)" +
+        ", (c)-[:TYPE]->(a)" +
+        ", (d)-[:TYPE]->(c)" +
+        ", (e)-[:TYPE]->(d)" +
+        ", (e)-[:TYPE]->(f)" +
+        ", (f)-[:TYPE]->(b)";
+
+    private static final PageRankBaseConfig CONFIG = ImmutablePageRankStreamConfig.builder()
+        .maxIterations(40)
+        .build();
+
+    @BeforeEach
+    void setupGraphDb() {
+        runQuery(DB_CYPHER);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Orientation.class)
+    void shouldMatchSingleSourcePageRank(Orientation orientation) {
+        Graph graph = loadGraph(orientation, true);
+        long[] sourceNodeIds = LongStream.range(0, graph.nodeCount()).map(graph::toOriginalNodeId).toArray();
+        int topK = 3;
+
+        BatchedPersonalizedPageRank batched = new BatchedPersonalizedPageRank(
+            graph,
+            PageRankAlgorithmType.NON_WEIGHTED.variant(CONFIG),
+            LongStream.of(sourceNodeIds),
+            CONFIG,
+            4,
+            topK,
+            4,
+            Pools.DEFAULT,
+            progressLogger,
+            AllocationTracker.EMPTY
+        ).compute();
+
+        assertEquals(sourceNodeIds.length, batched.sourceCount());
+        for (int sourceIndex = 0; sourceIndex < sourceNodeIds.length; sourceIndex++) {
+            CentralityResult expected = PageRankAlgorithmType.NON_WEIGHTED
+                .create(graph, CONFIG, LongStream.of(sourceNodeIds[sourceIndex]), progressLogger)
+                .compute()
+                .result();
+
+            BoundedLongPriorityQueue actual = batched.topK(sourceIndex);
+            long[] nodeIds = actual.elements().toArray();
+            double[] scores = actual.priorities().toArray();
+
+            long reachableNodes = LongStream.range(0, graph.nodeCount()).filter(nodeId -> expected.score(nodeId) > 0).count();
+            assertEquals(Math.min(topK, reachableNodes), nodeIds.length);
+            for (int i = 0; i < nodeIds.length; i++) {
+                assertEquals(expected.score(nodeIds[i]), scores[i], 1e-5);
+                if (i > 0) {
+                    assertTrue(scores[i] <= scores[i - 1]);
+                }
+            }
+            assertEquals(graph.toMappedNodeId(sourceNodeIds[sourceIndex]), batched.sourceNodeId(sourceIndex));
+        }
+    }
+
+    @Test
+    void shouldFailWithoutInverseIndex() {
+        Graph graph = loadGraph(Orientation.NATURAL, false);
+
+        BatchedPersonalizedPageRank batched = new BatchedPersonalizedPageRank(
+            graph,
+            PageRankAlgorithmType.NON_WEIGHTED.variant(CONFIG),
+            LongStream.of(graph.toOriginalNodeId(0)),
+            CONFIG,
+            4,
+            3,
+            1,
+            null,
+            progressLogger,
+            AllocationTracker.EMPTY
+        );
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, batched::compute);
+        assertTrue(exception.getMessage().contains("indexInverse"));
+    }
+
+    private Graph loadGraph(Orientation orientation, boolean indexInverse) {
+        return new StoreLoaderBuilder()
+            .api(db)
+            .addNodeLabel("Node")
+            .addRelationshipProjection(RelationshipProjection.builder()
+                .type("TYPE")
+                .orientation(orientation)
+                .indexInverse(indexInverse)
+                .build())
+            .build()
+            .graph();
+    }
+}
@@ -21,13 +21,17 @@ package org.neo4j.graphalgo.pagerank;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.neo4j.graphalgo.AlgoTestBase;
 import org.neo4j.graphalgo.Orientation;
+import org.neo4j.graphalgo.RelationshipProjection;
 import org.neo4j.graphalgo.StoreLoaderBuilder;
 import org.neo4j.graphalgo.TestLog;
 import org.neo4j.graphalgo.TestProgressLogger;
 import org.neo4j.graphalgo.core.GraphDimensions;
 import org.neo4j.graphalgo.core.ImmutableGraphDimensions;
+import org.neo4j.graphalgo.core.concurrency.Pools;
 import org.neo4j.graphalgo.core.utils.mem.MemoryRange;
 import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
 import org.neo4j.graphalgo.result.CentralityResult;
@@ -41,6 +45,7 @@ import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.neo4j.graphalgo.compat.GraphDatabaseApiProxy.runInTransaction;
 import static org.neo4j.graphalgo.compat.MapUtil.genericMap;
@@ -211,6 +216,71 @@ final class PageRankTest extends AlgoTestBase {
         // should not throw
     }
 
+    @ParameterizedTest
+    @EnumSource(Orientation.class)
+    void pullStrategyShouldMatchPushStrategy(Orientation orientation) {
+        var graph = new StoreLoaderBuilder()
+            .api(db)
+            .addNodeLabel(LABEL.name())
+            .addRelationshipProjection(RelationshipProjection.builder()
+                .type(RELATIONSHIP_TYPE)
+                .orientation(orientation)
+                .indexInverse(true)
+                .build())
+            .build()
+            .graph();
+
+        CentralityResult pushResult = PageRankAlgorithmType.NON_WEIGHTED
+            .create(graph, DEFAULT_CONFIG, LongStream.empty(), progressLogger)
+            .compute()
+            .result();
+
+        PageRank pullPageRank = PageRankAlgorithmType.NON_WEIGHTED
+            .create(
+                graph,
+                LongStream.empty(),
+                defaultConfigBuilder().strategy(PageRankStrategy.PULL).build(),
+                4,
+                Pools.DEFAULT,
+                progressLogger,
+                AllocationTracker.EMPTY
+            )
+            .compute();
+
+        assertTrue(pullPageRank.iterations() > 0);
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertEquals(pushResult.score(nodeId), pullPageRank.result().score(nodeId), 1e-5, "Node#" + nodeId);
+        }
+    }
+
+    @Test
+    void pullStrategyShouldFailWithoutInverseIndex() {
+        var graph = new StoreLoaderBuilder()
+            .api(db)
+            .addNodeLabel(LABEL.name())
+            .addRelationshipType(RELATIONSHIP_TYPE)
+            .build()
+            .graph();
+
+        var config = defaultConfigBuilder().strategy(PageRankStrategy.PULL).build();
+        var pageRank = PageRankAlgorithmType.NON_WEIGHTED.create(graph, config, LongStream.empty(), progressLogger);
+
+        var exception = assertThrows(IllegalArgumentException.class, pageRank::compute);
+        assertTrue(exception.getMessage().contains("indexInverse"));
+    }
+
+    @Test
+    void pullStrategyMemoryEstimationShouldNotDependOnConcurrency() {
+        GraphDimensions dimensions = ImmutableGraphDimensions.builder().nodeCount(100_000L).build();
+        var config = defaultConfigBuilder().strategy(PageRankStrategy.PULL).build();
+        var factory = new PageRankFactory<PageRankStreamConfig>(PageRankAlgorithmType.NON_WEIGHTED);
+
+        MemoryRange singleThreaded = factory.memoryEstimation(config).estimate(dimensions, 1).memoryUsage();
+        MemoryRange multiThreaded = factory.memoryEstimation(config).estimate(dimensions, 64).memoryUsage();
+
+        assertEquals(singleThreaded, multiThreaded);
+    }
+
     @Test
     void shouldComputeMemoryEstimation1Thread() {
         long nodeCount = 100_000L;
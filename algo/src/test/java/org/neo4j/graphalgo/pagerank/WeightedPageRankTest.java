@@ -21,9 +21,14 @@ package org.neo4j.graphalgo.pagerank;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.graphalgo.AlgoTestBase;
 import org.neo4j.graphalgo.PropertyMapping;
+import org.neo4j.graphalgo.RelationshipProjection;
 import org.neo4j.graphalgo.StoreLoaderBuilder;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
 import org.neo4j.graphalgo.result.CentralityResult;
 import org.neo4j.graphdb.Label;
 
@@ -33,6 +38,7 @@ import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.neo4j.graphalgo.compat.GraphDatabaseApiProxy.runInTransaction;
 
 final class WeightedPageRankTest extends AlgoTestBase {
@@ -322,4 +328,50 @@ final class WeightedPageRankTest extends AlgoTestBase {
             );
         });
     }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void pullStrategyShouldMatchPushStrategy(boolean cacheWeights) {
+        var graph = new StoreLoaderBuilder()
+            .api(db)
+            .addNodeLabel("Label1")
+            .addRelationshipProjection(RelationshipProjection.builder()
+                .type("TYPE4")
+                .indexInverse(true)
+                .build())
+            .addRelationshipProperty(PropertyMapping.of("weight", 0))
+            .build()
+            .graph();
+
+        var pushConfig = ImmutablePageRankStreamConfig.builder()
+            .maxIterations(40)
+            .cacheWeights(cacheWeights)
+            .build();
+
+        CentralityResult pushResult = PageRankAlgorithmType.WEIGHTED
+            .create(graph, pushConfig, LongStream.empty(), progressLogger)
+            .compute()
+            .result();
+
+        PageRank pullPageRank = PageRankAlgorithmType.WEIGHTED
+            .create(
+                graph,
+                LongStream.empty(),
+                ImmutablePageRankStreamConfig.builder()
+                    .maxIterations(40)
+                    .cacheWeights(cacheWeights)
+                    .strategy(PageRankStrategy.PULL)
+                    .build(),
+                4,
+                Pools.DEFAULT,
+                progressLogger,
+                AllocationTracker.EMPTY
+            )
+            .compute();
+
+        assertTrue(pullPageRank.iterations() > 0);
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertEquals(pushResult.score(nodeId), pullPageRank.result().score(nodeId), 1e-5, "Node#" + nodeId);
+        }
+    }
 }
@@ -28,6 +28,7 @@ import org.neo4j.graphalgo.AlgoTestBase;
 import org.neo4j.graphalgo.Orientation;
 import org.neo4j.graphalgo.StoreLoaderBuilder;
 import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.core.concurrency.Pools;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
 
@@ -219,6 +220,7 @@ class LocalClusteringCoefficientTest extends AlgoTestBase {
         return new LocalClusteringCoefficient(
             graph,
             createConfig().build(),
+            Pools.DEFAULT,
             AllocationTracker.EMPTY,
             ProgressLogger.NULL_LOGGER
         ).compute();
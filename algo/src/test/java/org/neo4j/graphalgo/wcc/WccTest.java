@@ -91,6 +91,25 @@ class WccTest extends AlgoTestBase {
 
         DisjointSetStruct result = run(graph);
 
+        assertComponents(graph, result);
+    }
+
+    @ParameterizedTest(name = "orientation = {0}")
+    @EnumSource(Orientation.class)
+    void shouldComputeComponentsWithAfforest(Orientation orientation) {
+        Graph graph = new StoreLoaderBuilder()
+            .api(db)
+            .addRelationshipType(RELATIONSHIP_TYPE.name())
+            .globalOrientation(orientation)
+            .build()
+            .graph();
+
+        DisjointSetStruct result = run(graph, ImmutableWccStreamConfig.builder().strategy(WccStrategy.AFFOREST).build());
+
+        assertComponents(graph, result);
+    }
+
+    private void assertComponents(Graph graph, DisjointSetStruct result) {
         assertEquals(SETS_COUNT, getSetCount(result));
         long[] setRegions = new long[SETS_COUNT];
         Arrays.fill(setRegions, -1);
@@ -25,6 +25,7 @@ import org.neo4j.graphalgo.annotation.Configuration;
 import org.neo4j.graphalgo.annotation.ValueClass;
 import org.neo4j.graphalgo.config.WritePropertyConfig;
 import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphalgo.impl.msbfs.MultiSourceBFSConfig;
 import org.neo4j.graphalgo.config.AlgoBaseConfig;
 import org.neo4j.graphalgo.config.GraphCreateConfig;
 
@@ -35,7 +36,8 @@ import java.util.Optional;
 @SuppressWarnings("immutables:subtype")
 public interface ClosenessCentralityConfig extends
     AlgoBaseConfig,
-    WritePropertyConfig
+    WritePropertyConfig,
+    MultiSourceBFSConfig
 {
 
     @Value.Default
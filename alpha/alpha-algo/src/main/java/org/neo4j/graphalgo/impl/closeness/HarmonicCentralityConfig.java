@@ -27,6 +27,7 @@ import org.neo4j.graphalgo.config.AlgoBaseConfig;
 import org.neo4j.graphalgo.config.GraphCreateConfig;
 import org.neo4j.graphalgo.config.WritePropertyConfig;
 import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphalgo.impl.msbfs.MultiSourceBFSConfig;
 
 import java.util.Optional;
 
@@ -35,7 +36,8 @@ import java.util.Optional;
 @SuppressWarnings("immutables:subtype")
 public interface HarmonicCentralityConfig extends
     AlgoBaseConfig,
-    WritePropertyConfig {
+    WritePropertyConfig,
+    MultiSourceBFSConfig {
 
     @Override
     @Value.Default
@@ -23,12 +23,13 @@ import org.neo4j.graphalgo.Algorithm;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicLongArray;
 import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
-import org.neo4j.graphalgo.core.utils.paged.PagedAtomicIntegerArray;
 import org.neo4j.graphalgo.core.write.NodePropertyExporter;
 import org.neo4j.graphalgo.core.write.PropertyTranslator;
 import org.neo4j.graphalgo.impl.msbfs.BfsConsumer;
 import org.neo4j.graphalgo.impl.msbfs.MultiSourceBFS;
+import org.neo4j.graphalgo.impl.msbfs.PartitionedMultiSourceBFS;
 
 import java.util.concurrent.ExecutorService;
 import java.util.stream.LongStream;
@@ -43,8 +44,8 @@ import java.util.stream.Stream;
 public class MSClosenessCentrality extends Algorithm<MSClosenessCentrality, MSClosenessCentrality> {
 
     private Graph graph;
-    private PagedAtomicIntegerArray farness;
-    private PagedAtomicIntegerArray component;
+    private HugeAtomicLongArray farness;
+    private HugeAtomicLongArray component;
 
     private final int concurrency;
     private final ExecutorService executorService;
@@ -52,25 +53,41 @@ public class MSClosenessCentrality extends Algorithm<MSClosenessCentrality, MSCl
     private final AllocationTracker tracker;
 
     private final boolean wassermanFaust;
+    private final int laneWidth;
 
     public MSClosenessCentrality(
             Graph graph,
             AllocationTracker tracker,
             int concurrency,
             ExecutorService executorService, boolean wassermanFaust) {
+        this(graph, tracker, concurrency, executorService, wassermanFaust, 0);
+    }
+
+    /**
+     * @param laneWidth number of sources per {@link PartitionedMultiSourceBFS} traversal,
+     *                  or {@code 0} to run a {@link MultiSourceBFS} per thread
+     */
+    public MSClosenessCentrality(
+            Graph graph,
+            AllocationTracker tracker,
+            int concurrency,
+            ExecutorService executorService,
+            boolean wassermanFaust,
+            int laneWidth) {
         this.graph = graph;
         nodeCount = graph.nodeCount();
         this.concurrency = concurrency;
         this.executorService = executorService;
         this.tracker = tracker;
         this.wassermanFaust = wassermanFaust;
-        farness = PagedAtomicIntegerArray.newArray(nodeCount, this.tracker);
-        component = PagedAtomicIntegerArray.newArray(nodeCount, this.tracker);
+        this.laneWidth = laneWidth;
+        farness = HugeAtomicLongArray.newArray(nodeCount, this.tracker);
+        component = HugeAtomicLongArray.newArray(nodeCount, this.tracker);
     }
 
     public HugeDoubleArray getCentrality() {
         final HugeDoubleArray cc = HugeDoubleArray.newArray(nodeCount, tracker);
-        for (int i = 0; i < nodeCount; i++) {
+        for (long i = 0; i < nodeCount; i++) {
             cc.set(i, centrality(farness.get(i),
                     component.get(i),
                     nodeCount,
@@ -83,7 +100,7 @@ public class MSClosenessCentrality extends Algorithm<MSClosenessCentrality, MSCl
         exporter.write(
                 propertyName,
                 farness,
-                (PropertyTranslator.OfDouble<PagedAtomicIntegerArray>)
+                (PropertyTranslator.OfDouble<HugeAtomicLongArray>)
                         (data, nodeId) -> centrality(data.get(nodeId), component.get(nodeId), nodeCount, wassermanFaust));
     }
 
@@ -109,16 +126,22 @@ public class MSClosenessCentrality extends Algorithm<MSClosenessCentrality, MSCl
 
         final BfsConsumer consumer = (nodeId, depth, sourceNodeIds) -> {
             int len = sourceNodeIds.size();
-            farness.add(nodeId, len * depth);
+            farness.getAndAdd(nodeId, (long) len * depth);
             while (sourceNodeIds.hasNext()) {
-                component.add(sourceNodeIds.next(), 1);
+                component.getAndAdd(sourceNodeIds.next(), 1L);
             }
             progressLogger.logProgress((double) nodeId / (nodeCount - 1));
         };
 
-        MultiSourceBFS
-            .aggregatedNeighborProcessing(graph, graph, consumer, tracker)
-            .run(concurrency, executorService);
+        if (laneWidth > 0) {
+            PartitionedMultiSourceBFS
+                .aggregatedNeighborProcessing(graph, consumer, laneWidth, tracker)
+                .run(concurrency, executorService);
+        } else {
+            MultiSourceBFS
+                .aggregatedNeighborProcessing(graph, graph, consumer, tracker)
+                .run(concurrency, executorService);
+        }
 
         return this;
     }
@@ -24,13 +24,14 @@ import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
-import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
-import org.neo4j.graphalgo.utils.CloseableThreadLocal;
+import org.neo4j.graphalgo.core.utils.paged.HugeFloatMatrix;
+import org.neo4j.graphalgo.core.utils.partition.Partition;
+import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
 
 import java.util.List;
 import java.util.Random;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
 
 import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
 
@@ -40,9 +41,11 @@ public class RandomProjection extends Algorithm<RandomProjection, RandomProjecti
     private final int concurrency;
     private final boolean normalizeL2;
     private final float normalizationStrength;
-    private final HugeObjectArray<float[]> embeddings;
-    private final HugeObjectArray<float[]> embeddingA;
-    private final HugeObjectArray<float[]> embeddingB;
+    private final ExecutorService executorService;
+    private final AllocationTracker tracker;
+    private final HugeFloatMatrix embeddings;
+    private final HugeFloatMatrix embeddingA;
+    private final HugeFloatMatrix embeddingB;
 
     private final int embeddingDimension;
     private final int sparsity;
@@ -52,15 +55,14 @@ public class RandomProjection extends Algorithm<RandomProjection, RandomProjecti
     public RandomProjection(
         Graph graph,
         RandomProjectionBaseConfig config,
+        ExecutorService executorService,
         ProgressLogger progressLogger,
         AllocationTracker tracker
     ) {
         this.graph = graph;
+        this.executorService = executorService;
         this.progressLogger = progressLogger;
-
-        this.embeddings = HugeObjectArray.newArray(float[].class, graph.nodeCount(), tracker);
-        this.embeddingA = HugeObjectArray.newArray(float[].class, graph.nodeCount(), tracker);
-        this.embeddingB = HugeObjectArray.newArray(float[].class, graph.nodeCount(), tracker);
+        this.tracker = tracker;
 
         this.embeddingDimension = config.embeddingDimension();
         this.sparsity = config.sparsity();
@@ -71,7 +73,9 @@ public class RandomProjection extends Algorithm<RandomProjection, RandomProjecti
         this.concurrency = config.concurrency();
 
         int embeddingSize = iterationWeights.isEmpty() ? embeddingDimension * iterations : embeddingDimension;
-        this.embeddings.setAll((i) -> new float[embeddingSize]);
+        this.embeddings = HugeFloatMatrix.newMatrix(graph.nodeCount(), embeddingSize, tracker);
+        this.embeddingA = HugeFloatMatrix.newMatrix(graph.nodeCount(), embeddingDimension, tracker);
+        this.embeddingB = HugeFloatMatrix.newMatrix(graph.nodeCount(), embeddingDimension, tracker);
     }
 
     @Override
@@ -81,11 +85,11 @@ public class RandomProjection extends Algorithm<RandomProjection, RandomProjecti
         return me();
     }
 
-    public HugeObjectArray<float[]> embeddings() {
+    public HugeFloatMatrix embeddings() {
         return this.embeddings;
     }
 
-    HugeObjectArray<float[]> currentEmbedding(int iteration) {
+    HugeFloatMatrix currentEmbedding(int iteration) {
         return iteration % 2 == 0
             ? this.embeddingA
             : this.embeddingB;
@@ -98,8 +102,8 @@ public class RandomProjection extends Algorithm<RandomProjection, RandomProjecti
 
     @Override
     public void release() {
-        this.embeddingA.release();
-        this.embeddingB.release();
+        tracker.remove(this.embeddingA.release());
+        tracker.remove(this.embeddingB.release());
     }
 
     void initRandomVectors() {
@@ -108,18 +112,23 @@ public class RandomProjection extends Algorithm<RandomProjection, RandomProjecti
         float sqrtEmbeddingDimension = (float) Math.sqrt(embeddingDimension);
 
         progressLogger.logMessage("Computing random vectors");
-        ParallelUtil.parallelForEachNode(graph, concurrency, nodeId -> {
-            progressLogger.logProgress();
-
-            ThreadLocal<Random> random = ThreadLocal.withInitial(HighQualityRandom::new);
-            int degree = graph.degree(nodeId);
-            float scaling = degree == 0
-                ? 1.0f
-                : (float) Math.pow(degree, normalizationStrength);
-
-            float entryValue = scaling * sqrtSparsity / sqrtEmbeddingDimension;
-            float[] randomVector = computeRandomVector(random.get(), probability, entryValue);
-            embeddingB.set(nodeId, randomVector);
+        forEachPartition(partition -> {
+            Random random = new HighQualityRandom(System.nanoTime() ^ partition.startNode);
+            float[] randomVector = new float[embeddingDimension];
+
+            long end = partition.startNode + partition.nodeCount;
+            for (long nodeId = partition.startNode; nodeId < end; nodeId++) {
+                progressLogger.logProgress();
+
+                int degree = graph.degree(nodeId);
+                float scaling = degree == 0
+                    ? 1.0f
+                    : (float) Math.pow(degree, normalizationStrength);
+
+                float entryValue = scaling * sqrtSparsity / sqrtEmbeddingDimension;
+                computeRandomVector(randomVector, random, probability, entryValue);
+                embeddingB.setRow(nodeId, randomVector);
+            }
         });
     }
 
@@ -131,48 +140,50 @@ public class RandomProjection extends Algorithm<RandomProjection, RandomProjecti
             var localCurrent = i % 2 == 0 ? embeddingA : embeddingB;
             var localPrevious = i % 2 == 0 ? embeddingB : embeddingA;
 
-            try (var concurrentGraphCopy = CloseableThreadLocal.withInitial(graph::concurrentCopy)) {
-                ParallelUtil.parallelForEachNode(graph, concurrency, nodeId -> {
-                    float[] currentEmbedding = new float[embeddingDimension];
-                    localCurrent.set(nodeId, currentEmbedding);
-                    concurrentGraphCopy.get().forEachRelationship(nodeId, (source, target) -> {
-                        addArrayValues(currentEmbedding, localPrevious.get(target));
+            int offset = embeddingDimension * i;
+            float weight = iterationWeights.isEmpty()
+                ? Float.NaN
+                : iterationWeights.get(i).floatValue();
+
+            forEachPartition(partition -> {
+                Graph concurrentGraph = graph.concurrentCopy();
+
+                long end = partition.startNode + partition.nodeCount;
+                for (long nodeId = partition.startNode; nodeId < end; nodeId++) {
+                    localCurrent.fillRow(nodeId, 0.0f);
+                    concurrentGraph.forEachRelationship(nodeId, (source, target) -> {
+                        localCurrent.addRow(source, localPrevious, target);
                         return true;
                     });
-                    progressLogger.logProgress(graph.degree(nodeId));
-
-                    int degree = graph.degree(nodeId) == 0 ? 1 : graph.degree(nodeId);
-                    float degreeScale = 1.0f / degree;
-                    multiplyArrayValues(currentEmbedding, degreeScale);
-                });
-            }
 
-            int offset = embeddingDimension * i;
-            double weight = iterationWeights.isEmpty()
-                ? Double.NaN
-                : iterationWeights.get(i);
-            ParallelUtil.parallelForEachNode(graph, concurrency, nodeId -> {
-                float[] embedding = embeddings.get(nodeId);
-
-                float[] newEmbedding = localCurrent.get(nodeId);
-                if (normalizeL2) {
-                    l2Normalize(newEmbedding);
-                }
-                if (iterationWeights.isEmpty()) {
-                    System.arraycopy(newEmbedding, 0, embedding, offset, embeddingDimension);
-                } else {
-                    updateEmbeddings((float) weight, embedding, newEmbedding);
+                    int degree = concurrentGraph.degree(nodeId);
+                    progressLogger.logProgress(degree);
+                    localCurrent.scaleRow(nodeId, 1.0f / (degree == 0 ? 1 : degree));
+
+                    // the rows of the current iteration are only read by the next iteration,
+                    // so every node is finished as soon as its neighbours have been aggregated
+                    if (normalizeL2) {
+                        l2Normalize(localCurrent, nodeId);
+                    }
+                    if (iterationWeights.isEmpty()) {
+                        embeddings.copyRow(nodeId, offset, localCurrent, nodeId);
+                    } else {
+                        embeddings.addScaledRow(nodeId, 0, localCurrent, nodeId, weight);
+                    }
                 }
             });
         }
     }
 
-    private float[] computeRandomVector(Random random, float probability, float entryValue) {
-        float[] randomVector = new float[embeddingDimension];
+    private void forEachPartition(Consumer<Partition> consumer) {
+        List<Partition> partitions = PartitionUtils.degreeBalancedPartitions(graph, concurrency, executorService, tracker);
+        ParallelUtil.parallelStreamConsume(partitions.stream(), concurrency, stream -> stream.forEach(consumer));
+    }
+
+    private void computeRandomVector(float[] randomVector, Random random, float probability, float entryValue) {
         for (int i = 0; i < embeddingDimension; i++) {
             randomVector[i] = computeRandomEntry(random, probability, entryValue);
         }
-        return randomVector;
     }
 
     private float computeRandomEntry(Random random, float probability, float entryValue) {
@@ -187,37 +198,18 @@ public class RandomProjection extends Algorithm<RandomProjection, RandomProjecti
         }
     }
 
-    private void updateEmbeddings(float weight, float[] embedding, float[] newEmbedding) {
-        multiplyArrayValues(newEmbedding, weight);
-        addArrayValues(embedding, newEmbedding);
-    }
-
-    private void addArrayValues(float[] lhs, float[] rhs) {
-        for (int i = 0; i < lhs.length; i++) {
-            lhs[i] += rhs[i];
-        }
-    }
-
-    private void multiplyArrayValues(float[] lhs, float scalar) {
-        for (int i = 0; i < lhs.length; i++) {
-            lhs[i] *= scalar;
-        }
-    }
-
-    private void l2Normalize(float[] array) {
-        float sum = 0.0f;
-        for (float value : array) {
-            sum += value * value;
-        }
+    private void l2Normalize(HugeFloatMatrix matrix, long nodeId) {
+        float sum = matrix.sumOfSquares(nodeId);
         float sqrtSum = (float) (sum == 0 ? 1 : Math.sqrt(sum));
-        float scaling = 1 / sqrtSum;
-        for (int i = 0; i < array.length; i++) {
-            array[i] *= scaling;
-        }
+        matrix.scaleRow(nodeId, 1 / sqrtSum);
     }
 
-    public class HighQualityRandom extends Random {
-        private Lock l = new ReentrantLock();
+    /**
+     * A fast xorshift-based generator.
+     * Instances are not thread-safe and must not be shared between threads,
+     * every partition of the graph uses its own instance.
+     */
+    public static final class HighQualityRandom extends Random {
         private long u;
         private long v = 4101842887655102017L;
         private long w = 1;
@@ -227,36 +219,30 @@ public class RandomProjection extends Algorithm<RandomProjection, RandomProjecti
         }
 
         public HighQualityRandom(long seed) {
-            l.lock();
             u = seed ^ v;
             nextLong();
             v = u;
             nextLong();
             w = v;
             nextLong();
-            l.unlock();
         }
 
+        @Override
         public long nextLong() {
-            l.lock();
-            try {
-                u = u * 2862933555777941757L + 7046029254386353087L;
-                v ^= v >>> 17;
-                v ^= v << 31;
-                v ^= v >>> 8;
-                w = 4294957665L * (w & 0xffffffff) + (w >>> 32);
-                long x = u ^ (u << 21);
-                x ^= x >>> 35;
-                x ^= x << 4;
-                long ret = (x + v) ^ w;
-                return ret;
-            } finally {
-                l.unlock();
-            }
+            u = u * 2862933555777941757L + 7046029254386353087L;
+            v ^= v >>> 17;
+            v ^= v << 31;
+            v ^= v >>> 8;
+            w = 4294957665L * (w & 0xffffffff) + (w >>> 32);
+            long x = u ^ (u << 21);
+            x ^= x >>> 35;
+            x ^= x << 4;
+            return (x + v) ^ w;
         }
 
+        @Override
         protected int next(int bits) {
-            return (int) (nextLong() >>> (64-bits));
+            return (int) (nextLong() >>> (64 - bits));
         }
     }
-}
\ No newline at end of file
+}
@@ -26,6 +26,7 @@ import org.neo4j.graphalgo.core.utils.paged.HugeAtomicDoubleArray;
 import org.neo4j.graphalgo.core.utils.paged.PagedAtomicDoubleArray;
 import org.neo4j.graphalgo.impl.msbfs.BfsConsumer;
 import org.neo4j.graphalgo.impl.msbfs.MultiSourceBFS;
+import org.neo4j.graphalgo.impl.msbfs.PartitionedMultiSourceBFS;
 
 import java.util.concurrent.ExecutorService;
 
@@ -36,6 +37,7 @@ public class HarmonicCentrality extends Algorithm<HarmonicCentrality, HarmonicCe
     private final AllocationTracker allocationTracker;
     private final ExecutorService executorService;
     private final HugeAtomicDoubleArray inverseFarness;
+    private final int laneWidth;
 
     private Graph graph;
 
@@ -44,6 +46,20 @@ public class HarmonicCentrality extends Algorithm<HarmonicCentrality, HarmonicCe
         AllocationTracker allocationTracker,
         int concurrency,
         ExecutorService executorService
+    ) {
+        this(graph, allocationTracker, concurrency, executorService, 0);
+    }
+
+    /**
+     * @param laneWidth number of sources per {@link PartitionedMultiSourceBFS} traversal,
+     *                  or {@code 0} to run a {@link MultiSourceBFS} per thread
+     */
+    public HarmonicCentrality(
+        Graph graph,
+        AllocationTracker allocationTracker,
+        int concurrency,
+        ExecutorService executorService,
+        int laneWidth
     ) {
         this.graph = graph;
         this.allocationTracker = allocationTracker;
@@ -51,6 +67,7 @@ public class HarmonicCentrality extends Algorithm<HarmonicCentrality, HarmonicCe
         this.executorService = executorService;
         inverseFarness = HugeAtomicDoubleArray.newArray(graph.nodeCount(), allocationTracker);
         this.nodeCount = graph.nodeCount();
+        this.laneWidth = laneWidth;
     }
 
     @Override
@@ -60,12 +77,21 @@ public class HarmonicCentrality extends Algorithm<HarmonicCentrality, HarmonicCe
             inverseFarness.update(nodeId, currentValue -> currentValue + (len * (1.0 / depth)));
         };
 
-        MultiSourceBFS.aggregatedNeighborProcessing(
-            graph,
-            graph,
-            consumer,
-            allocationTracker
-        ).run(concurrency, executorService);
+        if (laneWidth > 0) {
+            PartitionedMultiSourceBFS.aggregatedNeighborProcessing(
+                graph,
+                consumer,
+                laneWidth,
+                allocationTracker
+            ).run(concurrency, executorService);
+        } else {
+            MultiSourceBFS.aggregatedNeighborProcessing(
+                graph,
+                graph,
+                consumer,
+                allocationTracker
+            ).run(concurrency, executorService);
+        }
 
         return this;
     }
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.impl.linkprediction;
+
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * The pairs of nodes to score, stored as two parallel arrays of mapped node ids.
+ */
+public final class CandidatePairs {
+
+    private HugeLongArray sources;
+    private HugeLongArray targets;
+    private final long pairCount;
+
+    private CandidatePairs(HugeLongArray sources, HugeLongArray targets, long pairCount) {
+        this.sources = sources;
+        this.targets = targets;
+        this.pairCount = pairCount;
+    }
+
+    /**
+     * Pairs the i-th source with the i-th target node, both given as original node ids.
+     */
+    public static CandidatePairs of(Graph graph, long[] sourceNodes, long[] targetNodes, AllocationTracker tracker) {
+        if (sourceNodes.length != targetNodes.length) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Expected the same number of source and target nodes, but got %d and %d.",
+                sourceNodes.length,
+                targetNodes.length
+            ));
+        }
+        HugeLongArray sources = HugeLongArray.newArray(sourceNodes.length, tracker);
+        HugeLongArray targets = HugeLongArray.newArray(targetNodes.length, tracker);
+        for (int i = 0; i < sourceNodes.length; i++) {
+            sources.set(i, mappedNodeId(graph, sourceNodes[i]));
+            targets.set(i, mappedNodeId(graph, targetNodes[i]));
+        }
+        return new CandidatePairs(sources, targets, sourceNodes.length);
+    }
+
+    /**
+     * Uses the relationships of the given graph as pairs.
+     * Undirected relationships are stored in both directions and become a single pair.
+     */
+    public static CandidatePairs of(Graph candidateGraph, AllocationTracker tracker) {
+        HugeLongArray sources = HugeLongArray.newArray(candidateGraph.relationshipCount(), tracker);
+        HugeLongArray targets = HugeLongArray.newArray(candidateGraph.relationshipCount(), tracker);
+        boolean undirected = candidateGraph.isUndirected();
+        long[] pairCount = {0L};
+        candidateGraph.forEachNode(nodeId -> {
+            candidateGraph.forEachRelationship(nodeId, (source, target) -> {
+                if (!undirected || source <= target) {
+                    sources.set(pairCount[0], source);
+                    targets.set(pairCount[0], target);
+                    pairCount[0]++;
+                }
+                return true;
+            });
+            return true;
+        });
+        return new CandidatePairs(sources, targets, pairCount[0]);
+    }
+
+    public long pairCount() {
+        return pairCount;
+    }
+
+    long source(long pair) {
+        return sources.get(pair);
+    }
+
+    long target(long pair) {
+        return targets.get(pair);
+    }
+
+    void release(AllocationTracker tracker) {
+        if (sources != null) {
+            tracker.remove(sources.release());
+            tracker.remove(targets.release());
+            sources = null;
+            targets = null;
+        }
+    }
+
+    private static long mappedNodeId(Graph graph, long originalNodeId) {
+        long nodeId = graph.toMappedNodeId(originalNodeId);
+        if (nodeId < 0) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Node with id %d was not loaded",
+                originalNodeId
+            ));
+        }
+        return nodeId;
+    }
+}
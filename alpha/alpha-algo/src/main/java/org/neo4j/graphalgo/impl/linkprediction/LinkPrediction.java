@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.impl.linkprediction;
+
+import org.apache.lucene.util.ArrayUtil;
+import org.neo4j.graphalgo.Algorithm;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.RelationshipConsumer;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.Intersections;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeIntArray;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Scores candidate pairs of nodes with a {@link LinkPredictionMetric}.
+ * Common neighbours are found by intersecting the sorted adjacency lists of both nodes.
+ * Self-loops and parallel relationships are ignored, and a node has no common neighbours with itself.
+ * Likewise, the degree of a node is the number of its distinct neighbours, not its number of relationships.
+ */
+public class LinkPrediction extends Algorithm<LinkPrediction, LinkPrediction> {
+
+    private static final int BATCH_SIZE = 1024;
+    private static final int UNKNOWN_DEGREE = -1;
+
+    private final Graph graph;
+    private final LinkPredictionMetric metric;
+    private final CandidatePairs pairs;
+    private final int concurrency;
+    private final ExecutorService executor;
+    private final AllocationTracker tracker;
+
+    private HugeDoubleArray scores;
+    // distinct neighbour counts of common neighbours, computed on first use
+    private HugeIntArray distinctDegrees;
+
+    public LinkPrediction(
+        Graph graph,
+        LinkPredictionMetric metric,
+        CandidatePairs pairs,
+        int concurrency,
+        ExecutorService executor,
+        AllocationTracker tracker
+    ) {
+        this.graph = graph;
+        this.metric = metric;
+        this.pairs = pairs;
+        this.concurrency = concurrency;
+        this.executor = executor;
+        this.tracker = tracker;
+    }
+
+    @Override
+    public LinkPrediction compute() {
+        long pairCount = pairs.pairCount();
+        scores = HugeDoubleArray.newArray(pairCount, tracker);
+        if (metric.usesCommonNeighbours()) {
+            distinctDegrees = HugeIntArray.newArray(graph.nodeCount(), tracker);
+            distinctDegrees.fill(UNKNOWN_DEGREE);
+        }
+        AtomicLong nextBatch = new AtomicLong();
+        ParallelUtil.runWithConcurrency(
+            concurrency,
+            ParallelUtil.tasks(concurrency, () -> new PairScorer(graph.concurrentCopy(), nextBatch, pairCount)),
+            executor
+        );
+        return this;
+    }
+
+    public double score(long pair) {
+        return scores.get(pair);
+    }
+
+    public Stream<Result> resultStream() {
+        return LongStream.range(0, pairs.pairCount()).mapToObj(pair -> new Result(
+            graph.toOriginalNodeId(pairs.source(pair)),
+            graph.toOriginalNodeId(pairs.target(pair)),
+            scores.get(pair)
+        ));
+    }
+
+    @Override
+    public LinkPrediction me() {
+        return this;
+    }
+
+    @Override
+    public void release() {
+        pairs.release(tracker);
+        if (scores != null) {
+            tracker.remove(scores.release());
+            scores = null;
+        }
+        if (distinctDegrees != null) {
+            tracker.remove(distinctDegrees.release());
+            distinctDegrees = null;
+        }
+    }
+
+    private final class PairScorer implements Runnable {
+
+        private final Graph localGraph;
+        private final AtomicLong nextBatch;
+        private final long pairCount;
+        private final NeighbourCollector neighbours1;
+        private final NeighbourCollector neighbours2;
+        private final NeighbourCollector neighbours3;
+        private long[] commonNeighbours;
+
+        PairScorer(Graph localGraph, AtomicLong nextBatch, long pairCount) {
+            this.localGraph = localGraph;
+            this.nextBatch = nextBatch;
+            this.pairCount = pairCount;
+            this.neighbours1 = new NeighbourCollector();
+            this.neighbours2 = new NeighbourCollector();
+            this.neighbours3 = new NeighbourCollector();
+            this.commonNeighbours = new long[0];
+        }
+
+        @Override
+        public void run() {
+            long start;
+            while ((start = nextBatch.getAndAdd(BATCH_SIZE)) < pairCount) {
+                assertRunning();
+                long end = Math.min(start + BATCH_SIZE, pairCount);
+                for (long pair = start; pair < end; pair++) {
+                    scores.set(pair, score(pairs.source(pair), pairs.target(pair)));
+                }
+            }
+        }
+
+        private double score(long node1, long node2) {
+            if (!metric.usesCommonNeighbours()) {
+                neighbours1.collect(localGraph, node1);
+                neighbours2.collect(localGraph, node2);
+                return (double) neighbours1.length * neighbours2.length;
+            }
+            if (node1 == node2) {
+                return 0.0;
+            }
+
+            neighbours1.collect(localGraph, node1);
+            neighbours2.collect(localGraph, node2);
+            int maxCommon = Math.min(neighbours1.length, neighbours2.length);
+            if (commonNeighbours.length < maxCommon) {
+                commonNeighbours = new long[ArrayUtil.oversize(maxCommon, Long.BYTES)];
+            }
+            int common = Intersections.intersection(
+                neighbours1.targets,
+                neighbours1.length,
+                neighbours2.targets,
+                neighbours2.length,
+                commonNeighbours
+            );
+
+            double score = 0.0;
+            for (int i = 0; i < common; i++) {
+                score += metric.commonNeighbourWeight(distinctDegree(commonNeighbours[i]));
+            }
+            return score;
+        }
+
+        // concurrent scorers may count the same node, which is harmless as they write the same value
+        private int distinctDegree(long nodeId) {
+            int degree = distinctDegrees.get(nodeId);
+            if (degree == UNKNOWN_DEGREE) {
+                neighbours3.collect(localGraph, nodeId);
+                degree = neighbours3.length;
+                distinctDegrees.set(nodeId, degree);
+            }
+            return degree;
+        }
+    }
+
+    /**
+     * Collects the distinct neighbours of a node in ascending order, without the node itself.
+     */
+    private static final class NeighbourCollector implements RelationshipConsumer {
+
+        private long[] targets = new long[64];
+        private int length;
+        private boolean sorted;
+
+        void collect(Graph graph, long nodeId) {
+            length = 0;
+            sorted = true;
+            graph.forEachRelationship(nodeId, this);
+            if (!sorted) {
+                // adjacency lists of multiple relationship types are not sorted as a whole
+                Arrays.sort(targets, 0, length);
+                int distinct = 0;
+                for (int i = 0; i < length; i++) {
+                    if (distinct == 0 || targets[distinct - 1] != targets[i]) {
+                        targets[distinct++] = targets[i];
+                    }
+                }
+                length = distinct;
+            }
+        }
+
+        @Override
+        public boolean accept(long sourceNodeId, long targetNodeId) {
+            if (targetNodeId == sourceNodeId) {
+                return true;
+            }
+            if (length > 0) {
+                long last = targets[length - 1];
+                if (last == targetNodeId) {
+                    return true;
+                }
+                if (last > targetNodeId) {
+                    sorted = false;
+                }
+            }
+            if (length == targets.length) {
+                targets = Arrays.copyOf(targets, ArrayUtil.oversize(length + 1, Long.BYTES));
+            }
+            targets[length++] = targetNodeId;
+            return true;
+        }
+    }
+
+    public static final class Result {
+        public final long node1;
+        public final long node2;
+        public final double score;
+
+        public Result(long node1, long node2, double score) {
+            this.node1 = node1;
+            this.node2 = node2;
+            this.score = score;
+        }
+
+        @Override
+        public String toString() {
+            return "Result{" +
+                   "node1=" + node1 +
+                   ", node2=" + node2 +
+                   ", score=" + score +
+                   '}';
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.impl.linkprediction;
+
+import org.immutables.value.Value;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.graphalgo.annotation.Configuration;
+import org.neo4j.graphalgo.annotation.ValueClass;
+import org.neo4j.graphalgo.config.AlgoBaseConfig;
+import org.neo4j.graphalgo.config.GraphCreateConfig;
+import org.neo4j.graphalgo.config.SourceNodesConfig;
+import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphdb.Node;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.neo4j.graphalgo.ElementProjection.PROJECT_ALL;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+@ValueClass
+@Configuration("LinkPredictionConfigImpl")
+@SuppressWarnings("immutables:subtype")
+public interface LinkPredictionConfig extends AlgoBaseConfig, SourceNodesConfig {
+
+    /**
+     * The second node of each candidate pair, the i-th target node is paired with the i-th source node.
+     */
+    @Value.Default
+    default List<Node> targetNodes() {
+        return Collections.emptyList();
+    }
+
+    @Configuration.Ignore
+    default LongStream targetNodeIds() {
+        return targetNodes().stream().mapToLong(Node::getId);
+    }
+
+    /**
+     * A relationship type of the graph whose relationships are the candidate pairs,
+     * used instead of {@link #sourceNodes()} and {@link #targetNodes()}.
+     */
+    @Value.Default
+    @Configuration.ConvertWith("org.apache.commons.lang3.StringUtils#trimToNull")
+    default @Nullable String candidateRelationshipType() {
+        return null;
+    }
+
+    @Value.Check
+    default void validateCandidates() {
+        if (candidateRelationshipType() != null) {
+            if (!sourceNodes().isEmpty() || !targetNodes().isEmpty()) {
+                throw new IllegalArgumentException(
+                    "Candidate pairs must be given either as `sourceNodes` and `targetNodes` or as `candidateRelationshipType`, but not both."
+                );
+            }
+            if (relationshipTypes().contains(candidateRelationshipType()) || relationshipTypes().contains(PROJECT_ALL)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Parameter `relationshipTypes` must list the relationship types to score on, excluding the candidate relationship type `%s`.",
+                    candidateRelationshipType()
+                ));
+            }
+        } else if (sourceNodes().size() != targetNodes().size()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Parameters `sourceNodes` and `targetNodes` must have the same number of entries, but were %d and %d.",
+                sourceNodes().size(),
+                targetNodes().size()
+            ));
+        }
+    }
+
+    static LinkPredictionConfig of(
+        Optional<String> graphName,
+        Optional<GraphCreateConfig> implicitCreateConfig,
+        String username,
+        CypherMapWrapper config
+    ) {
+        return new LinkPredictionConfigImpl(graphName, implicitCreateConfig, username, config);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.impl.linkprediction;
+
+/**
+ * Scores of a candidate pair of nodes, computed from their degrees and the degrees of their common neighbours.
+ * The degree of a node is its number of distinct neighbours, excluding the node itself.
+ */
+public enum LinkPredictionMetric {
+
+    /**
+     * Sum of {@code 1 / log(degree)} over all common neighbours.
+     */
+    ADAMIC_ADAR {
+        @Override
+        double commonNeighbourWeight(int degree) {
+            return 1.0 / Math.log(degree);
+        }
+    },
+    /**
+     * Sum of {@code 1 / degree} over all common neighbours.
+     */
+    RESOURCE_ALLOCATION {
+        @Override
+        double commonNeighbourWeight(int degree) {
+            return 1.0 / degree;
+        }
+    },
+    /**
+     * Number of common neighbours.
+     */
+    COMMON_NEIGHBORS {
+        @Override
+        double commonNeighbourWeight(int degree) {
+            return 1.0;
+        }
+    },
+    /**
+     * Product of the degrees of both nodes.
+     */
+    PREFERENTIAL_ATTACHMENT {
+        @Override
+        boolean usesCommonNeighbours() {
+            return false;
+        }
+
+        @Override
+        double commonNeighbourWeight(int degree) {
+            throw new UnsupportedOperationException("Preferential attachment does not use common neighbours.");
+        }
+    };
+
+    boolean usesCommonNeighbours() {
+        return true;
+    }
+
+    abstract double commonNeighbourWeight(int degree);
+}
@@ -0,0 +1,312 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.impl.msbfs;
+
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.RelationshipIterator;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+import org.neo4j.graphalgo.core.utils.partition.Partition;
+import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Multi Source Breadth First Search with aggregated neighbor processing, like {@link MultiSourceBFS},
+ * but with a single set of visit/next/seen bit sets that is shared by all threads.
+ * <p>
+ * {@link MultiSourceBFS} runs one traversal of {@value MultiSourceBFS#OMEGA} sources per thread,
+ * each with its own bit sets over all nodes. This implementation traverses {@code laneWidth} sources
+ * at once ({@code 64}, {@code 128} or {@code 256}), stored as {@code laneWidth / 64} consecutive longs
+ * per node, and runs the batches of sources one after another. Every BFS level is expanded in parallel
+ * over degree-balanced node partitions, which is why the next set is updated atomically.
+ * The memory requirement is therefore independent of the concurrency.
+ * <p>
+ * The callback is executed from multiple threads at the same time, but never twice for the same
+ * {@code (nodeId, depth)} combination. The sources iterator is only valid during the execution
+ * of the callback and should not be stored.
+ */
+public final class PartitionedMultiSourceBFS {
+
+    public static final int MIN_LANE_WIDTH = Long.SIZE;
+    public static final int MAX_LANE_WIDTH = 4 * Long.SIZE;
+
+    private final Graph graph;
+    private final BfsConsumer perNodeAction;
+    private final int lanes;
+    private final AllocationTracker tracker;
+    private final long[] startNodes;
+    private final long nodeCount;
+
+    private HugeLongArray visitSet;
+    private HugeAtomicLongArray nextSet;
+    private HugeLongArray seenSet;
+    private long batchStart;
+    private int depth;
+
+    public static PartitionedMultiSourceBFS aggregatedNeighborProcessing(
+        Graph graph,
+        BfsConsumer perNodeAction,
+        int laneWidth,
+        AllocationTracker tracker,
+        long... startNodes
+    ) {
+        return new PartitionedMultiSourceBFS(graph, perNodeAction, laneWidth, tracker, startNodes);
+    }
+
+    public static long memoryEstimation(long nodeCount, int laneWidth) {
+        long size = nodeCount * (laneWidth / Long.SIZE);
+        return 2 * HugeLongArray.memoryEstimation(size) + HugeAtomicLongArray.memoryEstimation(size);
+    }
+
+    public static void validateLaneWidth(int laneWidth) {
+        if (laneWidth != MIN_LANE_WIDTH && laneWidth != 2 * MIN_LANE_WIDTH && laneWidth != MAX_LANE_WIDTH) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The lane width must be one of 64, 128 or 256, but got %d.",
+                laneWidth
+            ));
+        }
+    }
+
+    private PartitionedMultiSourceBFS(
+        Graph graph,
+        BfsConsumer perNodeAction,
+        int laneWidth,
+        AllocationTracker tracker,
+        long... startNodes
+    ) {
+        validateLaneWidth(laneWidth);
+        this.graph = graph;
+        this.perNodeAction = perNodeAction;
+        this.lanes = laneWidth / Long.SIZE;
+        this.tracker = tracker;
+        this.startNodes = (startNodes != null && startNodes.length > 0) ? startNodes.clone() : null;
+        if (this.startNodes != null) {
+            Arrays.sort(this.startNodes);
+        }
+        this.nodeCount = graph.nodeCount();
+    }
+
+    /**
+     * Runs MS-BFS for all sources, one batch of {@code laneWidth} sources at a time.
+     * Every batch uses up to {@code concurrency} threads.
+     */
+    public void run(int concurrency, ExecutorService executor) {
+        long size = nodeCount * lanes;
+        visitSet = HugeLongArray.newArray(size, tracker);
+        nextSet = HugeAtomicLongArray.newArray(size, tracker);
+        seenSet = HugeLongArray.newArray(size, tracker);
+
+        List<FrontierTask> tasks = PartitionUtils
+            .degreeBalancedPartitions(graph, concurrency, executor, tracker)
+            .stream()
+            .map(FrontierTask::new)
+            .collect(Collectors.toList());
+        List<Runnable> expansions = tasks.stream().map(task -> (Runnable) task::expand).collect(Collectors.toList());
+        List<Runnable> visits = tasks.stream().map(task -> (Runnable) task::visit).collect(Collectors.toList());
+        List<Runnable> resets = tasks.stream().map(task -> (Runnable) task::reset).collect(Collectors.toList());
+
+        long sourceCount = startNodes != null ? startNodes.length : nodeCount;
+        int laneWidth = lanes * Long.SIZE;
+        for (batchStart = 0; batchStart < sourceCount; batchStart += laneWidth) {
+            int batchSize = (int) Math.min(laneWidth, sourceCount - batchStart);
+            if (batchStart > 0) {
+                ParallelUtil.runWithConcurrency(concurrency, resets, executor);
+            }
+            prepareSources(batchSize);
+
+            depth = 0;
+            boolean hasNext = true;
+            while (hasNext) {
+                ParallelUtil.runWithConcurrency(concurrency, expansions, executor);
+                ++depth;
+                ParallelUtil.runWithConcurrency(concurrency, visits, executor);
+                hasNext = false;
+                for (FrontierTask task : tasks) {
+                    hasNext |= task.visitedAny;
+                }
+            }
+        }
+
+        tracker.remove(visitSet.release());
+        tracker.remove(nextSet.release());
+        tracker.remove(seenSet.release());
+        visitSet = null;
+        nextSet = null;
+        seenSet = null;
+    }
+
+    private void prepareSources(int batchSize) {
+        for (int i = 0; i < batchSize; i++) {
+            long nodeId = sourceNode(i);
+            long index = nodeId * lanes + (i >>> 6);
+            long bit = 1L << i;
+            seenSet.or(index, bit);
+            visitSet.or(index, bit);
+        }
+    }
+
+    private long sourceNode(int indexInBatch) {
+        return startNodes != null ? startNodes[(int) (batchStart + indexInBatch)] : batchStart + indexInBatch;
+    }
+
+    private static void or(HugeAtomicLongArray array, long index, long bits) {
+        long current = array.get(index);
+        while ((current | bits) != current) {
+            if (array.compareAndSet(index, current, current | bits)) {
+                return;
+            }
+            current = array.get(index);
+        }
+    }
+
+    private final class FrontierTask {
+        private final RelationshipIterator relationships;
+        private final long startNode;
+        private final long endNode;
+        private final long[] lanesOfNode;
+        private final LaneSources sources;
+        private boolean visitedAny;
+
+        FrontierTask(Partition partition) {
+            this.relationships = graph.concurrentCopy();
+            this.startNode = partition.startNode;
+            this.endNode = partition.startNode + partition.nodeCount;
+            this.lanesOfNode = new long[lanes];
+            this.sources = new LaneSources(lanesOfNode);
+        }
+
+        /**
+         * Adds the sources that visit a node of this partition to the next set of all its neighbors.
+         */
+        void expand() {
+            for (long nodeId = startNode; nodeId < endNode; nodeId++) {
+                long base = nodeId * lanes;
+                boolean isVisited = false;
+                for (int lane = 0; lane < lanes; lane++) {
+                    lanesOfNode[lane] = visitSet.get(base + lane);
+                    isVisited |= lanesOfNode[lane] != 0L;
+                }
+                if (isVisited) {
+                    relationships.forEachRelationship(nodeId, (source, target) -> {
+                        long targetBase = target * lanes;
+                        for (int lane = 0; lane < lanes; lane++) {
+                            if (lanesOfNode[lane] != 0L) {
+                                or(nextSet, targetBase + lane, lanesOfNode[lane]);
+                            }
+                        }
+                        return true;
+                    });
+                }
+            }
+        }
+
+        /**
+         * Moves the unseen sources from the next set into the visit set and calls the consumer for them.
+         */
+        void visit() {
+            visitedAny = false;
+            for (long nodeId = startNode; nodeId < endNode; nodeId++) {
+                long base = nodeId * lanes;
+                boolean isVisited = false;
+                for (int lane = 0; lane < lanes; lane++) {
+                    long index = base + lane;
+                    long next = nextSet.get(index);
+                    if (next != 0L) {
+                        nextSet.set(index, 0L);
+                        long seen = seenSet.get(index);
+                        next &= ~seen;
+                        seenSet.set(index, seen | next);
+                    }
+                    visitSet.set(index, next);
+                    lanesOfNode[lane] = next;
+                    isVisited |= next != 0L;
+                }
+                if (isVisited) {
+                    sources.reset();
+                    perNodeAction.accept(nodeId, depth, sources);
+                    visitedAny = true;
+                }
+            }
+        }
+
+        /**
+         * Clears the seen set of this partition for the next batch of sources.
+         * The visit and next sets are already empty after the last level.
+         */
+        void reset() {
+            for (long index = startNode * lanes; index < endNode * lanes; index++) {
+                seenSet.set(index, 0L);
+            }
+        }
+    }
+
+    private final class LaneSources implements BfsSources {
+        private final long[] lanesOfNode;
+        private int lane;
+        private long remaining;
+
+        LaneSources(long[] lanesOfNode) {
+            this.lanesOfNode = lanesOfNode;
+        }
+
+        @Override
+        public void reset() {
+            lane = 0;
+            remaining = lanesOfNode[0];
+            fetchNext();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining != 0L;
+        }
+
+        @Override
+        public long next() {
+            int indexInBatch = lane * Long.SIZE + Long.numberOfTrailingZeros(remaining);
+            remaining &= remaining - 1;
+            fetchNext();
+            return sourceNode(indexInBatch);
+        }
+
+        @Override
+        public int size() {
+            int size = 0;
+            for (long bits : lanesOfNode) {
+                size += Long.bitCount(bits);
+            }
+            return size;
+        }
+
+        private void fetchNext() {
+            while (remaining == 0L && lane < lanes - 1) {
+                remaining = lanesOfNode[++lane];
+            }
+        }
+    }
+}
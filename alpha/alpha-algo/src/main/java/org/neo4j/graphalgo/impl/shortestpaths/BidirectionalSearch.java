@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.impl.shortestpaths;
+
+import com.carrotsearch.hppc.DoubleArrayDeque;
+import com.carrotsearch.hppc.LongArrayDeque;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.queue.HugeLongPriorityQueue;
+
+import java.util.function.LongToDoubleFunction;
+
+import static org.neo4j.graphalgo.impl.shortestpaths.TraversalState.NO_PREDECESSOR;
+
+/**
+ * Point to point shortest path search that expands from the start node on the forward graph
+ * and from the goal node on the reverse graph, always growing the smaller frontier.
+ * <p>
+ * A potential function {@code p} turns the search into bidirectional A*: the forward queue is ordered
+ * by {@code d(s, v) + p(v)} and the backward queue by {@code d(v, t) - p(v)}. This is the same as
+ * running bidirectional Dijkstra on the relationship costs {@code w(u, v) - p(u) + p(v)}, so the search
+ * can stop as soon as the two queue heads add up to at least the cost of the best path seen so far.
+ * For plain Dijkstra, the potential is zero.
+ */
+final class BidirectionalSearch {
+
+    private static final LongToDoubleFunction ZERO_POTENTIAL = node -> 0.0;
+
+    private Graph forwardGraph;
+    private Graph backwardGraph;
+    private TraversalState forward;
+    private TraversalState backward;
+    private HugeLongPriorityQueue forwardQueue;
+    private HugeLongPriorityQueue backwardQueue;
+
+    private LongToDoubleFunction potential;
+    // cost of the best path seen so far and the node where both searches met on it
+    private double bestCost;
+    private long meetingNode;
+
+    BidirectionalSearch(Graph forwardGraph, Graph backwardGraph, AllocationTracker tracker) {
+        long nodeCount = forwardGraph.nodeCount();
+        this.forwardGraph = forwardGraph;
+        this.backwardGraph = backwardGraph;
+        this.forward = new TraversalState(nodeCount, tracker);
+        this.backward = new TraversalState(nodeCount, tracker);
+        this.forwardQueue = HugeLongPriorityQueue.min(nodeCount, tracker);
+        this.backwardQueue = HugeLongPriorityQueue.min(nodeCount, tracker);
+    }
+
+    /**
+     * Potential for bidirectional A* with the consistent heuristics {@code toGoal} and {@code toStart}.
+     */
+    static LongToDoubleFunction averagePotential(LongToDoubleFunction toGoal, LongToDoubleFunction toStart) {
+        return node -> (toGoal.applyAsDouble(node) - toStart.applyAsDouble(node)) / 2.0;
+    }
+
+    /**
+     * @return true if a path from start to goal has been found
+     */
+    boolean compute(long start, long goal, TerminationFlag terminationFlag) {
+        return compute(start, goal, ZERO_POTENTIAL, terminationFlag);
+    }
+
+    /**
+     * @return true if a path from start to goal has been found
+     */
+    boolean compute(long start, long goal, LongToDoubleFunction potential, TerminationFlag terminationFlag) {
+        this.potential = potential;
+        this.bestCost = Double.MAX_VALUE;
+        this.meetingNode = NO_PREDECESSOR;
+        forward.reset();
+        backward.reset();
+        forwardQueue.clear();
+        backwardQueue.clear();
+
+        forward.update(start, 0.0, NO_PREDECESSOR);
+        forwardQueue.add(start, potential.applyAsDouble(start));
+        backward.update(goal, 0.0, NO_PREDECESSOR);
+        backwardQueue.add(goal, -potential.applyAsDouble(goal));
+
+        while (forwardQueue.nonEmpty() && backwardQueue.nonEmpty() && terminationFlag.running()) {
+            if (forwardQueue.topCost() + backwardQueue.topCost() >= bestCost) {
+                break;
+            }
+            if (forwardQueue.size() <= backwardQueue.size()) {
+                expand(forwardGraph, forward, forwardQueue, backward, 1.0);
+            } else {
+                expand(backwardGraph, backward, backwardQueue, forward, -1.0);
+            }
+        }
+        return meetingNode != NO_PREDECESSOR;
+    }
+
+    private void expand(
+        Graph graph,
+        TraversalState state,
+        HugeLongPriorityQueue queue,
+        TraversalState opposite,
+        double potentialSign
+    ) {
+        long node = queue.pop();
+        state.settle(node);
+        double cost = state.cost(node);
+        graph.forEachRelationship(node, 1.0D, (source, target, weight) -> {
+            if (state.isSettled(target)) {
+                return true;
+            }
+            double newCost = cost + weight;
+            if (newCost < state.cost(target)) {
+                state.update(target, newCost, source);
+                queue.set(target, newCost + potentialSign * potential.applyAsDouble(target));
+            }
+            if (opposite.isDiscovered(target)) {
+                double pathCost = state.cost(target) + opposite.cost(target);
+                if (pathCost < bestCost) {
+                    bestCost = pathCost;
+                    meetingNode = target;
+                }
+            }
+            return true;
+        });
+    }
+
+    double totalCost() {
+        return bestCost;
+    }
+
+    /**
+     * Appends the nodes of the found path and their costs from the start node.
+     */
+    void path(LongArrayDeque path, DoubleArrayDeque costs) {
+        long node = meetingNode;
+        while (node != NO_PREDECESSOR) {
+            path.addFirst(node);
+            costs.addFirst(forward.cost(node));
+            node = forward.predecessor(node);
+        }
+        node = backward.predecessor(meetingNode);
+        while (node != NO_PREDECESSOR) {
+            path.addLast(node);
+            costs.addLast(bestCost - backward.cost(node));
+            node = backward.predecessor(node);
+        }
+    }
+
+    void release() {
+        forward.release();
+        backward.release();
+        forwardQueue.release();
+        backwardQueue.release();
+        forwardGraph = null;
+        backwardGraph = null;
+        forward = null;
+        backward = null;
+        forwardQueue = null;
+        backwardQueue = null;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.impl.shortestpaths;
+
+import org.immutables.value.Value;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.graphalgo.annotation.Configuration;
+
+public interface BidirectionalSearchConfig {
+
+    /**
+     * Searches from both the start and the end node until the frontiers meet.
+     * On directed graphs, this requires the reverse relationships to be projected
+     * as a separate relationship type, see {@link #reverseRelationshipType()}.
+     */
+    @Value.Default
+    default boolean bidirectional() {
+        return false;
+    }
+
+    /**
+     * The relationship type that holds the reverse of the relationships the search is running on,
+     * e.g. the same relationships projected with {@code REVERSE} orientation.
+     * Not needed for undirected graphs.
+     */
+    @Value.Default
+    @Configuration.ConvertWith("org.apache.commons.lang3.StringUtils#trimToNull")
+    default @Nullable String reverseRelationshipType() {
+        return null;
+    }
+}
@@ -34,7 +34,12 @@ import java.util.Optional;
 @ValueClass
 @Configuration("DijkstraConfigImpl")
 @SuppressWarnings("immutables:subtype")
-public interface DijkstraConfig extends AlgoBaseConfig, RelationshipWeightConfig, WritePropertyConfig {
+public interface DijkstraConfig extends
+    AlgoBaseConfig,
+    RelationshipWeightConfig,
+    WritePropertyConfig,
+    BidirectionalSearchConfig
+{
 
     String WRITE_PROPERTY_DEFAULT_VALUE = "sssp";
 
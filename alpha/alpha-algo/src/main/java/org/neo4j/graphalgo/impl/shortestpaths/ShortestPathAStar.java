@@ -19,41 +19,47 @@
  */
 package org.neo4j.graphalgo.impl.shortestpaths;
 
-import com.carrotsearch.hppc.IntArrayDeque;
-import com.carrotsearch.hppc.IntDoubleMap;
-import com.carrotsearch.hppc.IntDoubleScatterMap;
-import com.carrotsearch.hppc.IntIntMap;
-import com.carrotsearch.hppc.IntIntScatterMap;
+import com.carrotsearch.hppc.DoubleArrayDeque;
+import com.carrotsearch.hppc.LongArrayDeque;
 import org.neo4j.graphalgo.Algorithm;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.api.NodeProperties;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
-import org.neo4j.graphalgo.core.utils.container.SimpleBitSet;
-import org.neo4j.graphalgo.core.utils.queue.IntPriorityQueue;
-import org.neo4j.graphalgo.core.utils.queue.SharedIntPriorityQueue;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.queue.HugeLongPriorityQueue;
 
+import java.util.function.LongToDoubleFunction;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
-import static org.neo4j.graphalgo.core.heavyweight.Converters.longToIntConsumer;
+import static org.neo4j.graphalgo.impl.shortestpaths.TraversalState.NO_PREDECESSOR;
 
+/**
+ * A* single source - single target shortest path algorithm, using the great circle
+ * distance between the nodes' coordinates as heuristic.
+ * <p>
+ * If a reverse graph is given, the search runs from both ends at once,
+ * see {@link BidirectionalSearch}.
+ */
 public class ShortestPathAStar extends Algorithm<ShortestPathAStar, ShortestPathAStar> {
 
-    private static final int PATH_END = -1;
-
     private Graph graph;
-    private final int nodeCount;
+    // relationships of the graph in reverse direction, only set for bidirectional search
+    private Graph reverseGraph;
+    private final AllocationTracker tracker;
+    private final long nodeCount;
     private final long startNode;
     private final long goalNode;
     private final NodeProperties latitudes;
     private final NodeProperties longitudes;
-    private IntDoubleMap gCosts;
-    private IntDoubleMap fCosts;
+    // g-costs and predecessors, a node is closed once it is settled
+    private TraversalState state;
     private double totalCost;
-    private IntPriorityQueue openNodes;
-    private IntIntMap path;
-    private IntArrayDeque shortestPath;
-    private SimpleBitSet closedNodes;
+    // open nodes ordered by their f-costs
+    private HugeLongPriorityQueue openNodes;
+    private BidirectionalSearch bidirectionalSearch;
+    private LongArrayDeque shortestPath;
+    private DoubleArrayDeque shortestPathCosts;
     private final ProgressLogger progressLogger;
 
     public static final double NO_PATH_FOUND = -1.0;
@@ -64,74 +70,123 @@ public class ShortestPathAStar extends Algorithm<ShortestPathAStar, ShortestPath
         long goalNode,
         NodeProperties latitudes,
         NodeProperties longitudes
+    ) {
+        this(graph, startNode, goalNode, latitudes, longitudes, AllocationTracker.EMPTY);
+    }
+
+    public ShortestPathAStar(
+        Graph graph,
+        long startNode,
+        long goalNode,
+        NodeProperties latitudes,
+        NodeProperties longitudes,
+        AllocationTracker tracker
     ) {
         this.graph = graph;
-        this.nodeCount = Math.toIntExact(graph.nodeCount());
+        this.nodeCount = graph.nodeCount();
         this.startNode = startNode;
         this.goalNode = goalNode;
         this.latitudes = latitudes;
         this.longitudes = longitudes;
-        this.gCosts = new IntDoubleScatterMap(nodeCount);
-        this.fCosts = new IntDoubleScatterMap(nodeCount);
-        this.openNodes = SharedIntPriorityQueue.min(nodeCount, fCosts, Double.MAX_VALUE);
-        this.path = new IntIntScatterMap(nodeCount);
-        this.closedNodes = new SimpleBitSet(nodeCount);
-        this.shortestPath = new IntArrayDeque();
+        this.tracker = tracker;
+        this.shortestPath = new LongArrayDeque();
+        this.shortestPathCosts = new DoubleArrayDeque();
         this.progressLogger = getProgressLogger();
     }
 
+    /**
+     * Enables bidirectional search, the reverse graph is traversed backwards from the goal node.
+     * For undirected graphs, this can be the graph itself.
+     */
+    public ShortestPathAStar withReverseGraph(Graph reverseGraph) {
+        this.reverseGraph = reverseGraph;
+        return this;
+    }
+
     @Override
     public ShortestPathAStar compute() {
         reset();
-        int startNodeInternal = Math.toIntExact(graph.toMappedNodeId(startNode));
-        double startNodeLat = getLatitude(startNodeInternal);
-        double startNodeLon = getLongitude(startNodeInternal);
-        int goalNodeInternal = Math.toIntExact(graph.toMappedNodeId(goalNode));
-        double goalNodeLat = getLatitude(goalNodeInternal);
-        double goalNodeLon = getLongitude(goalNodeInternal);
-        double initialHeuristic = computeHeuristic(startNodeLat, startNodeLon, goalNodeLat, goalNodeLon);
-        gCosts.put(startNodeInternal, 0.0);
-        fCosts.put(startNodeInternal, initialHeuristic);
-        openNodes.add(startNodeInternal, 0.0);
+        long startNodeInternal = graph.toMappedNodeId(startNode);
+        long goalNodeInternal = graph.toMappedNodeId(goalNode);
+        if (reverseGraph != null) {
+            computeBidirectional(startNodeInternal, goalNodeInternal);
+        } else {
+            computeForward(startNodeInternal, goalNodeInternal);
+        }
+        return this;
+    }
+
+    private void computeForward(long startNodeInternal, long goalNodeInternal) {
+        if (state == null) {
+            state = new TraversalState(nodeCount, tracker);
+            openNodes = HugeLongPriorityQueue.min(nodeCount, tracker);
+        }
+        state.reset();
+        openNodes.clear();
+        double initialHeuristic = computeHeuristic(
+            getLatitude(startNodeInternal),
+            getLongitude(startNodeInternal),
+            getLatitude(goalNodeInternal),
+            getLongitude(goalNodeInternal)
+        );
+        state.update(startNodeInternal, 0.0, NO_PREDECESSOR);
+        openNodes.add(startNodeInternal, initialHeuristic);
         run(goalNodeInternal);
-        if (path.containsKey(goalNodeInternal)) {
-            totalCost = gCosts.get(goalNodeInternal);
-            int node = goalNodeInternal;
-            while (node != PATH_END) {
+        if (state.predecessor(goalNodeInternal) != NO_PREDECESSOR) {
+            totalCost = state.cost(goalNodeInternal);
+            long node = goalNodeInternal;
+            while (node != NO_PREDECESSOR) {
                 shortestPath.addFirst(node);
-                node = path.getOrDefault(node, PATH_END);
+                shortestPathCosts.addFirst(state.cost(node));
+                node = state.predecessor(node);
             }
         }
-        return this;
     }
 
-    private void run(int goalNodeId) {
+    private void computeBidirectional(long startNodeInternal, long goalNodeInternal) {
+        if (bidirectionalSearch == null) {
+            bidirectionalSearch = new BidirectionalSearch(graph, reverseGraph, tracker);
+        }
+        double startLat = getLatitude(startNodeInternal);
+        double startLon = getLongitude(startNodeInternal);
+        double goalLat = getLatitude(goalNodeInternal);
+        double goalLon = getLongitude(goalNodeInternal);
+        LongToDoubleFunction potential = BidirectionalSearch.averagePotential(
+            node -> computeHeuristic(getLatitude(node), getLongitude(node), goalLat, goalLon),
+            node -> computeHeuristic(getLatitude(node), getLongitude(node), startLat, startLon)
+        );
+        if (startNodeInternal == goalNodeInternal ||
+            !bidirectionalSearch.compute(startNodeInternal, goalNodeInternal, potential, this)) {
+            return;
+        }
+        totalCost = bidirectionalSearch.totalCost();
+        bidirectionalSearch.path(shortestPath, shortestPathCosts);
+    }
+
+    private void run(long goalNodeId) {
         double goalLat = getLatitude(goalNodeId);
         double goalLon = getLongitude(goalNodeId);
-        while (!openNodes.isEmpty() && running()) {
-            int currentNodeId = openNodes.pop();
+        while (openNodes.nonEmpty() && running()) {
+            long currentNodeId = openNodes.pop();
             if (currentNodeId == goalNodeId) {
                 return;
             }
-            closedNodes.put(currentNodeId);
-            double currentNodeCost = this.gCosts.getOrDefault(currentNodeId, Double.MAX_VALUE);
+            state.settle(currentNodeId);
+            double currentNodeCost = state.cost(currentNodeId);
             graph.forEachRelationship(
                     currentNodeId,
                     1.0D,
-                    longToIntConsumer((source, target, weight) -> {
-                        double neighbourLat = getLatitude(target);
-                        double neighbourLon = getLongitude(target);
-                        double heuristic = computeHeuristic(neighbourLat, neighbourLon, goalLat, goalLon);
-                        boolean weightChanged = updateCosts(source, target, weight + currentNodeCost, heuristic);
-                        if (!closedNodes.contains(target)) {
-                            if (weightChanged) {
-                                openNodes.update(target);
-                            } else {
-                                openNodes.add(target, 0);
-                            }
+                    (source, target, weight) -> {
+                        double newCost = weight + currentNodeCost;
+                        if (!state.isSettled(target) && newCost < state.cost(target)) {
+                            double neighbourLat = getLatitude(target);
+                            double neighbourLon = getLongitude(target);
+                            double heuristic = computeHeuristic(neighbourLat, neighbourLon, goalLat, goalLon);
+                            state.update(target, newCost, source);
+                            openNodes.set(target, newCost + heuristic);
                         }
                         return true;
-                    }));
+                    });
             progressLogger.logProgress((double) currentNodeId / (nodeCount - 1));
         }
     }
@@ -157,33 +212,20 @@ public class ShortestPathAStar extends Algorithm<ShortestPathAStar, ShortestPath
         return latitudes.nodeProperty(nodeId);
     }
 
-    private boolean updateCosts(int source, int target, double newCost, double heuristic) {
-        double oldCost = gCosts.getOrDefault(target, Double.MAX_VALUE);
-        if (newCost < oldCost) {
-            gCosts.put(target, newCost);
-            fCosts.put(target, newCost + heuristic);
-            path.put(target, source);
-            return oldCost < Double.MAX_VALUE;
-        }
-        return false;
-    }
-
     private void reset() {
-        closedNodes.clear();
-        openNodes.clear();
-        gCosts.clear();
-        fCosts.clear();
-        path.clear();
         shortestPath.clear();
+        shortestPathCosts.clear();
         totalCost = NO_PATH_FOUND;
     }
 
     public Stream<Result> resultStream() {
-        return StreamSupport.stream(shortestPath.spliterator(), false)
-                .map(cursor -> new Result(graph.toOriginalNodeId(cursor.value), gCosts.get(cursor.value)));
+        long[] path = shortestPath.toArray();
+        double[] costs = shortestPathCosts.toArray();
+        return IntStream.range(0, path.length)
+                .mapToObj(i -> new Result(graph.toOriginalNodeId(path[i]), costs[i]));
     }
 
-    public IntArrayDeque getFinalPath() {
+    public LongArrayDeque getFinalPath() {
         return shortestPath;
     }
 
@@ -202,13 +244,20 @@ public class ShortestPathAStar extends Algorithm<ShortestPathAStar, ShortestPath
 
     @Override
     public void release() {
+        if (state != null) {
+            state.release();
+            openNodes.release();
+        }
+        if (bidirectionalSearch != null) {
+            bidirectionalSearch.release();
+        }
         graph = null;
-        gCosts = null;
-        fCosts = null;
+        reverseGraph = null;
+        state = null;
         openNodes = null;
-        path = null;
+        bidirectionalSearch = null;
         shortestPath = null;
-        closedNodes = null;
+        shortestPathCosts = null;
     }
 
     public static class Result {
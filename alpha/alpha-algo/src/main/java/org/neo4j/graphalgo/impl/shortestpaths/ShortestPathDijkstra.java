@@ -19,23 +19,18 @@
  */
 package org.neo4j.graphalgo.impl.shortestpaths;
 
-import com.carrotsearch.hppc.BitSet;
 import com.carrotsearch.hppc.DoubleArrayDeque;
-import com.carrotsearch.hppc.IntArrayDeque;
-import com.carrotsearch.hppc.IntDoubleMap;
-import com.carrotsearch.hppc.IntDoubleScatterMap;
-import com.carrotsearch.hppc.IntIntMap;
-import com.carrotsearch.hppc.IntIntScatterMap;
+import com.carrotsearch.hppc.LongArrayDeque;
 import org.neo4j.graphalgo.Algorithm;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
-import org.neo4j.graphalgo.core.utils.queue.IntPriorityQueue;
-import org.neo4j.graphalgo.core.utils.queue.SharedIntPriorityQueue;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.queue.HugeLongPriorityQueue;
 
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
-import static org.neo4j.graphalgo.core.heavyweight.Converters.longToIntConsumer;
+import static org.neo4j.graphalgo.impl.shortestpaths.TraversalState.NO_PREDECESSOR;
 
 /**
  * Dijkstra single source - single target shortest path algorithm
@@ -43,48 +38,61 @@ import static org.neo4j.graphalgo.core.heavyweight.Converters.longToIntConsumer;
  * The algorithm computes a (there might be more then one) shortest path
  * between a given start and target-NodeId. It returns result tuples of
  * [nodeId, distance] of each node in the path.
+ * <p>
+ * Costs and predecessors are kept in dense arrays that are cleared lazily,
+ * so repeated calls to {@link #compute(long, long)} on the same instance only
+ * pay for the part of the graph they explore.
+ * <p>
+ * If a reverse graph is given, the search runs from both ends at once,
+ * see {@link BidirectionalSearch}.
  */
 public class ShortestPathDijkstra extends Algorithm<ShortestPathDijkstra, ShortestPathDijkstra> {
 
-    private static final int PATH_END = -1;
     public static final double NO_PATH_FOUND = -1.0;
     public static final int UNUSED = 42;
 
     private Graph graph;
+    // relationships of the graph in reverse direction, only set for bidirectional search
+    private Graph reverseGraph;
+    private final AllocationTracker tracker;
 
-    // node to cost map
-    private IntDoubleMap costs;
+    // node to cost and predecessor map
+    private TraversalState state;
     // next node priority queue
-    private IntPriorityQueue queue;
-    // auxiliary path map
-    private IntIntMap path;
+    private HugeLongPriorityQueue queue;
+    private BidirectionalSearch bidirectionalSearch;
     // path map (stores the resulting shortest path)
-    private IntArrayDeque finalPath;
-    private DoubleArrayDeque finalPathCosts;
-    // visited set
-    private BitSet visited;
-    private final int nodeCount;
+    private final LongArrayDeque finalPath;
+    private final DoubleArrayDeque finalPathCosts;
+    private final long nodeCount;
     private final DijkstraConfig config;
     // overall cost of the path
     private double totalCost;
     private ProgressLogger progressLogger;
 
     public ShortestPathDijkstra(Graph graph, DijkstraConfig config) {
+        this(graph, config, AllocationTracker.EMPTY);
+    }
+
+    public ShortestPathDijkstra(Graph graph, DijkstraConfig config, AllocationTracker tracker) {
         this.graph = graph;
-        this.nodeCount = Math.toIntExact(graph.nodeCount());
+        this.nodeCount = graph.nodeCount();
         this.config = config;
-        this.costs = new IntDoubleScatterMap();
-        this.queue = SharedIntPriorityQueue.min(
-                IntPriorityQueue.DEFAULT_CAPACITY,
-                costs,
-                Double.MAX_VALUE);
-        this.path = new IntIntScatterMap();
-        this.visited = new BitSet();
-        this.finalPath = new IntArrayDeque();
+        this.tracker = tracker;
+        this.finalPath = new LongArrayDeque();
         this.finalPathCosts = new DoubleArrayDeque();
         this.progressLogger = getProgressLogger();
     }
 
+    /**
+     * Enables bidirectional search, the reverse graph is traversed backwards from the goal node.
+     * For undirected graphs, this can be the graph itself.
+     */
+    public ShortestPathDijkstra withReverseGraph(Graph reverseGraph) {
+        this.reverseGraph = reverseGraph;
+        return this;
+    }
+
     public ShortestPathDijkstra compute() {
         return compute(config.startNode(), config.endNode());
     }
@@ -92,26 +100,47 @@ public class ShortestPathDijkstra extends Algorithm<ShortestPathDijkstra, Shorte
     public ShortestPathDijkstra compute(long startNode, long goalNode) {
         reset();
 
-        int node = Math.toIntExact(graph.toMappedNodeId(startNode));
-        int goal = Math.toIntExact(graph.toMappedNodeId(goalNode));
-        costs.put(node, 0.0);
+        long node = graph.toMappedNodeId(startNode);
+        long goal = graph.toMappedNodeId(goalNode);
+        if (reverseGraph != null) {
+            computeBidirectional(node, goal);
+        } else {
+            computeForward(node, goal);
+        }
+        return this;
+    }
+
+    private void computeForward(long node, long goal) {
+        if (state == null) {
+            state = new TraversalState(nodeCount, tracker);
+            queue = HugeLongPriorityQueue.min(nodeCount, tracker);
+        }
+        state.reset();
+        queue.clear();
+        state.update(node, 0.0, NO_PREDECESSOR);
         queue.add(node, 0.0);
         run(goal);
-        if (!path.containsKey(goal)) {
-            return this;
+        if (state.predecessor(goal) == NO_PREDECESSOR) {
+            return;
         }
-        totalCost = costs.get(goal);
-        int last = goal;
-        while (last != PATH_END) {
+        totalCost = state.cost(goal);
+        long last = goal;
+        while (last != NO_PREDECESSOR) {
             finalPath.addFirst(last);
-            finalPathCosts.addFirst(costs.get(last));
-            last = path.getOrDefault(last, PATH_END);
+            finalPathCosts.addFirst(state.cost(last));
+            last = state.predecessor(last);
         }
-        // destroy costs and path to remove the data for nodes that are not part of the graph
-        // since clear never downsizes the buffer array
-        costs.release();
-        path.release();
-        return this;
+    }
+
+    private void computeBidirectional(long node, long goal) {
+        if (bidirectionalSearch == null) {
+            bidirectionalSearch = new BidirectionalSearch(graph, reverseGraph, tracker);
+        }
+        if (node == goal || !bidirectionalSearch.compute(node, goal, this)) {
+            return;
+        }
+        totalCost = bidirectionalSearch.totalCost();
+        bidirectionalSearch.path(finalPath, finalPathCosts);
     }
 
     /**
@@ -120,12 +149,13 @@ public class ShortestPathDijkstra extends Algorithm<ShortestPathDijkstra, Shorte
      * @return stream of result DTOs
      */
     public Stream<Result> resultStream() {
-        double[] costs = finalPathCosts.buffer;
-        return StreamSupport.stream(finalPath.spliterator(), false)
-                .map(cursor -> new Result(graph.toOriginalNodeId(cursor.value), costs[cursor.index]));
+        long[] path = finalPath.toArray();
+        double[] costs = finalPathCosts.toArray();
+        return IntStream.range(0, path.length)
+                .mapToObj(i -> new Result(graph.toOriginalNodeId(path[i]), costs[i]));
     }
 
-    public IntArrayDeque getFinalPath() {
+    public LongArrayDeque getFinalPath() {
         return finalPath;
     }
 
@@ -151,40 +181,32 @@ public class ShortestPathDijkstra extends Algorithm<ShortestPathDijkstra, Shorte
         return finalPath.size();
     }
 
-    private void run(int goal) {
-        while (!queue.isEmpty() && running()) {
-            int node = queue.pop();
+    private void run(long goal) {
+        while (queue.nonEmpty() && running()) {
+            long node = queue.pop();
             if (node == goal) {
                 return;
             }
 
-            visited.set(node);
-            double costs = this.costs.getOrDefault(node, Double.MAX_VALUE);
+            state.settle(node);
+            double costs = state.cost(node);
             graph.forEachRelationship(
                     node,
                     1.0D,
-                    longToIntConsumer((source, target, weight) -> {
-                        updateCosts(source, target, weight + costs);
+                    (source, target, weight) -> {
+                        if (!state.isSettled(target)) {
+                            updateCosts(source, target, weight + costs);
+                        }
                         return true;
-                    }));
+                    });
             progressLogger.logProgress((double) node / (nodeCount - 1));
         }
     }
 
-    private void updateCosts(int source, int target, double newCosts) {
-
-        if (costs.containsKey(target)) {
-            if (newCosts < costs.getOrDefault(target, Double.MAX_VALUE)) {
-                costs.put(target, newCosts);
-                path.put(target, source);
-                queue.update(target);
-            }
-        } else  {
-            if (newCosts < costs.getOrDefault(target, Double.MAX_VALUE)) {
-                costs.put(target, newCosts);
-                path.put(target, source);
-                queue.add(target, newCosts);
-            }
+    private void updateCosts(long source, long target, double newCosts) {
+        if (newCosts < state.cost(target)) {
+            state.update(target, newCosts, source);
+            queue.set(target, newCosts);
         }
     }
 
@@ -195,18 +217,21 @@ public class ShortestPathDijkstra extends Algorithm<ShortestPathDijkstra, Shorte
 
     @Override
     public void release() {
-        costs = null;
+        if (state != null) {
+            state.release();
+            queue.release();
+        }
+        if (bidirectionalSearch != null) {
+            bidirectionalSearch.release();
+        }
+        state = null;
         queue = null;
-        path = null;
-        visited = null;
+        bidirectionalSearch = null;
     }
 
     private void reset() {
-        visited.clear();
-        queue.clear();
-        costs.clear();
-        path.clear();
         finalPath.clear();
+        finalPathCosts.clear();
         totalCost = NO_PATH_FOUND;
     }
 
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.impl.shortestpaths;
+
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeIntArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+
+/**
+ * Per node costs and predecessors of a single source shortest path search.
+ * <p>
+ * Entries are tagged with the epoch of the search that wrote them, so that
+ * {@link #reset()} does not need to touch the arrays and repeated searches only
+ * pay for the nodes they actually visit. A node is discovered in the current
+ * search if its mark equals the epoch and settled if it equals the negated epoch.
+ */
+final class TraversalState {
+
+    static final long NO_PREDECESSOR = -1L;
+
+    private final AllocationTracker tracker;
+
+    private HugeDoubleArray costs;
+    private HugeLongArray predecessors;
+    private HugeIntArray marks;
+    private int epoch;
+
+    TraversalState(long nodeCount, AllocationTracker tracker) {
+        this.tracker = tracker;
+        this.costs = HugeDoubleArray.newArray(nodeCount, tracker);
+        this.predecessors = HugeLongArray.newArray(nodeCount, tracker);
+        this.marks = HugeIntArray.newArray(nodeCount, tracker);
+        this.epoch = 0;
+    }
+
+    /**
+     * Forgets all nodes of the previous search in constant time.
+     */
+    void reset() {
+        if (epoch == Integer.MAX_VALUE) {
+            marks.fill(0);
+            epoch = 0;
+        }
+        epoch++;
+    }
+
+    boolean isDiscovered(long node) {
+        int mark = marks.get(node);
+        return mark == epoch || mark == -epoch;
+    }
+
+    boolean isSettled(long node) {
+        return marks.get(node) == -epoch;
+    }
+
+    /**
+     * @return the cost of the best known path to the node or {@link Double#MAX_VALUE} if it is not yet discovered.
+     */
+    double cost(long node) {
+        return isDiscovered(node) ? costs.get(node) : Double.MAX_VALUE;
+    }
+
+    long predecessor(long node) {
+        return isDiscovered(node) ? predecessors.get(node) : NO_PREDECESSOR;
+    }
+
+    void update(long node, double cost, long predecessor) {
+        costs.set(node, cost);
+        predecessors.set(node, predecessor);
+        if (marks.get(node) != -epoch) {
+            marks.set(node, epoch);
+        }
+    }
+
+    void settle(long node) {
+        marks.set(node, -epoch);
+    }
+
+    void release() {
+        tracker.remove(costs.release());
+        tracker.remove(predecessors.release());
+        tracker.remove(marks.release());
+        costs = null;
+        predecessors = null;
+        marks = null;
+    }
+}
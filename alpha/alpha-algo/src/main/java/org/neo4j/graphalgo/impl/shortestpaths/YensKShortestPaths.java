@@ -19,12 +19,12 @@
  */
 package org.neo4j.graphalgo.impl.shortestpaths;
 
-import com.carrotsearch.hppc.IntScatterSet;
 import com.carrotsearch.hppc.LongScatterSet;
 import org.neo4j.graphalgo.Algorithm;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
-import org.neo4j.graphalgo.core.utils.RawValues;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.Pointer;
 
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -32,7 +32,6 @@ import java.util.List;
 import java.util.Optional;
 import java.util.PriorityQueue;
 
-import static org.neo4j.graphalgo.core.heavyweight.Converters.longToIntConsumer;
 import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
 
 /**
@@ -61,9 +60,20 @@ public class YensKShortestPaths extends Algorithm<YensKShortestPaths, YensKShort
         long goalNode,
         int k,
         int maxDepth
+    ) {
+        this(graph, startNode, goalNode, k, maxDepth, AllocationTracker.EMPTY);
+    }
+
+    public YensKShortestPaths(
+        Graph graph,
+        long startNode,
+        long goalNode,
+        int k,
+        int maxDepth,
+        AllocationTracker tracker
     ) {
         this.graph = graph;
-        dijkstra = new YensKShortestPathsDijkstra(graph);
+        dijkstra = new YensKShortestPathsDijkstra(graph, tracker);
         this.startNode = startNode;
         this.goalNode = goalNode;
         this.k = k;
@@ -96,17 +106,19 @@ public class YensKShortestPaths extends Algorithm<YensKShortestPaths, YensKShort
     private void yens(int k, long start, long goal, int maxDepth) {
         final ProgressLogger progressLogger = getProgressLogger();
         // blacklist container for dijkstra
-        final IntScatterSet nodeBlackList = new IntScatterSet();
+        final LongScatterSet nodeBlackList = new LongScatterSet();
+        // all blacklisted edges start at the current spur node, so we only need to remember their targets
+        final Pointer.LongPointer spurNodePointer = Pointer.wrap(-1L);
         final LongScatterSet edgeBlackList = new LongScatterSet();
         // clear result of previous execution
         shortestPaths.clear();
         // equip dijkstra with a node and edge filter and set its traversal direction
         final Optional<WeightedPath> shortestPathOpt = dijkstra.withTerminationFlag(getTerminationFlag())
-                .withFilter(longToIntConsumer((s, t) ->
+                .withFilter((s, t) ->
                         // set custom node filter
                         !nodeBlackList.contains(t) &&
-                        // and edge filter by combining the nodeIds into a long
-                        !edgeBlackList.contains(RawValues.combineIntInt(s, t))))
+                        // and edge filter on relationships leaving the spur node
+                        !(s == spurNodePointer.v && edgeBlackList.contains(t)))
                 .compute(start, goal, maxDepth);// compute the best shortest path first
         if (!shortestPathOpt.isPresent()) {
             // not a single path found
@@ -126,7 +138,8 @@ public class YensKShortestPaths extends Algorithm<YensKShortestPaths, YensKShort
                 nodeBlackList.clear();
                 edgeBlackList.clear();
                 // Spur node is retrieved from the previous k-shortest path.
-                final int spurNode = basePath.node(i);
+                final long spurNode = basePath.node(i);
+                spurNodePointer.v = spurNode;
                 // The sequence of nodes from the source to the spur node of the previous k-shortest path.
                 final WeightedPath rootPath = basePath
                         .pathTo(i)
@@ -136,7 +149,7 @@ public class YensKShortestPaths extends Algorithm<YensKShortestPaths, YensKShort
                     final WeightedPath p = iterator.next();
                     if (rootPath.elementWiseEquals(p, i + 1)) {
                         // blacklist the rels that are part of the previous shortest paths with the same root path.
-                        edgeBlackList.add(p.edge(i));
+                        edgeBlackList.add(p.node(i + 1));
                     }
                 }
                 // blacklist nodes in rootPath if not spurNode to avoid cycles
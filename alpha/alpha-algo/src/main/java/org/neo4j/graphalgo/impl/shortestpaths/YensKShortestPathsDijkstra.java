@@ -19,57 +19,42 @@
  */
 package org.neo4j.graphalgo.impl.shortestpaths;
 
-import com.carrotsearch.hppc.BitSet;
-import com.carrotsearch.hppc.IntDoubleMap;
-import com.carrotsearch.hppc.IntDoubleScatterMap;
-import com.carrotsearch.hppc.IntIntMap;
-import com.carrotsearch.hppc.IntIntScatterMap;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.api.RelationshipConsumer;
 import org.neo4j.graphalgo.core.utils.TerminationFlag;
-import org.neo4j.graphalgo.core.utils.queue.IntPriorityQueue;
-import org.neo4j.graphalgo.core.utils.queue.SharedIntPriorityQueue;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeIntArray;
+import org.neo4j.graphalgo.core.utils.queue.HugeLongPriorityQueue;
 
-import java.util.Arrays;
 import java.util.Optional;
 
-import static org.neo4j.graphalgo.core.heavyweight.Converters.longToIntConsumer;
+import static org.neo4j.graphalgo.impl.shortestpaths.TraversalState.NO_PREDECESSOR;
 
-/**
- * specialized dijkstra impl. for YensKShortestPath
- */
 public class YensKShortestPathsDijkstra {
 
     // initial weighted path capacity
     public static final int INITIAL_CAPACITY = 64;
-    private static final int PATH_END = -1;
     private final Graph graph;
-    private final int nodeCount;
     private TerminationFlag terminationFlag = TerminationFlag.RUNNING_TRUE;
-    // node to cost map
-    private final IntDoubleMap costs;
+    // node to cost and predecessor map, also tracks visited nodes
+    private final TraversalState state;
     // next node priority queue
-    private final IntPriorityQueue queue;
-    // auxiliary path map
-    private final IntIntMap path;
-    // visited set
-    private final BitSet visited;
+    private final HugeLongPriorityQueue queue;
     // visited filter
     private RelationshipConsumer filter = (sourceNodeId, targetNodeId) -> true;
-    // iteration depth
-    private int[] depth;
+    // iteration depth, only valid for nodes discovered in the current search
+    private final HugeIntArray depth;
 
     public YensKShortestPathsDijkstra(Graph graph) {
+        this(graph, AllocationTracker.EMPTY);
+    }
+
+    public YensKShortestPathsDijkstra(Graph graph, AllocationTracker tracker) {
         this.graph = graph;
-        nodeCount = Math.toIntExact(graph.nodeCount());
-        costs = new IntDoubleScatterMap(nodeCount);
-        queue = SharedIntPriorityQueue.min(
-                nodeCount,
-                costs,
-                Double.MAX_VALUE);
-        path = new IntIntScatterMap(nodeCount);
-        visited = new BitSet(nodeCount);
-        depth = new int[nodeCount];
+        long nodeCount = graph.nodeCount();
+        state = new TraversalState(nodeCount, tracker);
+        queue = HugeLongPriorityQueue.min(nodeCount, tracker);
+        depth = HugeIntArray.newArray(nodeCount, tracker);
     }
 
     /**
@@ -101,32 +86,30 @@ public class YensKShortestPathsDijkstra {
      * @param targetNode mapped target node id
      * @return an optional path
      */
-    public Optional<WeightedPath> compute(int sourceNode, int targetNode) {
+    public Optional<WeightedPath> compute(long sourceNode, long targetNode) {
         return compute(sourceNode, targetNode, Integer.MAX_VALUE);
     }
 
     /**
      * compute shortest path from sourceNode to targetNode
      *
-     * @param sourceNodeId mapped source node id
-     * @param targetNodeId mapped target node id
-     * @param maxDepth     maximum traversal depth
+     * @param sourceNode mapped source node id
+     * @param targetNode mapped target node id
+     * @param maxDepth   maximum traversal depth
      * @return an optional path
      */
-    public Optional<WeightedPath> compute(long sourceNodeId, long targetNodeId, int maxDepth) {
-        int sourceNode = Math.toIntExact(sourceNodeId);
-        int targetNode = Math.toIntExact(targetNodeId);
+    public Optional<WeightedPath> compute(long sourceNode, long targetNode, int maxDepth) {
         if (!dijkstra(sourceNode, targetNode, maxDepth)) {
             return Optional.empty();
         }
-        int last = targetNode;
+        long last = targetNode;
         final WeightedPath resultPath = new WeightedPath(INITIAL_CAPACITY);
-        while (last != PATH_END) {
+        while (last != NO_PREDECESSOR) {
             resultPath.append(last);
-            last = path.getOrDefault(last, PATH_END);
+            last = state.predecessor(last);
         }
         return Optional.of(resultPath
-                .withWeight(costs.get(targetNode))
+                .withWeight(state.cost(targetNode))
                 .reverse());
     }
 
@@ -135,76 +118,39 @@ public class YensKShortestPathsDijkstra {
      *
      * @return true if a path has been found, false otherwise
      */
-    private boolean dijkstra(int source, int target, int maxDepth) {
-        costs.clear();
+    private boolean dijkstra(long source, long target, int maxDepth) {
+        state.reset();
         queue.clear();
-        path.clear();
-        visited.clear();
-        costs.put(source, 0.0);
+        state.update(source, 0.0, NO_PREDECESSOR);
         queue.add(source, 0.0);
-        Arrays.fill(depth, 0);
-        depth[source] = 1;
-        while (!queue.isEmpty() && terminationFlag.running()) {
-            int node = queue.pop();
-            final int d = depth[node];
+        depth.set(source, 1);
+        while (queue.nonEmpty() && terminationFlag.running()) {
+            long node = queue.pop();
+            final int d = depth.get(node);
             if (d >= maxDepth) {
                 continue;
             }
             if (node == target) {
                 return true;
             }
-            visited.set(node);
-            double costs = this.costs.getOrDefault(node, Double.MAX_VALUE);
+            state.settle(node);
+            double costs = state.cost(node);
             graph.forEachRelationship(
                     node,
                     1.0D,
-                    longToIntConsumer((s, t, w) -> {
-                        if (!filter.accept(s, t)) {
+                    (s, t, w) -> {
+                        if (!filter.accept(s, t) || state.isSettled(t)) {
                             return true;
                         }
-                        final UpdateResult updateCosts = updateCosts(s, t, w + costs);
-                        if (!visited.get(t)) {
-                            switch (updateCosts) {
-                                case NO_PREVIOUS_COSTS:
-                                    queue.add(t, w);
-                                    break;
-                                case UPDATED_COST:
-                                    queue.update(t);
-                                    break;
-                                default:
-                                    break;
-                            }
-                            depth[t] = depth[s] + 1;
+                        double newCosts = w + costs;
+                        if (newCosts < state.cost(t)) {
+                            state.update(t, newCosts, s);
+                            queue.set(t, newCosts);
+                            depth.set(t, d + 1);
                         }
                         return terminationFlag.running();
-                    }));
+                    });
         }
         return false;
     }
-
-
-    /**
-     * update cost map
-     */
-    private UpdateResult updateCosts(int source, int target, double newCosts) {
-        double oldCosts = costs.getOrDefault(target, Double.MAX_VALUE);
-        if (oldCosts == Double.MAX_VALUE) {
-            if (!costs.containsKey(target)) {
-                costs.put(target, newCosts);
-                path.put(target, source);
-                return UpdateResult.NO_PREVIOUS_COSTS;
-            }
-        }
-        if (newCosts < oldCosts) {
-            costs.put(target, newCosts);
-            path.put(target, source);
-            return UpdateResult.UPDATED_COST;
-        }
-        return UpdateResult.COST_NOT_COMPETITIVE;
-    }
-
-    private enum UpdateResult {
-        NO_PREVIOUS_COSTS, UPDATED_COST, COST_NOT_COMPETITIVE;
-    }
-
 }
@@ -128,6 +128,18 @@ public final class ApproxNearestNeighborsAlgorithm<INPUT extends SimilarityInput
         double cutoff,
         int topK
     ) {
+        if (config.minHashBands() > 0) {
+            return algorithm.similarityStream(
+                inputs,
+                sourceIndexIds,
+                targetIndexIds,
+                computer,
+                decoderFactory,
+                cutoff,
+                topK
+            );
+        }
+
         double sampleSize = Math.min(config.p(), 1.0) * Math.abs(config.topK());
         int inputSize = inputs.length;
         AnnTopKConsumer[] topKConsumers = AnnTopKConsumer.initializeTopKConsumers(inputSize, topK);
@@ -74,6 +74,29 @@ public interface ApproximateNearestNeighborsConfig extends SimilarityConfig, Ite
         return true;
     }
 
+    /**
+     * Number of MinHash bands. If positive, Jaccard candidates are found via locality sensitive hashing
+     * instead of the iterative neighbourhood search.
+     */
+    @Value.Default
+    @Configuration.IntegerRange(min = 0)
+    default int minHashBands() {
+        return 0;
+    }
+
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int minHashRows() {
+        return 3;
+    }
+
+    @Value.Check
+    default void validate() {
+        if (minHashBands() > 0 && algorithm() != SimilarityAlgorithm.jaccard) {
+            throw new IllegalArgumentException("MinHash is only supported for the `jaccard` algorithm.");
+        }
+    }
+
     static SimilarityAlgorithm similarityAlgorithm(String input) {
         return SimilarityAlgorithm.valueOf(input);
     }
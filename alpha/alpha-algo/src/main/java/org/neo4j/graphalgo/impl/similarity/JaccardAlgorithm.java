@@ -19,12 +19,31 @@
  */
 package org.neo4j.graphalgo.impl.similarity;
 
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.nodesim.MinHashLsh;
+import org.neo4j.graphalgo.results.SimilarityResult;
 import org.neo4j.kernel.internal.GraphDatabaseAPI;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.neo4j.graphalgo.impl.similarity.TopKConsumer.initializeTopKConsumers;
+
 public final class JaccardAlgorithm extends CategoricalSimilarityAlgorithm<JaccardAlgorithm> {
 
-    public JaccardAlgorithm(SimilarityConfig config, GraphDatabaseAPI api) {
+    private final JaccardConfig jaccardConfig;
+
+    public JaccardAlgorithm(JaccardConfig config, GraphDatabaseAPI api) {
         super(config, api);
+        this.jaccardConfig = config;
     }
 
     @Override
@@ -35,4 +54,89 @@ public final class JaccardAlgorithm extends CategoricalSimilarityAlgorithm<Jacca
     ) {
         return (decoder, s, t, cutoff) -> s.jaccard(cutoff, t, false);
     }
+
+    @Override
+    protected Stream<SimilarityResult> similarityStream(
+        CategoricalInput[] inputs,
+        int[] sourceIndexIds,
+        int[] targetIndexIds,
+        SimilarityComputer<CategoricalInput> computer,
+        Supplier<RleDecoder> decoderFactory,
+        double cutoff,
+        int topK
+    ) {
+        if (jaccardConfig.minHashBands() == 0 || sourceIndexIds.length > 0 || targetIndexIds.length > 0) {
+            return super.similarityStream(
+                inputs,
+                sourceIndexIds,
+                targetIndexIds,
+                computer,
+                decoderFactory,
+                cutoff,
+                topK
+            );
+        }
+
+        // Approximate: only compare pairs that end up in the same bucket of at least one band
+        int length = inputs.length;
+        MinHashLsh minHash = MinHashLsh.create(
+            length,
+            jaccardConfig.minHashBands(),
+            jaccardConfig.minHashRows(),
+            jaccardConfig.randomSeed(),
+            AllocationTracker.EMPTY
+        );
+        ParallelUtil.readParallel(jaccardConfig.concurrency(), length, Pools.DEFAULT, (start, end) -> {
+            for (long sourceId = start; sourceId < end; sourceId++) {
+                minHash.computeSignature(sourceId, inputs[(int) sourceId].targets);
+            }
+        });
+        BitSet allInputs = new BitSet(length);
+        allInputs.set(0, length);
+        minHash.buildBuckets(allInputs, AllocationTracker.EMPTY);
+
+        if (topK == 0) {
+            RleDecoder decoder = decoderFactory.get();
+            Stream<SimilarityResult> pairs = IntStream.range(0, length)
+                .boxed()
+                .flatMap(sourceId -> minHash.candidates(sourceId, true, work -> {})
+                    .mapToObj(targetId -> computer.similarity(decoder, inputs[sourceId], inputs[(int) targetId], cutoff))
+                    .filter(Objects::nonNull));
+            // the pairs are generated lazily, the buckets are released after the last one or when the stream is closed
+            Stream<SimilarityResult> release = Stream.of(minHash).flatMap(lsh -> {
+                lsh.release();
+                return Stream.empty();
+            });
+            return Stream.concat(pairs, release).onClose(minHash::release);
+        }
+
+        Collection<TopKConsumer<SimilarityResult>[]> partialResults = new ArrayList<>();
+        ParallelUtil.readParallel(jaccardConfig.concurrency(), length, Pools.DEFAULT, (start, end) -> {
+            TopKConsumer<SimilarityResult>[] topKConsumers = initializeTopKConsumers(length, topK);
+            SimilarityConsumer consumer = TopKConsumer.assignSimilarityPairs(topKConsumers);
+            RleDecoder decoder = decoderFactory.get();
+            for (int sourceId = (int) start; sourceId < end; sourceId++) {
+                int source = sourceId;
+                minHash.candidates(sourceId, true, work -> {}).forEach(targetId -> {
+                    SimilarityResult result = computer.similarity(decoder, inputs[source], inputs[(int) targetId], cutoff);
+                    if (result != null) {
+                        consumer.accept(source, (int) targetId, result);
+                    }
+                });
+                terminationFlag.assertRunning();
+            }
+            synchronized (partialResults) {
+                partialResults.add(topKConsumers);
+            }
+        });
+        minHash.release();
+
+        TopKConsumer<SimilarityResult>[] topKConsumers = initializeTopKConsumers(length, topK);
+        for (TopKConsumer<SimilarityResult>[] partialResult : partialResults) {
+            for (int i = 0; i < length; i++) {
+                topKConsumers[i].apply(partialResult[i]);
+            }
+        }
+        return Arrays.stream(topKConsumers).flatMap(TopKConsumer::stream);
+    }
 }
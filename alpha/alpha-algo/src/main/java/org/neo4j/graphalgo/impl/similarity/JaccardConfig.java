@@ -19,6 +19,7 @@
  */
 package org.neo4j.graphalgo.impl.similarity;
 
+import org.immutables.value.Value;
 import org.neo4j.graphalgo.annotation.Configuration;
 import org.neo4j.graphalgo.annotation.ValueClass;
 
@@ -42,4 +43,21 @@ public interface JaccardConfig extends SimilarityConfig {
     default List<Map<String,Object>> data() {
         return Collections.emptyList();
     }
+
+    @Value.Default
+    @Configuration.IntegerRange(min = 0)
+    default int minHashBands() {
+        return 0;
+    }
+
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int minHashRows() {
+        return 3;
+    }
+
+    @Value.Default
+    default long randomSeed() {
+        return 1;
+    }
 }
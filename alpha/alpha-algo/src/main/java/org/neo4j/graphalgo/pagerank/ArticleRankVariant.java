@@ -50,6 +50,15 @@ public class ArticleRankVariant implements PageRankVariant {
         );
     }
 
+    @Override
+    public PullContribution pullContribution(Graph graph, DegreeCache degreeCache) {
+        double averageDegree = degreeCache.average();
+        return nodeId -> {
+            int degree = graph.degree(nodeId);
+            return degree > 0 ? 1.0 / (degree + averageDegree) : 0.0;
+        };
+    }
+
     @Override
     public DegreeComputer degreeComputer(Graph graph) {
         return new BasicDegreeComputer(graph);
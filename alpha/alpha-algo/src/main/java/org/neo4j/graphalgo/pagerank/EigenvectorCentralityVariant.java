@@ -50,6 +50,31 @@ public class EigenvectorCentralityVariant implements PageRankVariant {
         );
     }
 
+    @Override
+    public PullContribution pullContribution(Graph graph, DegreeCache degreeCache) {
+        return new PullContribution() {
+            @Override
+            public double sourceShare(long nodeId) {
+                return graph.degree(nodeId) > 0 ? 1.0 : 0.0;
+            }
+
+            @Override
+            public double initialValue(double dampingFactor, long nodeCount) {
+                return 1.0 / nodeCount;
+            }
+
+            @Override
+            public double delta(double dampingFactor, double sum) {
+                return sum;
+            }
+
+            @Override
+            public boolean normalizeDeltas() {
+                return true;
+            }
+        };
+    }
+
     @Override
     public DegreeComputer degreeComputer(Graph graph) {
         return new BasicDegreeComputer(graph);
@@ -25,8 +25,9 @@ import org.neo4j.graphalgo.AlgoTestBase;
 import org.neo4j.graphalgo.StoreLoaderBuilder;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.core.GraphLoader;
+import org.neo4j.graphalgo.core.concurrency.Pools;
 import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
-import org.neo4j.graphalgo.core.utils.paged.HugeObjectArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeFloatMatrix;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -69,19 +70,22 @@ class RandomProjectionTest extends AlgoTestBase {
         RandomProjection randomProjection = new RandomProjection(
             graph,
             DEFAULT_CONFIG,
+            Pools.DEFAULT,
             progressLogger,
             AllocationTracker.EMPTY
         );
 
         randomProjection.initRandomVectors();
-        HugeObjectArray<float[]> randomVectors = HugeObjectArray.newArray(float[].class, 2, AllocationTracker.EMPTY);
-        randomProjection.currentEmbedding(-1).copyTo(randomVectors, 2);
+        HugeFloatMatrix randomVectors = HugeFloatMatrix.newMatrix(2, 128, AllocationTracker.EMPTY);
+        for (int nodeId = 0; nodeId < 2; nodeId++) {
+            randomVectors.setRow(nodeId, randomProjection.currentEmbedding(-1).getRow(nodeId));
+        }
         randomProjection.propagateEmbeddings();
-        HugeObjectArray<float[]> embeddings = randomProjection.embeddings();
+        HugeFloatMatrix embeddings = randomProjection.embeddings();
 
         boolean isEqual = true;
         for (int i = 0; i < 128; i++) {
-            isEqual &= embeddings.get(0)[i] == randomVectors.get(1)[i];
+            isEqual &= embeddings.get(0, i) == randomVectors.get(1, i);
         }
         assertTrue(isEqual);
     }
@@ -99,19 +103,22 @@ class RandomProjectionTest extends AlgoTestBase {
         RandomProjection randomProjection = new RandomProjection(
             graph,
             DEFAULT_CONFIG,
+            Pools.DEFAULT,
             progressLogger,
             AllocationTracker.EMPTY
         );
 
         randomProjection.initRandomVectors();
-        HugeObjectArray<float[]> randomVectors = HugeObjectArray.newArray(float[].class, 3, AllocationTracker.EMPTY);
-        randomProjection.currentEmbedding(-1).copyTo(randomVectors, 3);
+        HugeFloatMatrix randomVectors = HugeFloatMatrix.newMatrix(3, 128, AllocationTracker.EMPTY);
+        for (int nodeId = 0; nodeId < 3; nodeId++) {
+            randomVectors.setRow(nodeId, randomProjection.currentEmbedding(-1).getRow(nodeId));
+        }
         randomProjection.propagateEmbeddings();
-        HugeObjectArray<float[]> embeddings = randomProjection.embeddings();
+        HugeFloatMatrix embeddings = randomProjection.embeddings();
 
         boolean isEqual = true;
         for (int i = 0; i < 128; i++) {
-            isEqual &= embeddings.get(0)[i] == (randomVectors.get(1)[i] + randomVectors.get(2)[i]) / 2.0f;
+            isEqual &= embeddings.get(0, i) == (randomVectors.get(1, i) + randomVectors.get(2, i)) / 2.0f;
         }
         assertTrue(isEqual);
     }
@@ -132,6 +139,7 @@ class RandomProjectionTest extends AlgoTestBase {
                 .embeddingDimension(512)
                 .maxIterations(1)
                 .build(),
+            Pools.DEFAULT,
             progressLogger,
             AllocationTracker.EMPTY
         );
@@ -140,9 +148,9 @@ class RandomProjectionTest extends AlgoTestBase {
         double p = 1D / 6D;
         int maxNumPositive = (int) ((p + 5D * Math.sqrt((p * (1 - p)) / 512D)) * 512D); // 1:30.000.000 chance of failing :P
         int minNumPositive = (int) ((p - 5D * Math.sqrt((p * (1 - p)) / 512D)) * 512D);
-        HugeObjectArray<float[]> randomVectors = randomProjection.currentEmbedding(-1);
+        HugeFloatMatrix randomVectors = randomProjection.currentEmbedding(-1);
         for (int i = 0; i < graph.nodeCount(); i++) {
-            float[] embedding = randomVectors.get(i);
+            float[] embedding = randomVectors.getRow(i);
             int numZeros = 0;
             int numPositive = 0;
             for (int j = 0; j < 512; j++) {
@@ -175,14 +183,15 @@ class RandomProjectionTest extends AlgoTestBase {
                 .embeddingDimension(64)
                 .maxIterations(4)
                 .build(),
+            Pools.DEFAULT,
             progressLogger,
             AllocationTracker.EMPTY
         );
 
         RandomProjection computeResult = randomProjection.compute();
-        HugeObjectArray<float[]> embeddings = computeResult.embeddings();
-        for (int i = 0; i < embeddings.size(); i++) {
-            float[] embedding = embeddings.get(i);
+        HugeFloatMatrix embeddings = computeResult.embeddings();
+        for (int i = 0; i < embeddings.rows(); i++) {
+            float[] embedding = embeddings.getRow(i);
             for (float embeddingValue : embedding) {
                 assertEquals(0.0f, embeddingValue);
             }
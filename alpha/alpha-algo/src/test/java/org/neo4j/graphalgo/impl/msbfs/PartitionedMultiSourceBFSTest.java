@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.impl.msbfs;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.graphalgo.Orientation;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.core.Aggregation;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.loading.HugeGraphUtil;
+import org.neo4j.graphalgo.core.loading.IdMap;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PartitionedMultiSourceBFSTest {
+
+    private static final int NODE_COUNT = 500;
+
+    @ParameterizedTest
+    @ValueSource(ints = {64, 128, 256})
+    void shouldVisitLikeMultiSourceBFSWithAllSources(int laneWidth) {
+        Graph graph = randomGraph(Orientation.NATURAL);
+
+        Map<String, Set<Long>> expected = new ConcurrentHashMap<>();
+        MultiSourceBFS
+            .aggregatedNeighborProcessing(graph, graph, collect(expected), AllocationTracker.EMPTY)
+            .run(4, Pools.DEFAULT);
+
+        Map<String, Set<Long>> actual = new ConcurrentHashMap<>();
+        PartitionedMultiSourceBFS
+            .aggregatedNeighborProcessing(graph, collectUnique(actual), laneWidth, AllocationTracker.EMPTY)
+            .run(4, Pools.DEFAULT);
+
+        assertEquals(expected, actual);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {64, 128, 256})
+    void shouldVisitLikeMultiSourceBFSWithStartNodes(int laneWidth) {
+        Graph graph = randomGraph(Orientation.UNDIRECTED);
+        long[] startNodes = new Random(42).longs(300, 0, NODE_COUNT).distinct().toArray();
+
+        Map<String, Set<Long>> expected = new ConcurrentHashMap<>();
+        MultiSourceBFS
+            .aggregatedNeighborProcessing(graph, graph, collect(expected), AllocationTracker.EMPTY, startNodes.clone())
+            .run(4, Pools.DEFAULT);
+
+        Map<String, Set<Long>> actual = new ConcurrentHashMap<>();
+        PartitionedMultiSourceBFS
+            .aggregatedNeighborProcessing(graph, collectUnique(actual), laneWidth, AllocationTracker.EMPTY, startNodes)
+            .run(4, Pools.DEFAULT);
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void shouldFailOnUnsupportedLaneWidth() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> PartitionedMultiSourceBFS.validateLaneWidth(96)
+        );
+    }
+
+    private static BfsConsumer collect(Map<String, Set<Long>> visits) {
+        return (nodeId, depth, sources) -> {
+            Set<Long> sourcesOfVisit = visits.computeIfAbsent(nodeId + "@" + depth, ignore -> ConcurrentHashMap.newKeySet());
+            while (sources.hasNext()) {
+                sourcesOfVisit.add(sources.next());
+            }
+        };
+    }
+
+    // every (nodeId, depth, source) combination must be reported exactly once
+    private static BfsConsumer collectUnique(Map<String, Set<Long>> visits) {
+        return (nodeId, depth, sources) -> {
+            Set<Long> sourcesOfVisit = visits.computeIfAbsent(nodeId + "@" + depth, ignore -> ConcurrentHashMap.newKeySet());
+            int size = sources.size();
+            int count = 0;
+            while (sources.hasNext()) {
+                long source = sources.next();
+                assertTrue(sourcesOfVisit.add(source), "source " + source + " visited " + nodeId + " twice");
+                count++;
+            }
+            assertEquals(size, count);
+        };
+    }
+
+    private static Graph randomGraph(Orientation orientation) {
+        HugeGraphUtil.IdMapBuilder idMapBuilder = HugeGraphUtil.idMapBuilder(
+            NODE_COUNT,
+            Pools.DEFAULT,
+            AllocationTracker.EMPTY
+        );
+        for (int i = 0; i < NODE_COUNT; i++) {
+            idMapBuilder.addNode(i);
+        }
+        IdMap idMap = idMapBuilder.build();
+        HugeGraphUtil.RelationshipsBuilder relationshipsBuilder = HugeGraphUtil.createRelImporter(
+            idMap,
+            orientation,
+            false,
+            Aggregation.NONE,
+            Pools.DEFAULT,
+            AllocationTracker.EMPTY
+        );
+        Random random = new Random(42);
+        for (int i = 0; i < 2 * NODE_COUNT; i++) {
+            relationshipsBuilder.add(random.nextInt(NODE_COUNT), random.nextInt(NODE_COUNT));
+        }
+        return HugeGraphUtil.create(idMap, relationshipsBuilder.build(), AllocationTracker.EMPTY);
+    }
+}
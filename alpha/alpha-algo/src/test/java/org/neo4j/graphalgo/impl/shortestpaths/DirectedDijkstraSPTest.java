@@ -19,7 +19,7 @@
  */
 package org.neo4j.graphalgo.impl.shortestpaths;
 
-import com.carrotsearch.hppc.procedures.IntProcedure;
+import com.carrotsearch.hppc.procedures.LongProcedure;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.neo4j.graphalgo.AlgoTestBase;
@@ -35,6 +35,7 @@ import org.neo4j.graphdb.Label;
 
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.neo4j.graphalgo.compat.GraphDatabaseApiProxy.applyInTransaction;
 import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
@@ -107,7 +108,7 @@ public class DirectedDijkstraSPTest extends AlgoTestBase {
         ShortestPathDijkstra dijkstra = new ShortestPathDijkstra(graph, config);
         dijkstra.compute();
 
-        dijkstra.getFinalPath().forEach((IntProcedure) n -> path.append(name(n)));
+        dijkstra.getFinalPath().forEach((LongProcedure) n -> path.append(name(n)));
         assertEquals("abcf", path.toString());
         assertEquals(6.0, dijkstra.getTotalCost(), 0.1);
         assertEquals(4, dijkstra.getPathLength());
@@ -121,7 +122,7 @@ public class DirectedDijkstraSPTest extends AlgoTestBase {
         ShortestPathDijkstra dijkstra = new ShortestPathDijkstra(graph, config);
         dijkstra.compute();
 
-        dijkstra.getFinalPath().forEach((IntProcedure) n -> path.append(name(n)));
+        dijkstra.getFinalPath().forEach((LongProcedure) n -> path.append(name(n)));
         assertEquals("adef", path.toString());
         assertEquals(3.0, dijkstra.getTotalCost(), 0.1);
         assertEquals(4, dijkstra.getPathLength());
@@ -135,7 +136,7 @@ public class DirectedDijkstraSPTest extends AlgoTestBase {
         ShortestPathDijkstra dijkstra = new ShortestPathDijkstra(graph, config);
         dijkstra.compute(id("a"), id("f"));
 
-        dijkstra.getFinalPath().forEach((IntProcedure) n -> path.append(name(n)));
+        dijkstra.getFinalPath().forEach((LongProcedure) n -> path.append(name(n)));
         assertEquals("adef", path.toString());
         assertEquals(3.0, dijkstra.getTotalCost(), 0.1);
         assertEquals(4, dijkstra.getPathLength());
@@ -149,7 +150,7 @@ public class DirectedDijkstraSPTest extends AlgoTestBase {
         ShortestPathDijkstra dijkstra = new ShortestPathDijkstra(graph, config);
         dijkstra.compute();
 
-        dijkstra.getFinalPath().forEach((IntProcedure) n -> path.append(name(n)));
+        dijkstra.getFinalPath().forEach((LongProcedure) n -> path.append(name(n)));
         assertEquals(0, path.length());
         assertEquals(0, dijkstra.getPathLength());
         assertEquals(ShortestPathDijkstra.NO_PATH_FOUND, dijkstra.getTotalCost(), 0.1);
@@ -163,7 +164,7 @@ public class DirectedDijkstraSPTest extends AlgoTestBase {
         ShortestPathDijkstra dijkstra = new ShortestPathDijkstra(graph, config);
         dijkstra.compute();
 
-        dijkstra.getFinalPath().forEach((IntProcedure) n -> path.append(name(n)));
+        dijkstra.getFinalPath().forEach((LongProcedure) n -> path.append(name(n)));
         assertEquals(0, path.length());
         assertEquals(0, dijkstra.getPathLength());
         assertEquals(ShortestPathDijkstra.NO_PATH_FOUND, dijkstra.getTotalCost(), 0.1);
@@ -177,9 +178,50 @@ public class DirectedDijkstraSPTest extends AlgoTestBase {
         ShortestPathDijkstra dijkstra = new ShortestPathDijkstra(graph, config);
         dijkstra.compute();
 
-        dijkstra.getFinalPath().forEach((IntProcedure) n -> path.append(name(n)));
+        dijkstra.getFinalPath().forEach((LongProcedure) n -> path.append(name(n)));
         assertEquals(0, path.length());
         assertEquals(0, dijkstra.getPathLength());
         assertEquals(ShortestPathDijkstra.NO_PATH_FOUND, dijkstra.getTotalCost(), 0.1);
     }
+
+    @Test
+    void testBidirectionalOutgoing() {
+        StringBuilder path = new StringBuilder();
+        DijkstraConfig config = DijkstraConfig.of(id("a"), id("f"));
+        Graph graph = graphStore.getGraph(RelationshipType.of("REL_OUT"), Optional.of("cost"));
+        Graph reverseGraph = graphStore.getGraph(RelationshipType.of("REL_IN"), Optional.of("cost"));
+        ShortestPathDijkstra dijkstra = new ShortestPathDijkstra(graph, config).withReverseGraph(reverseGraph);
+        dijkstra.compute();
+
+        dijkstra.getFinalPath().forEach((LongProcedure) n -> path.append(name(n)));
+        assertEquals("abcf", path.toString());
+        assertEquals(6.0, dijkstra.getTotalCost(), 0.1);
+        assertArrayEquals(new double[]{0.0, 2.0, 4.0, 6.0}, dijkstra.getFinalPathCosts(), 0.1);
+    }
+
+    @Test
+    void testBidirectionalBoth() {
+        StringBuilder path = new StringBuilder();
+        DijkstraConfig config = DijkstraConfig.of(id("a"), id("f"));
+        Graph graph = graphStore.getGraph(RelationshipType.of("REL_BOTH"), Optional.of("cost"));
+        ShortestPathDijkstra dijkstra = new ShortestPathDijkstra(graph, config).withReverseGraph(graph);
+        dijkstra.compute();
+
+        dijkstra.getFinalPath().forEach((LongProcedure) n -> path.append(name(n)));
+        assertEquals("adef", path.toString());
+        assertEquals(3.0, dijkstra.getTotalCost(), 0.1);
+        assertArrayEquals(new double[]{0.0, 1.0, 2.0, 3.0}, dijkstra.getFinalPathCosts(), 0.1);
+    }
+
+    @Test
+    void testBidirectionalUnreachable() {
+        DijkstraConfig config = DijkstraConfig.of(id("a"), id("x"));
+        Graph graph = graphStore.getGraph(RelationshipType.of("REL_OUT"), Optional.of("cost"));
+        Graph reverseGraph = graphStore.getGraph(RelationshipType.of("REL_IN"), Optional.of("cost"));
+        ShortestPathDijkstra dijkstra = new ShortestPathDijkstra(graph, config).withReverseGraph(reverseGraph);
+        dijkstra.compute();
+
+        assertEquals(0, dijkstra.getPathLength());
+        assertEquals(ShortestPathDijkstra.NO_PATH_FOUND, dijkstra.getTotalCost(), 0.1);
+    }
 }
@@ -37,7 +37,7 @@ class WeightedPathTest {
         a.append(2);
         b.append(42);
         final WeightedPath concat = a.concat(b);
-        assertArrayEquals(new int[]{0, 1, 2, 42}, concat.toArray());
+        assertArrayEquals(new long[]{0, 1, 2, 42}, concat.toArray());
     }
 
     @Test
@@ -48,7 +48,7 @@ class WeightedPathTest {
         a.append(1);
         a.append(2);
         final WeightedPath concat = a.concat(b);
-        assertArrayEquals(new int[]{0, 1, 2}, concat.toArray());
+        assertArrayEquals(new long[]{0, 1, 2}, concat.toArray());
     }
 
     @Test
@@ -59,7 +59,7 @@ class WeightedPathTest {
         a.append(1);
         a.append(2);
         final WeightedPath concat = b.concat(a);
-        assertArrayEquals(new int[]{0, 1, 2}, concat.toArray());
+        assertArrayEquals(new long[]{0, 1, 2}, concat.toArray());
     }
 
     @Test
@@ -132,7 +132,7 @@ class YensTest extends AlgoTestBase {
         final WeightedPath weightedPath = path.get();
         assertEquals(4., weightedPath.getCost(), DELTA);
         assertArrayEquals(
-                new int[]{id("a"), id("e"), id("d"), id("c"), id("f")},
+                new long[]{id("a"), id("e"), id("d"), id("c"), id("f")},
                 weightedPath.toArray());
     }
 
@@ -150,7 +150,7 @@ class YensTest extends AlgoTestBase {
         final WeightedPath weightedPath = path.get();
         assertEquals(4., weightedPath.getCost(), DELTA);
         assertArrayEquals(
-                new int[]{id("a"), id("b"), id("c"), id("d"), id("f")},
+                new long[]{id("a"), id("b"), id("c"), id("d"), id("f")},
                 weightedPath.toArray());
     }
 
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.impl.similarity;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.graphalgo.results.SimilarityResult;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JaccardAlgorithmTest {
+
+    private static final List<Map<String, Object>> DATA = Arrays.asList(
+        Map.of("item", 0L, "categories", List.of(1L, 2L, 3L, 4L)),
+        Map.of("item", 1L, "categories", List.of(1L, 2L, 3L, 4L)),
+        Map.of("item", 2L, "categories", List.of(1L, 2L, 3L, 5L)),
+        Map.of("item", 3L, "categories", List.of(3L, 6L, 7L)),
+        Map.of("item", 4L, "categories", List.of(8L, 9L)),
+        Map.of("item", 5L, "categories", List.of(8L, 9L))
+    );
+
+    private static Set<String> compute(int minHashBands, int concurrency, int topK) {
+        JaccardConfig config = ImmutableJaccardConfig.builder()
+            .concurrency(concurrency)
+            .topK(topK)
+            .similarityCutoff(0.1)
+            .minHashBands(minHashBands)
+            .minHashRows(2)
+            .build();
+        JaccardAlgorithm algorithm = new JaccardAlgorithm(config, null);
+        CategoricalInput[] inputs = algorithm.prepareInputs(DATA, config);
+        SimilarityComputer<CategoricalInput> computer = algorithm.similarityComputer(null, new int[0], new int[0]);
+        return algorithm
+            .generateWeightedStream(inputs, new int[0], new int[0], 0.1, 0, topK, computer)
+            .map(JaccardAlgorithmTest::resultString)
+            .collect(Collectors.toSet());
+    }
+
+    private static String resultString(SimilarityResult result) {
+        return result.item1 + "," + result.item2 + " " + result.similarity;
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldOnlyReturnExactSimilaritiesWithMinHash(int concurrency) {
+        Set<String> exact = compute(0, concurrency, 0);
+        Set<String> approximate = compute(10, concurrency, 0);
+
+        assertTrue(exact.containsAll(approximate));
+        assertTrue(approximate.contains("0,1 1.0"));
+        assertTrue(approximate.contains("4,5 1.0"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldComputeTopKWithMinHash(int concurrency) {
+        Set<String> topK = compute(10, concurrency, 1);
+
+        assertTrue(topK.contains("0,1 1.0"));
+        assertTrue(topK.contains("4,5 1.0"));
+        assertEquals(compute(10, 1, 1), topK);
+    }
+}
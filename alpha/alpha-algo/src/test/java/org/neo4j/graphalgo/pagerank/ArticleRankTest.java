@@ -21,9 +21,15 @@ package org.neo4j.graphalgo.pagerank;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.neo4j.graphalgo.AlgoTestBase;
+import org.neo4j.graphalgo.Orientation;
+import org.neo4j.graphalgo.RelationshipProjection;
 import org.neo4j.graphalgo.StoreLoaderBuilder;
+import org.neo4j.graphalgo.core.concurrency.Pools;
 import org.neo4j.graphalgo.core.utils.BatchingProgressLogger;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
 import org.neo4j.graphalgo.result.CentralityResult;
 import org.neo4j.graphdb.Label;
 import org.neo4j.logging.NullLog;
@@ -34,6 +40,7 @@ import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.neo4j.graphalgo.compat.GraphDatabaseApiProxy.runInTransaction;
 
 final class ArticleRankTest extends AlgoTestBase {
@@ -138,4 +145,44 @@ final class ArticleRankTest extends AlgoTestBase {
             );
         });
     }
+
+    @ParameterizedTest
+    @EnumSource(Orientation.class)
+    void pullStrategyShouldMatchPushStrategy(Orientation orientation) {
+        var graph = new StoreLoaderBuilder()
+            .api(db)
+            .addNodeLabel("Label1")
+            .addRelationshipProjection(RelationshipProjection.builder()
+                .type("TYPE1")
+                .orientation(orientation)
+                .indexInverse(true)
+                .build())
+            .build()
+            .graph();
+
+        CentralityResult pushResult = LabsPageRankAlgorithmType.ARTICLE_RANK
+            .create(graph, DEFAULT_CONFIG, LongStream.empty(), progressLogger)
+            .compute()
+            .result();
+
+        PageRank pullArticleRank = LabsPageRankAlgorithmType.ARTICLE_RANK
+            .create(
+                graph,
+                LongStream.empty(),
+                ImmutablePageRankStreamConfig.builder()
+                    .maxIterations(40)
+                    .strategy(PageRankStrategy.PULL)
+                    .build(),
+                4,
+                Pools.DEFAULT,
+                progressLogger,
+                AllocationTracker.EMPTY
+            )
+            .compute();
+
+        assertTrue(pullArticleRank.iterations() > 0);
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertEquals(pushResult.score(nodeId), pullArticleRank.result().score(nodeId), 1e-5, "Node#" + nodeId);
+        }
+    }
 }
@@ -21,11 +21,17 @@ package org.neo4j.graphalgo.pagerank;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.neo4j.graphalgo.AlgoTestBase;
+import org.neo4j.graphalgo.Orientation;
+import org.neo4j.graphalgo.RelationshipProjection;
 import org.neo4j.graphalgo.StoreLoaderBuilder;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.centrality.eigenvector.ImmutableEigenvectorCentralityConfig;
+import org.neo4j.graphalgo.core.concurrency.Pools;
 import org.neo4j.graphalgo.core.utils.BatchingProgressLogger;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
 import org.neo4j.graphalgo.result.CentralityResult;
 import org.neo4j.graphdb.Label;
 import org.neo4j.logging.NullLog;
@@ -36,6 +42,7 @@ import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.neo4j.graphalgo.compat.GraphDatabaseApiProxy.runInTransaction;
 
 final class EigenvectorCentralityTest extends AlgoTestBase {
@@ -149,4 +156,47 @@ final class EigenvectorCentralityTest extends AlgoTestBase {
             );
         });
     }
+
+    @ParameterizedTest
+    @EnumSource(Orientation.class)
+    void pullStrategyShouldMatchPushStrategy(Orientation orientation) {
+        var graph = new StoreLoaderBuilder()
+            .api(db)
+            .addNodeLabel("Label1")
+            .addRelationshipProjection(RelationshipProjection.builder()
+                .type("TYPE1")
+                .orientation(orientation)
+                .indexInverse(true)
+                .build())
+            .build()
+            .graph();
+
+        CentralityResult pushResult = LabsPageRankAlgorithmType.EIGENVECTOR_CENTRALITY
+            .create(graph, DEFAULT_EIGENVECTOR_CONFIG, LongStream.empty(), progressLogger)
+            .compute()
+            .result();
+
+        PageRank pullEigenvector = LabsPageRankAlgorithmType.EIGENVECTOR_CENTRALITY
+            .create(
+                graph,
+                LongStream.empty(),
+                ImmutableEigenvectorCentralityConfig.builder()
+                    .maxIterations(40)
+                    .dampingFactor(1)
+                    .strategy(PageRankStrategy.PULL)
+                    .build(),
+                4,
+                Pools.DEFAULT,
+                progressLogger,
+                AllocationTracker.EMPTY
+            )
+            .compute();
+
+        assertTrue(pullEigenvector.iterations() > 0);
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            // the push steps accumulate in floats, which matters for the larger eigenvector scores
+            double expected = pushResult.score(nodeId);
+            assertEquals(expected, pullEigenvector.result().score(nodeId), 1e-5 * Math.max(1.0, expected), "Node#" + nodeId);
+        }
+    }
 }
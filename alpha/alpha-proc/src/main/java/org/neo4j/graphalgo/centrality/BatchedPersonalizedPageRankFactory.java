@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.centrality;
+
+import org.neo4j.graphalgo.AlgorithmFactory;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.utils.BatchingProgressLogger;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.pagerank.BatchedPersonalizedPageRank;
+import org.neo4j.graphalgo.pagerank.PageRankAlgorithmType;
+import org.neo4j.logging.Log;
+
+public class BatchedPersonalizedPageRankFactory extends AlgorithmFactory<BatchedPersonalizedPageRank, BatchedPersonalizedPageRankStreamConfig> {
+
+    @Override
+    public BatchedPersonalizedPageRank build(
+        Graph graph,
+        BatchedPersonalizedPageRankStreamConfig configuration,
+        AllocationTracker tracker,
+        Log log
+    ) {
+        PageRankAlgorithmType algorithmType = configuration.relationshipWeightProperty() == null
+            ? PageRankAlgorithmType.NON_WEIGHTED
+            : PageRankAlgorithmType.WEIGHTED;
+
+        var progressLogger = new BatchingProgressLogger(
+            log,
+            graph.relationshipCount(),
+            "BatchedPersonalizedPageRank",
+            configuration.concurrency()
+        );
+
+        return new BatchedPersonalizedPageRank(
+            graph,
+            algorithmType.variant(configuration),
+            configuration.sourceNodeIds(),
+            configuration,
+            configuration.batchSize(),
+            configuration.topK(),
+            configuration.concurrency(),
+            Pools.DEFAULT,
+            progressLogger,
+            tracker
+        );
+    }
+
+    @Override
+    public MemoryEstimation memoryEstimation(BatchedPersonalizedPageRankStreamConfig configuration) {
+        return BatchedPersonalizedPageRank.memoryEstimation(
+            configuration.sourceNodes().size(),
+            configuration.batchSize(),
+            configuration.topK()
+        );
+    }
+}
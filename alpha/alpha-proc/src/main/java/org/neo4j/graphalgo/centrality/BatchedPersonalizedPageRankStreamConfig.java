@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.centrality;
+
+import org.immutables.value.Value;
+import org.neo4j.graphalgo.annotation.Configuration;
+import org.neo4j.graphalgo.annotation.ValueClass;
+import org.neo4j.graphalgo.config.GraphCreateConfig;
+import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphalgo.pagerank.PageRankBaseConfig;
+
+import java.util.Optional;
+
+@ValueClass
+@Configuration("BatchedPersonalizedPageRankStreamConfigImpl")
+@SuppressWarnings("immutables:subtype")
+public interface BatchedPersonalizedPageRankStreamConfig extends PageRankBaseConfig {
+
+    int BATCH_SIZE_DEFAULT = 64;
+    int TOP_K_DEFAULT = 10;
+
+    /**
+     * The number of sources that are computed together in a single scan over the graph.
+     */
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int batchSize() {
+        return BATCH_SIZE_DEFAULT;
+    }
+
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int topK() {
+        return TOP_K_DEFAULT;
+    }
+
+    @Value.Check
+    default void validate() {
+        if (sourceNodes().isEmpty()) {
+            throw new IllegalArgumentException("Batched personalized PageRank requires at least one source node.");
+        }
+    }
+
+    static BatchedPersonalizedPageRankStreamConfig of(
+        String username,
+        Optional<String> graphName,
+        Optional<GraphCreateConfig> maybeImplicitCreate,
+        CypherMapWrapper userInput
+    ) {
+        return new BatchedPersonalizedPageRankStreamConfigImpl(
+            graphName,
+            maybeImplicitCreate,
+            username,
+            userInput
+        );
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.centrality;
+
+import org.neo4j.graphalgo.AlgoBaseProc;
+import org.neo4j.graphalgo.AlgorithmFactory;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.config.GraphCreateConfig;
+import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphalgo.core.utils.queue.BoundedLongPriorityQueue;
+import org.neo4j.graphalgo.pagerank.BatchedPersonalizedPageRank;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.PrimitiveIterator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.neo4j.procedure.Mode.READ;
+
+public final class BatchedPersonalizedPageRankStreamProc extends AlgoBaseProc<BatchedPersonalizedPageRank, BatchedPersonalizedPageRank, BatchedPersonalizedPageRankStreamConfig> {
+
+    private static final String DESCRIPTION =
+        "Computes Personalized Page Rank for every source node separately " +
+        "and returns the highest scoring nodes per source.";
+
+    @Procedure(value = "gds.alpha.personalizedPageRank.stream", mode = READ)
+    @Description(DESCRIPTION)
+    public Stream<StreamResult> stream(
+        @Name(value = "graphName") Object graphNameOrConfig,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        ComputationResult<BatchedPersonalizedPageRank, BatchedPersonalizedPageRank, BatchedPersonalizedPageRankStreamConfig> computationResult =
+            compute(graphNameOrConfig, configuration);
+
+        if (computationResult.isGraphEmpty()) {
+            return Stream.empty();
+        }
+
+        Graph graph = computationResult.graph();
+        BatchedPersonalizedPageRank algo = computationResult.result();
+
+        return IntStream.range(0, algo.sourceCount()).boxed().flatMap(sourceIndex -> {
+            long sourceNodeId = graph.toOriginalNodeId(algo.sourceNodeId(sourceIndex));
+            BoundedLongPriorityQueue topK = algo.topK(sourceIndex);
+            if (topK == null) {
+                return Stream.empty();
+            }
+            PrimitiveIterator.OfDouble scores = topK.priorities().iterator();
+            return topK.elements().mapToObj(nodeId -> new StreamResult(
+                sourceNodeId,
+                graph.toOriginalNodeId(nodeId),
+                scores.nextDouble()
+            ));
+        });
+    }
+
+    @Override
+    protected BatchedPersonalizedPageRankStreamConfig newConfig(
+        String username,
+        Optional<String> graphName,
+        Optional<GraphCreateConfig> maybeImplicitCreate,
+        CypherMapWrapper config
+    ) {
+        return BatchedPersonalizedPageRankStreamConfig.of(username, graphName, maybeImplicitCreate, config);
+    }
+
+    @Override
+    protected AlgorithmFactory<BatchedPersonalizedPageRank, BatchedPersonalizedPageRankStreamConfig> algorithmFactory(
+        BatchedPersonalizedPageRankStreamConfig config
+    ) {
+        return new BatchedPersonalizedPageRankFactory();
+    }
+
+    public static final class StreamResult {
+        public final long sourceNodeId;
+        public final long nodeId;
+        public final double score;
+
+        StreamResult(long sourceNodeId, long nodeId, double score) {
+            this.sourceNodeId = sourceNodeId;
+            this.nodeId = nodeId;
+            this.score = score;
+        }
+    }
+}
@@ -157,7 +157,8 @@ public class ClosenessCentralityProc extends AlgoBaseProc<MSClosenessCentrality,
                     graph,
                     tracker,
                     configuration.concurrency(),
-                    Pools.DEFAULT, configuration.improved()
+                    Pools.DEFAULT, configuration.improved(),
+                    configuration.laneWidth()
                 );
             }
         };
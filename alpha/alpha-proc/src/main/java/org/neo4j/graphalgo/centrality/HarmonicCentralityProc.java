@@ -155,7 +155,8 @@ public class HarmonicCentralityProc extends AlgoBaseProc<HarmonicCentrality, Har
                     graph,
                     tracker,
                     configuration.concurrency(),
-                    Pools.DEFAULT
+                    Pools.DEFAULT,
+                    configuration.laneWidth()
                 );
             }
         };
@@ -21,6 +21,7 @@ package org.neo4j.graphalgo.embedding;
 
 import org.neo4j.graphalgo.AlgorithmFactory;
 import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.core.concurrency.Pools;
 import org.neo4j.graphalgo.core.utils.BatchingProgressLogger;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
 import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
@@ -40,6 +41,7 @@ public class RandomProjectionFactory<CONFIG extends RandomProjectionBaseConfig>
         return new RandomProjection(
             graph,
             configuration,
+            Pools.DEFAULT,
             progressLogger,
             tracker
         );
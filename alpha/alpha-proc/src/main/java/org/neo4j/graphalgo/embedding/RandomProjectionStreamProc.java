@@ -79,7 +79,7 @@ public class RandomProjectionStreamProc extends StreamProc<RandomProjection, Ran
             .map((nodeId) -> {
                 RandomProjection randomProjection = computationResult.result();
 
-                return new StreamResult(graph.toOriginalNodeId(nodeId), randomProjection.embeddings().get(nodeId));
+                return new StreamResult(graph.toOriginalNodeId(nodeId), randomProjection.embeddings().getRow(nodeId));
             });
     }
 
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.linkprediction;
+
+import org.neo4j.graphalgo.AlgoBaseProc;
+import org.neo4j.graphalgo.AlgorithmFactory;
+import org.neo4j.graphalgo.AlphaAlgorithmFactory;
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.GraphStore;
+import org.neo4j.graphalgo.config.GraphCreateConfig;
+import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.utils.TerminationFlag;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.impl.linkprediction.CandidatePairs;
+import org.neo4j.graphalgo.impl.linkprediction.LinkPrediction;
+import org.neo4j.graphalgo.impl.linkprediction.LinkPredictionConfig;
+import org.neo4j.graphalgo.impl.linkprediction.LinkPredictionMetric;
+import org.neo4j.graphalgo.utils.StringJoining;
+import org.neo4j.logging.Log;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Scores candidate pairs of nodes on a graph from the catalog, see {@link LinkPredictionMetric} for the available scores.
+ */
+abstract class LinkPredictionProc extends AlgoBaseProc<LinkPrediction, LinkPrediction, LinkPredictionConfig> {
+
+    abstract LinkPredictionMetric metric();
+
+    Stream<LinkPrediction.Result> streamScores(Object graphNameOrConfig, Map<String, Object> configuration) {
+        ComputationResult<LinkPrediction, LinkPrediction, LinkPredictionConfig> computationResult =
+            compute(graphNameOrConfig, configuration, false, false);
+
+        if (computationResult.isGraphEmpty()) {
+            computationResult.graph().release();
+            return Stream.empty();
+        }
+
+        LinkPrediction algorithm = computationResult.algorithm();
+        return algorithm.resultStream().onClose(algorithm::release);
+    }
+
+    @Override
+    protected LinkPredictionConfig newConfig(
+        String username,
+        Optional<String> graphName,
+        Optional<GraphCreateConfig> maybeImplicitCreate,
+        CypherMapWrapper config
+    ) {
+        return LinkPredictionConfig.of(graphName, maybeImplicitCreate, username, config);
+    }
+
+    @Override
+    protected LinkPrediction newAlgorithm(
+        Graph graph,
+        GraphStore graphStore,
+        LinkPredictionConfig config,
+        AllocationTracker tracker
+    ) {
+        String candidateRelationshipType = config.candidateRelationshipType();
+        if (candidateRelationshipType == null) {
+            return super.newAlgorithm(graph, graphStore, config, tracker);
+        }
+
+        RelationshipType relationshipType = RelationshipType.of(candidateRelationshipType);
+        if (!graphStore.hasRelationshipType(relationshipType)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Candidate relationship type `%s` not found in graph with relationship types: %s",
+                candidateRelationshipType,
+                StringJoining.join(graphStore.relationshipTypes().stream().map(RelationshipType::name))
+            ));
+        }
+        Graph candidateGraph = graphStore.getGraph(
+            config.nodeLabelIdentifiers(graphStore),
+            Collections.singletonList(relationshipType),
+            Optional.empty()
+        );
+        return newLinkPrediction(graph, CandidatePairs.of(candidateGraph, tracker), config, tracker)
+            .withTerminationFlag(TerminationFlag.wrap(transaction));
+    }
+
+    @Override
+    protected AlgorithmFactory<LinkPrediction, LinkPredictionConfig> algorithmFactory(LinkPredictionConfig config) {
+        return new AlphaAlgorithmFactory<LinkPrediction, LinkPredictionConfig>() {
+            @Override
+            public LinkPrediction buildAlphaAlgo(
+                Graph graph,
+                LinkPredictionConfig configuration,
+                AllocationTracker tracker,
+                Log log
+            ) {
+                CandidatePairs pairs = CandidatePairs.of(
+                    graph,
+                    configuration.sourceNodeIds().toArray(),
+                    configuration.targetNodeIds().toArray(),
+                    tracker
+                );
+                return newLinkPrediction(graph, pairs, configuration, tracker);
+            }
+        };
+    }
+
+    private LinkPrediction newLinkPrediction(
+        Graph graph,
+        CandidatePairs pairs,
+        LinkPredictionConfig config,
+        AllocationTracker tracker
+    ) {
+        return new LinkPrediction(graph, metric(), pairs, config.concurrency(), Pools.DEFAULT, tracker);
+    }
+}
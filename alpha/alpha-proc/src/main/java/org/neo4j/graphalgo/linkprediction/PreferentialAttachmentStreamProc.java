@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.linkprediction;
+
+import org.neo4j.graphalgo.impl.linkprediction.LinkPrediction;
+import org.neo4j.graphalgo.impl.linkprediction.LinkPredictionMetric;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.neo4j.procedure.Mode.READ;
+
+public class PreferentialAttachmentStreamProc extends LinkPredictionProc {
+
+    @Procedure(name = "gds.alpha.linkprediction.preferentialAttachment.stream", mode = READ)
+    @Description("Calculates the Preferential Attachment of candidate pairs of nodes.")
+    public Stream<LinkPrediction.Result> stream(
+        @Name(value = "graphName") Object graphNameOrConfig,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        return streamScores(graphNameOrConfig, configuration);
+    }
+
+    @Override
+    LinkPredictionMetric metric() {
+        return LinkPredictionMetric.PREFERENTIAL_ATTACHMENT;
+    }
+}
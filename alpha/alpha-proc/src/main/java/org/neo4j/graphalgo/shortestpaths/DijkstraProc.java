@@ -19,11 +19,12 @@
  */
 package org.neo4j.graphalgo.shortestpaths;
 
-import com.carrotsearch.hppc.IntArrayDeque;
+import com.carrotsearch.hppc.LongArrayDeque;
 import org.neo4j.graphalgo.AlgoBaseProc;
 import org.neo4j.graphalgo.AlgorithmFactory;
 import org.neo4j.graphalgo.AlphaAlgorithmFactory;
 import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.GraphStore;
 import org.neo4j.graphalgo.api.IdMapping;
 import org.neo4j.graphalgo.config.GraphCreateConfig;
 import org.neo4j.graphalgo.core.CypherMapWrapper;
@@ -100,7 +101,7 @@ public class DijkstraProc extends AlgoBaseProc<ShortestPathDijkstra, ShortestPat
                .withTotalCosts(dijkstra.getTotalCost());
 
         try (ProgressTimer ignore = ProgressTimer.start(builder::withWriteMillis)) {
-            final IntArrayDeque finalPath = dijkstra.getFinalPath();
+            final LongArrayDeque finalPath = dijkstra.getFinalPath();
             final double[] finalPathCost = dijkstra.getFinalPathCosts();
             dijkstra.release();
 
@@ -129,6 +130,20 @@ public class DijkstraProc extends AlgoBaseProc<ShortestPathDijkstra, ShortestPat
         return DijkstraConfig.of(graphName, maybeImplicitCreate, username, userInput);
     }
 
+    @Override
+    protected ShortestPathDijkstra newAlgorithm(
+        Graph graph,
+        GraphStore graphStore,
+        DijkstraConfig config,
+        AllocationTracker tracker
+    ) {
+        ShortestPathDijkstra algorithm = super.newAlgorithm(graph, graphStore, config, tracker);
+        if (config.bidirectional()) {
+            algorithm.withReverseGraph(ReverseGraphs.reverseGraph(graph, graphStore, config));
+        }
+        return algorithm;
+    }
+
     @Override
     protected AlgorithmFactory<ShortestPathDijkstra, DijkstraConfig> algorithmFactory(DijkstraConfig config) {
         return new AlphaAlgorithmFactory<ShortestPathDijkstra, DijkstraConfig>() {
@@ -141,18 +156,18 @@ public class DijkstraProc extends AlgoBaseProc<ShortestPathDijkstra, ShortestPat
             ) {
                 validateStartNode(config.startNode(), graph);
                 validateEndNode(config.endNode(), graph);
-                return new ShortestPathDijkstra(graph, configuration);
+                return new ShortestPathDijkstra(graph, configuration, tracker);
             }
         };
     }
 
     private static final class DequeMapping implements IdMapping {
         private final IdMapping mapping;
-        private final int[] data;
+        private final long[] data;
         private final int offset;
         private final int length;
 
-        private DequeMapping(IdMapping mapping, IntArrayDeque data) {
+        private DequeMapping(IdMapping mapping, LongArrayDeque data) {
             this.mapping = mapping;
             if (data.head <= data.tail) {
                 this.data = data.buffer;
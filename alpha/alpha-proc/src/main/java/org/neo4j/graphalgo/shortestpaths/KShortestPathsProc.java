@@ -208,7 +208,8 @@ public class KShortestPathsProc extends AlgoBaseProc<YensKShortestPaths, YensKSh
                     configuration.startNode(),
                     configuration.endNode(),
                     configuration.k(),
-                    configuration.maxDepth()
+                    configuration.maxDepth(),
+                    tracker
                 );
             }
         };
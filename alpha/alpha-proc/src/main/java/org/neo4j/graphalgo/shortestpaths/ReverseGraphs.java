@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.shortestpaths;
+
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.GraphStore;
+import org.neo4j.graphalgo.config.AlgoBaseConfig;
+import org.neo4j.graphalgo.config.RelationshipWeightConfig;
+import org.neo4j.graphalgo.impl.shortestpaths.BidirectionalSearchConfig;
+import org.neo4j.graphalgo.utils.StringJoining;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.neo4j.graphalgo.ElementProjection.PROJECT_ALL;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+final class ReverseGraphs {
+
+    private ReverseGraphs() {
+        throw new UnsupportedOperationException("No instances");
+    }
+
+    /**
+     * Returns the graph that a bidirectional search traverses backwards from the end node.
+     * Undirected graphs are their own reverse, directed graphs need the reverse relationship type to be projected.
+     * The reverse relationship type must not be part of the forward graph, so {@code relationshipTypes}
+     * has to list the forward relationship types explicitly.
+     */
+    static <CONFIG extends AlgoBaseConfig & RelationshipWeightConfig & BidirectionalSearchConfig> Graph reverseGraph(
+        Graph graph,
+        GraphStore graphStore,
+        CONFIG config
+    ) {
+        String reverseRelationshipType = config.reverseRelationshipType();
+        if (reverseRelationshipType == null) {
+            if (!graph.isUndirected()) {
+                throw new IllegalArgumentException(
+                    "Bidirectional search on a directed graph requires `reverseRelationshipType` " +
+                    "to name a projection of the relationships in REVERSE orientation."
+                );
+            }
+            return graph;
+        }
+
+        RelationshipType relationshipType = RelationshipType.of(reverseRelationshipType);
+        if (!graphStore.hasRelationshipType(relationshipType)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Reverse relationship type `%s` not found in graph with relationship types: %s",
+                reverseRelationshipType,
+                StringJoining.join(graphStore.relationshipTypes().stream().map(RelationshipType::name))
+            ));
+        }
+        if (config.relationshipTypes().contains(reverseRelationshipType) || config.relationshipTypes().contains(PROJECT_ALL)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Parameter `relationshipTypes` must list the relationship types to search on, excluding the reverse relationship type `%s`.",
+                reverseRelationshipType
+            ));
+        }
+        return graphStore.getGraph(
+            config.nodeLabelIdentifiers(graphStore),
+            Collections.singletonList(relationshipType),
+            Optional.ofNullable(config.relationshipWeightProperty())
+        );
+    }
+}
@@ -25,6 +25,7 @@ import org.neo4j.graphalgo.core.CypherMapWrapper;
 import org.neo4j.graphalgo.config.AlgoBaseConfig;
 import org.neo4j.graphalgo.config.GraphCreateConfig;
 import org.neo4j.graphalgo.config.RelationshipWeightConfig;
+import org.neo4j.graphalgo.impl.shortestpaths.BidirectionalSearchConfig;
 import org.neo4j.graphdb.Node;
 
 import java.util.Optional;
@@ -32,7 +33,8 @@ import java.util.Optional;
 @Configuration("ShortestPathAStarConfigImpl")
 public interface ShortestPathAStarConfig extends
     AlgoBaseConfig,
-    RelationshipWeightConfig
+    RelationshipWeightConfig,
+    BidirectionalSearchConfig
 {
     @Value.Default
     default String propertyKeyLat() {
@@ -23,6 +23,7 @@ import org.neo4j.graphalgo.AlgoBaseProc;
 import org.neo4j.graphalgo.AlgorithmFactory;
 import org.neo4j.graphalgo.AlphaAlgorithmFactory;
 import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.GraphStore;
 import org.neo4j.graphalgo.config.GraphCreateConfig;
 import org.neo4j.graphalgo.core.CypherMapWrapper;
 import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
@@ -77,6 +78,20 @@ public class ShortestPathAStarProc extends AlgoBaseProc<ShortestPathAStar, Short
         return ShortestPathAStarConfig.of(graphName, maybeImplicitCreate, username, config);
     }
 
+    @Override
+    protected ShortestPathAStar newAlgorithm(
+        Graph graph,
+        GraphStore graphStore,
+        ShortestPathAStarConfig config,
+        AllocationTracker tracker
+    ) {
+        ShortestPathAStar algorithm = super.newAlgorithm(graph, graphStore, config, tracker);
+        if (config.bidirectional()) {
+            algorithm.withReverseGraph(ReverseGraphs.reverseGraph(graph, graphStore, config));
+        }
+        return algorithm;
+    }
+
     @Override
     protected AlgorithmFactory<ShortestPathAStar, ShortestPathAStarConfig> algorithmFactory(ShortestPathAStarConfig config) {
         return new AlphaAlgorithmFactory<ShortestPathAStar, ShortestPathAStarConfig>() {
@@ -91,7 +106,8 @@ public class ShortestPathAStarProc extends AlgoBaseProc<ShortestPathAStar, Short
                     configuration.startNodeId(),
                     configuration.endNodeId(),
                     graph.nodeProperties(configuration.propertyKeyLat()),
-                    graph.nodeProperties(configuration.propertyKeyLon())
+                    graph.nodeProperties(configuration.propertyKeyLon()),
+                    tracker
                 );
             }
         };
@@ -115,7 +115,12 @@ public class ApproxNearestNeighborsProc extends SimilarityProc<ApproxNearestNeig
     SimilarityAlgorithm<?, ? extends SimilarityInput> similarityAlgorithm(ApproximateNearestNeighborsConfig config) {
         switch (config.algorithm()) {
             case jaccard:
-                JaccardConfig jaccardConfig = ImmutableJaccardConfig.builder().from(config).build();
+                JaccardConfig jaccardConfig = ImmutableJaccardConfig.builder()
+                    .from(config)
+                    .minHashBands(config.minHashBands())
+                    .minHashRows(config.minHashRows())
+                    .randomSeed(config.randomSeed())
+                    .build();
                 return new JaccardAlgorithm(jaccardConfig, api);
             case cosine:
                 CosineConfig cosineConfig = ImmutableCosineConfig.builder().from(config).build();
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.centrality;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.BaseProcTest;
+import org.neo4j.graphalgo.functions.GetNodeFunc;
+import org.neo4j.graphdb.QueryExecutionException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchedPersonalizedPageRankStreamProcTest extends BaseProcTest {
+
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node {name: 'a'})" +
+        ", (b:Node {name: 'b'})" +
+        ", (c:Node {name: 'c'})" +
+        ", (d:Node {name: 'd'})" +
+        ", (e:Node {name: 'e'})" +
+        ", (a)-[:REL]->(b)" +
+        ", (b)-[:REL]->(c)" +
+        ", (c)-[:REL]->(d)" +
+        ", (d)-[:REL]->(e)";
+
+    @BeforeEach
+    void setupGraphDb() throws Exception {
+        runQuery(DB_CYPHER);
+        registerProcedures(BatchedPersonalizedPageRankStreamProc.class);
+        registerFunctions(GetNodeFunc.class);
+    }
+
+    @Test
+    void shouldStreamTopKPerSource() {
+        String query =
+            "MATCH (a:Node {name: 'a'}), (e:Node {name: 'e'}) " +
+            "CALL gds.alpha.personalizedPageRank.stream({" +
+            "  nodeProjection: 'Node'," +
+            "  relationshipProjection: {REL: {type: 'REL', orientation: 'UNDIRECTED'}}," +
+            "  sourceNodes: [a, e]," +
+            "  batchSize: 1," +
+            "  topK: 2" +
+            "}) YIELD sourceNodeId, nodeId, score " +
+            "RETURN gds.util.asNode(sourceNodeId).name AS source, gds.util.asNode(nodeId).name AS node, score";
+
+        Map<String, List<String>> nodesBySource = new HashMap<>();
+        Map<String, List<Double>> scoresBySource = new HashMap<>();
+        runQueryWithRowConsumer(query, row -> {
+            String source = row.getString("source");
+            nodesBySource.computeIfAbsent(source, ignore -> new ArrayList<>()).add(row.getString("node"));
+            scoresBySource.computeIfAbsent(source, ignore -> new ArrayList<>()).add(row.getNumber("score").doubleValue());
+        });
+
+        assertEquals(Map.of("a", List.of("b", "a"), "e", List.of("d", "e")), nodesBySource);
+        scoresBySource.values().forEach(scores -> assertTrue(scores.get(0) >= scores.get(1)));
+    }
+
+    @Test
+    void shouldFailWithoutSourceNodes() {
+        String query =
+            "CALL gds.alpha.personalizedPageRank.stream({" +
+            "  nodeProjection: 'Node'," +
+            "  relationshipProjection: {REL: {type: 'REL', orientation: 'UNDIRECTED'}}" +
+            "})";
+
+        QueryExecutionException exception = assertThrows(QueryExecutionException.class, () -> runQuery(query));
+        assertThat(exception.getMessage(), containsString("at least one source node"));
+    }
+}
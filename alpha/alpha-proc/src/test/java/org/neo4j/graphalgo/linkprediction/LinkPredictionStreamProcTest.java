@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.linkprediction;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.graphalgo.BaseProcTest;
+import org.neo4j.graphalgo.catalog.GraphCreateProc;
+import org.neo4j.graphalgo.core.loading.GraphStoreCatalog;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LinkPredictionStreamProcTest extends BaseProcTest {
+
+    private static final String DB_CYPHER =
+        "CREATE (mark:Person {name: 'Mark'})\n" +
+        "CREATE (michael:Person {name: 'Michael'})\n" +
+        "CREATE (praveena:Person {name: 'Praveena'})\n" +
+        "CREATE (ryan:Person {name: 'Ryan'})\n" +
+        "CREATE (karin:Person {name: 'Karin'})\n" +
+        "CREATE (jennifer:Person {name: 'Jennifer'})\n" +
+        "CREATE (elaine:Person {name: 'Elaine'})\n" +
+
+        "MERGE (jennifer)-[:FRIENDS]-(ryan)\n" +
+        "MERGE (jennifer)-[:FRIENDS]-(karin)\n" +
+        "MERGE (elaine)-[:FRIENDS]-(ryan)\n" +
+        "MERGE (elaine)-[:FRIENDS]-(karin)\n" +
+
+        "MERGE (mark)-[:FRIENDS]-(michael)\n" +
+        "MERGE (praveena)-[:FRIENDS]->(michael)\n" +
+
+        "MERGE (jennifer)-[:CANDIDATE]->(elaine)\n" +
+        "MERGE (mark)-[:CANDIDATE]->(praveena)\n" +
+        "MERGE (jennifer)-[:CANDIDATE]->(ryan)";
+
+    private static final String CANDIDATES =
+        "MATCH (jennifer:Person {name: 'Jennifer'}), (elaine:Person {name: 'Elaine'}), " +
+        "      (mark:Person {name: 'Mark'}), (praveena:Person {name: 'Praveena'}), (ryan:Person {name: 'Ryan'}) ";
+
+    @BeforeEach
+    void setUp() throws Exception {
+        registerProcedures(
+            GraphCreateProc.class,
+            AdamicAdarStreamProc.class,
+            ResourceAllocationStreamProc.class,
+            CommonNeighborsStreamProc.class,
+            PreferentialAttachmentStreamProc.class
+        );
+        runQuery(DB_CYPHER);
+        runQuery(
+            "CALL gds.graph.create('linkGraph', 'Person', {" +
+            "  FRIENDS: {type: 'FRIENDS', orientation: 'UNDIRECTED'}, " +
+            "  CANDIDATE: {type: 'CANDIDATE'}" +
+            "})"
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @Test
+    void adamicAdar() {
+        Map<String, Double> scores = scores("adamicAdar");
+        assertEquals(3, scores.size());
+        assertEquals(2 / Math.log(2), scores.get("Jennifer-Elaine"), 1e-9);
+        assertEquals(1 / Math.log(2), scores.get("Mark-Praveena"), 1e-9);
+        assertEquals(0.0, scores.get("Jennifer-Ryan"), 1e-9);
+    }
+
+    @Test
+    void resourceAllocation() {
+        Map<String, Double> scores = scores("resourceAllocation");
+        assertEquals(1.0, scores.get("Jennifer-Elaine"), 1e-9);
+        assertEquals(0.5, scores.get("Mark-Praveena"), 1e-9);
+        assertEquals(0.0, scores.get("Jennifer-Ryan"), 1e-9);
+    }
+
+    @Test
+    void commonNeighbors() {
+        Map<String, Double> scores = scores("commonNeighbors");
+        assertEquals(2.0, scores.get("Jennifer-Elaine"), 1e-9);
+        assertEquals(1.0, scores.get("Mark-Praveena"), 1e-9);
+        assertEquals(0.0, scores.get("Jennifer-Ryan"), 1e-9);
+    }
+
+    @Test
+    void preferentialAttachment() {
+        Map<String, Double> scores = scores("preferentialAttachment");
+        assertEquals(4.0, scores.get("Jennifer-Elaine"), 1e-9);
+        assertEquals(1.0, scores.get("Mark-Praveena"), 1e-9);
+        assertEquals(4.0, scores.get("Jennifer-Ryan"), 1e-9);
+    }
+
+    @Test
+    void candidateRelationshipType() {
+        Map<String, Double> scores = new HashMap<>();
+        runQueryWithRowConsumer(
+            "CALL gds.alpha.linkprediction.commonNeighbors.stream('linkGraph', {" +
+            "  relationshipTypes: ['FRIENDS'], " +
+            "  candidateRelationshipType: 'CANDIDATE'" +
+            "}) YIELD node1, node2, score " +
+            "MATCH (a) WHERE id(a) = node1 " +
+            "MATCH (b) WHERE id(b) = node2 " +
+            "RETURN a.name + '-' + b.name AS pair, score",
+            row -> scores.put(row.getString("pair"), row.getNumber("score").doubleValue())
+        );
+        assertEquals(3, scores.size());
+        assertEquals(2.0, scores.get("Jennifer-Elaine"), 1e-9);
+        assertEquals(1.0, scores.get("Mark-Praveena"), 1e-9);
+        assertEquals(0.0, scores.get("Jennifer-Ryan"), 1e-9);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"adamicAdar", "resourceAllocation", "commonNeighbors", "preferentialAttachment"})
+    void ignoreParallelRelationshipsAndSelfLoops(String metric) {
+        runQuery(
+            "MATCH (jennifer:Person {name: 'Jennifer'}), (karin:Person {name: 'Karin'}), (ryan:Person {name: 'Ryan'}) " +
+            "CREATE (jennifer)-[:FRIENDS]->(karin), (karin)-[:FRIENDS]->(jennifer), (karin)-[:FRIENDS]->(karin), " +
+            "       (ryan)-[:FRIENDS]->(ryan)"
+        );
+        runQuery(
+            "CALL gds.graph.create('multiGraph', 'Person', {" +
+            "  FRIENDS: {type: 'FRIENDS', orientation: 'UNDIRECTED'}, " +
+            "  CANDIDATE: {type: 'CANDIDATE'}" +
+            "})"
+        );
+
+        assertEquals(scores("linkGraph", metric), scores("multiGraph", metric));
+    }
+
+    @Test
+    void failOnDifferentNumberOfSourceAndTargetNodes() {
+        assertError(
+            CANDIDATES +
+            "CALL gds.alpha.linkprediction.commonNeighbors.stream('linkGraph', {" +
+            "  relationshipTypes: ['FRIENDS'], " +
+            "  sourceNodes: [jennifer, mark], " +
+            "  targetNodes: [elaine]" +
+            "}) YIELD score RETURN score",
+            "Parameters `sourceNodes` and `targetNodes` must have the same number of entries, but were 2 and 1."
+        );
+    }
+
+    @Test
+    void failOnCandidateRelationshipTypeInScoredRelationshipTypes() {
+        assertError(
+            "CALL gds.alpha.linkprediction.commonNeighbors.stream('linkGraph', {" +
+            "  candidateRelationshipType: 'CANDIDATE'" +
+            "}) YIELD score RETURN score",
+            "Parameter `relationshipTypes` must list the relationship types to score on, " +
+            "excluding the candidate relationship type `CANDIDATE`."
+        );
+    }
+
+    private Map<String, Double> scores(String metric) {
+        return scores("linkGraph", metric);
+    }
+
+    private Map<String, Double> scores(String graphName, String metric) {
+        Map<String, Double> scores = new HashMap<>();
+        runQueryWithRowConsumer(
+            CANDIDATES +
+            "CALL gds.alpha.linkprediction." + metric + ".stream('" + graphName + "', {" +
+            "  relationshipTypes: ['FRIENDS'], " +
+            "  sourceNodes: [jennifer, mark, jennifer], " +
+            "  targetNodes: [elaine, praveena, ryan]" +
+            "}) YIELD node1, node2, score " +
+            "MATCH (a) WHERE id(a) = node1 " +
+            "MATCH (b) WHERE id(b) = node2 " +
+            "RETURN a.name + '-' + b.name AS pair, score",
+            row -> scores.put(row.getString("pair"), row.getNumber("score").doubleValue())
+        );
+        return scores;
+    }
+}
@@ -162,6 +162,90 @@ class DijkstraProcTest extends BaseProcTest {
         verify(mock, times(1)).accept(anyLong(), eq(6.0));
     }
 
+    @Test
+    void testBidirectionalDijkstraStream() {
+        PathConsumer consumer = mock(PathConsumer.class);
+        runQueryWithRowConsumer(
+            "MATCH (start:Node{type:'start'}), (end:Node{type:'end'}) " +
+            "CALL gds.alpha.shortestPath.stream({" +
+            "  nodeProjection: '*', " +
+            "  relationshipProjection: {" +
+            "    TYPE: {type: 'TYPE', orientation: 'NATURAL', properties: 'cost'}, " +
+            "    TYPE_REVERSE: {type: 'TYPE', orientation: 'REVERSE', properties: 'cost'}" +
+            "  }, " +
+            "  relationshipTypes: ['TYPE'], " +
+            "  startNode: start, " +
+            "  endNode: end, " +
+            "  relationshipWeightProperty: 'cost', " +
+            "  bidirectional: true, " +
+            "  reverseRelationshipType: 'TYPE_REVERSE'" +
+            "}) " +
+            "YIELD nodeId, cost RETURN nodeId, cost",
+            row -> consumer.accept((Long) row.getNumber("nodeId"), (Double) row.getNumber("cost"))
+        );
+        verify(consumer, times(4)).accept(anyLong(), anyDouble());
+        verify(consumer, times(1)).accept(anyLong(), eq(0.0));
+        verify(consumer, times(1)).accept(anyLong(), eq(2.0));
+        verify(consumer, times(1)).accept(anyLong(), eq(4.0));
+        verify(consumer, times(1)).accept(anyLong(), eq(6.0));
+    }
+
+    @Test
+    void failOnBidirectionalSearchWithoutReverseRelationships() {
+        final String query =
+            "MATCH (start:Node {type:'start'}), (end:Node {type:'end'}) " +
+            "CALL gds.alpha.shortestPath.stream({" +
+            "  nodeProjection: '*', " +
+            "  relationshipProjection: '*'," +
+            "  startNode: start, " +
+            "  endNode: end, " +
+            "  bidirectional: true" +
+            "}) " +
+            "YIELD nodeId " +
+            "RETURN nodeId ";
+
+        assertError(query, "Bidirectional search on a directed graph requires `reverseRelationshipType`");
+    }
+
+    @Test
+    void failOnUnknownReverseRelationshipType() {
+        final String query =
+            "MATCH (start:Node {type:'start'}), (end:Node {type:'end'}) " +
+            "CALL gds.alpha.shortestPath.stream({" +
+            "  nodeProjection: '*', " +
+            "  relationshipProjection: '*'," +
+            "  startNode: start, " +
+            "  endNode: end, " +
+            "  bidirectional: true, " +
+            "  reverseRelationshipType: 'TYPE_REVERSE'" +
+            "}) " +
+            "YIELD nodeId " +
+            "RETURN nodeId ";
+
+        assertError(query, "Reverse relationship type `TYPE_REVERSE` not found");
+    }
+
+    @Test
+    void failOnReverseRelationshipTypeInForwardGraph() {
+        final String query =
+            "MATCH (start:Node {type:'start'}), (end:Node {type:'end'}) " +
+            "CALL gds.alpha.shortestPath.stream({" +
+            "  nodeProjection: '*', " +
+            "  relationshipProjection: {" +
+            "    TYPE: {type: 'TYPE', orientation: 'NATURAL', properties: 'cost'}, " +
+            "    TYPE_REVERSE: {type: 'TYPE', orientation: 'REVERSE', properties: 'cost'}" +
+            "  }, " +
+            "  startNode: start, " +
+            "  endNode: end, " +
+            "  bidirectional: true, " +
+            "  reverseRelationshipType: 'TYPE_REVERSE'" +
+            "}) " +
+            "YIELD nodeId " +
+            "RETURN nodeId ";
+
+        assertError(query, "Parameter `relationshipTypes` must list the relationship types to search on, excluding the reverse relationship type `TYPE_REVERSE`.");
+    }
+
     @Test
     void failOnInvalidStartNode() {
         runQuery("CREATE (:Invalid)");
@@ -105,6 +105,22 @@ class ShortestPathAStarProcTest extends BaseProcTest {
         runTest(Map.of(), 0.0, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0);
     }
 
+    @Test
+    void testBidirectionalAStarResult() {
+        runTest(
+            Map.of("relationshipWeightProperty", "cost", "bidirectional", true),
+            0.0,
+            29.0,
+            723.0,
+            895.0,
+            996.0,
+            1353.0,
+            1652.0,
+            2392.0,
+            2979.0
+        );
+    }
+
     private void runTest(Map<String, ?> additionalQueryParams, double... expectedDistanceCosts) {
         List<String> expectedNode = Arrays.asList(
             "SINGAPORE",
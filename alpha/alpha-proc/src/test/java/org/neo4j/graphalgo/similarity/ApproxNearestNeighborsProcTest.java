@@ -27,6 +27,7 @@ import org.neo4j.graphalgo.BaseProcTest;
 import org.neo4j.graphalgo.compat.MapUtil;
 import org.neo4j.graphalgo.functions.GetNodeFunc;
 
+import java.util.HashMap;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -127,6 +128,71 @@ class ApproxNearestNeighborsProcTest extends BaseProcTest {
         });
     }
 
+    @Test
+    void shouldStreamWithMinHash() {
+        Map<Pair<String, String>, Double> expectedScores = MapUtil.genericMap(
+            Tuples.pair("Arya", "Karin"), 0.6666666666666666,
+            Tuples.pair("Arya", "Praveena"), 0.25,
+            Tuples.pair("Arya", "Michael"), 0.2,
+            Tuples.pair("Karin", "Arya"), 0.6666666666666666,
+            Tuples.pair("Karin", "Michael"), 0.25,
+            Tuples.pair("Michael", "Zhen"), 0.6666666666666666,
+            Tuples.pair("Michael", "Praveena"), 0.25,
+            Tuples.pair("Michael", "Karin"), 0.25,
+            Tuples.pair("Praveena", "Zhen"), 0.3333333333333333,
+            Tuples.pair("Praveena", "Arya"), 0.25,
+            Tuples.pair("Praveena", "Michael"), 0.25,
+            Tuples.pair("Zhen", "Michael"), 0.6666666666666666,
+            Tuples.pair("Zhen", "Praveena"), 0.3333333333333333
+        );
+
+        // with single row bands, a pair collides in a band with a probability equal to its similarity
+        Map<String, Object> config = map(
+            "config",
+            anonymousGraphConfig(
+                "algorithm", "jaccard",
+                "similarityCutoff", 0.1,
+                "minHashBands", 50,
+                "minHashRows", 1,
+                "randomSeed", 42L
+            )
+        );
+
+        String query =
+            " MATCH (i:Cuisine)" +
+            " WITH i ORDER BY id(i)" +
+            " MATCH (p:Person) OPTIONAL MATCH (p)-[r:LIKES]->(cuisine)" +
+            " WITH {item: id(p), categories: collect(id(cuisine))} as userData" +
+            " WITH collect(userData) AS data, $config AS config" +
+            " WITH config {.*, data: data} AS input" +
+            " CALL gds.alpha.ml.ann.stream(input)" +
+            " YIELD item1, item2, count1, count2, intersection, similarity" +
+            " RETURN gds.util.asNode(item1).name as from, gds.util.asNode(item2).name AS to, similarity" +
+            " ORDER BY from";
+
+        Map<Pair<String, String>, Double> actualScores = new HashMap<>();
+        runQueryWithRowConsumer(query, config, row -> actualScores.put(
+            Tuples.pair(row.getString("from"), row.getString("to")),
+            row.getNumber("similarity").doubleValue()
+        ));
+
+        assertEquals(expectedScores, actualScores);
+    }
+
+    @Test
+    void shouldFailOnMinHashForOtherAlgorithms() {
+        Map<String, Object> config = map(
+            "config",
+            anonymousGraphConfig("algorithm", "cosine", "minHashBands", 4)
+        );
+
+        assertError(
+            "CALL gds.alpha.ml.ann.stream($config)",
+            config,
+            "MinHash is only supported for the `jaccard` algorithm."
+        );
+    }
+
     @Test
     void shouldWrite() {
         Map<Pair<String, String>, Double> expectedScores = MapUtil.genericMap(
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.benchmark;
+
+import java.util.SplittableRandom;
+
+public final class RandomIndices {
+
+    /**
+     * Returns all indices in {@code [0, size)} in random order, so that every element is accessed exactly once.
+     */
+    public static long[] permutation(long size, long seed) {
+        long[] indices = new long[Math.toIntExact(size)];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = i;
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = indices.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long tmp = indices[i];
+            indices[i] = indices[j];
+            indices[j] = tmp;
+        }
+        return indices;
+    }
+
+    private RandomIndices() {
+        throw new UnsupportedOperationException("No instances");
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.huge;
+
+import org.neo4j.graphalgo.benchmark.RandomGraphState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.neo4j.graphalgo.core.huge.AdjacencyDecompressingReader.CHUNK_SIZE;
+import static org.neo4j.graphalgo.core.huge.VarLongDecoding.decodeDeltaVLongs;
+import static org.neo4j.graphalgo.core.utils.paged.PageUtil.indexInPage;
+import static org.neo4j.graphalgo.core.utils.paged.PageUtil.pageIndex;
+
+/**
+ * Each invocation decodes the adjacency lists of all nodes, using the different layers of the decoding stack.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AdjacencyDecodingBenchmark {
+
+    private long nodeCount;
+    private AdjacencyList adjacencyList;
+    private AdjacencyOffsets offsets;
+    private byte[][] pages;
+    private long[] buffer;
+    private AdjacencyDecompressingReader reader;
+    private AdjacencyList.DecompressingCursor cursor;
+
+    @Setup
+    public void setup(RandomGraphState state) {
+        HugeGraph.TopologyCSR topology = state.graph.relationships().topology();
+        nodeCount = state.graph.nodeCount();
+        adjacencyList = topology.list();
+        offsets = topology.offsets();
+        pages = adjacencyList.pages();
+        buffer = new long[CHUNK_SIZE];
+        reader = new AdjacencyDecompressingReader();
+        cursor = adjacencyList.rawDecompressingCursor();
+    }
+
+    @Benchmark
+    public long varLongDecoding() {
+        long sum = 0L;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            long offset = offsets.get(nodeId);
+            if (offset == 0L) {
+                continue;
+            }
+            byte[] page = pages[pageIndex(offset, AdjacencyList.PAGE_SHIFT)];
+            int position = indexInPage(offset, AdjacencyList.PAGE_MASK);
+            int remaining = AdjacencyDecompressingReader.readInt(page, position);
+            position += Integer.BYTES;
+            long previousValue = 0L;
+            while (remaining > 0) {
+                int length = Math.min(remaining, CHUNK_SIZE);
+                position = decodeDeltaVLongs(previousValue, page, position, length, buffer);
+                previousValue = buffer[length - 1];
+                remaining -= length;
+            }
+            sum += previousValue;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long decompressingReader() {
+        long sum = 0L;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            long offset = offsets.get(nodeId);
+            if (offset == 0L) {
+                continue;
+            }
+            byte[] page = pages[pageIndex(offset, AdjacencyList.PAGE_SHIFT)];
+            int degree = reader.reset(page, indexInPage(offset, AdjacencyList.PAGE_MASK));
+            for (int remaining = degree; remaining > 0; remaining--) {
+                sum += reader.next(remaining);
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long decompressingCursor() {
+        long sum = 0L;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            long offset = offsets.get(nodeId);
+            if (offset == 0L) {
+                continue;
+            }
+            AdjacencyList.DecompressingCursor adjacencyCursor = adjacencyList.decompressingCursor(cursor, offset);
+            while (adjacencyCursor.hasNextVLong()) {
+                sum += adjacencyCursor.nextVLong();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long decompressingCursorBlocks() {
+        long sum = 0L;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            long offset = offsets.get(nodeId);
+            if (offset == 0L) {
+                continue;
+            }
+            AdjacencyList.DecompressingCursor adjacencyCursor = adjacencyList.decompressingCursor(cursor, offset);
+            long[] targets = adjacencyCursor.block();
+            int length;
+            while ((length = adjacencyCursor.nextBlock()) > 0) {
+                int blockOffset = adjacencyCursor.blockOffset();
+                for (int i = blockOffset; i < blockOffset + length; i++) {
+                    sum += targets[i];
+                }
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.huge;
+
+import org.neo4j.graphalgo.benchmark.RandomGraphState;
+import org.neo4j.graphalgo.benchmark.RandomIndices;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Each invocation visits every node exactly once, either in id order or in a random order.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class HugeGraphBenchmark {
+
+    private HugeGraph graph;
+    private long[] randomNodes;
+    private long[] randomTargets;
+
+    @Setup
+    public void setup(RandomGraphState state) {
+        graph = state.graph.concurrentCopy();
+        randomNodes = RandomIndices.permutation(graph.nodeCount(), 42L);
+        randomTargets = RandomIndices.permutation(graph.nodeCount(), 1337L);
+    }
+
+    @Benchmark
+    public void forEachRelationship(Blackhole blackhole) {
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            graph.forEachRelationship(nodeId, (source, target) -> {
+                blackhole.consume(target);
+                return true;
+            });
+        }
+    }
+
+    @Benchmark
+    public void forEachRelationshipWithProperty(Blackhole blackhole) {
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            graph.forEachRelationship(nodeId, Double.NaN, (source, target, property) -> {
+                blackhole.consume(property);
+                return true;
+            });
+        }
+    }
+
+    @Benchmark
+    public long sequentialDegree() {
+        long sum = 0L;
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            sum += graph.degree(nodeId);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long randomDegree() {
+        long sum = 0L;
+        for (long nodeId : randomNodes) {
+            sum += graph.degree(nodeId);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long randomExists() {
+        long found = 0L;
+        for (int i = 0; i < randomNodes.length; i++) {
+            if (graph.exists(randomNodes[i], randomTargets[i])) {
+                found++;
+            }
+        }
+        return found;
+    }
+}
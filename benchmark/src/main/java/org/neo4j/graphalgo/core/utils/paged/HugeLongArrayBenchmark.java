@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.paged;
+
+import org.neo4j.graphalgo.benchmark.RandomIndices;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Each invocation accesses every element of the array exactly once,
+ * either in index order or in a random order.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class HugeLongArrayBenchmark {
+
+    @Param({"single", "paged"})
+    public String layout;
+
+    @Param({"10000", "10000000"})
+    public long size;
+
+    private HugeLongArray array;
+    private long[] randomIndices;
+
+    @Setup
+    public void setup() {
+        array = "paged".equals(layout)
+            ? HugeLongArray.newPagedArray(size, AllocationTracker.EMPTY)
+            : HugeLongArray.newSingleArray(Math.toIntExact(size), AllocationTracker.EMPTY);
+        array.setAll(index -> index);
+        randomIndices = RandomIndices.permutation(size, 42L);
+    }
+
+    @TearDown
+    public void tearDown() {
+        array.release();
+    }
+
+    @Benchmark
+    public long sequentialGet() {
+        long sum = 0L;
+        for (long i = 0; i < size; i++) {
+            sum += array.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long randomGet() {
+        long sum = 0L;
+        for (long index : randomIndices) {
+            sum += array.get(index);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public HugeLongArray sequentialSet() {
+        for (long i = 0; i < size; i++) {
+            array.set(i, i);
+        }
+        return array;
+    }
+
+    @Benchmark
+    public HugeLongArray randomSet() {
+        for (long index : randomIndices) {
+            array.set(index, index);
+        }
+        return array;
+    }
+
+    @Benchmark
+    public long cursorIteration() {
+        long sum = 0L;
+        try (HugeCursor<long[]> cursor = array.initCursor(array.newCursor())) {
+            while (cursor.next()) {
+                long[] page = cursor.array;
+                for (int i = cursor.offset; i < cursor.limit; i++) {
+                    sum += page[i];
+                }
+            }
+        }
+        return sum;
+    }
+}
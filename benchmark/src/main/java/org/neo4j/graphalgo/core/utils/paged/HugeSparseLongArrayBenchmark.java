@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.paged;
+
+import org.neo4j.graphalgo.benchmark.RandomIndices;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Models the mapping from original to internal node ids, where every {@code stride}-th id in the capacity is present.
+ * Each invocation accesses every present id exactly once, either in id order or in a random order.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class HugeSparseLongArrayBenchmark {
+
+    @Param({"1000000", "100000000"})
+    public long capacity;
+
+    @Param({"1", "16"})
+    public int stride;
+
+    private long elementCount;
+    private HugeSparseLongArray array;
+    private long[] randomIds;
+
+    @Setup
+    public void setup() {
+        elementCount = capacity / stride;
+        array = build();
+        randomIds = RandomIndices.permutation(elementCount, 42L);
+        for (int i = 0; i < randomIds.length; i++) {
+            randomIds[i] *= stride;
+        }
+    }
+
+    @Benchmark
+    public HugeSparseLongArray build() {
+        HugeSparseLongArray.Builder builder = HugeSparseLongArray.Builder.create(capacity, AllocationTracker.EMPTY);
+        for (long i = 0; i < elementCount; i++) {
+            builder.set(i * stride, i);
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public long sequentialGet() {
+        long sum = 0L;
+        for (long i = 0; i < elementCount; i++) {
+            sum += array.get(i * stride);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long randomGet() {
+        long sum = 0L;
+        for (long id : randomIds) {
+            sum += array.get(id);
+        }
+        return sum;
+    }
+}
@@ -50,6 +50,28 @@ public abstract class AbstractRelationshipProjection extends ElementProjection {
         return Aggregation.DEFAULT;
     }
 
+    /**
+     * If set, the loader also builds the inverse adjacency list for this type,
+     * i.e. the incoming relationships for a NATURAL and the outgoing relationships
+     * for a REVERSE projection. An UNDIRECTED projection is its own inverse.
+     */
+    @Value.Default
+    @Value.Parameter(false)
+    public boolean indexInverse() {
+        return false;
+    }
+
+    /**
+     * If set, the loader also builds a skip index over the adjacency lists of the high-degree nodes
+     * of this type, which speeds up single relationship lookups such as
+     * {@link org.neo4j.graphalgo.api.Graph#exists(long, long)}.
+     */
+    @Value.Default
+    @Value.Parameter(false)
+    public boolean indexRelationships() {
+        return false;
+    }
+
     @Value.Default
     @Value.Parameter(false)
     @Override
@@ -65,6 +87,8 @@ public abstract class AbstractRelationshipProjection extends ElementProjection {
     public static final String TYPE_KEY = "type";
     public static final String ORIENTATION_KEY = "orientation";
     public static final String AGGREGATION_KEY = "aggregation";
+    public static final String INDEX_INVERSE_KEY = "indexInverse";
+    public static final String INDEX_RELATIONSHIPS_KEY = "indexRelationships";
 
     public static RelationshipProjection fromMap(Map<String, Object> map, RelationshipType relationshipType) {
         RelationshipProjection.Builder builder = RelationshipProjection.builder();
@@ -76,6 +100,12 @@ public abstract class AbstractRelationshipProjection extends ElementProjection {
         if (map.containsKey(ORIENTATION_KEY)) {
             builder.orientation(Orientation.of(nonEmptyString(map, ORIENTATION_KEY)));
         }
+        if (map.containsKey(INDEX_INVERSE_KEY)) {
+            builder.indexInverse(booleanValue(map, INDEX_INVERSE_KEY));
+        }
+        if (map.containsKey(INDEX_RELATIONSHIPS_KEY)) {
+            builder.indexRelationships(booleanValue(map, INDEX_RELATIONSHIPS_KEY));
+        }
         if (map.containsKey(AGGREGATION_KEY)) {
             Aggregation aggregation = Aggregation.lookup(nonEmptyString(map, AGGREGATION_KEY));
             builder.aggregation(aggregation);
@@ -119,6 +149,12 @@ public abstract class AbstractRelationshipProjection extends ElementProjection {
         value.put(TYPE_KEY, type());
         value.put(ORIENTATION_KEY, orientation().name());
         value.put(AGGREGATION_KEY, aggregation().name());
+        if (indexInverse()) {
+            value.put(INDEX_INVERSE_KEY, true);
+        }
+        if (indexRelationships()) {
+            value.put(INDEX_RELATIONSHIPS_KEY, true);
+        }
     }
 
     @Override
@@ -155,7 +191,10 @@ public abstract class AbstractRelationshipProjection extends ElementProjection {
     }
 
     private static void validateConfigKeys(Map<String, Object> map) {
-        ConfigKeyValidation.requireOnlyKeysFrom(List.of(TYPE_KEY, ORIENTATION_KEY, AGGREGATION_KEY, PROPERTIES_KEY), map.keySet());
+        ConfigKeyValidation.requireOnlyKeysFrom(
+            List.of(TYPE_KEY, ORIENTATION_KEY, AGGREGATION_KEY, INDEX_INVERSE_KEY, INDEX_RELATIONSHIPS_KEY, PROPERTIES_KEY),
+            map.keySet()
+        );
     }
 
     @org.immutables.builder.Builder.AccessibleFields
@@ -74,6 +74,17 @@ public abstract class ElementProjection {
         return (String) value;
     }
 
+    static boolean booleanValue(Map<String, Object> config, String key) {
+        @Nullable Object value = config.get(key);
+        if (!(value instanceof Boolean)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "'%s' is not a valid value for  the key '%s'",
+                value, key
+            ));
+        }
+        return (Boolean) value;
+    }
+
     abstract void writeToObject(Map<String, Object> value);
 
     abstract boolean includeAggregation();
@@ -46,6 +46,8 @@ import java.util.stream.Collectors;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonMap;
 import static org.neo4j.graphalgo.AbstractRelationshipProjection.AGGREGATION_KEY;
+import static org.neo4j.graphalgo.AbstractRelationshipProjection.INDEX_INVERSE_KEY;
+import static org.neo4j.graphalgo.AbstractRelationshipProjection.INDEX_RELATIONSHIPS_KEY;
 import static org.neo4j.graphalgo.AbstractRelationshipProjection.ORIENTATION_KEY;
 import static org.neo4j.graphalgo.AbstractRelationshipProjection.TYPE_KEY;
 import static org.neo4j.graphalgo.ElementProjection.PROJECT_ALL;
@@ -744,7 +746,7 @@ public abstract class GdsCypher {
     private static boolean isAllDefault(ElementProjection projection) {
         if (projection instanceof AbstractRelationshipProjection) {
             AbstractRelationshipProjection rel = (AbstractRelationshipProjection) projection;
-            if (rel.orientation() != NATURAL || rel.aggregation() != DEFAULT) {
+            if (rel.orientation() != NATURAL || rel.aggregation() != DEFAULT || rel.indexInverse() || rel.indexRelationships()) {
                 return false;
             }
         }
@@ -800,6 +802,12 @@ public abstract class GdsCypher {
         if (projection.aggregation() != DEFAULT) {
             value.put(AGGREGATION_KEY, projection.aggregation().name());
         }
+        if (projection.indexInverse()) {
+            value.put(INDEX_INVERSE_KEY, true);
+        }
+        if (projection.indexRelationships()) {
+            value.put(INDEX_RELATIONSHIPS_KEY, true);
+        }
         properties.toObject().ifPresent(o -> value.put(PROPERTIES_KEY, o));
         return MinimalObject.map(value);
     }
@@ -807,6 +815,8 @@ public abstract class GdsCypher {
     private static boolean matchesType(String type, AbstractRelationshipProjection projection) {
         return projection.orientation() == NATURAL
                && projection.aggregation() == DEFAULT
+               && !projection.indexInverse()
+               && !projection.indexRelationships()
                && projection.type().equals(type);
     }
 
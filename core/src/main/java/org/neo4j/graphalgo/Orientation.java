@@ -31,6 +31,20 @@ public enum Orientation {
     REVERSE,
     UNDIRECTED;
 
+    /**
+     * @return the orientation that yields the same relationships with source and target swapped.
+     */
+    public Orientation inverse() {
+        switch (this) {
+            case NATURAL:
+                return REVERSE;
+            case REVERSE:
+                return NATURAL;
+            default:
+                return UNDIRECTED;
+        }
+    }
+
     public static Orientation of(String value) {
         try {
             return Orientation.valueOf(value.toUpperCase(Locale.ENGLISH));
@@ -25,6 +25,7 @@ import org.neo4j.graphalgo.core.utils.collection.primitive.PrimitiveLongIterator
 
 import java.util.Collection;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.function.LongPredicate;
 
 public abstract class FilterGraph implements Graph {
@@ -55,6 +56,11 @@ public abstract class FilterGraph implements Graph {
         graph.canRelease(canRelease);
     }
 
+    @Override
+    public void indexRelationships(int concurrency, ExecutorService executor) {
+        graph.indexRelationships(concurrency, executor);
+    }
+
     @Override
     public RelationshipIntersect intersection(long maxDegree) {
         return graph.intersection(maxDegree);
@@ -140,6 +146,26 @@ public abstract class FilterGraph implements Graph {
         graph.forEachRelationship(nodeId, fallbackValue, consumer);
     }
 
+    @Override
+    public boolean hasInverseIndex() {
+        return graph.hasInverseIndex();
+    }
+
+    @Override
+    public int inverseDegree(long nodeId) {
+        return graph.inverseDegree(nodeId);
+    }
+
+    @Override
+    public void forEachInverseRelationship(long nodeId, RelationshipConsumer consumer) {
+        graph.forEachInverseRelationship(nodeId, consumer);
+    }
+
+    @Override
+    public void forEachInverseRelationship(long nodeId, double fallbackValue, RelationshipWithPropertyConsumer consumer) {
+        graph.forEachInverseRelationship(nodeId, fallbackValue, consumer);
+    }
+
     @Override
     public boolean exists(long sourceNodeId, long targetNodeId) {
         return graph.exists(sourceNodeId, targetNodeId);
@@ -20,8 +20,11 @@
 package org.neo4j.graphalgo.api;
 
 import org.neo4j.graphalgo.NodeLabel;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.partition.DegreePrefixSum;
 
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 public interface Graph extends NodeMapping, NodePropertyContainer, Degrees, RelationshipIterator, RelationshipProperties, RelationshipAccess {
 
@@ -76,6 +79,72 @@ public interface Graph extends NodeMapping, NodePropertyContainer, Degrees, Rela
 
     RelationshipIntersect intersection(long maxDegree);
 
+    /**
+     * Returns the prefix sums over all node degrees, which are used to split
+     * the graph into degree-balanced partitions.
+     * Graphs whose degrees do not change cache the result, so that it is computed at most once
+     * and released together with the topology; others compute it on every call.
+     * In both cases the prefix sums are computed on the given executor.
+     * Cached prefix sums are tracked together with the graph they belong to, others by the given tracker.
+     */
+    default DegreePrefixSum degreePrefixSum(int concurrency, ExecutorService executor, AllocationTracker tracker) {
+        return DegreePrefixSum.of(this, nodeCount(), concurrency, executor, tracker);
+    }
+
+    /**
+     * Builds the lookup structures used by {@link #exists(long, long)}, {@link #getTarget(long, long)}
+     * and {@link #relationshipProperty(long, long)} on the given executor.
+     * Graphs without such structures, or that were not asked to build them, scan the adjacency lists instead.
+     */
+    default void indexRelationships(int concurrency, ExecutorService executor) { }
+
+    /**
+     * @return true iff {@link #forEachInverseRelationship(long, RelationshipConsumer)} and
+     *     {@link #inverseDegree(long)} are supported, i.e. the graph is undirected or
+     *     its relationships have been projected with an inverse index.
+     */
+    default boolean hasInverseIndex() {
+        return isUndirected();
+    }
+
+    /**
+     * Calls the consumer for every relationship that ends in the given node,
+     * passing the given node as source and the start node of the relationship as target.
+     */
+    default void forEachInverseRelationship(long nodeId, RelationshipConsumer consumer) {
+        if (!isUndirected()) {
+            throw missingInverseIndex();
+        }
+        forEachRelationship(nodeId, consumer);
+    }
+
+    /**
+     * Same as {@link #forEachInverseRelationship(long, RelationshipConsumer)},
+     * but also passes the relationship property value.
+     */
+    default void forEachInverseRelationship(long nodeId, double fallbackValue, RelationshipWithPropertyConsumer consumer) {
+        if (!isUndirected()) {
+            throw missingInverseIndex();
+        }
+        forEachRelationship(nodeId, fallbackValue, consumer);
+    }
+
+    /**
+     * @return the number of relationships that end in the given node.
+     */
+    default int inverseDegree(long nodeId) {
+        if (!isUndirected()) {
+            throw missingInverseIndex();
+        }
+        return degree(nodeId);
+    }
+
+    static UnsupportedOperationException missingInverseIndex() {
+        return new UnsupportedOperationException(
+            "Inverse relationships are not available. Project the relationship type with `indexInverse: true`."
+        );
+    }
+
     @Override
     default Graph concurrentCopy() {
         return this;
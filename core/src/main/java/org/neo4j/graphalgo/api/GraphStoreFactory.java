@@ -33,14 +33,17 @@ import org.neo4j.graphalgo.core.huge.ImmutablePropertyCSR;
 import org.neo4j.graphalgo.core.huge.ImmutableTopologyCSR;
 import org.neo4j.graphalgo.core.loading.CSRGraphStore;
 import org.neo4j.graphalgo.core.loading.IdsAndProperties;
+import org.neo4j.graphalgo.core.loading.RelationshipPropertyCompressor;
 import org.neo4j.graphalgo.core.loading.RelationshipsBuilder;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.mem.Assessable;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
 import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -93,39 +96,41 @@ public abstract class GraphStoreFactory<CONFIG extends GraphCreateConfig> implem
         int relTypeCount = dimensions.relationshipTypeTokens().size();
         Map<RelationshipType, HugeGraph.TopologyCSR> relationships = new HashMap<>(relTypeCount);
         Map<RelationshipType, Map<String, HugeGraph.PropertyCSR>> relationshipProperties = new HashMap<>(relTypeCount);
+        Map<RelationshipType, HugeGraph.TopologyCSR> inverseRelationships = new HashMap<>();
+        Map<RelationshipType, Map<String, HugeGraph.PropertyCSR>> inverseRelationshipProperties = new HashMap<>();
 
         relationshipImportResult.builders().forEach((relationshipType, relationshipsBuilder) -> {
-            AdjacencyList adjacencyList = relationshipsBuilder.adjacencyList();
-            AdjacencyOffsets adjacencyOffsets = relationshipsBuilder.globalAdjacencyOffsets();
             long relationshipCount = relationshipImportResult.counts().getOrDefault(relationshipType, 0L);
 
-            RelationshipProjection projection = relationshipsBuilder.projection();
-
-            relationships.put(
+            addRelationships(
                 relationshipType,
-                ImmutableTopologyCSR.of(
-                    adjacencyList,
-                    adjacencyOffsets,
-                    relationshipCount,
-                    projection.orientation()
-                )
+                relationshipsBuilder,
+                relationshipCount,
+                relationships,
+                relationshipProperties,
+                tracker
             );
+            relationshipsBuilder.inverse().ifPresent(inverseBuilder -> addRelationships(
+                relationshipType,
+                inverseBuilder,
+                relationshipCount,
+                inverseRelationships,
+                inverseRelationshipProperties,
+                tracker
+            ));
+        });
 
-            PropertyMappings propertyMappings = projection.properties();
-            if (!propertyMappings.isEmpty()) {
-                Map<String, HugeGraph.PropertyCSR> propertyMap = propertyMappings
-                    .enumerate()
-                    .collect(Collectors.toMap(
-                        propertyIndexAndMapping -> propertyIndexAndMapping.getTwo().propertyKey(),
-                        propertyIndexAndMapping -> ImmutablePropertyCSR.of(
-                            relationshipsBuilder.properties(propertyIndexAndMapping.getOne()),
-                            relationshipsBuilder.globalPropertyOffsets(propertyIndexAndMapping.getOne()),
-                            relationshipCount,
-                            projection.orientation(),
-                            propertyIndexAndMapping.getTwo().defaultValue()
-                        )
-                    ));
-                relationshipProperties.put(relationshipType, propertyMap);
+        relationshipImportResult.builders().forEach((relationshipType, relationshipsBuilder) -> {
+            if (relationshipsBuilder.projection().indexRelationships()) {
+                HugeGraph
+                    .create(
+                        idsAndProperties.idMap(),
+                        Collections.emptyMap(),
+                        relationships.get(relationshipType),
+                        Optional.empty(),
+                        tracker
+                    )
+                    .indexRelationships(graphCreateConfig.readConcurrency(), loadingContext.executor());
             }
         });
 
@@ -134,11 +139,79 @@ public abstract class GraphStoreFactory<CONFIG extends GraphCreateConfig> implem
             idsAndProperties.properties(),
             relationships,
             relationshipProperties,
+            inverseRelationships,
+            inverseRelationshipProperties,
             graphCreateConfig.readConcurrency(),
             tracker
         );
     }
 
+    private void addRelationships(
+        RelationshipType relationshipType,
+        RelationshipsBuilder relationshipsBuilder,
+        long relationshipCount,
+        Map<RelationshipType, HugeGraph.TopologyCSR> relationships,
+        Map<RelationshipType, Map<String, HugeGraph.PropertyCSR>> relationshipProperties,
+        AllocationTracker tracker
+    ) {
+        AdjacencyList adjacencyList = relationshipsBuilder.adjacencyList();
+        AdjacencyOffsets adjacencyOffsets = relationshipsBuilder.globalAdjacencyOffsets();
+
+        RelationshipProjection projection = relationshipsBuilder.projection();
+
+        relationships.put(
+            relationshipType,
+            ImmutableTopologyCSR.of(
+                adjacencyList,
+                adjacencyOffsets,
+                relationshipCount,
+                projection.orientation()
+            )
+        );
+
+        PropertyMappings propertyMappings = projection.properties();
+        if (!propertyMappings.isEmpty()) {
+            Map<String, HugeGraph.PropertyCSR> propertyMap = propertyMappings
+                .enumerate()
+                .collect(Collectors.toMap(
+                    propertyIndexAndMapping -> propertyIndexAndMapping.getTwo().propertyKey(),
+                    propertyIndexAndMapping -> propertyCSR(
+                        relationshipsBuilder,
+                        propertyIndexAndMapping.getOne(),
+                        relationshipCount,
+                        propertyIndexAndMapping.getTwo().defaultValue(),
+                        tracker
+                    )
+                ));
+            relationshipProperties.put(relationshipType, propertyMap);
+        }
+    }
+
+    private HugeGraph.PropertyCSR propertyCSR(
+        RelationshipsBuilder relationshipsBuilder,
+        int propertyIndex,
+        long relationshipCount,
+        double defaultValue,
+        AllocationTracker tracker
+    ) {
+        AdjacencyOffsets offsets = relationshipsBuilder.globalPropertyOffsets(propertyIndex);
+        AdjacencyList properties = RelationshipPropertyCompressor.compress(
+            relationshipsBuilder.properties(propertyIndex),
+            offsets,
+            graphCreateConfig.relationshipPropertyCompression(),
+            graphCreateConfig.readConcurrency(),
+            loadingContext.executor(),
+            tracker
+        );
+        return ImmutablePropertyCSR.of(
+            properties,
+            offsets,
+            relationshipCount,
+            relationshipsBuilder.projection().orientation(),
+            defaultValue
+        );
+    }
+
     @ValueClass
     public interface ImportResult {
         GraphDimensions dimensions();
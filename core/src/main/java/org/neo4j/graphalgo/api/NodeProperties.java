@@ -21,9 +21,13 @@ package org.neo4j.graphalgo.api;
 
 import org.neo4j.graphalgo.core.write.PropertyTranslator;
 import org.neo4j.values.storable.NumberType;
+import org.neo4j.values.storable.Value;
+import org.neo4j.values.storable.Values;
 
 import java.util.OptionalLong;
 
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
 @FunctionalInterface
 public interface NodeProperties {
 
@@ -40,6 +44,45 @@ public interface NodeProperties {
         return nodeProperty(nodeId);
     }
 
+    /**
+     * The type of the stored values. Values of any scalar type can also be read as double.
+     */
+    default ValueType valueType() {
+        return ValueType.DOUBLE;
+    }
+
+    /**
+     * Returns the property value for a node as long, which does not lose precision for {@link ValueType#LONG} values.
+     * Nodes without a value, for which {@link #nodeProperty(long)} returns {@code NaN}, have no long value;
+     * callers check {@link #nodeProperty(long)} first.
+     */
+    default long longValue(long nodeId) {
+        return (long) nodeProperty(nodeId);
+    }
+
+    /**
+     * Returns the property value for a node as float.
+     */
+    default float floatValue(long nodeId) {
+        return (float) nodeProperty(nodeId);
+    }
+
+    /**
+     * Returns a copy of the vector of a node for {@link ValueType#DOUBLE_ARRAY} and {@link ValueType#FLOAT_ARRAY} values,
+     * or {@code null} if the node has no value.
+     */
+    default double[] doubleArrayValue(long nodeId) {
+        throw new UnsupportedOperationException(formatWithLocale("Can not read %s values as double array.", valueType()));
+    }
+
+    /**
+     * Returns a copy of the vector of a node for {@link ValueType#FLOAT_ARRAY} values,
+     * or {@code null} if the node has no value.
+     */
+    default float[] floatArrayValue(long nodeId) {
+        throw new UnsupportedOperationException(formatWithLocale("Can not read %s values as float array.", valueType()));
+    }
+
     /**
      * @return the maximum value contained in the mapping or an empty {@link OptionalLong} if the mapping is
      *         empty or the feature is not supported.
@@ -66,11 +109,38 @@ public interface NodeProperties {
 
     static PropertyTranslator<NodeProperties> translatorFor(NumberType numberType) {
         if (numberType == NumberType.FLOATING_POINT) {
-            return (PropertyTranslator.OfDouble<NodeProperties>) NodeProperties::nodeProperty;
+            return translatorFor(ValueType.DOUBLE);
         } else if (numberType == NumberType.INTEGRAL) {
-            return (PropertyTranslator.OfLong<NodeProperties>) (data, nodeId) -> (long) data.nodeProperty(nodeId);
+            return translatorFor(ValueType.LONG);
         } else {
             throw new UnsupportedOperationException("Can not provide a property translator for non-numeric types.");
         }
     }
+
+    static PropertyTranslator<NodeProperties> translatorFor(ValueType valueType) {
+        switch (valueType) {
+            case DOUBLE:
+            case FLOAT:
+                return (PropertyTranslator.OfDouble<NodeProperties>) NodeProperties::nodeProperty;
+            case LONG:
+                return new PropertyTranslator.OfLong<>() {
+                    @Override
+                    public long toLong(NodeProperties data, long nodeId) {
+                        return data.longValue(nodeId);
+                    }
+
+                    @Override
+                    public Value toProperty(int propertyId, NodeProperties data, long nodeId) {
+                        // nodes without a value are skipped, like NaN values of double properties
+                        return Double.isNaN(data.nodeProperty(nodeId)) ? null : Values.longValue(data.longValue(nodeId));
+                    }
+                };
+            case DOUBLE_ARRAY:
+                return (PropertyTranslator.OfDoubleArray<NodeProperties>) NodeProperties::doubleArrayValue;
+            case FLOAT_ARRAY:
+                return (PropertyTranslator.OfFloatArray<NodeProperties>) NodeProperties::floatArrayValue;
+            default:
+                throw new UnsupportedOperationException(formatWithLocale("Can not provide a property translator for %s values.", valueType));
+        }
+    }
 }
@@ -23,6 +23,8 @@ import org.neo4j.graphalgo.NodeLabel;
 
 import java.util.Map;
 
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
 public class UnionNodeProperties implements NodeProperties {
 
     private final NodeMapping nodeMapping;
@@ -34,22 +36,67 @@ public class UnionNodeProperties implements NodeProperties {
         this.labelToNodePropertiesMap = labelToNodePropertiesMap;
     }
 
+    @Override
+    public ValueType valueType() {
+        ValueType valueType = null;
+        for (NodeProperties nodeProperties : labelToNodePropertiesMap.values()) {
+            if (valueType == null) {
+                valueType = nodeProperties.valueType();
+            } else if (valueType != nodeProperties.valueType()) {
+                // the labels store different types, which can only be combined as numbers
+                return ValueType.DOUBLE;
+            }
+        }
+        return valueType == null ? ValueType.DOUBLE : valueType;
+    }
+
     @Override
     public double nodeProperty(long nodeId) {
+        NodeProperties nodeProperties = propertiesFor(nodeId);
+        return nodeProperties == null ? Double.NaN : nodeProperties.nodeProperty(nodeId);
+    }
+
+    @Override
+    public long longValue(long nodeId) {
+        NodeProperties nodeProperties = propertiesFor(nodeId);
+        if (nodeProperties == null) {
+            throw new IllegalStateException(formatWithLocale("Node %d has no value for any of its labels.", nodeId));
+        }
+        return nodeProperties.longValue(nodeId);
+    }
+
+    @Override
+    public float floatValue(long nodeId) {
+        NodeProperties nodeProperties = propertiesFor(nodeId);
+        return nodeProperties == null ? Float.NaN : nodeProperties.floatValue(nodeId);
+    }
+
+    @Override
+    public double[] doubleArrayValue(long nodeId) {
+        NodeProperties nodeProperties = propertiesFor(nodeId);
+        return nodeProperties == null ? null : nodeProperties.doubleArrayValue(nodeId);
+    }
+
+    @Override
+    public float[] floatArrayValue(long nodeId) {
+        NodeProperties nodeProperties = propertiesFor(nodeId);
+        return nodeProperties == null ? null : nodeProperties.floatArrayValue(nodeId);
+    }
+
+    private NodeProperties propertiesFor(long nodeId) {
         for (NodeLabel label : nodeMapping.availableNodeLabels()) {
             if (nodeMapping.hasLabel(nodeId, label)) {
                 NodeProperties nodeProperties = labelToNodePropertiesMap.get(label);
                 if (nodeProperties != null) {
-                    // This returns the property value for the first label that has the property.
+                    // This returns the properties of the first label that has the property.
                     // If there are multiple labels with the same property key, but different values,
                     // this might lead to issues.
                     // TODO: find out if this is an actual problem
-                    return nodeProperties.nodeProperty(nodeId);
+                    return nodeProperties;
                 }
             }
         }
-
-        return Double.NaN;
+        return null;
     }
 
     @Override
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.api;
+
+import org.neo4j.values.storable.NumberType;
+
+/**
+ * The type of the values of {@link NodeProperties}, which determines the accessor that returns them without conversion.
+ */
+public enum ValueType {
+    /**
+     * Values are read with {@link NodeProperties#nodeProperty(long)}.
+     */
+    DOUBLE(NumberType.FLOATING_POINT),
+    /**
+     * Values are read with {@link NodeProperties#longValue(long)}.
+     */
+    LONG(NumberType.INTEGRAL),
+    /**
+     * Values are read with {@link NodeProperties#floatValue(long)}.
+     */
+    FLOAT(NumberType.FLOATING_POINT),
+    /**
+     * Values are read with {@link NodeProperties#doubleArrayValue(long)}.
+     */
+    DOUBLE_ARRAY(NumberType.NO_NUMBER),
+    /**
+     * Values are read with {@link NodeProperties#floatArrayValue(long)}.
+     */
+    FLOAT_ARRAY(NumberType.NO_NUMBER);
+
+    private final NumberType numberType;
+
+    ValueType(NumberType numberType) {
+        this.numberType = numberType;
+    }
+
+    public NumberType numberType() {
+        return numberType;
+    }
+
+    public boolean isArray() {
+        return numberType == NumberType.NO_NUMBER;
+    }
+}
@@ -23,6 +23,8 @@ import org.immutables.value.Value;
 import org.neo4j.graphalgo.annotation.Configuration;
 import org.neo4j.graphalgo.api.GraphStoreFactory;
 import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphalgo.core.huge.AdjacencyEncoding;
+import org.neo4j.graphalgo.core.loading.RelationshipPropertyCompression;
 import org.neo4j.graphalgo.core.utils.TimeUtil;
 
 import java.time.ZonedDateTime;
@@ -73,6 +75,20 @@ public interface GraphCreateConfig extends BaseConfig {
         return false;
     }
 
+    @Value.Default
+    @Value.Parameter(false)
+    @Configuration.ConvertWith("org.neo4j.graphalgo.core.huge.AdjacencyEncoding#parse")
+    default AdjacencyEncoding adjacencyCompression() {
+        return AdjacencyEncoding.VAR_LONG;
+    }
+
+    @Value.Default
+    @Value.Parameter(false)
+    @Configuration.ConvertWith("org.neo4j.graphalgo.core.loading.RelationshipPropertyCompression#parse")
+    default RelationshipPropertyCompression relationshipPropertyCompression() {
+        return RelationshipPropertyCompression.NONE;
+    }
+
     @Configuration.Ignore
     GraphStoreFactory.Supplier graphStoreFactory();
 
@@ -50,6 +50,8 @@ public interface GraphCreateFromCypherConfig extends GraphCreateConfig {
     String ALL_NODES_QUERY = "MATCH (n) RETURN id(n) AS id";
     String ALL_RELATIONSHIPS_QUERY = "MATCH (a)-->(b) RETURN id(a) AS source, id(b) AS target";
     String ALL_RELATIONSHIPS_UNDIRECTED_QUERY = "MATCH (a)--(b) RETURN id(a) AS source, id(b) AS target";
+    String PARTITION_PARAMETER = "partition";
+    String PARTITION_COUNT_PARAMETER = "partitionCount";
 
     @Configuration.ConvertWith("org.apache.commons.lang3.StringUtils#trimToNull")
     String nodeQuery();
@@ -62,6 +64,17 @@ public interface GraphCreateFromCypherConfig extends GraphCreateConfig {
         return Collections.emptyMap();
     }
 
+    /**
+     * Number of partitions the node and relationship queries are split into.
+     * If greater than one, each query is executed once per partition in its own transaction
+     * and the partitions are consumed concurrently. The queries receive the parameters
+     * {@code $partition} and {@code $partitionCount} and must return disjoint rows for each partition.
+     */
+    @Value.Default
+    default int partitionCount() {
+        return 1;
+    }
+
     @Override
     @Value.Default
     @Value.Parameter(false)
@@ -82,6 +95,27 @@ public interface GraphCreateFromCypherConfig extends GraphCreateConfig {
         return true;
     }
 
+    @Value.Check
+    default void validatePartitionCount() {
+        if (partitionCount() < 1) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Parameter `%s` must be at least 1, but was %d.",
+                PARTITION_COUNT_PARAMETER,
+                partitionCount()
+            ));
+        }
+        if (partitionCount() > 1) {
+            for (String reservedParameter : Arrays.asList(PARTITION_PARAMETER, PARTITION_COUNT_PARAMETER)) {
+                if (parameters().containsKey(reservedParameter)) {
+                    throw new IllegalArgumentException(formatWithLocale(
+                        "Query parameter `%s` is reserved for partitioned Cypher projections.",
+                        reservedParameter
+                    ));
+                }
+            }
+        }
+    }
+
     static GraphCreateFromCypherConfig of(
         String userName,
         String graphName,
@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.concurrency;
+
+import org.jetbrains.annotations.TestOnly;
+import org.neo4j.graphalgo.core.utils.mem.GcListenerExtension;
+import org.neo4j.graphalgo.core.utils.mem.MemoryUsage;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Admits jobs based on their estimated memory and the number of threads they want to use.
+ *
+ * Admitted jobs reserve their estimated memory until their {@link Reservation} is closed.
+ * A job that can never fit into the currently free memory is rejected immediately, a job
+ * that does not fit next to the already admitted jobs is queued until enough memory has been
+ * released or until its maximum waiting time has passed.
+ *
+ * Interactive jobs are always admitted before queued batch jobs. Batch jobs are additionally
+ * queued until the threads they asked for are not reserved by other jobs. Every job runs with
+ * the concurrency it asked for, a job that is alone in the system is always admitted.
+ *
+ * Reservations belong to the thread that admitted them. A thread never waits for its own
+ * reservations, since it could not release them while waiting, and its jobs are not queued
+ * behind jobs of other threads that might be waiting for it.
+ *
+ * The free memory is the one observed after the last garbage collection, which already
+ * includes allocations of running jobs. Reservations are therefore pessimistic and can lead
+ * to rejecting jobs that would have fit.
+ */
+public final class AdmissionController {
+
+    public enum JobPriority {
+        INTERACTIVE,
+        BATCH
+    }
+
+    private static final long WAIT_SLICE_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private static AdmissionController INSTANCE;
+
+    public static synchronized AdmissionController instance() {
+        if (INSTANCE == null) {
+            INSTANCE = new AdmissionController(Pools::corePoolSize, GcListenerExtension::freeMemory);
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * Drops the shared instance, so that reservations that have not been released do not outlive a test.
+     */
+    @TestOnly
+    public static synchronized void resetInstance() {
+        INSTANCE = null;
+    }
+
+    private final IntSupplier threads;
+    private final LongSupplier freeMemory;
+    private final Consumer<String> onQueued;
+
+    private final ReentrantLock lock;
+    private final Condition released;
+    private final Map<JobPriority, Deque<Object>> waiting;
+    private final Map<Thread, Holdings> holdings;
+
+    private long reservedBytes;
+    private int reservedThreads;
+    private int admittedJobs;
+
+    AdmissionController(IntSupplier threads, LongSupplier freeMemory) {
+        this(threads, freeMemory, jobName -> {});
+    }
+
+    /**
+     * @param onQueued called with the name of every job that cannot be admitted immediately, before it starts waiting
+     */
+    AdmissionController(IntSupplier threads, LongSupplier freeMemory, Consumer<String> onQueued) {
+        this.threads = threads;
+        this.freeMemory = freeMemory;
+        this.onQueued = onQueued;
+        this.lock = new ReentrantLock();
+        this.released = lock.newCondition();
+        this.waiting = new EnumMap<>(JobPriority.class);
+        for (JobPriority priority : JobPriority.values()) {
+            waiting.put(priority, new ArrayDeque<>());
+        }
+        this.holdings = new HashMap<>();
+    }
+
+    /**
+     * Blocks until the job can be admitted and reserves its memory and threads.
+     *
+     * @throws IllegalStateException if the job does not fit into the free memory at all
+     *                               or has not been admitted within {@code maxWait}
+     */
+    public Reservation admit(
+        String jobName,
+        JobPriority priority,
+        long bytes,
+        int concurrency,
+        Duration maxWait
+    ) {
+        long free = freeMemory.getAsLong();
+        if (bytes > free) {
+            throw new IllegalStateException(formatWithLocale(
+                "Job `%s` was rejected since its estimated memory (%s) exceeds the current free memory (%s).",
+                jobName,
+                MemoryUsage.humanReadable(bytes),
+                MemoryUsage.humanReadable(free)
+            ));
+        }
+
+        Object ticket = new Object();
+        Thread owner = Thread.currentThread();
+        Deque<Object> queue = waiting.get(priority);
+        long startNanos = System.nanoTime();
+        long remainingNanos = maxWait.toNanos();
+
+        lock.lock();
+        try {
+            queue.addLast(ticket);
+            boolean queued = !canAdmit(ticket, priority, bytes, concurrency, owner);
+            if (queued) {
+                onQueued.accept(jobName);
+            }
+            while (!canAdmit(ticket, priority, bytes, concurrency, owner)) {
+                if (remainingNanos <= 0L) {
+                    throw new IllegalStateException(formatWithLocale(
+                        "Job `%s` was rejected since its estimated memory (%s) and concurrency (%d) did not become available within %s. " +
+                        "Reserved by %d running job(s): %s and %d thread(s), current free memory: %s.",
+                        jobName,
+                        MemoryUsage.humanReadable(bytes),
+                        concurrency,
+                        maxWait,
+                        admittedJobs,
+                        MemoryUsage.humanReadable(reservedBytes),
+                        reservedThreads,
+                        MemoryUsage.humanReadable(freeMemory.getAsLong())
+                    ));
+                }
+                long waitNanos = Math.min(remainingNanos, WAIT_SLICE_NANOS);
+                remainingNanos -= waitNanos - released.awaitNanos(waitNanos);
+            }
+
+            reservedBytes += bytes;
+            reservedThreads += concurrency;
+            admittedJobs++;
+            holdings.merge(owner, new Holdings(1, concurrency), Holdings::add);
+            Duration waited = queued ? Duration.ofNanos(System.nanoTime() - startNanos) : Duration.ZERO;
+            return new Reservation(owner, bytes, concurrency, waited);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(formatWithLocale("Job `%s` was interrupted while waiting for admission.", jobName), e);
+        } finally {
+            queue.remove(ticket);
+            // the next job in line may be admissible now
+            released.signalAll();
+            lock.unlock();
+        }
+    }
+
+    private boolean canAdmit(Object ticket, JobPriority priority, long bytes, int concurrency, Thread owner) {
+        Holdings own = holdings.getOrDefault(owner, Holdings.NONE);
+        // the jobs of a thread that already holds reservations are not queued behind jobs that might wait for it
+        boolean nested = own.jobs > 0;
+        if (!nested && waiting.get(priority).peekFirst() != ticket) {
+            return false;
+        }
+        if (!nested && priority == JobPriority.BATCH && !waiting.get(JobPriority.INTERACTIVE).isEmpty()) {
+            return false;
+        }
+        if (admittedJobs == own.jobs) {
+            return true;
+        }
+        // a batch job only waits for threads that are reserved by jobs of other threads
+        if (priority == JobPriority.BATCH && reservedThreads - own.threads + concurrency > threads.getAsInt()) {
+            return false;
+        }
+        return bytes <= freeMemory.getAsLong() - reservedBytes;
+    }
+
+    long reservedBytes() {
+        lock.lock();
+        try {
+            return reservedBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int reservedThreads() {
+        lock.lock();
+        try {
+            return reservedThreads;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(Reservation reservation) {
+        lock.lock();
+        try {
+            reservedBytes -= reservation.bytes;
+            reservedThreads -= reservation.concurrency;
+            admittedJobs--;
+            holdings.computeIfPresent(
+                reservation.owner,
+                (owner, held) -> held.jobs == 1 ? null : held.add(new Holdings(-1, -reservation.concurrency))
+            );
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public final class Reservation implements AutoCloseable {
+        private final Thread owner;
+        private final long bytes;
+        private final int concurrency;
+        private final Duration waited;
+        private boolean closed;
+
+        private Reservation(Thread owner, long bytes, int concurrency, Duration waited) {
+            this.owner = owner;
+            this.bytes = bytes;
+            this.concurrency = concurrency;
+            this.waited = waited;
+        }
+
+        public long bytes() {
+            return bytes;
+        }
+
+        public int concurrency() {
+            return concurrency;
+        }
+
+        /**
+         * The time the job spent waiting for admission, zero if it has been admitted immediately.
+         */
+        public Duration waited() {
+            return waited;
+        }
+
+        @Override
+        public synchronized void close() {
+            if (!closed) {
+                closed = true;
+                release(this);
+            }
+        }
+    }
+
+    private static final class Holdings {
+        static final Holdings NONE = new Holdings(0, 0);
+
+        final int jobs;
+        final int threads;
+
+        Holdings(int jobs, int threads) {
+            this.jobs = jobs;
+            this.threads = threads;
+        }
+
+        Holdings add(Holdings other) {
+            return new Holdings(jobs + other.jobs, threads + other.threads);
+        }
+    }
+}
@@ -27,12 +27,16 @@ import org.neo4j.graphalgo.core.utils.BitUtil;
 import org.neo4j.graphalgo.core.utils.LazyMappingCollection;
 import org.neo4j.graphalgo.core.utils.TerminationFlag;
 import org.neo4j.graphalgo.core.utils.collection.primitive.PrimitiveLongIterable;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.partition.Partition;
+import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
 import org.neo4j.graphalgo.utils.ExceptionUtil;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.Set;
@@ -57,7 +61,6 @@ import java.util.function.IntConsumer;
 import java.util.function.LongConsumer;
 import java.util.function.Supplier;
 import java.util.stream.BaseStream;
-import java.util.stream.LongStream;
 
 import static org.neo4j.graphalgo.utils.ExceptionUtil.throwIfUnchecked;
 import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
@@ -98,10 +101,24 @@ public final class ParallelUtil {
         });
     }
 
-    public static void parallelForEachNode(Graph graph, int concurrency, LongConsumer consumer) {
-        parallelStreamConsume(LongStream.range(0, graph.nodeCount()), concurrency, (stream) -> {
-            stream.forEach(consumer);
-        });
+    /**
+     * Runs the consumer for every node of the graph, using degree-balanced partitions
+     * that are distributed among the threads of a FJ pool of the requested size.
+     */
+    public static void parallelForEachNode(
+        Graph graph,
+        int concurrency,
+        ExecutorService executor,
+        AllocationTracker tracker,
+        LongConsumer consumer
+    ) {
+        List<Partition> partitions = PartitionUtils.degreeBalancedPartitions(graph, concurrency, executor, tracker);
+        parallelStreamConsume(partitions.stream(), concurrency, (stream) -> stream.forEach(partition -> {
+            long end = partition.startNode + partition.nodeCount;
+            for (long nodeId = partition.startNode; nodeId < end; nodeId++) {
+                consumer.accept(nodeId);
+            }
+        }));
     }
 
     /**
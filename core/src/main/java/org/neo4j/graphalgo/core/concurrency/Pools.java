@@ -46,13 +46,8 @@ public final class Pools {
     }
 
     static ExecutorService createDefaultPool() {
-        int corePoolSize, maxPoolSize;
-        if (ConcurrencyMonitor.instance().isUnlimited()) {
-            corePoolSize = Runtime.getRuntime().availableProcessors();
-            maxPoolSize = corePoolSize * 2;
-        } else {
-            corePoolSize = maxPoolSize = CONCURRENCY_LIMITATION;
-        }
+        int corePoolSize = corePoolSize();
+        int maxPoolSize = ConcurrencyMonitor.instance().isUnlimited() ? corePoolSize * 2 : corePoolSize;
 
         return new ThreadPoolExecutor(
             corePoolSize,
@@ -65,6 +60,16 @@ public final class Pools {
         );
     }
 
+    /**
+     * The number of threads the default pool keeps alive, which is also the number of
+     * threads that jobs can expect to run on concurrently.
+     */
+    public static int corePoolSize() {
+        return ConcurrencyMonitor.instance().isUnlimited()
+            ? Runtime.getRuntime().availableProcessors()
+            : CONCURRENCY_LIMITATION;
+    }
+
     public static ExecutorService createDefaultSingleThreadPool() {
         return Executors.newSingleThreadExecutor(NamedThreadFactory.daemon("algo"));
     }
@@ -23,18 +23,22 @@ import org.neo4j.graphalgo.core.loading.MutableIntValue;
 
 import java.util.Arrays;
 
-import static org.neo4j.graphalgo.core.huge.VarLongDecoding.decodeDeltaVLongs;
-
 final class AdjacencyDecompressingReader {
 
-    private static final int CHUNK_SIZE = 64;
+    static final int CHUNK_SIZE = AdjacencyEncoding.BLOCK_SIZE;
 
+    private final AdjacencyEncoding encoding;
     private final long[] block;
     private int pos;
     private byte[] array;
     private int offset;
 
     AdjacencyDecompressingReader() {
+        this(AdjacencyEncoding.VAR_LONG);
+    }
+
+    AdjacencyDecompressingReader(AdjacencyEncoding encoding) {
+        this.encoding = encoding;
         this.block = new long[CHUNK_SIZE];
     }
 
@@ -70,7 +74,7 @@ final class AdjacencyDecompressingReader {
     int reset(byte[] adjacencyPage, int offset) {
         this.array = adjacencyPage;
         int numAdjacencies = readInt(adjacencyPage, offset); // offset should not be 0
-        this.offset = decodeDeltaVLongs(0L, adjacencyPage, Integer.BYTES + offset, Math.min(numAdjacencies, CHUNK_SIZE), block);
+        this.offset = encoding.decodeBlock(0L, adjacencyPage, Integer.BYTES + offset, Math.min(numAdjacencies, CHUNK_SIZE), block);
         pos = 0;
         return numAdjacencies;
     }
@@ -83,9 +87,28 @@ final class AdjacencyDecompressingReader {
         return readNextBlock(remaining);
     }
 
+    long[] block() {
+        return block;
+    }
+
+    /**
+     * Returns the position of the next target in {@link #block()}, decoding the next block if the current one is consumed.
+     */
+    int blockPosition(int remaining) {
+        if (pos >= CHUNK_SIZE) {
+            offset = encoding.decodeBlock(block[CHUNK_SIZE - 1], array, offset, Math.min(remaining, CHUNK_SIZE), block);
+            pos = 0;
+        }
+        return pos;
+    }
+
+    void consume(int count) {
+        pos += count;
+    }
+
     private long readNextBlock(int remaining) {
         pos = 1;
-        offset = decodeDeltaVLongs(block[CHUNK_SIZE - 1], array, offset, Math.min(remaining, CHUNK_SIZE), block);
+        offset = encoding.decodeBlock(block[CHUNK_SIZE - 1], array, offset, Math.min(remaining, CHUNK_SIZE), block);
         return block[0];
     }
 
@@ -98,7 +121,7 @@ final class AdjacencyDecompressingReader {
         while (available > CHUNK_SIZE - pos && block[CHUNK_SIZE - 1] <= target) {
             int skippedInThisBlock = CHUNK_SIZE - pos;
             int needToDecode = Math.min(CHUNK_SIZE, available - skippedInThisBlock);
-            offset = decodeDeltaVLongs(block[CHUNK_SIZE - 1], array, offset, needToDecode, block);
+            offset = encoding.decodeBlock(block[CHUNK_SIZE - 1], array, offset, needToDecode, block);
             available -= skippedInThisBlock;
             pos = 0;
         }
@@ -125,7 +148,7 @@ final class AdjacencyDecompressingReader {
         while (available > CHUNK_SIZE - pos && block[CHUNK_SIZE - 1] < target) {
             int skippedInThisBlock = CHUNK_SIZE - pos;
             int needToDecode = Math.min(CHUNK_SIZE, available - skippedInThisBlock);
-            offset = decodeDeltaVLongs(block[CHUNK_SIZE - 1], array, offset, needToDecode, block);
+            offset = encoding.decodeBlock(block[CHUNK_SIZE - 1], array, offset, needToDecode, block);
             available -= skippedInThisBlock;
             pos = 0;
         }
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.huge;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * The encoding of the sorted and delta-encoded targets of compressed adjacency lists.
+ * Both encodings store the targets in blocks of {@link #BLOCK_SIZE}, which are decoded as a whole.
+ */
+public enum AdjacencyEncoding {
+    /**
+     * Every delta is stored as a variable-length long with 7 bits per byte.
+     */
+    VAR_LONG {
+        @Override
+        int decodeBlock(long startValue, byte[] page, int offset, int length, long[] out) {
+            return VarLongDecoding.decodeDeltaVLongs(startValue, page, offset, length, out);
+        }
+    },
+    /**
+     * The first delta of a block is stored as a variable-length long,
+     * the remaining deltas are bit-packed using the bit width of the largest of them.
+     */
+    PACKED {
+        @Override
+        int decodeBlock(long startValue, byte[] page, int offset, int length, long[] out) {
+            return BitPackedDecoding.decodeDeltaBlock(startValue, page, offset, length, out);
+        }
+    };
+
+    public static final int BLOCK_SIZE = 64;
+
+    /**
+     * Decodes {@code length} targets of the block starting at {@code offset} into {@code out}
+     * and returns the offset after the block.
+     *
+     * @param startValue the last target of the previous block or 0 for the first block
+     */
+    abstract int decodeBlock(long startValue, byte[] page, int offset, int length, long[] out);
+
+    public static AdjacencyEncoding of(String value) {
+        try {
+            return AdjacencyEncoding.valueOf(value.toUpperCase(Locale.ENGLISH));
+        } catch (IllegalArgumentException e) {
+            String availableEncodings = Arrays
+                .stream(AdjacencyEncoding.values())
+                .map(AdjacencyEncoding::name)
+                .collect(Collectors.joining(", "));
+            throw new IllegalArgumentException(formatWithLocale(
+                "Adjacency compression `%s` is not supported. Must be one of: %s.",
+                value,
+                availableEncodings
+            ));
+        }
+    }
+
+    public static AdjacencyEncoding parse(Object object) {
+        if (object == null) {
+            return null;
+        }
+        if (object instanceof String) {
+            return of((String) object);
+        }
+        if (object instanceof AdjacencyEncoding) {
+            return (AdjacencyEncoding) object;
+        }
+        return null;
+    }
+}
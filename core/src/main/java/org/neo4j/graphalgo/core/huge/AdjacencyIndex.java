@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.huge;
+
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.mem.MemoryRange;
+import org.neo4j.graphalgo.core.utils.mem.MemoryUsage;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static org.neo4j.graphalgo.core.huge.AdjacencyDecompressingReader.CHUNK_SIZE;
+import static org.neo4j.graphalgo.core.utils.BitUtil.ceilDiv;
+import static org.neo4j.graphalgo.core.utils.paged.PageUtil.indexInPage;
+import static org.neo4j.graphalgo.core.utils.paged.PageUtil.pageIndex;
+
+/**
+ * A skip index over the compressed adjacency lists of high-degree nodes.
+ * <p>
+ * Targets are sorted and delta-encoded in chunks of {@value AdjacencyDecompressingReader#CHUNK_SIZE}.
+ * For every chunk, the index stores the value preceding the chunk together with the position
+ * of the chunk in its adjacency page, so that each chunk can be decoded on its own.
+ * Finding a target is a binary search over the chunks followed by a binary search within a
+ * single decoded chunk, instead of decoding the whole adjacency list.
+ * <p>
+ * The index is built for all nodes by {@link HugeGraph#indexRelationships(int, java.util.concurrent.ExecutorService)},
+ * which the loader calls for relationship projections with {@code indexRelationships} set.
+ * It is shared by all concurrent copies of a graph; lookups need a per-thread buffer, see {@link #newBuffer()}.
+ */
+public final class AdjacencyIndex {
+
+    /**
+     * Adjacency lists with fewer targets are scanned linearly.
+     */
+    static final int DEGREE_THRESHOLD = 4 * CHUNK_SIZE;
+
+    static final int NOT_FOUND = -1;
+
+    private static final int PAGE_SHIFT = 12;
+    private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final long PAGE_MASK = PAGE_SIZE - 1;
+
+    private final byte[][] adjacencyPages;
+    private final AdjacencyEncoding encoding;
+    private final AdjacencyOffsets offsets;
+    private final AtomicReferenceArray<AtomicReferenceArray<long[]>> pages;
+    private final AtomicLong memoryUsage;
+    private final AllocationTracker tracker;
+
+    AdjacencyIndex(AdjacencyList adjacencyList, AdjacencyOffsets offsets, long nodeCount, AllocationTracker tracker) {
+        this.adjacencyPages = adjacencyList.pages();
+        this.encoding = adjacencyList.encoding();
+        this.offsets = offsets;
+        int pageCount = Math.toIntExact(ceilDiv(nodeCount, PAGE_SIZE));
+        this.pages = new AtomicReferenceArray<>(pageCount);
+        this.memoryUsage = new AtomicLong(MemoryUsage.sizeOfObjectArray(pageCount));
+        this.tracker = tracker;
+        tracker.add(memoryUsage.get());
+    }
+
+    /**
+     * The upper bound assumes that all relationships belong to nodes above the {@link #DEGREE_THRESHOLD}.
+     */
+    public static MemoryEstimation memoryEstimation(RelationshipType relationshipType, boolean undirected) {
+        return MemoryEstimations
+            .builder(AdjacencyIndex.class)
+            .rangePerGraphDimension("entries", (dimensions, concurrency) -> {
+                long nodeCount = dimensions.nodeCount();
+                long relCountForType = dimensions.relationshipCounts().getOrDefault(relationshipType, dimensions.maxRelCount());
+                long relCount = undirected ? relCountForType * 2 : relCountForType;
+
+                long pageCount = ceilDiv(nodeCount, PAGE_SIZE);
+                long maxIndexedNodes = Math.min(nodeCount, relCount / DEGREE_THRESHOLD);
+                long maxIndexedPages = Math.min(pageCount, maxIndexedNodes);
+
+                long pagesWrapper = MemoryUsage.sizeOfObjectArray(pageCount);
+                long pages = maxIndexedPages * MemoryUsage.sizeOfObjectArray(PAGE_SIZE);
+                long entries = maxIndexedNodes * MemoryUsage.sizeOfLongArray(0)
+                               + 2L * Long.BYTES * (ceilDiv(relCount, CHUNK_SIZE) + maxIndexedNodes);
+
+                return MemoryRange.of(pagesWrapper, pagesWrapper + pages + entries);
+            })
+            .build();
+    }
+
+    static long[] newBuffer() {
+        return new long[CHUNK_SIZE];
+    }
+
+    /**
+     * Returns the position of the first occurrence of {@code targetId} within the adjacency list of {@code nodeId},
+     * or {@link #NOT_FOUND} if there is no such relationship.
+     */
+    int indexOf(long nodeId, long targetId, long[] buffer) {
+        long offset = offsets.get(nodeId);
+        if (offset == 0L) {
+            return NOT_FOUND;
+        }
+        byte[] page = adjacencyPages[pageIndex(offset, AdjacencyList.PAGE_SHIFT)];
+        int offsetInPage = indexInPage(offset, AdjacencyList.PAGE_MASK);
+        int degree = AdjacencyDecompressingReader.readInt(page, offsetInPage);
+        long[] entries = entries(nodeId, page, offsetInPage, degree, buffer);
+
+        // the last chunk whose preceding value is smaller than the target contains its first occurrence, if any
+        int chunk = 0;
+        int low = 1;
+        int high = entries.length / 2 - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (entries[2 * mid] < targetId) {
+                chunk = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        int length = decodeChunk(page, entries, chunk, degree, buffer);
+        int position = lowerBound(buffer, length, targetId);
+        if (position < length && buffer[position] == targetId) {
+            return chunk * CHUNK_SIZE + position;
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Returns the target at the given position within the adjacency list of {@code nodeId}.
+     * The position must be smaller than the degree of the node.
+     */
+    long targetAt(long nodeId, int index, long[] buffer) {
+        long offset = offsets.get(nodeId);
+        byte[] page = adjacencyPages[pageIndex(offset, AdjacencyList.PAGE_SHIFT)];
+        int offsetInPage = indexInPage(offset, AdjacencyList.PAGE_MASK);
+        int degree = AdjacencyDecompressingReader.readInt(page, offsetInPage);
+        long[] entries = entries(nodeId, page, offsetInPage, degree, buffer);
+
+        int chunk = index / CHUNK_SIZE;
+        decodeChunk(page, entries, chunk, degree, buffer);
+        return buffer[index % CHUNK_SIZE];
+    }
+
+    /**
+     * Builds the entries of the given node if it is above the {@link #DEGREE_THRESHOLD}.
+     */
+    void index(long nodeId, long[] buffer) {
+        long offset = offsets.get(nodeId);
+        if (offset == 0L) {
+            return;
+        }
+        byte[] page = adjacencyPages[pageIndex(offset, AdjacencyList.PAGE_SHIFT)];
+        int offsetInPage = indexInPage(offset, AdjacencyList.PAGE_MASK);
+        int degree = AdjacencyDecompressingReader.readInt(page, offsetInPage);
+        if (degree >= DEGREE_THRESHOLD) {
+            entries(nodeId, page, offsetInPage, degree, buffer);
+        }
+    }
+
+    long release() {
+        long freed = memoryUsage.getAndSet(0L);
+        tracker.remove(freed);
+        return freed;
+    }
+
+    private long[] entries(long nodeId, byte[] adjacencyPage, int offsetInPage, int degree, long[] buffer) {
+        int pageIndex = pageIndex(nodeId, PAGE_SHIFT);
+        AtomicReferenceArray<long[]> page = pages.get(pageIndex);
+        if (page == null) {
+            page = new AtomicReferenceArray<>(PAGE_SIZE);
+            if (pages.compareAndSet(pageIndex, null, page)) {
+                track(MemoryUsage.sizeOfObjectArray(PAGE_SIZE));
+            } else {
+                page = pages.get(pageIndex);
+            }
+        }
+
+        int indexInPage = indexInPage(nodeId, PAGE_MASK);
+        long[] entries = page.get(indexInPage);
+        if (entries == null) {
+            entries = computeEntries(adjacencyPage, offsetInPage, degree, buffer);
+            if (page.compareAndSet(indexInPage, null, entries)) {
+                track(MemoryUsage.sizeOfLongArray(entries.length));
+            } else {
+                entries = page.get(indexInPage);
+            }
+        }
+        return entries;
+    }
+
+    private void track(long bytes) {
+        memoryUsage.addAndGet(bytes);
+        tracker.add(bytes);
+    }
+
+    private long[] computeEntries(byte[] page, int offsetInPage, int degree, long[] buffer) {
+        int chunkCount = (int) ceilDiv(degree, CHUNK_SIZE);
+        long[] entries = new long[2 * chunkCount];
+        long previousValue = 0L;
+        int position = offsetInPage + Integer.BYTES;
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            int length = Math.min(CHUNK_SIZE, degree - chunk * CHUNK_SIZE);
+            entries[2 * chunk] = previousValue;
+            entries[2 * chunk + 1] = position;
+            position = encoding.decodeBlock(previousValue, page, position, length, buffer);
+            previousValue = buffer[length - 1];
+        }
+        return entries;
+    }
+
+    private int decodeChunk(byte[] page, long[] entries, int chunk, int degree, long[] buffer) {
+        int length = Math.min(CHUNK_SIZE, degree - chunk * CHUNK_SIZE);
+        encoding.decodeBlock(entries[2 * chunk], page, (int) entries[2 * chunk + 1], length, buffer);
+        return length;
+    }
+
+    private static int lowerBound(long[] values, int length, long value) {
+        int low = 0;
+        int high = length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -28,6 +28,8 @@ import org.neo4j.graphalgo.core.utils.mem.MemoryUsage;
 import org.neo4j.graphalgo.core.utils.paged.PageUtil;
 
 import static org.neo4j.graphalgo.RelationshipType.ALL_RELATIONSHIPS;
+import static org.neo4j.graphalgo.core.huge.AdjacencyEncoding.BLOCK_SIZE;
+import static org.neo4j.graphalgo.core.huge.AdjacencyDecompressingReader.CHUNK_SIZE;
 import static org.neo4j.graphalgo.core.loading.VarLongEncoding.encodedVLongSize;
 import static org.neo4j.graphalgo.core.utils.BitUtil.ceilDiv;
 import static org.neo4j.graphalgo.core.utils.paged.PageUtil.indexInPage;
@@ -39,22 +41,38 @@ public final class AdjacencyList {
     public static final int PAGE_SIZE = 1 << PAGE_SHIFT;
     public static final long PAGE_MASK = PAGE_SIZE - 1;
 
-    private final long allocatedMemory;
+    private final AdjacencyEncoding encoding;
+    private final PropertyEncoding propertyEncoding;
     private byte[][] pages;
 
     public static MemoryEstimation compressedMemoryEstimation(long avgDegree, long nodeCount) {
+        return compressedMemoryEstimation(avgDegree, nodeCount, AdjacencyEncoding.VAR_LONG);
+    }
+
+    public static MemoryEstimation compressedMemoryEstimation(long avgDegree, long nodeCount, AdjacencyEncoding encoding) {
         // Best case scenario:
         // Difference between node identifiers in each adjacency list is 1.
         // This leads to ideal compression through delta encoding.
         int deltaBestCase = 1;
-        long bestCaseAdjacencySize = computeAdjacencyByteSize(avgDegree, nodeCount, deltaBestCase);
-
-        // Worst case scenario:
-        // Relationships are equally distributed across nodes, i.e. each node has the same number of rels.
-        // Within each adjacency list, all identifiers have the highest possible difference between each other.
-        // Highest possible difference is the number of nodes divided by the average degree.
-        long deltaWorstCase = (avgDegree > 0) ? ceilDiv(nodeCount, avgDegree) : 0L;
-        long worstCaseAdjacencySize = computeAdjacencyByteSize(avgDegree, nodeCount, deltaWorstCase);
+        long bestCaseAdjacencySize;
+        long worstCaseAdjacencySize;
+
+        if (encoding == AdjacencyEncoding.PACKED) {
+            bestCaseAdjacencySize = computePackedAdjacencyByteSize(avgDegree, nodeCount, deltaBestCase);
+            // Worst case scenario:
+            // A block is packed with the bit width of its largest delta, which is at most the number of nodes.
+            // An evenly distributed delta is therefore not an upper bound.
+            long maxDeltaWorstCase = Math.max(1L, nodeCount - 1);
+            worstCaseAdjacencySize = computePackedAdjacencyByteSize(avgDegree, nodeCount, maxDeltaWorstCase);
+        } else {
+            bestCaseAdjacencySize = computeAdjacencyByteSize(avgDegree, nodeCount, deltaBestCase);
+            // Worst case scenario:
+            // Relationships are equally distributed across nodes, i.e. each node has the same number of rels.
+            // Within each adjacency list, all identifiers have the highest possible difference between each other.
+            // Highest possible difference is the number of nodes divided by the average degree.
+            long deltaWorstCase = (avgDegree > 0) ? ceilDiv(nodeCount, avgDegree) : 0L;
+            worstCaseAdjacencySize = computeAdjacencyByteSize(avgDegree, nodeCount, deltaWorstCase);
+        }
 
         int minPages = PageUtil.numPagesFor(bestCaseAdjacencySize, PAGE_SHIFT, PAGE_MASK);
         int maxPages = PageUtil.numPagesFor(worstCaseAdjacencySize, PAGE_SHIFT, PAGE_MASK);
@@ -76,12 +94,20 @@ public final class AdjacencyList {
     }
 
     public static MemoryEstimation compressedMemoryEstimation(RelationshipType relationshipType, boolean undirected) {
+        return compressedMemoryEstimation(relationshipType, undirected, AdjacencyEncoding.VAR_LONG);
+    }
+
+    public static MemoryEstimation compressedMemoryEstimation(
+        RelationshipType relationshipType,
+        boolean undirected,
+        AdjacencyEncoding encoding
+    ) {
         return MemoryEstimations.setup("", dimensions -> {
             long nodeCount = dimensions.nodeCount();
             long relCountForType = dimensions.relationshipCounts().getOrDefault(relationshipType, dimensions.maxRelCount());
             long relCount = undirected ? relCountForType * 2 : relCountForType;
             long avgDegree = (nodeCount > 0) ? ceilDiv(relCount, nodeCount) : 0L;
-            return AdjacencyList.compressedMemoryEstimation(avgDegree, nodeCount);
+            return AdjacencyList.compressedMemoryEstimation(avgDegree, nodeCount, encoding);
         });
     }
 
@@ -116,9 +142,45 @@ public final class AdjacencyList {
         return (degreeByteSize + firstAdjacencyIdAvgByteSize + compressedAdjacencyByteSize) * nodeCount;
     }
 
+    /* test private */
+    static long computePackedAdjacencyByteSize(long avgDegree, long nodeCount, long maxDelta) {
+        long firstAdjacencyIdAvgByteSize = (avgDegree > 0) ? ceilDiv(encodedVLongSize(nodeCount), 2) : 0L;
+        long blocks = ceilDiv(avgDegree, BLOCK_SIZE);
+        // every other block starts with its first delta as a var-long
+        long blockStartByteSize = Math.max(0L, blocks - 1) * encodedVLongSize(maxDelta);
+        // the remaining deltas of a block are packed with the width of the largest one,
+        // every such block stores its width in one byte and pads its last byte
+        long packedBlocks = avgDegree / BLOCK_SIZE + (avgDegree % BLOCK_SIZE > 1 ? 1 : 0);
+        long packedDeltas = avgDegree - blocks;
+        long packedByteSize = 2 * packedBlocks + ceilDiv(packedDeltas * packedBitWidth(maxDelta), Byte.SIZE);
+        int degreeByteSize = Integer.BYTES;
+        return (degreeByteSize + firstAdjacencyIdAvgByteSize + blockStartByteSize + packedByteSize) * nodeCount;
+    }
+
+    private static int packedBitWidth(long maxDelta) {
+        int bits = Long.SIZE - Long.numberOfLeadingZeros(maxDelta);
+        return bits > BitPackedDecoding.MAX_PACKED_BITS ? Long.SIZE : bits;
+    }
+
     public AdjacencyList(byte[][] pages) {
+        this(pages, AdjacencyEncoding.VAR_LONG);
+    }
+
+    public AdjacencyList(byte[][] pages, AdjacencyEncoding encoding) {
+        this(pages, encoding, PropertyEncoding.DOUBLE);
+    }
+
+    /**
+     * Creates a relationship property list whose values are stored with the given encoding.
+     */
+    public AdjacencyList(byte[][] pages, PropertyEncoding propertyEncoding) {
+        this(pages, AdjacencyEncoding.VAR_LONG, propertyEncoding);
+    }
+
+    public AdjacencyList(byte[][] pages, AdjacencyEncoding encoding, PropertyEncoding propertyEncoding) {
         this.pages = pages;
-        this.allocatedMemory = memoryOfPages(pages);
+        this.encoding = encoding;
+        this.propertyEncoding = propertyEncoding;
     }
 
     private static long memoryOfPages(byte[][] pages) {
@@ -131,16 +193,48 @@ public final class AdjacencyList {
         return memory;
     }
 
+    /**
+     * Returns the underlying pages without copying them, e.g. for writing snapshots.
+     * The pages must not be modified.
+     */
+    public byte[][] pages() {
+        return pages;
+    }
+
+    /**
+     * The encoding of the compressed targets, which is irrelevant for lists that are read with a {@link Cursor}.
+     */
+    public AdjacencyEncoding encoding() {
+        return encoding;
+    }
+
+    /**
+     * The encoding of the values of relationship property lists, which are read with a {@link Cursor}.
+     */
+    public PropertyEncoding propertyEncoding() {
+        return propertyEncoding;
+    }
+
     int getDegree(long index) {
         return AdjacencyDecompressingReader.readInt(
                 pages[pageIndex(index, PAGE_SHIFT)],
                 indexInPage(index, PAGE_MASK));
     }
 
+    /**
+     * Reads the value at the given position of the property list starting at the given offset.
+     */
+    double getDouble(long offset, int index) {
+        return propertyEncoding.read(
+                pages[pageIndex(offset, PAGE_SHIFT)],
+                indexInPage(offset, PAGE_MASK) + Integer.BYTES + index * propertyEncoding.bytesPerValue());
+    }
+
     public final long release() {
         if (pages == null) {
             return 0L;
         }
+        long allocatedMemory = memoryOfPages(pages);
         pages = null;
         return allocatedMemory;
     }
@@ -148,14 +242,14 @@ public final class AdjacencyList {
     // Cursors
 
     Cursor cursor(long offset) {
-        return new Cursor(pages).init(offset);
+        return new Cursor(pages, propertyEncoding).init(offset);
     }
 
     /**
      * Returns a new, uninitialized delta cursor. Call {@link DecompressingCursor#init(long)}.
      */
     DecompressingCursor rawDecompressingCursor() {
-        return new DecompressingCursor(pages);
+        return new DecompressingCursor(pages, encoding);
     }
 
     /**
@@ -174,18 +268,22 @@ public final class AdjacencyList {
 
     public static final class Cursor extends MutableIntValue {
 
-        static final Cursor EMPTY = new Cursor(new byte[0][]);
+        static final Cursor EMPTY = new Cursor(new byte[0][], PropertyEncoding.DOUBLE);
 
         // TODO: free
         private final byte[][] pages;
+        private final PropertyEncoding encoding;
+        private final int bytesPerValue;
 
         private byte[] currentPage;
         private int degree;
         private int offset;
-        private int limit;
+        private int remaining;
 
-        private Cursor(byte[][] pages) {
+        private Cursor(byte[][] pages, PropertyEncoding encoding) {
             this.pages = pages;
+            this.encoding = encoding;
+            this.bytesPerValue = encoding.bytesPerValue();
         }
 
         public int length() {
@@ -193,19 +291,20 @@ public final class AdjacencyList {
         }
 
         /**
-         * Return true iff there is at least one more target to decode.
+         * Return true iff there is at least one more value to read.
          */
-        boolean hasNextLong() {
-            return offset < limit;
+        boolean hasNextDouble() {
+            return remaining > 0;
         }
 
         /**
-         * Read the next target id.
-         * It is undefined behavior if this is called after {@link #hasNextLong()} returns {@code false}.
+         * Read the next value.
+         * It is undefined behavior if this is called after {@link #hasNextDouble()} returns {@code false}.
          */
-        long nextLong() {
-            long value = AdjacencyDecompressingReader.readLong(currentPage, offset);
-            offset += Long.BYTES;
+        double nextDouble() {
+            double value = encoding.read(currentPage, offset);
+            offset += bytesPerValue;
+            remaining--;
             return value;
         }
 
@@ -214,7 +313,7 @@ public final class AdjacencyList {
             this.offset = indexInPage(fromIndex, PAGE_MASK);
             this.degree = AdjacencyDecompressingReader.readInt(currentPage, offset);
             this.offset += Integer.BYTES;
-            this.limit = offset + degree * Long.BYTES;
+            this.remaining = degree;
             return this;
         }
     }
@@ -228,10 +327,11 @@ public final class AdjacencyList {
 
         private int maxTargets;
         private int currentTarget;
+        private int blockOffset;
 
-        private DecompressingCursor(byte[][] pages) {
+        private DecompressingCursor(byte[][] pages, AdjacencyEncoding encoding) {
             this.pages = pages;
-            this.decompress = new AdjacencyDecompressingReader();
+            this.decompress = new AdjacencyDecompressingReader(encoding);
         }
 
         /**
@@ -274,6 +374,39 @@ public final class AdjacencyList {
             return decompress.next(remaining);
         }
 
+        /**
+         * Consume the remaining targets of the current block, decoding the next block if necessary.
+         * The consumed targets are stored in {@link #block()}, starting at {@link #blockOffset()}.
+         *
+         * @return the number of consumed targets, 0 iff the cursor is exhausted
+         */
+        int nextBlock() {
+            int remaining = remaining();
+            if (remaining <= 0) {
+                return 0;
+            }
+            blockOffset = decompress.blockPosition(remaining);
+            int length = Math.min(remaining, CHUNK_SIZE - blockOffset);
+            decompress.consume(length);
+            currentTarget += length;
+            return length;
+        }
+
+        /**
+         * The buffer holding the targets consumed by {@link #nextBlock()}.
+         * The buffer is reused and overwritten by subsequent calls on this cursor.
+         */
+        long[] block() {
+            return decompress.block();
+        }
+
+        /**
+         * The position of the first target consumed by the last call to {@link #nextBlock()} in {@link #block()}.
+         */
+        int blockOffset() {
+            return blockOffset;
+        }
+
         /**
          * Read and decode target ids until it is strictly larger than (`>`) the provided {@code target}.
          * Might return an id that is less than or equal to {@code target} iff the cursor did exhaust before finding an
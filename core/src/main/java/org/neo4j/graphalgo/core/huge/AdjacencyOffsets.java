@@ -19,20 +19,72 @@
  */
 package org.neo4j.graphalgo.core.huge;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.graphalgo.core.loading.ImportSizing;
 import org.neo4j.graphalgo.core.utils.BitUtil;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.partition.CachedDegreePrefixSum;
+
+import java.util.function.Supplier;
 
 import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfLongArray;
 import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfObjectArray;
 
 public abstract class AdjacencyOffsets {
 
+    // degrees are fully determined by the offsets, so the prefix sums can be shared by all graphs using them,
+    // they are tracked and estimated together with the topology
+    private final CachedDegreePrefixSum degreePrefixSum = new CachedDegreePrefixSum();
+    // the skip index is fully determined by the offsets and the adjacency list they point into,
+    // it only exists if the relationship projection asked for it
+    private volatile AdjacencyIndex adjacencyIndex;
+
     abstract long get(long index);
 
     abstract long release();
 
+    /**
+     * Returns the underlying pages without copying them, e.g. for writing snapshots.
+     * The pages must not be modified.
+     */
+    public abstract long[][] pages();
+
+    /**
+     * The number of offsets per page, which is a power of two for paged offsets.
+     */
+    public abstract int pageSize();
+
+    CachedDegreePrefixSum degreePrefixSum() {
+        return degreePrefixSum;
+    }
+
+    @Nullable AdjacencyIndex adjacencyIndex() {
+        return adjacencyIndex;
+    }
+
+    AdjacencyIndex adjacencyIndex(Supplier<AdjacencyIndex> createAdjacencyIndex) {
+        AdjacencyIndex index = adjacencyIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = adjacencyIndex;
+                if (index == null) {
+                    index = createAdjacencyIndex.get();
+                    adjacencyIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    void releaseAdjacencyIndex() {
+        AdjacencyIndex index = adjacencyIndex;
+        if (index != null) {
+            adjacencyIndex = null;
+            index.release();
+        }
+    }
+
     public static AdjacencyOffsets of(long[][] pages, int pageSize) {
         if (pages.length == 1) {
             return new SinglePageOffsets(pages[0]);
@@ -93,6 +145,16 @@ public abstract class AdjacencyOffsets {
             return pages[pageIndex][indexInPage];
         }
 
+        @Override
+        public long[][] pages() {
+            return pages;
+        }
+
+        @Override
+        public int pageSize() {
+            return 1 << pageShift;
+        }
+
         @Override
         long release() {
             if (pages != null) {
@@ -126,6 +188,16 @@ public abstract class AdjacencyOffsets {
             return page[(int) index];
         }
 
+        @Override
+        public long[][] pages() {
+            return new long[][]{page};
+        }
+
+        @Override
+        public int pageSize() {
+            return page.length;
+        }
+
         @Override
         long release() {
             if (page != null) {
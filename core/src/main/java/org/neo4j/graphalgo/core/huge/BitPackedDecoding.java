@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.huge;
+
+import static org.neo4j.graphalgo.core.huge.AdjacencyDecompressingReader.readLong;
+
+/**
+ * Decodes blocks written by {@code org.neo4j.graphalgo.core.loading.BitPackedEncoding}.
+ */
+final class BitPackedDecoding {
+
+    /**
+     * Bit widths above this value are stored as plain longs.
+     */
+    static final int MAX_PACKED_BITS = 56;
+
+    static int decodeDeltaBlock(
+            long startValue,
+            byte[] adjacencyPage,
+            int offset,
+            int limit,
+            long[] out) {
+        if (limit == 0) {
+            return offset;
+        }
+
+        // first delta as vlong
+        long input, value = 0L;
+        int shift = 0;
+        do {
+            input = adjacencyPage[offset++];
+            value += (input & 127L) << shift;
+            shift += 7;
+        } while ((input & 128L) == 0L);
+        startValue += value;
+        out[0] = startValue;
+
+        if (limit == 1) {
+            return offset;
+        }
+
+        int bits = adjacencyPage[offset++];
+        if (bits > MAX_PACKED_BITS) {
+            for (int into = 1; into < limit; into++) {
+                startValue += readLong(adjacencyPage, offset);
+                out[into] = startValue;
+                offset += Long.BYTES;
+            }
+            return offset;
+        }
+
+        long mask = (1L << bits) - 1L;
+        long buffer = 0L;
+        int available = 0;
+        for (int into = 1; into < limit; into++) {
+            while (available < bits) {
+                buffer |= (adjacencyPage[offset++] & 255L) << available;
+                available += 8;
+            }
+            startValue += buffer & mask;
+            out[into] = startValue;
+            buffer >>>= bits;
+            available -= bits;
+        }
+        return offset;
+    }
+
+    private BitPackedDecoding() {
+        throw new UnsupportedOperationException("No instances");
+    }
+}
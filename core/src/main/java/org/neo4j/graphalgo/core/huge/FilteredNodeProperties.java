@@ -21,6 +21,7 @@ package org.neo4j.graphalgo.core.huge;
 
 import org.apache.commons.lang3.mutable.MutableDouble;
 import org.neo4j.graphalgo.api.NodeProperties;
+import org.neo4j.graphalgo.api.ValueType;
 import org.neo4j.graphalgo.core.loading.IdMap;
 
 import java.util.OptionalLong;
@@ -44,6 +45,31 @@ public class FilteredNodeProperties implements NodeProperties {
         return properties.nodeProperty(idMap.toOriginalNodeId(nodeId), defaultValue);
     }
 
+    @Override
+    public ValueType valueType() {
+        return properties.valueType();
+    }
+
+    @Override
+    public long longValue(long nodeId) {
+        return properties.longValue(idMap.toOriginalNodeId(nodeId));
+    }
+
+    @Override
+    public float floatValue(long nodeId) {
+        return properties.floatValue(idMap.toOriginalNodeId(nodeId));
+    }
+
+    @Override
+    public double[] doubleArrayValue(long nodeId) {
+        return properties.doubleArrayValue(idMap.toOriginalNodeId(nodeId));
+    }
+
+    @Override
+    public float[] floatArrayValue(long nodeId) {
+        return properties.floatArrayValue(idMap.toOriginalNodeId(nodeId));
+    }
+
     @Override
     public OptionalLong getMaxPropertyValue() {
         MutableDouble currentMax = new MutableDouble(Double.NEGATIVE_INFINITY);
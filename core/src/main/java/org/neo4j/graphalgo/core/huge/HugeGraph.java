@@ -28,16 +28,22 @@ import org.neo4j.graphalgo.api.NodeProperties;
 import org.neo4j.graphalgo.api.RelationshipConsumer;
 import org.neo4j.graphalgo.api.RelationshipIntersect;
 import org.neo4j.graphalgo.api.RelationshipWithPropertyConsumer;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
 import org.neo4j.graphalgo.core.loading.IdMap;
 import org.neo4j.graphalgo.core.utils.collection.primitive.PrimitiveLongIterable;
 import org.neo4j.graphalgo.core.utils.collection.primitive.PrimitiveLongIterator;
 import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.partition.DegreePrefixSum;
+import org.neo4j.graphalgo.core.utils.partition.PartitionUtils;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.function.LongPredicate;
+import java.util.stream.Collectors;
 
 /**
  * Huge Graph contains two array like data structures.
@@ -69,6 +75,10 @@ import java.util.function.LongPredicate;
  * and gives access to this data during import. Synchronization between threads only
  * has to happen when a new chunk has to be pre-allocated. This is similar to
  * what most garbage collectors do with TLAB allocations.
+ * <p>
+ * Since the targets are sorted, single relationships of high-degree nodes can be looked up
+ * through an {@link AdjacencyIndex} instead of decoding the whole adjacency list.
+ * The index is only built on request, see {@link #indexRelationships(int, ExecutorService)}.
  *
  * @see <a href="https://developers.google.com/protocol-buffers/docs/encoding#varints">more abount vlong</a>
  * @see <a href="https://shipilev.net/jvm-anatomy-park/4-tlab-allocation/">more abount TLAB allocation</a>
@@ -95,12 +105,51 @@ public class HugeGraph implements Graph {
 
     private AdjacencyList.DecompressingCursor emptyCursor;
     private AdjacencyList.DecompressingCursor cursorCache;
+    private long[] indexBuffer;
 
     private boolean canRelease = true;
 
     private final boolean hasRelationshipProperty;
 
+    private @Nullable HugeGraph inverse;
+
+    public static HugeGraph create(
+        IdMap nodes,
+        Map<String, NodeProperties> nodeProperties,
+        TopologyCSR topologyCSR,
+        Optional<PropertyCSR> maybePropertyCSR,
+        AllocationTracker tracker
+    ) {
+        return create(nodes, nodeProperties, topologyCSR, maybePropertyCSR, Optional.empty(), Optional.empty(), tracker);
+    }
+
+    /**
+     * Creates a graph that additionally answers {@link #forEachInverseRelationship(long, RelationshipConsumer)}
+     * and {@link #inverseDegree(long)} from the given inverse topology, which shares the id map of this graph.
+     */
     public static HugeGraph create(
+        IdMap nodes,
+        Map<String, NodeProperties> nodeProperties,
+        TopologyCSR topologyCSR,
+        Optional<PropertyCSR> maybePropertyCSR,
+        Optional<TopologyCSR> maybeInverseTopologyCSR,
+        Optional<PropertyCSR> maybeInversePropertyCSR,
+        AllocationTracker tracker
+    ) {
+        HugeGraph graph = createWithoutInverse(nodes, nodeProperties, topologyCSR, maybePropertyCSR, tracker);
+        graph.inverse = maybeInverseTopologyCSR
+            .map(inverseTopologyCSR -> createWithoutInverse(
+                nodes,
+                nodeProperties,
+                inverseTopologyCSR,
+                maybeInversePropertyCSR,
+                tracker
+            ))
+            .orElse(null);
+        return graph;
+    }
+
+    private static HugeGraph createWithoutInverse(
         IdMap nodes,
         Map<String, NodeProperties> nodeProperties,
         TopologyCSR topologyCSR,
@@ -214,19 +263,27 @@ public class HugeGraph implements Graph {
         }
         long propertyOffset = propertyOffsets.get(fromId);
 
+        AdjacencyIndex adjacencyIndex = adjacencyOffsets.adjacencyIndex();
+        if (adjacencyIndex != null && adjacencyList.getDegree(relOffset) >= AdjacencyIndex.DEGREE_THRESHOLD) {
+            int index = adjacencyIndex.indexOf(fromId, toId, indexBuffer());
+            if (index == AdjacencyIndex.NOT_FOUND) {
+                return NO_PROPERTY_VALUE;
+            }
+            return properties.getDouble(propertyOffset, index);
+        }
+
         AdjacencyList.DecompressingCursor relDecompressingCursor = adjacencyList.decompressingCursor(relOffset);
         AdjacencyList.Cursor propertyCursor = properties.cursor(propertyOffset);
 
-        while (relDecompressingCursor.hasNextVLong() && propertyCursor.hasNextLong() && relDecompressingCursor.nextVLong() != toId) {
-            propertyCursor.nextLong();
+        while (relDecompressingCursor.hasNextVLong() && propertyCursor.hasNextDouble() && relDecompressingCursor.nextVLong() != toId) {
+            propertyCursor.nextDouble();
         }
 
-        if (!propertyCursor.hasNextLong()) {
+        if (!propertyCursor.hasNextDouble()) {
             return NO_PROPERTY_VALUE;
         }
 
-        long doubleBits = propertyCursor.nextLong();
-        return Double.longBitsToDouble(doubleBits);
+        return propertyCursor.nextDouble();
     }
 
     @Override
@@ -261,6 +318,18 @@ public class HugeGraph implements Graph {
         return adjacencyList.getDegree(offset);
     }
 
+    /**
+     * The prefix sums are cached with the topology and outlive the caller,
+     * so they are tracked by the tracker of this graph instead of the given one.
+     */
+    @Override
+    public DegreePrefixSum degreePrefixSum(int concurrency, ExecutorService executor, AllocationTracker tracker) {
+        if (adjacencyOffsets == null) {
+            return Graph.super.degreePrefixSum(concurrency, executor, tracker);
+        }
+        return adjacencyOffsets.degreePrefixSum().get(this, nodeCount(), concurrency, executor, this.tracker);
+    }
+
     @Override
     public long toMappedNodeId(long nodeId) {
         return idMapping.toMappedNodeId(nodeId);
@@ -276,9 +345,39 @@ public class HugeGraph implements Graph {
         return idMapping.contains(nodeId);
     }
 
+    @Override
+    public boolean hasInverseIndex() {
+        return isUndirected() || inverse != null;
+    }
+
+    @Override
+    public void forEachInverseRelationship(long nodeId, RelationshipConsumer consumer) {
+        inverseGraph().forEachRelationship(nodeId, consumer);
+    }
+
+    @Override
+    public void forEachInverseRelationship(long nodeId, double fallbackValue, RelationshipWithPropertyConsumer consumer) {
+        inverseGraph().forEachRelationship(nodeId, fallbackValue, consumer);
+    }
+
+    @Override
+    public int inverseDegree(long nodeId) {
+        return inverseGraph().degree(nodeId);
+    }
+
+    private HugeGraph inverseGraph() {
+        if (isUndirected()) {
+            return this;
+        }
+        if (inverse == null) {
+            throw Graph.missingInverseIndex();
+        }
+        return inverse;
+    }
+
     @Override
     public HugeGraph concurrentCopy() {
-        return new HugeGraph(
+        HugeGraph copy = new HugeGraph(
             idMapping,
             nodeProperties,
             relationshipCount,
@@ -291,6 +390,8 @@ public class HugeGraph implements Graph {
             orientation,
             tracker
         );
+        copy.inverse = inverse != null ? inverse.concurrentCopy() : null;
+        return copy;
     }
 
     @Override
@@ -299,25 +400,78 @@ public class HugeGraph implements Graph {
     }
 
     /**
-     * O(n) !
+     * O(log(n)) for indexed nodes with a degree of at least {@link AdjacencyIndex#DEGREE_THRESHOLD}, O(n) otherwise.
      */
     @Override
     public boolean exists(long sourceNodeId, long targetNodeId) {
+        AdjacencyIndex adjacencyIndex = adjacencyIndex();
+        if (adjacencyIndex != null && degree(sourceNodeId) >= AdjacencyIndex.DEGREE_THRESHOLD) {
+            return adjacencyIndex.indexOf(sourceNodeId, targetNodeId, indexBuffer()) != AdjacencyIndex.NOT_FOUND;
+        }
         ExistsConsumer consumer = new ExistsConsumer(targetNodeId);
         runForEach(sourceNodeId, consumer);
         return consumer.found;
     }
 
     /*
-     * O(n) !
+     * O(1) for indexed nodes with a degree of at least {@link AdjacencyIndex#DEGREE_THRESHOLD}, O(n) otherwise.
      */
     @Override
     public long getTarget(long sourceNodeId, long index) {
+        AdjacencyIndex adjacencyIndex = adjacencyIndex();
+        int degree = degree(sourceNodeId);
+        if (adjacencyIndex != null && degree >= AdjacencyIndex.DEGREE_THRESHOLD) {
+            if (index < 0 || index >= degree) {
+                return GetTargetConsumer.TARGET_NOT_FOUND;
+            }
+            return adjacencyIndex.targetAt(sourceNodeId, (int) index, indexBuffer());
+        }
         GetTargetConsumer consumer = new GetTargetConsumer(index);
         runForEach(sourceNodeId, consumer);
         return consumer.target;
     }
 
+    /**
+     * Builds the {@link AdjacencyIndex} of this topology, which is shared by all graphs using it.
+     * Its memory is tracked by the tracker of this graph, which is the tracker of the graph store
+     * for graphs taken from a catalog graph.
+     */
+    @Override
+    public void indexRelationships(int concurrency, ExecutorService executor) {
+        if (adjacencyOffsets == null) {
+            return;
+        }
+        AdjacencyIndex index = adjacencyOffsets.adjacencyIndex(() -> new AdjacencyIndex(
+            adjacencyList,
+            adjacencyOffsets,
+            nodeCount(),
+            tracker
+        ));
+        List<Runnable> tasks = PartitionUtils
+            .degreeBalancedPartitions(this, concurrency, executor, tracker)
+            .stream()
+            .map(partition -> (Runnable) () -> {
+                long[] buffer = AdjacencyIndex.newBuffer();
+                long end = partition.startNode + partition.nodeCount;
+                for (long nodeId = partition.startNode; nodeId < end; nodeId++) {
+                    index.index(nodeId, buffer);
+                }
+            })
+            .collect(Collectors.toList());
+        ParallelUtil.runWithConcurrency(concurrency, tasks, executor);
+    }
+
+    private @Nullable AdjacencyIndex adjacencyIndex() {
+        return adjacencyOffsets != null ? adjacencyOffsets.adjacencyIndex() : null;
+    }
+
+    private long[] indexBuffer() {
+        if (indexBuffer == null) {
+            indexBuffer = AdjacencyIndex.newBuffer();
+        }
+        return indexBuffer;
+    }
+
     private void runForEach(long sourceId, RelationshipConsumer consumer) {
         AdjacencyList.DecompressingCursor adjacencyCursor = adjacencyCursorForIteration(sourceId);
         consumeAdjacentNodes(sourceId, adjacencyCursor, consumer);
@@ -361,6 +515,9 @@ public class HugeGraph implements Graph {
     @Override
     public void canRelease(boolean canRelease) {
         this.canRelease = canRelease;
+        if (inverse != null) {
+            inverse.canRelease(canRelease);
+        }
     }
 
     @Override
@@ -369,6 +526,8 @@ public class HugeGraph implements Graph {
 
         if (adjacencyList != null) {
             tracker.remove(adjacencyList.release());
+            adjacencyOffsets.degreePrefixSum().release();
+            adjacencyOffsets.releaseAdjacencyIndex();
             tracker.remove(adjacencyOffsets.release());
             adjacencyList = null;
             properties = null;
@@ -377,6 +536,11 @@ public class HugeGraph implements Graph {
         }
         emptyCursor = null;
         cursorCache = null;
+
+        if (inverse != null) {
+            inverse.releaseTopology();
+            inverse = null;
+        }
     }
 
     @Override
@@ -397,6 +561,13 @@ public class HugeGraph implements Graph {
         return orientation;
     }
 
+    /**
+     * @return the inverse relationships of this graph, if they have been projected.
+     */
+    public Optional<Relationships> inverseRelationships() {
+        return Optional.ofNullable(inverse).map(HugeGraph::relationships);
+    }
+
     public Relationships relationships() {
         return Relationships.of(
             relationshipCount,
@@ -423,9 +594,15 @@ public class HugeGraph implements Graph {
         AdjacencyList.DecompressingCursor adjacencyCursor,
         RelationshipConsumer consumer
     ) {
-        while (adjacencyCursor.hasNextVLong()) {
-            if (!consumer.accept(sourceId, adjacencyCursor.nextVLong())) {
-                break;
+        long[] targets = adjacencyCursor.block();
+        int length;
+        while ((length = adjacencyCursor.nextBlock()) > 0) {
+            int offset = adjacencyCursor.blockOffset();
+            int limit = offset + length;
+            for (int i = offset; i < limit; i++) {
+                if (!consumer.accept(sourceId, targets[i])) {
+                    return;
+                }
             }
         }
     }
@@ -437,14 +614,17 @@ public class HugeGraph implements Graph {
         RelationshipWithPropertyConsumer consumer
     ) {
 
-        while (adjacencyCursor.hasNextVLong()) {
-            long targetId = adjacencyCursor.nextVLong();
-
-            long propertyBits = propertyCursor.nextLong();
-            double property = Double.longBitsToDouble(propertyBits);
-
-            if (!consumer.accept(sourceId, targetId, property)) {
-                break;
+        long[] targets = adjacencyCursor.block();
+        int length;
+        while ((length = adjacencyCursor.nextBlock()) > 0) {
+            int offset = adjacencyCursor.blockOffset();
+            int limit = offset + length;
+            for (int i = offset; i < limit; i++) {
+                double property = propertyCursor.nextDouble();
+
+                if (!consumer.accept(sourceId, targets[i], property)) {
+                    return;
+                }
             }
         }
     }
@@ -71,7 +71,7 @@ class HugeGraphIntersectImpl implements RelationshipIntersect {
         }
 
         AdjacencyList.DecompressingCursor lead, follow, decompressingCursorA = cacheA, decompressingCursorB = cacheB;
-        long nodeIdC, currentA, s, t;
+        long nodeIdC, currentA;
         boolean hasNext = true;
 
         while (hasNext) {
@@ -94,13 +94,7 @@ class HugeGraphIntersectImpl implements RelationshipIntersect {
                         follow = decompressingCursorA;
                     }
 
-                    while (lead.hasNextVLong() && follow.hasNextVLong()) {
-                        s = lead.nextVLong();
-                        t = follow.advance(s);
-                        if (t == s) {
-                            consumer.accept(nodeIdA, nodeIdB, s);
-                        }
-                    }
+                    intersect(nodeIdA, nodeIdB, lead, follow, consumer);
                 }
             }
 
@@ -110,6 +104,30 @@ class HugeGraphIntersectImpl implements RelationshipIntersect {
         }
     }
 
+    /**
+     * Consumes {@code lead} block by block and advances {@code follow} to each of its targets.
+     */
+    private static void intersect(
+            long nodeIdA,
+            long nodeIdB,
+            AdjacencyList.DecompressingCursor lead,
+            AdjacencyList.DecompressingCursor follow,
+            IntersectionConsumer consumer) {
+        long[] leadTargets = lead.block();
+        int length;
+        while (follow.hasNextVLong() && (length = lead.nextBlock()) > 0) {
+            int offset = lead.blockOffset();
+            int limit = offset + length;
+            for (int i = offset; i < limit && follow.hasNextVLong(); i++) {
+                long s = leadTargets[i];
+                long t = follow.advance(s);
+                if (t == s) {
+                    consumer.accept(nodeIdA, nodeIdB, s);
+                }
+            }
+        }
+    }
+
     private int degree(long node) {
         long offset = offsets.get(node);
         if (offset == 0L) {
@@ -30,14 +30,19 @@ import org.neo4j.graphalgo.api.RelationshipWithPropertyConsumer;
 import org.neo4j.graphalgo.core.loading.IdMap;
 import org.neo4j.graphalgo.core.utils.collection.primitive.PrimitiveLongIterable;
 import org.neo4j.graphalgo.core.utils.collection.primitive.PrimitiveLongIterator;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.partition.CachedDegreePrefixSum;
+import org.neo4j.graphalgo.core.utils.partition.DegreePrefixSum;
 
 import java.util.Collection;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.function.LongPredicate;
 
 public class NodeFilteredGraph extends FilterGraph {
 
     private final IdMap filteredIdMap;
+    private final CachedDegreePrefixSum degreePrefixSum = new CachedDegreePrefixSum();
 
     public NodeFilteredGraph(Graph graph, IdMap filteredIdMap) {
         super(graph);
@@ -74,6 +79,17 @@ public class NodeFilteredGraph extends FilterGraph {
         return filteredIdMap.nodeCount();
     }
 
+    @Override
+    public DegreePrefixSum degreePrefixSum(int concurrency, ExecutorService executor, AllocationTracker tracker) {
+        return degreePrefixSum.get(this, nodeCount(), concurrency, executor, tracker);
+    }
+
+    @Override
+    public void releaseTopology() {
+        degreePrefixSum.release();
+        super.releaseTopology();
+    }
+
     @Override
     public long toMappedNodeId(long nodeId) {
         return filteredIdMap.toMappedNodeId(super.toMappedNodeId(nodeId));
@@ -101,6 +117,23 @@ public class NodeFilteredGraph extends FilterGraph {
         super.forEachRelationship(filteredIdMap.toOriginalNodeId(nodeId), fallbackValue, (s, t, p) -> filterAndConsume(s, t, p, consumer));
     }
 
+    @Override
+    public int inverseDegree(long nodeId) {
+        return super.inverseDegree(filteredIdMap.toOriginalNodeId(nodeId));
+    }
+
+    @Override
+    public void forEachInverseRelationship(long nodeId, RelationshipConsumer consumer) {
+        super.forEachInverseRelationship(filteredIdMap.toOriginalNodeId(nodeId), (s, t) -> filterAndConsume(s, t, consumer));
+    }
+
+    @Override
+    public void forEachInverseRelationship(
+        long nodeId, double fallbackValue, RelationshipWithPropertyConsumer consumer
+    ) {
+        super.forEachInverseRelationship(filteredIdMap.toOriginalNodeId(nodeId), fallbackValue, (s, t, p) -> filterAndConsume(s, t, p, consumer));
+    }
+
     @Override
     public long getTarget(long sourceNodeId, long index) {
         HugeGraph.GetTargetConsumer consumer = new HugeGraph.GetTargetConsumer(index);
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.huge;
+
+import org.neo4j.graphalgo.core.utils.mem.MemoryUsage;
+
+import java.util.Arrays;
+
+import static org.neo4j.graphalgo.core.huge.AdjacencyDecompressingReader.readInt;
+import static org.neo4j.graphalgo.core.huge.AdjacencyDecompressingReader.readLong;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Describes how the values of a relationship property list are stored.
+ * Every list starts with the degree, followed by one value of {@link #bytesPerValue()} per relationship.
+ */
+public final class PropertyEncoding {
+
+    public enum Type {
+        /**
+         * Raw {@link Double#doubleToLongBits(double)}.
+         */
+        DOUBLE(Long.BYTES),
+        /**
+         * Raw {@link Float#floatToIntBits(float)}.
+         */
+        FLOAT(Integer.BYTES),
+        /**
+         * An int that is divided by {@link #scale()}.
+         */
+        SCALED_INT(Integer.BYTES),
+        /**
+         * An unsigned short index into the {@link #dictionary()}.
+         */
+        SHORT_DICTIONARY(Short.BYTES),
+        /**
+         * An unsigned byte index into the {@link #dictionary()}.
+         */
+        BYTE_DICTIONARY(Byte.BYTES),
+        /**
+         * No values are stored, every relationship has the single value of the {@link #dictionary()}.
+         */
+        CONSTANT(0);
+
+        private final int bytesPerValue;
+
+        Type(int bytesPerValue) {
+            this.bytesPerValue = bytesPerValue;
+        }
+    }
+
+    public static final PropertyEncoding DOUBLE = new PropertyEncoding(Type.DOUBLE, 1D, new double[0]);
+
+    private static final PropertyEncoding FLOAT = new PropertyEncoding(Type.FLOAT, 1D, new double[0]);
+
+    private final Type type;
+    private final double scale;
+    private final double[] dictionary;
+
+    public static PropertyEncoding floats() {
+        return FLOAT;
+    }
+
+    public static PropertyEncoding scaledInts(double scale) {
+        return new PropertyEncoding(Type.SCALED_INT, scale, new double[0]);
+    }
+
+    /**
+     * Chooses the smallest dictionary encoding for the given distinct values, which are sorted in place.
+     */
+    public static PropertyEncoding dictionary(double[] values) {
+        Arrays.sort(values);
+        if (values.length == 1) {
+            return new PropertyEncoding(Type.CONSTANT, 1D, values);
+        }
+        if (values.length <= 1 << Byte.SIZE) {
+            return new PropertyEncoding(Type.BYTE_DICTIONARY, 1D, values);
+        }
+        if (values.length <= 1 << Short.SIZE) {
+            return new PropertyEncoding(Type.SHORT_DICTIONARY, 1D, values);
+        }
+        throw new IllegalArgumentException(formatWithLocale("Dictionaries are limited to %d values.", 1 << Short.SIZE));
+    }
+
+    public static PropertyEncoding of(Type type, double scale, double[] dictionary) {
+        switch (type) {
+            case DOUBLE:
+                return DOUBLE;
+            case FLOAT:
+                return FLOAT;
+            case SCALED_INT:
+                return scaledInts(scale);
+            default:
+                return new PropertyEncoding(type, 1D, dictionary);
+        }
+    }
+
+    private PropertyEncoding(Type type, double scale, double[] dictionary) {
+        this.type = type;
+        this.scale = scale;
+        this.dictionary = dictionary;
+    }
+
+    public Type type() {
+        return type;
+    }
+
+    public int bytesPerValue() {
+        return type.bytesPerValue;
+    }
+
+    public double scale() {
+        return scale;
+    }
+
+    /**
+     * The distinct values of dictionary encodings, which must not be modified.
+     */
+    public double[] dictionary() {
+        return dictionary;
+    }
+
+    public long memoryUsage() {
+        return MemoryUsage.sizeOfDoubleArray(dictionary.length);
+    }
+
+    /**
+     * Reads the value stored at the given offset.
+     */
+    public double read(byte[] page, int offset) {
+        switch (type) {
+            case DOUBLE:
+                return Double.longBitsToDouble(readLong(page, offset));
+            case FLOAT:
+                return Float.intBitsToFloat(readInt(page, offset));
+            case SCALED_INT:
+                return readInt(page, offset) / scale;
+            case SHORT_DICTIONARY:
+                return dictionary[(page[offset] & 255) | (page[1 + offset] & 255) << 8];
+            case BYTE_DICTIONARY:
+                return dictionary[page[offset] & 255];
+            case CONSTANT:
+                return dictionary[0];
+            default:
+                throw new IllegalStateException("Unexpected property encoding " + type);
+        }
+    }
+
+    /**
+     * Writes the given value at the given offset and returns the offset after the written value.
+     * Values of dictionary encodings must be part of the {@link #dictionary()}.
+     */
+    public int write(byte[] page, int offset, double value) {
+        switch (type) {
+            case DOUBLE:
+                long bits = Double.doubleToLongBits(value);
+                writeInt(page, offset, (int) bits);
+                writeInt(page, offset + Integer.BYTES, (int) (bits >>> 32));
+                break;
+            case FLOAT:
+                writeInt(page, offset, Float.floatToIntBits((float) value));
+                break;
+            case SCALED_INT:
+                writeInt(page, offset, (int) Math.rint(value * scale));
+                break;
+            case SHORT_DICTIONARY:
+                int index = dictionaryIndex(value);
+                page[offset] = (byte) index;
+                page[1 + offset] = (byte) (index >>> 8);
+                break;
+            case BYTE_DICTIONARY:
+                page[offset] = (byte) dictionaryIndex(value);
+                break;
+            case CONSTANT:
+                break;
+            default:
+                throw new IllegalStateException("Unexpected property encoding " + type);
+        }
+        return offset + type.bytesPerValue;
+    }
+
+    private int dictionaryIndex(double value) {
+        int index = Arrays.binarySearch(dictionary, value);
+        if (index < 0) {
+            throw new IllegalArgumentException(formatWithLocale("Value %s is not part of the dictionary.", value));
+        }
+        return index;
+    }
+
+    private static void writeInt(byte[] page, int offset, int value) {
+        page[offset] = (byte) value;
+        page[1 + offset] = (byte) (value >>> 8);
+        page[2 + offset] = (byte) (value >>> 16);
+        page[3 + offset] = (byte) (value >>> 24);
+    }
+
+    @Override
+    public String toString() {
+        return "PropertyEncoding{type=" + type + ", scale=" + scale + ", dictionarySize=" + dictionary.length + '}';
+    }
+}
@@ -27,9 +27,13 @@ import org.neo4j.graphalgo.api.RelationshipIntersect;
 import org.neo4j.graphalgo.api.RelationshipWithPropertyConsumer;
 import org.neo4j.graphalgo.core.utils.collection.primitive.PrimitiveLongIterable;
 import org.neo4j.graphalgo.core.utils.collection.primitive.PrimitiveLongIterator;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.partition.CachedDegreePrefixSum;
+import org.neo4j.graphalgo.core.utils.partition.DegreePrefixSum;
 
 import java.util.Collection;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.function.LongPredicate;
 import java.util.stream.Collectors;
 
@@ -37,6 +41,7 @@ public final class UnionGraph implements Graph {
 
     private final Graph first;
     private final Collection<? extends Graph> graphs;
+    private final CachedDegreePrefixSum degreePrefixSum = new CachedDegreePrefixSum();
 
     public static Graph of(Collection<? extends Graph> graphs) {
         if (graphs.isEmpty()) {
@@ -137,11 +142,42 @@ public final class UnionGraph implements Graph {
         return Math.toIntExact(graphs.stream().mapToLong(g -> g.degree(nodeId)).sum());
     }
 
+    @Override
+    public boolean hasInverseIndex() {
+        return graphs.stream().allMatch(Graph::hasInverseIndex);
+    }
+
+    @Override
+    public void forEachInverseRelationship(long nodeId, RelationshipConsumer consumer) {
+        for (Graph graph : graphs) {
+            graph.forEachInverseRelationship(nodeId, consumer);
+        }
+    }
+
+    @Override
+    public void forEachInverseRelationship(long nodeId, double fallbackValue, RelationshipWithPropertyConsumer consumer) {
+        for (Graph graph : graphs) {
+            graph.forEachInverseRelationship(nodeId, fallbackValue, consumer);
+        }
+    }
+
+    @Override
+    public int inverseDegree(long nodeId) {
+        return Math.toIntExact(graphs.stream().mapToLong(g -> g.inverseDegree(nodeId)).sum());
+    }
+
     @Override
     public Graph concurrentCopy() {
         return of(graphs.stream().map(Graph::concurrentCopy).collect(Collectors.toList()));
     }
 
+    @Override
+    public void indexRelationships(int concurrency, ExecutorService executor) {
+        for (Graph graph : graphs) {
+            graph.indexRelationships(concurrency, executor);
+        }
+    }
+
     @Override
     public RelationshipIntersect intersection(long maxDegree) {
         throw new UnsupportedOperationException("#intersection is not supported for multiple relationship types");
@@ -174,8 +210,14 @@ public final class UnionGraph implements Graph {
         }
     }
 
+    @Override
+    public DegreePrefixSum degreePrefixSum(int concurrency, ExecutorService executor, AllocationTracker tracker) {
+        return degreePrefixSum.get(this, nodeCount(), concurrency, executor, tracker);
+    }
+
     @Override
     public void releaseTopology() {
+        degreePrefixSum.release();
         for (Graph graph : graphs) {
             graph.releaseTopology();
         }
@@ -98,6 +98,15 @@ final class AdjacencyCompression {
     }
     //@formatter:on
 
+    //@formatter:off
+    static int readDegree(byte[] in, int offset) {
+        return   in[    offset] & 255        |
+                (in[1 + offset] & 255) <<  8 |
+                (in[2 + offset] & 255) << 16 |
+                (in[3 + offset] & 255) << 24;
+    }
+    //@formatter:on
+
     private static int applyDelta(long[] values, int length, Aggregation aggregation) {
         long value = values[0], delta;
         int in = 1, out = 1;
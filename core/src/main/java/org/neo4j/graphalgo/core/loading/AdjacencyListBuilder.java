@@ -19,7 +19,9 @@
  */
 package org.neo4j.graphalgo.core.loading;
 
+import org.neo4j.graphalgo.core.huge.AdjacencyEncoding;
 import org.neo4j.graphalgo.core.huge.AdjacencyList;
+import org.neo4j.graphalgo.core.huge.PropertyEncoding;
 import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
 import org.neo4j.graphalgo.core.utils.paged.PageUtil;
 
@@ -43,6 +45,7 @@ final class AdjacencyListBuilder {
     private static final int NO_SKIP = -1;
 
     private final AllocationTracker tracker;
+    private final AdjacencyEncoding encoding;
     private final ReentrantLock growLock;
     private final AtomicInteger allocatedPages;
 
@@ -50,11 +53,16 @@ final class AdjacencyListBuilder {
     private volatile byte[][] pages;
 
     static AdjacencyListBuilder newBuilder(AllocationTracker tracker) {
-        return new AdjacencyListBuilder(tracker);
+        return newBuilder(tracker, AdjacencyEncoding.VAR_LONG);
     }
 
-    private AdjacencyListBuilder(AllocationTracker tracker) {
+    static AdjacencyListBuilder newBuilder(AllocationTracker tracker, AdjacencyEncoding encoding) {
+        return new AdjacencyListBuilder(tracker, encoding);
+    }
+
+    private AdjacencyListBuilder(AllocationTracker tracker, AdjacencyEncoding encoding) {
         this.tracker = tracker;
+        this.encoding = encoding;
         growLock = new ReentrantLock(true);
         allocatedPages = new AtomicInteger();
         pages = new byte[0][];
@@ -66,7 +74,11 @@ final class AdjacencyListBuilder {
     }
 
     public AdjacencyList build() {
-        return new AdjacencyList(pages);
+        return new AdjacencyList(pages, encoding);
+    }
+
+    AdjacencyList build(PropertyEncoding propertyEncoding) {
+        return new AdjacencyList(pages, propertyEncoding);
     }
 
     private long insertDefaultSizedPage(Allocator into) {
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.loading;
+
+import static org.neo4j.graphalgo.core.huge.AdjacencyEncoding.BLOCK_SIZE;
+import static org.neo4j.graphalgo.core.loading.VarLongEncoding.encodeVLongs;
+import static org.neo4j.graphalgo.core.loading.VarLongEncoding.encodedVLongSize;
+
+/**
+ * Encodes delta-encoded targets in blocks of {@link org.neo4j.graphalgo.core.huge.AdjacencyEncoding#BLOCK_SIZE}.
+ * <p>
+ * Every block starts with its first delta as a variable-length long, which keeps the
+ * potentially large first target of an adjacency list out of the packed values.
+ * It is followed by a single byte holding the bit width of the largest remaining delta and
+ * the remaining deltas, packed little-endian with that width.
+ * Widths above {@value #MAX_PACKED_BITS} are stored as plain little-endian longs.
+ */
+final class BitPackedEncoding {
+
+    private static final int MAX_PACKED_BITS = 56;
+
+    static int encodedSize(long[] values, int length) {
+        int size = 0;
+        for (int start = 0; start < length; start += BLOCK_SIZE) {
+            int end = Math.min(length, start + BLOCK_SIZE);
+            size += encodedVLongSize(values[start]);
+            if (end - start > 1) {
+                size += 1 + packedSize(end - start - 1, bitWidth(values, start + 1, end));
+            }
+        }
+        return size;
+    }
+
+    static int encode(long[] values, int length, byte[] out) {
+        int into = 0;
+        for (int start = 0; start < length; start += BLOCK_SIZE) {
+            into = encodeBlock(values, start, Math.min(length, start + BLOCK_SIZE), out, into);
+        }
+        return into;
+    }
+
+    private static int encodeBlock(long[] values, int start, int end, byte[] out, int into) {
+        into = encodeVLongs(values, start, start + 1, out, into);
+        if (end - start == 1) {
+            return into;
+        }
+
+        int bits = bitWidth(values, start + 1, end);
+        out[into++] = (byte) bits;
+
+        if (bits > MAX_PACKED_BITS) {
+            for (int i = start + 1; i < end; i++) {
+                into = writeLong(out, into, values[i]);
+            }
+            return into;
+        }
+
+        long buffer = 0L;
+        int used = 0;
+        for (int i = start + 1; i < end; i++) {
+            buffer |= values[i] << used;
+            used += bits;
+            while (used >= 8) {
+                out[into++] = (byte) buffer;
+                buffer >>>= 8;
+                used -= 8;
+            }
+        }
+        if (used > 0) {
+            out[into++] = (byte) buffer;
+        }
+        return into;
+    }
+
+    private static int bitWidth(long[] values, int start, int end) {
+        long bits = 0L;
+        for (int i = start; i < end; i++) {
+            bits |= values[i];
+        }
+        int width = Long.SIZE - Long.numberOfLeadingZeros(bits);
+        return width > MAX_PACKED_BITS ? Long.SIZE : width;
+    }
+
+    private static int packedSize(int count, int bits) {
+        return (int) (((long) count * bits + 7L) / 8L);
+    }
+
+    //@formatter:off
+    private static int writeLong(byte[] out, int offset, long value) {
+        out[    offset] = (byte) (value);
+        out[1 + offset] = (byte) (value >>> 8);
+        out[2 + offset] = (byte) (value >>> 16);
+        out[3 + offset] = (byte) (value >>> 24);
+        out[4 + offset] = (byte) (value >>> 32);
+        out[5 + offset] = (byte) (value >>> 40);
+        out[6 + offset] = (byte) (value >>> 48);
+        out[7 + offset] = (byte) (value >>> 56);
+        return 8 + offset;
+    }
+    //@formatter:on
+
+    private BitPackedEncoding() {
+        throw new UnsupportedOperationException("No instances");
+    }
+}
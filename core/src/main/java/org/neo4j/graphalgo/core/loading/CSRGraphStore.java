@@ -73,6 +73,10 @@ public final class CSRGraphStore implements GraphStore {
 
     private final Map<RelationshipType, RelationshipPropertyStore> relationshipProperties;
 
+    private final Map<RelationshipType, HugeGraph.TopologyCSR> inverseRelationships;
+
+    private final Map<RelationshipType, RelationshipPropertyStore> inverseRelationshipProperties;
+
     private final Set<Graph> createdGraphs;
 
     private final AllocationTracker tracker;
@@ -86,17 +90,54 @@ public final class CSRGraphStore implements GraphStore {
         Map<RelationshipType, Map<String, HugeGraph.PropertyCSR>> relationshipProperties,
         int concurrency,
         AllocationTracker tracker
+    ) {
+        return of(
+            nodes,
+            nodeProperties,
+            relationships,
+            relationshipProperties,
+            new HashMap<>(),
+            new HashMap<>(),
+            concurrency,
+            tracker
+        );
+    }
+
+    public static GraphStore of(
+        IdMap nodes,
+        Map<NodeLabel, Map<String, NodeProperties>> nodeProperties,
+        Map<RelationshipType, HugeGraph.TopologyCSR> relationships,
+        Map<RelationshipType, Map<String, HugeGraph.PropertyCSR>> relationshipProperties,
+        Map<RelationshipType, HugeGraph.TopologyCSR> inverseRelationships,
+        Map<RelationshipType, Map<String, HugeGraph.PropertyCSR>> inverseRelationshipProperties,
+        int concurrency,
+        AllocationTracker tracker
     ) {
         Map<NodeLabel, NodePropertyStore> nodePropertyStores = new HashMap<>(nodeProperties.size());
         nodeProperties.forEach((nodeLabel, propertyMap) -> {
             NodePropertyStore.Builder builder = NodePropertyStore.builder();
             propertyMap.forEach((propertyKey, propertyValues) -> builder.putNodeProperty(
                 propertyKey,
-                NodeProperty.of(propertyKey, NumberType.FLOATING_POINT, PropertyState.PERSISTENT, propertyValues)
+                NodeProperty.of(propertyKey, propertyValues.valueType().numberType(), PropertyState.PERSISTENT, propertyValues)
             ));
             nodePropertyStores.put(nodeLabel, builder.build());
         });
 
+        return new CSRGraphStore(
+            nodes,
+            nodePropertyStores,
+            relationships,
+            relationshipPropertyStores(relationshipProperties),
+            inverseRelationships,
+            relationshipPropertyStores(inverseRelationshipProperties),
+            concurrency,
+            tracker
+        );
+    }
+
+    private static Map<RelationshipType, RelationshipPropertyStore> relationshipPropertyStores(
+        Map<RelationshipType, Map<String, HugeGraph.PropertyCSR>> relationshipProperties
+    ) {
         Map<RelationshipType, RelationshipPropertyStore> relationshipPropertyStores = new HashMap<>();
         relationshipProperties.forEach((relationshipType, propertyMap) -> {
             RelationshipPropertyStore.Builder builder = RelationshipPropertyStore.builder();
@@ -106,15 +147,7 @@ public final class CSRGraphStore implements GraphStore {
             ));
             relationshipPropertyStores.put(relationshipType, builder.build());
         });
-
-        return new CSRGraphStore(
-            nodes,
-            nodePropertyStores,
-            relationships,
-            relationshipPropertyStores,
-            concurrency,
-            tracker
-        );
+        return relationshipPropertyStores;
     }
 
     public static GraphStore of(
@@ -145,7 +178,50 @@ public final class CSRGraphStore implements GraphStore {
             );
         }
 
-        return CSRGraphStore.of(graph.idMap(), nodeProperties, topology, relationshipProperties, concurrency, tracker);
+        Map<RelationshipType, HugeGraph.TopologyCSR> inverseTopology = new HashMap<>();
+        Map<RelationshipType, Map<String, HugeGraph.PropertyCSR>> inverseRelationshipProperties = new HashMap<>();
+        graph.inverseRelationships().ifPresent(inverseRelationships -> {
+            inverseTopology.put(RelationshipType.of(relationshipType), inverseRelationships.topology());
+            if (relationshipProperty.isPresent() && inverseRelationships.properties().isPresent()) {
+                inverseRelationshipProperties.put(
+                    RelationshipType.of(relationshipType),
+                    singletonMap(relationshipProperty.get(), inverseRelationships.properties().get())
+                );
+            }
+        });
+
+        return CSRGraphStore.of(
+            graph.idMap(),
+            nodeProperties,
+            topology,
+            relationshipProperties,
+            inverseTopology,
+            inverseRelationshipProperties,
+            concurrency,
+            tracker
+        );
+    }
+
+    static CSRGraphStore fromStores(
+        IdMap nodes,
+        Map<NodeLabel, NodePropertyStore> nodeProperties,
+        Map<RelationshipType, HugeGraph.TopologyCSR> relationships,
+        Map<RelationshipType, RelationshipPropertyStore> relationshipProperties,
+        Map<RelationshipType, HugeGraph.TopologyCSR> inverseRelationships,
+        Map<RelationshipType, RelationshipPropertyStore> inverseRelationshipProperties,
+        int concurrency,
+        AllocationTracker tracker
+    ) {
+        return new CSRGraphStore(
+            nodes,
+            nodeProperties,
+            relationships,
+            relationshipProperties,
+            inverseRelationships,
+            inverseRelationshipProperties,
+            concurrency,
+            tracker
+        );
     }
 
     private CSRGraphStore(
@@ -153,6 +229,8 @@ public final class CSRGraphStore implements GraphStore {
         Map<NodeLabel, NodePropertyStore> nodeProperties,
         Map<RelationshipType, HugeGraph.TopologyCSR> relationships,
         Map<RelationshipType, RelationshipPropertyStore> relationshipProperties,
+        Map<RelationshipType, HugeGraph.TopologyCSR> inverseRelationships,
+        Map<RelationshipType, RelationshipPropertyStore> inverseRelationshipProperties,
         int concurrency,
         AllocationTracker tracker
     ) {
@@ -160,12 +238,38 @@ public final class CSRGraphStore implements GraphStore {
         this.nodeProperties = nodeProperties;
         this.relationships = relationships;
         this.relationshipProperties = relationshipProperties;
+        this.inverseRelationships = inverseRelationships;
+        this.inverseRelationshipProperties = inverseRelationshipProperties;
         this.concurrency = concurrency;
         this.createdGraphs = new HashSet<>();
         this.modificationTime = TimeUtil.now();
         this.tracker = tracker;
     }
 
+    IdMap idMap() {
+        return nodes;
+    }
+
+    Map<NodeLabel, NodePropertyStore> nodePropertyStores() {
+        return nodeProperties;
+    }
+
+    Map<RelationshipType, HugeGraph.TopologyCSR> topologies() {
+        return relationships;
+    }
+
+    Map<RelationshipType, RelationshipPropertyStore> relationshipPropertyStores() {
+        return relationshipProperties;
+    }
+
+    Map<RelationshipType, HugeGraph.TopologyCSR> inverseTopologies() {
+        return inverseRelationships;
+    }
+
+    Map<RelationshipType, RelationshipPropertyStore> inverseRelationshipPropertyStores() {
+        return inverseRelationshipProperties;
+    }
+
     @Override
     public GraphStoreSchema schema() {
         return GraphStoreSchema.of(nodeSchema(), relationshipTypeSchema());
@@ -377,6 +481,8 @@ public final class CSRGraphStore implements GraphStore {
                 });
                 graphStore.relationships.remove(relationshipType);
                 graphStore.relationshipProperties.remove(relationshipType);
+                graphStore.inverseRelationships.remove(relationshipType);
+                graphStore.inverseRelationshipProperties.remove(relationshipType);
             })
         );
     }
@@ -505,13 +611,19 @@ public final class CSRGraphStore implements GraphStore {
             .map(relTypeAndCSR -> {
                 Map<String, NodeProperties> filteredNodeProperties = filterNodeProperties(filteredLabels);
 
+                RelationshipType relationshipType = relTypeAndCSR.getKey();
                 HugeGraph initialGraph = HugeGraph.create(
                     nodes,
                     filteredNodeProperties,
                     relTypeAndCSR.getValue(),
                     maybeRelationshipProperty.map(propertyKey -> relationshipProperties
-                        .get(relTypeAndCSR.getKey())
+                        .get(relationshipType)
                         .get(propertyKey).values()),
+                    Optional.ofNullable(inverseRelationships.get(relationshipType)),
+                    maybeRelationshipProperty.map(propertyKey -> inverseRelationshipProperties
+                        .getOrDefault(relationshipType, RelationshipPropertyStore.empty())
+                        .get(propertyKey))
+                        .map(RelationshipProperty::values),
                     tracker
                 );
 
@@ -40,7 +40,6 @@ import org.neo4j.graphalgo.core.SecureTransaction;
 import org.neo4j.graphalgo.core.utils.BatchingProgressLogger;
 import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
-import org.neo4j.graphdb.Transaction;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -92,7 +91,11 @@ public class CypherFactory extends GraphStoreFactory<GraphCreateFromCypherConfig
             relationshipProjection
         );
 
-        return NativeFactory.getMemoryEstimation(nodeProjections, relationshipProjections);
+        return NativeFactory.getMemoryEstimation(
+            nodeProjections,
+            relationshipProjections,
+            cypherConfig.adjacencyCompression()
+        );
     }
 
     @Override
@@ -107,6 +110,9 @@ public class CypherFactory extends GraphStoreFactory<GraphCreateFromCypherConfig
 
     @Override
     public ImportResult build() {
+        if (cypherConfig.partitionCount() > 1) {
+            return buildPartitioned();
+        }
         // Temporarily override the security context to enforce read-only access during load
         return readOnlyTransaction().apply((tx, ktx) -> {
             BatchLoadResult nodeCount = new CountingCypherRecordLoader(
@@ -117,34 +123,78 @@ public class CypherFactory extends GraphStoreFactory<GraphCreateFromCypherConfig
                 loadingContext
             ).load(tx);
 
-            CypherNodeLoader.LoadResult nodes = new CypherNodeLoader(
-                nodeQuery(),
-                nodeCount.rows(),
-                loadingContext.api(),
-                cypherConfig,
-                loadingContext,
-                dimensions
-            ).load(tx);
-
-            RelationshipImportResult relationships = loadRelationships(
-                relationshipQuery(),
-                nodes.idsAndProperties(),
-                nodes.dimensions(),
-                tx
-            );
+            CypherNodeLoader.LoadResult nodes = newNodeLoader(nodeCount.rows()).load(tx);
 
-            GraphStore graphStore = createGraphStore(
-                nodes.idsAndProperties(),
-                relationships,
-                loadingContext.tracker(),
-                relationships.dimensions()
-            );
+            CypherRelationshipLoader relationshipLoader = newRelationshipLoader(nodes);
 
-            progressLogger.logMessage(loadingContext.tracker());
-            return ImportResult.of(relationships.dimensions(), graphStore);
+            return importResult(nodes, relationshipLoader, relationshipLoader.load(tx));
         });
     }
 
+    /**
+     * Runs the node and relationship queries once per partition, each partition in its own
+     * read-only transaction, and consumes the partitions concurrently.
+     * Instead of counting the rows of the node query upfront, the node ids are written into a growing buffer.
+     */
+    private ImportResult buildPartitioned() {
+        int partitionCount = cypherConfig.partitionCount();
+
+        CypherNodeLoader.LoadResult nodes = newNodeLoader(CypherRecordLoader.NO_COUNT)
+            .loadPartitioned(readOnlyTransaction(), partitionCount);
+
+        CypherRelationshipLoader relationshipLoader = newRelationshipLoader(nodes);
+
+        return importResult(
+            nodes,
+            relationshipLoader,
+            relationshipLoader.loadPartitioned(readOnlyTransaction(), partitionCount)
+        );
+    }
+
+    private CypherNodeLoader newNodeLoader(long nodeCount) {
+        return new CypherNodeLoader(
+            nodeQuery(),
+            nodeCount,
+            loadingContext.api(),
+            cypherConfig,
+            loadingContext,
+            dimensions
+        );
+    }
+
+    private CypherRelationshipLoader newRelationshipLoader(CypherNodeLoader.LoadResult nodes) {
+        return new CypherRelationshipLoader(
+            relationshipQuery(),
+            nodes.idsAndProperties().idMap(),
+            loadingContext.api(),
+            cypherConfig,
+            loadingContext,
+            nodes.dimensions()
+        );
+    }
+
+    private ImportResult importResult(
+        CypherNodeLoader.LoadResult nodes,
+        CypherRelationshipLoader relationshipLoader,
+        CypherRelationshipLoader.LoadResult relationshipLoadResult
+    ) {
+        RelationshipImportResult relationships = RelationshipImportResult.of(
+            relationshipLoader.allBuilders(),
+            relationshipLoadResult.relationshipCounts(),
+            relationshipLoadResult.dimensions()
+        );
+
+        GraphStore graphStore = createGraphStore(
+            nodes.idsAndProperties(),
+            relationships,
+            loadingContext.tracker(),
+            relationships.dimensions()
+        );
+
+        progressLogger.logMessage(loadingContext.tracker());
+        return ImportResult.of(relationships.dimensions(), graphStore);
+    }
+
     @Override
     protected ProgressLogger initProgressLogger() {
         return new BatchingProgressLogger(
@@ -174,30 +224,6 @@ public class CypherFactory extends GraphStoreFactory<GraphCreateFromCypherConfig
         return Optional.empty();
     }
 
-    private RelationshipImportResult loadRelationships(
-        String relationshipQuery,
-        IdsAndProperties idsAndProperties,
-        GraphDimensions nodeLoadDimensions,
-        Transaction transaction
-    ) {
-        CypherRelationshipLoader relationshipLoader = new CypherRelationshipLoader(
-            relationshipQuery,
-            idsAndProperties.idMap(),
-            loadingContext.api(),
-            cypherConfig,
-            loadingContext,
-            nodeLoadDimensions
-        );
-
-        CypherRelationshipLoader.LoadResult result = relationshipLoader.load(transaction);
-
-        return RelationshipImportResult.of(
-            relationshipLoader.allBuilders(),
-            result.relationshipCounts(),
-            result.dimensions()
-        );
-    }
-
     private SecureTransaction readOnlyTransaction() {
         return loadingContext.transaction().withRestrictedAccess(READ);
     }
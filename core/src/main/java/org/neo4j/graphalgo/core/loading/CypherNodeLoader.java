@@ -19,8 +19,8 @@
  */
 package org.neo4j.graphalgo.core.loading;
 
+import com.carrotsearch.hppc.BitSet;
 import com.carrotsearch.hppc.IntObjectHashMap;
-import com.carrotsearch.hppc.IntObjectMap;
 import org.immutables.value.Value;
 import org.neo4j.graphalgo.NodeLabel;
 import org.neo4j.graphalgo.PropertyMapping;
@@ -37,7 +37,6 @@ import org.neo4j.kernel.internal.GraphDatabaseAPI;
 
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -52,13 +51,17 @@ class CypherNodeLoader extends CypherRecordLoader<CypherNodeLoader.LoadResult> {
 
     private final long nodeCount;
     private final GraphDimensions outerDimensions;
-    private final IntObjectMap<List<NodeLabel>> labelTokenNodeLabelMapping;
+    private final Map<NodeLabel, BitSet> nodeLabelBitSetMapping;
 
     private final HugeLongArrayBuilder builder;
-    private final NodeImporter importer;
     private long maxNodeId;
+    private long rows;
     private CypherNodePropertyImporter nodePropertyImporter;
 
+    /**
+     * @param nodeCount the number of rows returned by the node query or {@link #NO_COUNT},
+     *                  in which case the node ids and properties are stored in growing buffers.
+     */
     CypherNodeLoader(
         String nodeQuery,
         long nodeCount,
@@ -71,37 +74,35 @@ class CypherNodeLoader extends CypherRecordLoader<CypherNodeLoader.LoadResult> {
         this.nodeCount = nodeCount;
         this.outerDimensions = outerDimensions;
         this.maxNodeId = 0L;
-        this.labelTokenNodeLabelMapping = new IntObjectHashMap<>();
-        this.builder = HugeLongArrayBuilder.of(nodeCount, loadingContext.tracker());
-        this.importer = new NodeImporter(builder, new HashMap<>(), labelTokenNodeLabelMapping);
+        this.nodeLabelBitSetMapping = new HashMap<>();
+        this.builder = nodeCount == NO_COUNT
+            ? HugeLongArrayBuilder.growing(0L, loadingContext.tracker())
+            : HugeLongArrayBuilder.of(nodeCount, loadingContext.tracker());
     }
 
     @Override
-    BatchLoadResult loadSingleBatch(Transaction tx, int bufferSize) {
-        Result queryResult = runLoadingQuery(tx);
+    BatchLoadResult loadSingleBatch(Transaction tx, int bufferSize, Map<String, Object> queryParameters) {
+        Result queryResult = runLoadingQuery(tx, queryParameters);
 
-        Collection<String> propertyColumns = getPropertyColumns(queryResult);
-
-        nodePropertyImporter = new CypherNodePropertyImporter(
-            propertyColumns,
-            labelTokenNodeLabelMapping,
-            nodeCount,
-            cypherConfig.readConcurrency()
-        );
+        CypherNodePropertyImporter propertyImporter = initPropertyImporter(getPropertyColumns(queryResult));
 
         boolean hasLabelInformation = queryResult.columns().contains(NodeRowVisitor.LABELS_COLUMN);
 
         NodesBatchBuffer buffer = new NodesBatchBufferBuilder()
             .capacity(bufferSize)
             .hasLabelInformation(hasLabelInformation)
-            .readProperty(!propertyColumns.isEmpty())
+            .readProperty(!propertyImporter.propertyColumns().isEmpty())
             .build();
 
+        // Label tokens are assigned while visiting the rows and are
+        // therefore local to the importer of a single query execution.
+        NodeImporter importer = new NodeImporter(builder, nodeLabelBitSetMapping, new IntObjectHashMap<>());
+
         NodeRowVisitor visitor = new NodeRowVisitor(
             buffer,
             importer,
             hasLabelInformation,
-            nodePropertyImporter
+            propertyImporter
         );
 
         queryResult.accept(visitor);
@@ -109,8 +110,20 @@ class CypherNodeLoader extends CypherRecordLoader<CypherNodeLoader.LoadResult> {
         return new BatchLoadResult(visitor.rows(), visitor.maxId());
     }
 
+    private synchronized CypherNodePropertyImporter initPropertyImporter(Collection<String> propertyColumns) {
+        if (nodePropertyImporter == null) {
+            nodePropertyImporter = new CypherNodePropertyImporter(
+                propertyColumns,
+                nodeCount == NO_COUNT ? 0L : nodeCount,
+                cypherConfig.readConcurrency()
+            );
+        }
+        return nodePropertyImporter;
+    }
+
     @Override
     void updateCounts(BatchLoadResult result) {
+        rows += result.rows();
         if (result.maxId() > maxNodeId) {
             maxNodeId = result.maxId();
         }
@@ -118,11 +131,14 @@ class CypherNodeLoader extends CypherRecordLoader<CypherNodeLoader.LoadResult> {
 
     @Override
     LoadResult result() {
+        if (rows == 0) {
+            throw new IllegalArgumentException("Node-Query returned no nodes");
+        }
         final IdMap idMap;
         try {
             idMap = IdMapBuilder.buildChecked(
                 builder,
-                importer.nodeLabelBitSetMapping,
+                nodeLabelBitSetMapping,
                 maxNodeId,
                 cypherConfig.readConcurrency(),
                 loadingContext.tracker()
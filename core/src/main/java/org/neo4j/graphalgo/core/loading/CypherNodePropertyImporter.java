@@ -26,9 +26,9 @@ import org.neo4j.graphalgo.api.NodeProperties;
 import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
 
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static org.neo4j.graphalgo.NodeLabel.ALL_NODES;
@@ -43,22 +43,22 @@ public class CypherNodePropertyImporter {
     private final Collection<String> propertyColumns;
     private final long nodeCount;
     private final int concurrency;
-    private final IntObjectMap<List<NodeLabel>> labelTokenNodeLabelMapping;
     private final Map<NodeLabel, Map<String, NodePropertiesBuilder>> buildersByNodeLabel;
 
-
+    /**
+     * The importer can be shared between concurrently running node queries.
+     * The {@code nodeCount} is only used to pre-size the property builders, which grow if needed.
+     */
     public CypherNodePropertyImporter(
         Collection<String> propertyColumns,
-        IntObjectMap<List<NodeLabel>> labelTokenNodeLabelMapping,
         long nodeCount,
         int concurrency
     ) {
         this.propertyColumns = propertyColumns;
-        this.labelTokenNodeLabelMapping = labelTokenNodeLabelMapping;
         this.nodeCount = nodeCount;
         this.concurrency = concurrency;
 
-        this.buildersByNodeLabel = new HashMap<>();
+        this.buildersByNodeLabel = new ConcurrentHashMap<>();
     }
 
     public Collection<String> propertyColumns() {
@@ -70,7 +70,7 @@ public class CypherNodePropertyImporter {
             NodeLabel nodeLabel = new NodeLabel(label);
             Map<String, NodePropertiesBuilder> propertyBuilders = buildersByNodeLabel.computeIfAbsent(
                 nodeLabel,
-                (ignore) -> new HashMap<>()
+                (ignore) -> new ConcurrentHashMap<>()
             );
             for (String property : propertyColumns) {
                 propertyBuilders.computeIfAbsent(
@@ -88,7 +88,12 @@ public class CypherNodePropertyImporter {
         }
     }
 
-    public int importProperties(long nodeId, long[] labels, Map<String, Number> nodeProperties) {
+    public int importProperties(
+        long nodeId,
+        long[] labels,
+        Map<String, Number> nodeProperties,
+        IntObjectMap<List<NodeLabel>> labelTokenNodeLabelMapping
+    ) {
         int propertiesImported = 0;
 
         // If there is a node projection for ANY label, then we need to consume the node properties regardless.
@@ -133,7 +138,12 @@ public class CypherNodePropertyImporter {
             for (Map.Entry<String, Number> propertyEntry : nodeProperties.entrySet()) {
                 if (buildersByProperty.containsKey(propertyEntry.getKey())) {
                     NodePropertiesBuilder builder = buildersByProperty.get(propertyEntry.getKey());
-                    builder.set(nodeId, propertyEntry.getValue().doubleValue());
+                    Number value = propertyEntry.getValue();
+                    if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                        builder.set(nodeId, value.longValue());
+                    } else {
+                        builder.set(nodeId, value.doubleValue());
+                    }
                     propertiesImported++;
                 }
             }
@@ -24,20 +24,27 @@ import org.neo4j.graphalgo.PropertyMapping;
 import org.neo4j.graphalgo.PropertyMappings;
 import org.neo4j.graphalgo.api.GraphLoaderContext;
 import org.neo4j.graphalgo.config.GraphCreateFromCypherConfig;
+import org.neo4j.graphalgo.core.SecureTransaction;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
 import org.neo4j.graphdb.Result;
 import org.neo4j.graphdb.Transaction;
 import org.neo4j.graphdb.security.AuthorizationViolationException;
 import org.neo4j.kernel.internal.GraphDatabaseAPI;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.neo4j.graphalgo.compat.GraphDatabaseApiProxy.runQueryWithoutClosingTheResult;
+import static org.neo4j.graphalgo.config.GraphCreateFromCypherConfig.PARTITION_COUNT_PARAMETER;
+import static org.neo4j.graphalgo.config.GraphCreateFromCypherConfig.PARTITION_PARAMETER;
 import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
 
 abstract class CypherRecordLoader<R> {
@@ -80,8 +87,7 @@ abstract class CypherRecordLoader<R> {
 
     final R load(Transaction transaction) {
         try {
-            int bufferSize = (int) Math.min(recordCount, RecordsBatchBuffer.DEFAULT_BUFFER_SIZE);
-            BatchLoadResult result = loadSingleBatch(transaction, bufferSize);
+            BatchLoadResult result = loadSingleBatch(transaction, bufferSize(), cypherConfig.parameters());
             updateCounts(result);
             return result();
         } catch (AuthorizationViolationException ex) {
@@ -89,11 +95,53 @@ abstract class CypherRecordLoader<R> {
         }
     }
 
+    /**
+     * Executes the query once per partition, each in a new transaction, and
+     * consumes up to {@code readConcurrency} partitions at the same time.
+     * Implementations of {@link #loadSingleBatch(Transaction, int, Map)} must
+     * therefore be safe to be called concurrently.
+     */
+    final R loadPartitioned(SecureTransaction transaction, int partitionCount) {
+        try {
+            int bufferSize = bufferSize();
+            List<Runnable> tasks = IntStream.range(0, partitionCount)
+                .mapToObj(partition -> (Runnable) () -> {
+                    BatchLoadResult result = transaction.apply((tx, ktx) -> loadSingleBatch(
+                        tx,
+                        bufferSize,
+                        partitionParameters(partition, partitionCount)
+                    ));
+                    synchronized (this) {
+                        updateCounts(result);
+                    }
+                })
+                .collect(Collectors.toList());
+            ParallelUtil.runWithConcurrency(cypherConfig.readConcurrency(), tasks, loadingContext.executor());
+            return result();
+        } catch (AuthorizationViolationException ex) {
+            throw new IllegalArgumentException(formatWithLocale("Query must be read only. Query: [%s]", loadQuery));
+        }
+    }
+
+    private int bufferSize() {
+        return recordCount == NO_COUNT
+            ? RecordsBatchBuffer.DEFAULT_BUFFER_SIZE
+            : (int) Math.min(recordCount, RecordsBatchBuffer.DEFAULT_BUFFER_SIZE);
+    }
+
+    private Map<String, Object> partitionParameters(int partition, int partitionCount) {
+        Map<String, Object> parameters = new HashMap<>(cypherConfig.parameters());
+        parameters.put(PARTITION_PARAMETER, partition);
+        parameters.put(PARTITION_COUNT_PARAMETER, partitionCount);
+        return parameters;
+    }
+
     abstract QueryType queryType();
 
     abstract BatchLoadResult loadSingleBatch(
         Transaction tx,
-        int bufferSize
+        int bufferSize,
+        Map<String, Object> queryParameters
     );
 
     abstract void updateCounts(BatchLoadResult result);
@@ -113,8 +161,8 @@ abstract class CypherRecordLoader<R> {
             .collect(Collectors.toList());
     }
 
-    Result runLoadingQuery(Transaction tx) {
-        Result result = runQueryWithoutClosingTheResult(tx, loadQuery, cypherConfig.parameters());
+    Result runLoadingQuery(Transaction tx, Map<String, Object> queryParameters) {
+        Result result = runQueryWithoutClosingTheResult(tx, loadQuery, queryParameters);
         validateMandatoryColumns(Lists.newArrayList(result.columns().iterator()));
         return result;
     }
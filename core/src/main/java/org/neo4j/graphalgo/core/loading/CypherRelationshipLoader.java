@@ -131,31 +131,15 @@ class CypherRelationshipLoader extends CypherRecordLoader<CypherRelationshipLoad
     }
 
     @Override
-    BatchLoadResult loadSingleBatch(Transaction tx, int bufferSize) {
-        Result queryResult = runLoadingQuery(tx);
+    BatchLoadResult loadSingleBatch(Transaction tx, int bufferSize, Map<String, Object> queryParameters) {
+        Result queryResult = runLoadingQuery(tx, queryParameters);
 
         List<String> allColumns = queryResult.columns();
 
         // If the user specifies property mappings, we use those.
         // Otherwise, we create new property mappings from the result columns.
         // We do that only once, as each batch has the same columns.
-        Collection<String> propertyColumns = getPropertyColumns(queryResult);
-        if (!initializedFromResult) {
-
-            List<PropertyMapping> propertyMappings = propertyColumns
-                .stream()
-                .map(propertyColumn -> PropertyMapping.of(
-                    propertyColumn,
-                    propertyColumn,
-                    NO_PROPERTY_VALUE,
-                    Aggregation.NONE
-                ))
-                .collect(Collectors.toList());
-
-            initFromPropertyMappings(PropertyMappings.of(propertyMappings));
-
-            initializedFromResult = true;
-        }
+        initFromPropertyColumns(getPropertyColumns(queryResult));
 
         boolean isAnyRelTypeQuery = !allColumns.contains(RelationshipRowVisitor.TYPE_COLUMN);
 
@@ -178,6 +162,25 @@ class CypherRelationshipLoader extends CypherRecordLoader<CypherRelationshipLoad
         return new BatchLoadResult(visitor.rows(), -1L);
     }
 
+    private synchronized void initFromPropertyColumns(Collection<String> propertyColumns) {
+        if (!initializedFromResult) {
+
+            List<PropertyMapping> propertyMappings = propertyColumns
+                .stream()
+                .map(propertyColumn -> PropertyMapping.of(
+                    propertyColumn,
+                    propertyColumn,
+                    NO_PROPERTY_VALUE,
+                    Aggregation.NONE
+                ))
+                .collect(Collectors.toList());
+
+            initFromPropertyMappings(PropertyMappings.of(propertyMappings));
+
+            initializedFromResult = true;
+        }
+    }
+
     @Override
     void updateCounts(BatchLoadResult result) { }
 
@@ -253,7 +256,11 @@ class CypherRelationshipLoader extends CypherRecordLoader<CypherRelationshipLoad
                 .properties(propertyMappings)
                 .build();
 
-            RelationshipsBuilder builder = new RelationshipsBuilder(projection, loadingContext.tracker());
+            RelationshipsBuilder builder = new RelationshipsBuilder(
+                projection,
+                cypherConfig.adjacencyCompression(),
+                loadingContext.tracker()
+            );
 
             allBuilders.put(relationshipType, builder);
 
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.loading;
+
+import org.neo4j.graphalgo.api.NodeProperties;
+import org.neo4j.graphalgo.api.ValueType;
+import org.neo4j.graphalgo.core.utils.paged.HugeSparseFloatMatrix;
+
+/**
+ * Float vector node properties, stored in flat pages that are only allocated for nodes with a value.
+ * Nodes without a value resolve to a vector filled with the default value.
+ */
+public final class FloatArrayNodePropertyColumn implements NodeProperties {
+
+    private HugeSparseFloatMatrix values;
+
+    public FloatArrayNodePropertyColumn(HugeSparseFloatMatrix values) {
+        this.values = values;
+    }
+
+    /**
+     * The stored vectors, which must not be modified.
+     */
+    public HugeSparseFloatMatrix values() {
+        return values;
+    }
+
+    public int dimension() {
+        return values.columns();
+    }
+
+    @Override
+    public ValueType valueType() {
+        return ValueType.FLOAT_ARRAY;
+    }
+
+    @Override
+    public double nodeProperty(long nodeId) {
+        throw new UnsupportedOperationException("Can not read vector properties as double.");
+    }
+
+    @Override
+    public float[] floatArrayValue(long nodeId) {
+        return values.getRow(nodeId);
+    }
+
+    @Override
+    public double[] doubleArrayValue(long nodeId) {
+        double[] vector = new double[values.columns()];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = values.get(nodeId, i);
+        }
+        return vector;
+    }
+
+    @Override
+    public long release() {
+        if (values != null) {
+            long freed = values.release();
+            values = null;
+            return freed;
+        }
+        return 0L;
+    }
+
+    @Override
+    public long size() {
+        return values.rows();
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.loading;
+
+import org.neo4j.graphalgo.api.NodeProperties;
+import org.neo4j.graphalgo.api.ValueType;
+import org.neo4j.graphalgo.core.utils.paged.HugeFloatMatrix;
+
+/**
+ * Float node properties, stored in a single column matrix with half the memory of double properties.
+ * Nodes without a value store the default value.
+ */
+public final class FloatNodePropertyColumn implements NodeProperties {
+
+    private HugeFloatMatrix values;
+
+    public FloatNodePropertyColumn(HugeFloatMatrix values) {
+        assert values.columns() == 1;
+        this.values = values;
+    }
+
+    /**
+     * The stored values, which must not be modified.
+     */
+    public HugeFloatMatrix values() {
+        return values;
+    }
+
+    @Override
+    public ValueType valueType() {
+        return ValueType.FLOAT;
+    }
+
+    @Override
+    public double nodeProperty(long nodeId) {
+        return values.get(nodeId, 0);
+    }
+
+    @Override
+    public float floatValue(long nodeId) {
+        return values.get(nodeId, 0);
+    }
+
+    @Override
+    public long release() {
+        if (values != null) {
+            long freed = values.release();
+            values = null;
+            return freed;
+        }
+        return 0L;
+    }
+
+    @Override
+    public long size() {
+        return values.rows();
+    }
+}
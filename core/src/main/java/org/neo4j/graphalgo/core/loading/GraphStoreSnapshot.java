@@ -0,0 +1,1144 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.loading;
+
+import com.carrotsearch.hppc.BitSet;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.graphalgo.NodeLabel;
+import org.neo4j.graphalgo.Orientation;
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.api.GraphStore;
+import org.neo4j.graphalgo.api.GraphStore.PropertyState;
+import org.neo4j.graphalgo.api.NodeProperties;
+import org.neo4j.graphalgo.api.ValueType;
+import org.neo4j.graphalgo.config.GraphCreateConfig;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.huge.AdjacencyEncoding;
+import org.neo4j.graphalgo.core.huge.AdjacencyList;
+import org.neo4j.graphalgo.core.huge.AdjacencyOffsets;
+import org.neo4j.graphalgo.core.huge.HugeGraph;
+import org.neo4j.graphalgo.core.huge.ImmutablePropertyCSR;
+import org.neo4j.graphalgo.core.huge.ImmutableTopologyCSR;
+import org.neo4j.graphalgo.core.huge.PropertyEncoding;
+import org.neo4j.graphalgo.core.utils.mem.MemoryUsage;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeCursor;
+import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeFloatMatrix;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeSparseDoubleMatrix;
+import org.neo4j.graphalgo.core.utils.paged.HugeSparseFloatMatrix;
+import org.neo4j.graphalgo.core.utils.paged.HugeSparseLongArray;
+import org.neo4j.graphalgo.core.utils.paged.PagedLongLongMap;
+import org.neo4j.values.storable.NumberType;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Writes a {@link CSRGraphStore} into a versioned set of binary files and reads it back.
+ * <p>
+ * A snapshot is a directory containing a {@value #META_FILE} file, which describes
+ * the schema of the graph and references one data file per stored structure:
+ * the id map, the label bit sets, each node property and the compressed adjacency
+ * lists and offsets for each relationship type and relationship property, including
+ * the inverse adjacency lists of types that have been projected with an inverse index.
+ * <p>
+ * Huge arrays and adjacency pages are written page by page. On restore, the pages are
+ * bulk-read into freshly allocated pages of the same layout, so neither the adjacency
+ * lists need to be compressed again nor the offsets recomputed. Only the sparse mapping
+ * from original to internal node ids is rebuilt, in parallel.
+ * <p>
+ * The meta file also stores the create config of the graph and the user that created it.
+ * It is written last and acts as a commit marker: directories without
+ * a meta file are not considered to be a snapshot.
+ * All data files use little-endian byte order.
+ */
+public final class GraphStoreSnapshot {
+
+    public static final int VERSION = 1;
+
+    static final String META_FILE = "graph.meta";
+
+    private static final int MAGIC = 0x47445353;
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final int NULL_PAGE = -1;
+
+    private GraphStoreSnapshot() {}
+
+    public static boolean exists(Path directory) {
+        return Files.isRegularFile(directory.resolve(META_FILE));
+    }
+
+    public static void write(
+        GraphStore graphStore,
+        GraphCreateConfig createConfig,
+        Path directory,
+        int concurrency
+    ) throws IOException {
+        if (!(graphStore instanceof CSRGraphStore)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Snapshots are not supported for graph stores of type %s.",
+                graphStore.getClass().getSimpleName()
+            ));
+        }
+        CSRGraphStore csrGraphStore = (CSRGraphStore) graphStore;
+        IdMap idMap = csrGraphStore.idMap();
+
+        Files.createDirectories(directory);
+        Files.deleteIfExists(directory.resolve(META_FILE));
+
+        List<DataFileTask> dataFiles = new ArrayList<>();
+        ByteArrayMetaOutput meta = new ByteArrayMetaOutput();
+
+        SnapshotCreateConfig.write(meta.out, createConfig);
+        meta.writeLong(idMap.nodeCount());
+        meta.writeLong(idMap.nodeMappingCapacity());
+        dataFiles.add(DataFileTask.write(directory.resolve("nodes.ids"), out -> writeLongArray(out, idMap.graphIds())));
+
+        Map<NodeLabel, BitSet> labelInformation = idMap.labelInformation();
+        meta.writeInt(labelInformation.size());
+        int labelIndex = 0;
+        for (Map.Entry<NodeLabel, BitSet> entry : labelInformation.entrySet()) {
+            String fileName = "labels_" + labelIndex++ + ".bin";
+            meta.writeUTF(entry.getKey().name);
+            meta.writeUTF(fileName);
+            BitSet bitSet = entry.getValue();
+            dataFiles.add(DataFileTask.write(directory.resolve(fileName), out -> {
+                out.writeInt(bitSet.wlen);
+                out.writeLongs(bitSet.bits, 0, bitSet.wlen);
+            }));
+        }
+
+        List<Map.Entry<NodeLabel, CSRGraphStore.NodeProperty>> nodeProperties = new ArrayList<>();
+        csrGraphStore.nodePropertyStores().forEach((label, store) -> store
+            .nodeProperties()
+            .values()
+            .forEach(property -> nodeProperties.add(Map.entry(label, property))));
+        meta.writeInt(nodeProperties.size());
+        for (int i = 0; i < nodeProperties.size(); i++) {
+            String fileName = "node_properties_" + i + ".bin";
+            NodeLabel label = nodeProperties.get(i).getKey();
+            CSRGraphStore.NodeProperty property = nodeProperties.get(i).getValue();
+            meta.writeUTF(label.name);
+            meta.writeUTF(property.key());
+            meta.writeUTF(property.type().name());
+            meta.writeUTF(property.state().name());
+            NodeProperties values = property.values();
+            ValueType valueType = values.valueType();
+            int dimension = valueType.isArray() ? vectorDimension(values, idMap.nodeCount()) : 0;
+            meta.writeUTF(valueType.name());
+            meta.writeInt(dimension);
+            meta.writeDouble(defaultValue(values));
+            meta.writeUTF(fileName);
+            dataFiles.add(DataFileTask.write(
+                directory.resolve(fileName),
+                out -> writeNodeProperties(out, values, valueType, dimension, idMap.nodeCount())
+            ));
+        }
+
+        Map<RelationshipType, HugeGraph.TopologyCSR> topologies = csrGraphStore.topologies();
+        meta.writeInt(topologies.size());
+        int typeIndex = 0;
+        for (Map.Entry<RelationshipType, HugeGraph.TopologyCSR> entry : topologies.entrySet()) {
+            RelationshipType relationshipType = entry.getKey();
+            String filePrefix = "relationships_" + typeIndex++;
+            meta.writeUTF(relationshipType.name);
+            writeCSR(meta, dataFiles, directory, filePrefix, entry.getValue());
+
+            writeRelationshipProperties(
+                meta,
+                dataFiles,
+                directory,
+                filePrefix + "_property_",
+                csrGraphStore.relationshipPropertyStores().get(relationshipType)
+            );
+
+            HugeGraph.TopologyCSR inverseTopology = csrGraphStore.inverseTopologies().get(relationshipType);
+            meta.writeBoolean(inverseTopology != null);
+            if (inverseTopology != null) {
+                writeCSR(meta, dataFiles, directory, filePrefix + "_inverse", inverseTopology);
+                writeRelationshipProperties(
+                    meta,
+                    dataFiles,
+                    directory,
+                    filePrefix + "_inverse_property_",
+                    csrGraphStore.inverseRelationshipPropertyStores().get(relationshipType)
+                );
+            }
+        }
+
+        runAll(dataFiles, concurrency);
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(directory.resolve(
+            META_FILE))))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            meta.writeTo(out);
+        }
+    }
+
+    /**
+     * Reads the config the snapshotted graph has been created with, including the user that created it.
+     */
+    public static GraphCreateConfig readCreateConfig(Path directory, String graphName) throws IOException {
+        if (!exists(directory)) {
+            throw new IllegalArgumentException(formatWithLocale("No graph snapshot found at `%s`.", directory));
+        }
+        try (DataInputStream meta = openMeta(directory)) {
+            return SnapshotCreateConfig.read(meta, graphName);
+        }
+    }
+
+    public static GraphStore read(Path directory, int concurrency, AllocationTracker tracker) throws IOException {
+        if (!exists(directory)) {
+            throw new IllegalArgumentException(formatWithLocale("No graph snapshot found at `%s`.", directory));
+        }
+
+        List<DataFileTask> dataFiles = new ArrayList<>();
+
+        try (DataInputStream meta = openMeta(directory)) {
+            SnapshotCreateConfig.skip(meta);
+
+            long nodeCount = meta.readLong();
+            long nodeMappingCapacity = meta.readLong();
+            HugeLongArray graphIds = HugeLongArray.newArray(nodeCount, tracker);
+            dataFiles.add(DataFileTask.read(directory.resolve("nodes.ids"), in -> readLongArray(in, graphIds)));
+
+            int labelCount = meta.readInt();
+            Map<NodeLabel, BitSet> labelInformation = new HashMap<>();
+            for (int i = 0; i < labelCount; i++) {
+                NodeLabel label = NodeLabel.of(meta.readUTF());
+                dataFiles.add(DataFileTask.read(directory.resolve(meta.readUTF()), in -> {
+                    int wordCount = in.readInt();
+                    long[] words = new long[wordCount];
+                    in.readLongs(words, 0, wordCount);
+                    tracker.add(MemoryUsage.sizeOfLongArray(wordCount));
+                    synchronized (labelInformation) {
+                        labelInformation.put(label, new BitSet(words, wordCount));
+                    }
+                }));
+            }
+
+            int nodePropertyCount = meta.readInt();
+            Map<NodeLabel, Map<String, CSRGraphStore.NodeProperty>> nodeProperties = new HashMap<>();
+            for (int i = 0; i < nodePropertyCount; i++) {
+                NodeLabel label = NodeLabel.of(meta.readUTF());
+                String propertyKey = meta.readUTF();
+                NumberType type = NumberType.valueOf(meta.readUTF());
+                PropertyState state = PropertyState.valueOf(meta.readUTF());
+                ValueType valueType = ValueType.valueOf(meta.readUTF());
+                int dimension = meta.readInt();
+                double defaultValue = meta.readDouble();
+                Path file = directory.resolve(meta.readUTF());
+                NodeProperties properties;
+                switch (valueType) {
+                    case LONG:
+                        PagedLongLongMap longs = PagedLongLongMap.of(nodeCount, tracker, concurrency);
+                        dataFiles.add(DataFileTask.read(file, in -> readLongNodeProperties(in, longs, nodeCount)));
+                        properties = new LongNodePropertyColumn(longs, defaultValue);
+                        break;
+                    case FLOAT:
+                        HugeFloatMatrix floats = HugeFloatMatrix.newMatrix(nodeCount, 1, tracker);
+                        dataFiles.add(DataFileTask.read(file, in -> readFloatMatrix(in, floats)));
+                        properties = new FloatNodePropertyColumn(floats);
+                        break;
+                    case FLOAT_ARRAY:
+                        HugeSparseFloatMatrix floatVectors = HugeSparseFloatMatrix.of(
+                            nodeCount,
+                            dimension,
+                            (float) defaultValue,
+                            tracker
+                        );
+                        dataFiles.add(DataFileTask.read(file, in -> readFloatVectors(in, floatVectors, nodeCount)));
+                        properties = new FloatArrayNodePropertyColumn(floatVectors);
+                        break;
+                    case DOUBLE_ARRAY:
+                        HugeSparseDoubleMatrix doubleVectors = HugeSparseDoubleMatrix.of(
+                            nodeCount,
+                            dimension,
+                            defaultValue,
+                            tracker
+                        );
+                        dataFiles.add(DataFileTask.read(file, in -> readDoubleVectors(in, doubleVectors, nodeCount)));
+                        properties = new DoubleArrayNodePropertyColumn(doubleVectors);
+                        break;
+                    default:
+                        SnapshotNodeProperties doubles = new SnapshotNodeProperties(HugeDoubleArray.newArray(nodeCount, tracker));
+                        dataFiles.add(DataFileTask.read(file, in -> readNodeProperties(in, doubles)));
+                        properties = doubles;
+                }
+                nodeProperties
+                    .computeIfAbsent(label, ignore -> new HashMap<>())
+                    .put(propertyKey, CSRGraphStore.NodeProperty.of(propertyKey, type, state, properties));
+            }
+
+            int relationshipTypeCount = meta.readInt();
+            Map<RelationshipType, CSRReader> topologies = new HashMap<>();
+            Map<RelationshipType, List<RelationshipPropertyReader>> relationshipProperties = new HashMap<>();
+            Map<RelationshipType, CSRReader> inverseTopologies = new HashMap<>();
+            Map<RelationshipType, List<RelationshipPropertyReader>> inverseRelationshipProperties = new HashMap<>();
+            for (int i = 0; i < relationshipTypeCount; i++) {
+                RelationshipType relationshipType = RelationshipType.of(meta.readUTF());
+                topologies.put(relationshipType, readCSR(meta, dataFiles, directory, tracker));
+                List<RelationshipPropertyReader> properties = readRelationshipProperties(meta, dataFiles, directory, tracker);
+                if (!properties.isEmpty()) {
+                    relationshipProperties.put(relationshipType, properties);
+                }
+
+                if (meta.readBoolean()) {
+                    inverseTopologies.put(relationshipType, readCSR(meta, dataFiles, directory, tracker));
+                    List<RelationshipPropertyReader> inverseProperties = readRelationshipProperties(meta, dataFiles, directory, tracker);
+                    if (!inverseProperties.isEmpty()) {
+                        inverseRelationshipProperties.put(relationshipType, inverseProperties);
+                    }
+                }
+            }
+
+            runAll(dataFiles, concurrency);
+
+            HugeSparseLongArray nodeToGraphIds = IdMapBuilder.buildSparseNodeMapping(
+                graphIds,
+                nodeMappingCapacity,
+                concurrency,
+                IdMapBuilder.add(graphIds),
+                tracker
+            );
+            IdMap idMap = new IdMap(graphIds, nodeToGraphIds, labelInformation, nodeCount);
+
+            Map<NodeLabel, CSRGraphStore.NodePropertyStore> nodePropertyStores = new HashMap<>();
+            nodeProperties.forEach((label, properties) -> {
+                CSRGraphStore.NodePropertyStore.Builder builder = CSRGraphStore.NodePropertyStore.builder();
+                properties.forEach(builder::putIfAbsent);
+                nodePropertyStores.put(label, builder.build());
+            });
+
+            return CSRGraphStore.fromStores(
+                idMap,
+                nodePropertyStores,
+                topologyCSRs(topologies),
+                relationshipPropertyStores(relationshipProperties),
+                topologyCSRs(inverseTopologies),
+                relationshipPropertyStores(inverseRelationshipProperties),
+                concurrency,
+                tracker
+            );
+        }
+    }
+
+    private static DataInputStream openMeta(Path directory) throws IOException {
+        DataInputStream meta = new DataInputStream(new BufferedInputStream(Files.newInputStream(directory.resolve(
+            META_FILE))));
+        try {
+            if (meta.readInt() != MAGIC) {
+                throw new IllegalArgumentException(formatWithLocale("`%s` is not a graph snapshot.", directory));
+            }
+            int version = meta.readInt();
+            if (version != VERSION) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Unsupported graph snapshot version %d, expected version %d.",
+                    version,
+                    VERSION
+                ));
+            }
+            return meta;
+        } catch (IOException | RuntimeException e) {
+            meta.close();
+            throw e;
+        }
+    }
+
+    private static void writeRelationshipProperties(
+        ByteArrayMetaOutput meta,
+        List<DataFileTask> dataFiles,
+        Path directory,
+        String filePrefix,
+        @Nullable CSRGraphStore.RelationshipPropertyStore propertyStore
+    ) {
+        List<CSRGraphStore.RelationshipProperty> properties = propertyStore == null
+            ? List.of()
+            : new ArrayList<>(propertyStore.values());
+        meta.writeInt(properties.size());
+        for (int i = 0; i < properties.size(); i++) {
+            CSRGraphStore.RelationshipProperty property = properties.get(i);
+            meta.writeUTF(property.key());
+            meta.writeUTF(property.type().name());
+            meta.writeUTF(property.state().name());
+            meta.writeDouble(property.values().defaultPropertyValue());
+            writeCSR(meta, dataFiles, directory, filePrefix + i, property.values());
+        }
+    }
+
+    private static List<RelationshipPropertyReader> readRelationshipProperties(
+        DataInputStream meta,
+        List<DataFileTask> dataFiles,
+        Path directory,
+        AllocationTracker tracker
+    ) throws IOException {
+        int propertyCount = meta.readInt();
+        List<RelationshipPropertyReader> properties = new ArrayList<>(propertyCount);
+        for (int j = 0; j < propertyCount; j++) {
+            properties.add(new RelationshipPropertyReader(
+                meta.readUTF(),
+                NumberType.valueOf(meta.readUTF()),
+                PropertyState.valueOf(meta.readUTF()),
+                meta.readDouble(),
+                readCSR(meta, dataFiles, directory, tracker)
+            ));
+        }
+        return properties;
+    }
+
+    private static Map<RelationshipType, HugeGraph.TopologyCSR> topologyCSRs(Map<RelationshipType, CSRReader> topologies) {
+        Map<RelationshipType, HugeGraph.TopologyCSR> topologyCSRs = new HashMap<>();
+        topologies.forEach((type, csr) -> topologyCSRs.put(type, csr.topology()));
+        return topologyCSRs;
+    }
+
+    private static Map<RelationshipType, CSRGraphStore.RelationshipPropertyStore> relationshipPropertyStores(
+        Map<RelationshipType, List<RelationshipPropertyReader>> relationshipProperties
+    ) {
+        Map<RelationshipType, CSRGraphStore.RelationshipPropertyStore> relationshipPropertyStores = new HashMap<>();
+        relationshipProperties.forEach((type, properties) -> {
+            CSRGraphStore.RelationshipPropertyStore.Builder builder = CSRGraphStore.RelationshipPropertyStore.builder();
+            properties.forEach(property -> builder.putIfAbsent(property.key, property.build()));
+            relationshipPropertyStores.put(type, builder.build());
+        });
+        return relationshipPropertyStores;
+    }
+
+    private static void writeCSR(
+        ByteArrayMetaOutput meta,
+        List<DataFileTask> dataFiles,
+        Path directory,
+        String filePrefix,
+        HugeGraph.TopologyCSR csr
+    ) {
+        String adjacencyFile = filePrefix + ".adjacency";
+        String offsetsFile = filePrefix + ".offsets";
+        meta.writeUTF(csr.orientation().name());
+        meta.writeLong(csr.elementCount());
+        meta.writeUTF(adjacencyFile);
+        meta.writeUTF(offsetsFile);
+        dataFiles.add(DataFileTask.write(directory.resolve(adjacencyFile), out -> writeAdjacencyList(out, csr.list())));
+        dataFiles.add(DataFileTask.write(directory.resolve(offsetsFile), out -> writeOffsets(out, csr.offsets())));
+    }
+
+    private static CSRReader readCSR(
+        DataInputStream meta,
+        List<DataFileTask> dataFiles,
+        Path directory,
+        AllocationTracker tracker
+    ) throws IOException {
+        CSRReader reader = new CSRReader(Orientation.valueOf(meta.readUTF()), meta.readLong());
+        dataFiles.add(DataFileTask.read(
+            directory.resolve(meta.readUTF()),
+            in -> reader.adjacencyList = readAdjacencyList(in, tracker)
+        ));
+        dataFiles.add(DataFileTask.read(
+            directory.resolve(meta.readUTF()),
+            in -> reader.offsets = readOffsets(in, tracker)
+        ));
+        return reader;
+    }
+
+    private static void writeLongArray(DataFileWriter out, HugeLongArray array) throws IOException {
+        out.writeLong(array.size());
+        try (HugeCursor<long[]> cursor = array.initCursor(array.newCursor())) {
+            while (cursor.next()) {
+                out.writeLongs(cursor.array, cursor.offset, cursor.limit - cursor.offset);
+            }
+        }
+    }
+
+    private static void readLongArray(DataFileReader in, HugeLongArray array) throws IOException {
+        checkSize(in.readLong(), array.size());
+        try (HugeCursor<long[]> cursor = array.initCursor(array.newCursor())) {
+            while (cursor.next()) {
+                in.readLongs(cursor.array, cursor.offset, cursor.limit - cursor.offset);
+            }
+        }
+    }
+
+    /**
+     * The dimension of a vector property is taken from the first node that has a value.
+     */
+    private static int vectorDimension(NodeProperties properties, long nodeCount) {
+        if (properties instanceof DoubleArrayNodePropertyColumn) {
+            return ((DoubleArrayNodePropertyColumn) properties).dimension();
+        }
+        if (properties instanceof FloatArrayNodePropertyColumn) {
+            return ((FloatArrayNodePropertyColumn) properties).dimension();
+        }
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            double[] vector = properties.doubleArrayValue(nodeId);
+            if (vector != null) {
+                return vector.length;
+            }
+        }
+        return 0;
+    }
+
+    private static void writeNodeProperties(
+        DataFileWriter out,
+        NodeProperties properties,
+        ValueType valueType,
+        int dimension,
+        long nodeCount
+    ) throws IOException {
+        switch (valueType) {
+            case LONG:
+                writeLongNodeProperties(out, properties, nodeCount);
+                break;
+            case DOUBLE_ARRAY:
+            case FLOAT_ARRAY:
+                writeVectorNodeProperties(out, properties, dimension, nodeCount);
+                break;
+            default:
+                writeDoubleNodeProperties(out, properties, nodeCount);
+        }
+    }
+
+    /**
+     * Long properties are written in blocks of 64 nodes: a word marking the nodes that have a value,
+     * followed by the values of those nodes.
+     * Nodes without a value are not written, since no long value can be used as a marker.
+     */
+    private static void writeLongNodeProperties(DataFileWriter out, NodeProperties properties, long nodeCount) throws IOException {
+        PagedLongLongMap column = properties instanceof LongNodePropertyColumn
+            ? ((LongNodePropertyColumn) properties).values()
+            : null;
+        out.writeLong(nodeCount);
+        long[] values = new long[Long.SIZE];
+        for (long start = 0; start < nodeCount; start += Long.SIZE) {
+            int length = (int) Math.min(Long.SIZE, nodeCount - start);
+            long presence = 0L;
+            int count = 0;
+            for (int i = 0; i < length; i++) {
+                long nodeId = start + i;
+                boolean hasValue = column != null
+                    ? column.containsKey(nodeId)
+                    : !Double.isNaN(properties.nodeProperty(nodeId));
+                if (hasValue) {
+                    presence |= 1L << i;
+                    values[count++] = properties.longValue(nodeId);
+                }
+            }
+            out.writeLong(presence);
+            out.writeLongs(values, 0, count);
+        }
+    }
+
+    private static void readLongNodeProperties(DataFileReader in, PagedLongLongMap values, long nodeCount) throws IOException {
+        checkSize(in.readLong(), nodeCount);
+        long[] buffer = new long[Long.SIZE];
+        for (long start = 0; start < nodeCount; start += Long.SIZE) {
+            long presence = in.readLong();
+            in.readLongs(buffer, 0, Long.bitCount(presence));
+            int index = 0;
+            while (presence != 0L) {
+                values.put(start + Long.numberOfTrailingZeros(presence), buffer[index++]);
+                presence &= presence - 1;
+            }
+        }
+    }
+
+    private static double defaultValue(NodeProperties properties) {
+        if (properties instanceof LongNodePropertyColumn) {
+            return ((LongNodePropertyColumn) properties).defaultValue();
+        }
+        if (properties instanceof FloatArrayNodePropertyColumn) {
+            return ((FloatArrayNodePropertyColumn) properties).values().defaultValue();
+        }
+        if (properties instanceof DoubleArrayNodePropertyColumn) {
+            return ((DoubleArrayNodePropertyColumn) properties).values().defaultValue();
+        }
+        return Double.NaN;
+    }
+
+    private static void writeVectorNodeProperties(
+        DataFileWriter out,
+        NodeProperties properties,
+        int dimension,
+        long nodeCount
+    ) throws IOException {
+        out.writeLong(nodeCount);
+        double[] missing = new double[dimension];
+        Arrays.fill(missing, Double.NaN);
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            double[] vector = properties.doubleArrayValue(nodeId);
+            if (vector == null) {
+                vector = missing;
+            } else if (vector.length != dimension) {
+                throw new IllegalStateException(formatWithLocale(
+                    "Expected vectors of dimension %d, but node %d has a vector of dimension %d",
+                    dimension,
+                    nodeId,
+                    vector.length
+                ));
+            }
+            out.writeDoubles(vector, 0, dimension);
+        }
+    }
+
+    private static void readFloatMatrix(DataFileReader in, HugeFloatMatrix values) throws IOException {
+        checkSize(in.readLong(), values.rows());
+        int dimension = values.columns();
+        double[] buffer = new double[dimension];
+        for (long row = 0; row < values.rows(); row++) {
+            in.readDoubles(buffer, 0, dimension);
+            for (int i = 0; i < dimension; i++) {
+                values.set(row, i, (float) buffer[i]);
+            }
+        }
+    }
+
+    /**
+     * Vectors that only contain the default value or are missing are not stored,
+     * since they read the same from an unset row.
+     */
+    private static void readFloatVectors(DataFileReader in, HugeSparseFloatMatrix values, long nodeCount) throws IOException {
+        checkSize(in.readLong(), nodeCount);
+        int dimension = values.columns();
+        double[] buffer = new double[dimension];
+        float[] vector = new float[dimension];
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            in.readDoubles(buffer, 0, dimension);
+            if (!isDefaultVector(buffer, values.defaultValue())) {
+                for (int i = 0; i < dimension; i++) {
+                    vector[i] = (float) buffer[i];
+                }
+                values.setRow(nodeId, vector);
+            }
+        }
+    }
+
+    private static void readDoubleVectors(DataFileReader in, HugeSparseDoubleMatrix values, long nodeCount) throws IOException {
+        checkSize(in.readLong(), nodeCount);
+        int dimension = values.columns();
+        double[] buffer = new double[dimension];
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            in.readDoubles(buffer, 0, dimension);
+            if (!isDefaultVector(buffer, values.defaultValue())) {
+                values.setRow(nodeId, buffer);
+            }
+        }
+    }
+
+    private static boolean isDefaultVector(double[] vector, double defaultValue) {
+        for (double value : vector) {
+            boolean isDefault = Double.isNaN(value)
+                ? Double.isNaN(defaultValue)
+                : Double.compare(value, defaultValue) == 0;
+            if (!isDefault) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeDoubleNodeProperties(DataFileWriter out, NodeProperties properties, long nodeCount) throws IOException {
+        out.writeLong(nodeCount);
+        double[] buffer = new double[BUFFER_SIZE / Double.BYTES];
+        for (long start = 0; start < nodeCount; start += buffer.length) {
+            int length = (int) Math.min(buffer.length, nodeCount - start);
+            for (int i = 0; i < length; i++) {
+                buffer[i] = properties.nodeProperty(start + i);
+            }
+            out.writeDoubles(buffer, 0, length);
+        }
+    }
+
+    private static void readNodeProperties(DataFileReader in, SnapshotNodeProperties properties) throws IOException {
+        HugeDoubleArray values = properties.values;
+        checkSize(in.readLong(), values.size());
+        long maxValue = Long.MIN_VALUE;
+        try (HugeCursor<double[]> cursor = values.initCursor(values.newCursor())) {
+            while (cursor.next()) {
+                double[] page = cursor.array;
+                in.readDoubles(page, cursor.offset, cursor.limit - cursor.offset);
+                for (int i = cursor.offset; i < cursor.limit; i++) {
+                    maxValue = Math.max(maxValue, (long) page[i]);
+                }
+            }
+        }
+        properties.maxValue = values.size() > 0 ? OptionalLong.of(maxValue) : OptionalLong.empty();
+    }
+
+    private static void writeAdjacencyList(DataFileWriter out, AdjacencyList adjacencyList) throws IOException {
+        byte[][] pages = adjacencyList.pages();
+        out.writeInt(adjacencyList.encoding().ordinal());
+        writePropertyEncoding(out, adjacencyList.propertyEncoding());
+        out.writeInt(pages.length);
+        for (byte[] page : pages) {
+            if (page == null) {
+                out.writeInt(NULL_PAGE);
+            } else {
+                out.writeInt(page.length);
+                out.writeBytes(page);
+            }
+        }
+    }
+
+    private static AdjacencyList readAdjacencyList(DataFileReader in, AllocationTracker tracker) throws IOException {
+        AdjacencyEncoding encoding = AdjacencyEncoding.values()[in.readInt()];
+        PropertyEncoding propertyEncoding = readPropertyEncoding(in, tracker);
+        int pageCount = in.readInt();
+        byte[][] pages = new byte[pageCount][];
+        tracker.add(MemoryUsage.sizeOfObjectArray(pageCount));
+        for (int i = 0; i < pageCount; i++) {
+            int length = in.readInt();
+            if (length != NULL_PAGE) {
+                pages[i] = new byte[length];
+                in.readBytes(pages[i]);
+                tracker.add(MemoryUsage.sizeOfByteArray(length));
+            }
+        }
+        return new AdjacencyList(pages, encoding, propertyEncoding);
+    }
+
+    private static void writePropertyEncoding(DataFileWriter out, PropertyEncoding encoding) throws IOException {
+        double[] dictionary = encoding.dictionary();
+        out.writeInt(encoding.type().ordinal());
+        out.writeLong(Double.doubleToLongBits(encoding.scale()));
+        out.writeInt(dictionary.length);
+        out.writeDoubles(dictionary, 0, dictionary.length);
+    }
+
+    private static PropertyEncoding readPropertyEncoding(DataFileReader in, AllocationTracker tracker) throws IOException {
+        PropertyEncoding.Type type = PropertyEncoding.Type.values()[in.readInt()];
+        double scale = Double.longBitsToDouble(in.readLong());
+        double[] dictionary = new double[in.readInt()];
+        in.readDoubles(dictionary, 0, dictionary.length);
+        PropertyEncoding encoding = PropertyEncoding.of(type, scale, dictionary);
+        tracker.add(encoding.memoryUsage());
+        return encoding;
+    }
+
+    private static void writeOffsets(DataFileWriter out, AdjacencyOffsets offsets) throws IOException {
+        long[][] pages = offsets.pages();
+        out.writeInt(offsets.pageSize());
+        out.writeInt(pages.length);
+        for (long[] page : pages) {
+            out.writeInt(page.length);
+            out.writeLongs(page, 0, page.length);
+        }
+    }
+
+    private static AdjacencyOffsets readOffsets(DataFileReader in, AllocationTracker tracker) throws IOException {
+        int pageSize = in.readInt();
+        int pageCount = in.readInt();
+        long[][] pages = new long[pageCount][];
+        tracker.add(MemoryUsage.sizeOfObjectArray(pageCount));
+        for (int i = 0; i < pageCount; i++) {
+            int length = in.readInt();
+            pages[i] = new long[length];
+            in.readLongs(pages[i], 0, length);
+            tracker.add(MemoryUsage.sizeOfLongArray(length));
+        }
+        return AdjacencyOffsets.of(pages, pageSize);
+    }
+
+    private static void checkSize(long actual, long expected) throws IOException {
+        if (actual != expected) {
+            throw new IOException(formatWithLocale(
+                "Corrupted graph snapshot: expected %d elements, but found %d.",
+                expected,
+                actual
+            ));
+        }
+    }
+
+    private static void runAll(List<DataFileTask> dataFiles, int concurrency) throws IOException {
+        AtomicReference<IOException> error = new AtomicReference<>();
+        List<Runnable> tasks = new ArrayList<>(dataFiles.size());
+        for (DataFileTask dataFile : dataFiles) {
+            tasks.add(() -> {
+                try {
+                    dataFile.run();
+                } catch (IOException e) {
+                    error.accumulateAndGet(e, (first, next) -> {
+                        if (first == null) {
+                            return next;
+                        }
+                        first.addSuppressed(next);
+                        return first;
+                    });
+                }
+            });
+        }
+        ParallelUtil.runWithConcurrency(concurrency, tasks, Pools.DEFAULT);
+        if (error.get() != null) {
+            throw error.get();
+        }
+    }
+
+    @FunctionalInterface
+    private interface DataFileWriterConsumer {
+        void accept(DataFileWriter out) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface DataFileReaderConsumer {
+        void accept(DataFileReader in) throws IOException;
+    }
+
+    private static final class DataFileTask {
+        private final Path file;
+        private final DataFileWriterConsumer writer;
+        private final DataFileReaderConsumer reader;
+
+        static DataFileTask write(Path file, DataFileWriterConsumer writer) {
+            return new DataFileTask(file, writer, null);
+        }
+
+        static DataFileTask read(Path file, DataFileReaderConsumer reader) {
+            return new DataFileTask(file, null, reader);
+        }
+
+        private DataFileTask(Path file, DataFileWriterConsumer writer, DataFileReaderConsumer reader) {
+            this.file = file;
+            this.writer = writer;
+            this.reader = reader;
+        }
+
+        void run() throws IOException {
+            if (writer != null) {
+                try (DataFileWriter out = new DataFileWriter(file)) {
+                    writer.accept(out);
+                }
+            } else {
+                try (DataFileReader in = new DataFileReader(file)) {
+                    reader.accept(in);
+                }
+            }
+        }
+    }
+
+    private static final class CSRReader {
+        private final Orientation orientation;
+        private final long elementCount;
+        private AdjacencyList adjacencyList;
+        private AdjacencyOffsets offsets;
+
+        CSRReader(Orientation orientation, long elementCount) {
+            this.orientation = orientation;
+            this.elementCount = elementCount;
+        }
+
+        HugeGraph.TopologyCSR topology() {
+            return ImmutableTopologyCSR.of(adjacencyList, offsets, elementCount, orientation);
+        }
+
+        HugeGraph.PropertyCSR properties(double defaultPropertyValue) {
+            return ImmutablePropertyCSR.of(adjacencyList, offsets, elementCount, orientation, defaultPropertyValue);
+        }
+    }
+
+    private static final class RelationshipPropertyReader {
+        private final String key;
+        private final NumberType type;
+        private final PropertyState state;
+        private final double defaultPropertyValue;
+        private final CSRReader csr;
+
+        RelationshipPropertyReader(
+            String key,
+            NumberType type,
+            PropertyState state,
+            double defaultPropertyValue,
+            CSRReader csr
+        ) {
+            this.key = key;
+            this.type = type;
+            this.state = state;
+            this.defaultPropertyValue = defaultPropertyValue;
+            this.csr = csr;
+        }
+
+        CSRGraphStore.RelationshipProperty build() {
+            return CSRGraphStore.RelationshipProperty.of(key, type, state, csr.properties(defaultPropertyValue));
+        }
+    }
+
+    /**
+     * Node properties restored from a snapshot. Missing values have been
+     * materialized as the default value when the snapshot was written.
+     */
+    private static final class SnapshotNodeProperties implements NodeProperties {
+        private HugeDoubleArray values;
+        private OptionalLong maxValue = OptionalLong.empty();
+
+        SnapshotNodeProperties(HugeDoubleArray values) {
+            this.values = values;
+        }
+
+        @Override
+        public double nodeProperty(long nodeId) {
+            return values.get(nodeId);
+        }
+
+        @Override
+        public OptionalLong getMaxPropertyValue() {
+            return maxValue;
+        }
+
+        @Override
+        public long size() {
+            return values.size();
+        }
+
+        @Override
+        public long release() {
+            if (values != null) {
+                long freed = values.release();
+                values = null;
+                return freed;
+            }
+            return 0L;
+        }
+    }
+
+    /**
+     * Collects the meta data in memory, so that the meta file can be written after all data files.
+     */
+    private static final class ByteArrayMetaOutput {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+
+        void writeInt(int value) {
+            try {
+                out.writeInt(value);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void writeLong(long value) {
+            try {
+                out.writeLong(value);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void writeBoolean(boolean value) {
+            try {
+                out.writeBoolean(value);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void writeDouble(double value) {
+            try {
+                out.writeDouble(value);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void writeUTF(String value) {
+            try {
+                out.writeUTF(value);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void writeTo(DataOutputStream target) throws IOException {
+            out.flush();
+            bytes.writeTo(target);
+        }
+    }
+
+    private static final class DataFileWriter implements AutoCloseable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+
+        DataFileWriter(Path file) throws IOException {
+            this.channel = FileChannel.open(
+                file,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING
+            );
+            this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        void writeInt(int value) throws IOException {
+            ensureCapacity(Integer.BYTES);
+            buffer.putInt(value);
+        }
+
+        void writeLong(long value) throws IOException {
+            ensureCapacity(Long.BYTES);
+            buffer.putLong(value);
+        }
+
+        void writeLongs(long[] values, int offset, int length) throws IOException {
+            while (length > 0) {
+                ensureCapacity(Long.BYTES);
+                int count = Math.min(length, buffer.remaining() / Long.BYTES);
+                buffer.asLongBuffer().put(values, offset, count);
+                buffer.position(buffer.position() + count * Long.BYTES);
+                offset += count;
+                length -= count;
+            }
+        }
+
+        void writeDoubles(double[] values, int offset, int length) throws IOException {
+            while (length > 0) {
+                ensureCapacity(Double.BYTES);
+                int count = Math.min(length, buffer.remaining() / Double.BYTES);
+                buffer.asDoubleBuffer().put(values, offset, count);
+                buffer.position(buffer.position() + count * Double.BYTES);
+                offset += count;
+                length -= count;
+            }
+        }
+
+        void writeBytes(byte[] values) throws IOException {
+            flush();
+            ByteBuffer source = ByteBuffer.wrap(values);
+            while (source.hasRemaining()) {
+                channel.write(source);
+            }
+        }
+
+        private void ensureCapacity(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flush();
+                channel.force(false);
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    private static final class DataFileReader implements AutoCloseable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+
+        DataFileReader(Path file) throws IOException {
+            this.channel = FileChannel.open(file, StandardOpenOption.READ);
+            this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            this.buffer.limit(0);
+        }
+
+        int readInt() throws IOException {
+            ensureAvailable(Integer.BYTES);
+            return buffer.getInt();
+        }
+
+        long readLong() throws IOException {
+            ensureAvailable(Long.BYTES);
+            return buffer.getLong();
+        }
+
+        void readLongs(long[] values, int offset, int length) throws IOException {
+            while (length > 0) {
+                ensureAvailable(Long.BYTES);
+                int count = Math.min(length, buffer.remaining() / Long.BYTES);
+                buffer.asLongBuffer().get(values, offset, count);
+                buffer.position(buffer.position() + count * Long.BYTES);
+                offset += count;
+                length -= count;
+            }
+        }
+
+        void readDoubles(double[] values, int offset, int length) throws IOException {
+            while (length > 0) {
+                ensureAvailable(Double.BYTES);
+                int count = Math.min(length, buffer.remaining() / Double.BYTES);
+                buffer.asDoubleBuffer().get(values, offset, count);
+                buffer.position(buffer.position() + count * Double.BYTES);
+                offset += count;
+                length -= count;
+            }
+        }
+
+        void readBytes(byte[] values) throws IOException {
+            int buffered = Math.min(values.length, buffer.remaining());
+            buffer.get(values, 0, buffered);
+            ByteBuffer target = ByteBuffer.wrap(values, buffered, values.length - buffered);
+            while (target.hasRemaining()) {
+                if (channel.read(target) < 0) {
+                    throw new EOFException("Unexpected end of graph snapshot file.");
+                }
+            }
+        }
+
+        private void ensureAvailable(int bytes) throws IOException {
+            if (buffer.remaining() >= bytes) {
+                return;
+            }
+            buffer.compact();
+            while (buffer.position() < bytes) {
+                if (channel.read(buffer) < 0) {
+                    throw new EOFException("Unexpected end of graph snapshot file.");
+                }
+            }
+            buffer.flip();
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -26,6 +26,7 @@ import org.neo4j.graphalgo.RelationshipProjection;
 import org.neo4j.graphalgo.api.IdMapping;
 import org.neo4j.graphalgo.core.Aggregation;
 import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.huge.AdjacencyEncoding;
 import org.neo4j.graphalgo.core.huge.HugeGraph;
 import org.neo4j.graphalgo.core.utils.RawValues;
 import org.neo4j.graphalgo.core.utils.SetBitsIterable;
@@ -63,12 +64,33 @@ public final class HugeGraphUtil {
         Aggregation aggregation,
         ExecutorService executorService,
         AllocationTracker tracker
+    ) {
+        return createRelImporter(
+            idMap,
+            orientation,
+            loadRelationshipProperty,
+            aggregation,
+            AdjacencyEncoding.VAR_LONG,
+            executorService,
+            tracker
+        );
+    }
+
+    public static RelationshipsBuilder createRelImporter(
+        IdMap idMap,
+        Orientation orientation,
+        boolean loadRelationshipProperty,
+        Aggregation aggregation,
+        AdjacencyEncoding encoding,
+        ExecutorService executorService,
+        AllocationTracker tracker
     ) {
         return new RelationshipsBuilder(
             idMap,
             orientation,
             loadRelationshipProperty,
             aggregation,
+            encoding,
             executorService,
             tracker
         );
@@ -147,13 +169,33 @@ public final class HugeGraphUtil {
         private final boolean loadRelationshipProperty;
         private final ExecutorService executorService;
 
-        private long importedRelationships = 0;
+        private final LongAdder importedRelationships = new LongAdder();
+
+        public RelationshipsBuilder(
+            IdMapping idMapping,
+            Orientation orientation,
+            boolean loadRelationshipProperty,
+            Aggregation aggregation,
+            ExecutorService executorService,
+            AllocationTracker tracker
+        ) {
+            this(
+                idMapping,
+                orientation,
+                loadRelationshipProperty,
+                aggregation,
+                AdjacencyEncoding.VAR_LONG,
+                executorService,
+                tracker
+            );
+        }
 
         public RelationshipsBuilder(
             IdMapping idMapping,
             Orientation orientation,
             boolean loadRelationshipProperty,
             Aggregation aggregation,
+            AdjacencyEncoding encoding,
             ExecutorService executorService,
             AllocationTracker tracker
         ) {
@@ -180,6 +222,7 @@ public final class HugeGraphUtil {
 
             this.relationshipsBuilder = new org.neo4j.graphalgo.core.loading.RelationshipsBuilder(
                 projectionBuilder.build(),
+                encoding,
                 tracker
             );
 
@@ -239,12 +282,26 @@ public final class HugeGraphUtil {
             addFromInternal(relationship.sourceNodeId(), relationship.targetNodeId(), relationship.property());
         }
 
+        /**
+         * Creates an importer with its own batch buffer that writes into the same adjacency lists as this builder.
+         * Every thread that adds relationships concurrently must use its own importer and
+         * {@link ThreadLocalImporter#flush() flush} it before {@link #build()} is called.
+         */
+        public ThreadLocalImporter threadLocalImporter() {
+            return new ThreadLocalImporter(
+                imports,
+                loadRelationshipProperty,
+                importedRelationships,
+                new RelationshipsBatchBuffer(idMapping, -1, ParallelUtil.DEFAULT_BATCH_SIZE)
+            );
+        }
+
         public HugeGraph.Relationships build() {
             flushBuffer();
 
             ParallelUtil.run(relationshipImporter.flushTasks(), executorService);
             return HugeGraph.Relationships.of(
-                importedRelationships,
+                importedRelationships.sum(),
                 orientation,
                 relationshipsBuilder.adjacencyList(),
                 relationshipsBuilder.globalAdjacencyOffsets(),
@@ -255,11 +312,58 @@ public final class HugeGraphUtil {
         }
 
         private void flushBuffer() {
+            flush(imports, loadRelationshipProperty, relationshipBuffer, importedRelationships);
+        }
+
+        private static void flush(
+            RelationshipImporter.Imports imports,
+            boolean loadRelationshipProperty,
+            RelationshipsBatchBuffer buffer,
+            LongAdder importedRelationships
+        ) {
             RelationshipImporter.PropertyReader propertyReader = loadRelationshipProperty ? RelationshipImporter.preLoadedPropertyReader() : null;
 
-            long newImportedInOut = imports.importRelationships(relationshipBuffer, propertyReader);
-            importedRelationships += RawValues.getHead(newImportedInOut);
-            relationshipBuffer.reset();
+            long newImportedInOut = imports.importRelationships(buffer, propertyReader);
+            importedRelationships.add(RawValues.getHead(newImportedInOut));
+            buffer.reset();
+        }
+    }
+
+    public static final class ThreadLocalImporter {
+
+        private final RelationshipImporter.Imports imports;
+        private final boolean loadRelationshipProperty;
+        private final LongAdder importedRelationships;
+        private final RelationshipsBatchBuffer relationshipBuffer;
+
+        private ThreadLocalImporter(
+            RelationshipImporter.Imports imports,
+            boolean loadRelationshipProperty,
+            LongAdder importedRelationships,
+            RelationshipsBatchBuffer relationshipBuffer
+        ) {
+            this.imports = imports;
+            this.loadRelationshipProperty = loadRelationshipProperty;
+            this.importedRelationships = importedRelationships;
+            this.relationshipBuffer = relationshipBuffer;
+        }
+
+        public void addFromInternal(long source, long target) {
+            relationshipBuffer.add(source, target, -1L, -1L);
+            if (relationshipBuffer.isFull()) {
+                flush();
+            }
+        }
+
+        public void addFromInternal(long source, long target, double relationshipPropertyValue) {
+            relationshipBuffer.add(source, target, -1L, Double.doubleToLongBits(relationshipPropertyValue));
+            if (relationshipBuffer.isFull()) {
+                flush();
+            }
+        }
+
+        public void flush() {
+            RelationshipsBuilder.flush(imports, loadRelationshipProperty, relationshipBuffer, importedRelationships);
         }
     }
 
@@ -97,6 +97,18 @@ public class IdMap implements NodeMapping, NodeIterator, BatchNodeIterable {
         this.nodeCount = nodeCount;
     }
 
+    HugeLongArray graphIds() {
+        return graphIds;
+    }
+
+    Map<NodeLabel, BitSet> labelInformation() {
+        return labelInformation;
+    }
+
+    long nodeMappingCapacity() {
+        return nodeToGraphIds.getCapacity();
+    }
+
     @Override
     public long toMappedNodeId(long nodeId) {
         return nodeToGraphIds.get(nodeId);
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.loading;
+
+import org.neo4j.graphalgo.api.NodeProperties;
+import org.neo4j.graphalgo.api.ValueType;
+import org.neo4j.graphalgo.core.utils.paged.PagedLongLongMap;
+
+import java.util.OptionalLong;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Long node properties, which are stored without losing precision for values above 2^53.
+ * Values are kept in a sparse map, nodes without a value resolve to the default value.
+ */
+public final class LongNodePropertyColumn implements NodeProperties {
+
+    private PagedLongLongMap values;
+    private final double defaultValue;
+
+    public LongNodePropertyColumn(PagedLongLongMap values, double defaultValue) {
+        this.values = values;
+        this.defaultValue = defaultValue;
+    }
+
+    /**
+     * The stored values, which must not be modified.
+     */
+    public PagedLongLongMap values() {
+        return values;
+    }
+
+    public double defaultValue() {
+        return defaultValue;
+    }
+
+    @Override
+    public ValueType valueType() {
+        return ValueType.LONG;
+    }
+
+    @Override
+    public double nodeProperty(long nodeId) {
+        return nodeProperty(nodeId, defaultValue);
+    }
+
+    @Override
+    public double nodeProperty(long nodeId, double defaultValue) {
+        return values.containsKey(nodeId) ? values.getOrDefault(nodeId, 0L) : defaultValue;
+    }
+
+    @Override
+    public long longValue(long nodeId) {
+        if (values.containsKey(nodeId)) {
+            return values.getOrDefault(nodeId, 0L);
+        }
+        if (Double.isNaN(defaultValue)) {
+            throw new IllegalStateException(formatWithLocale("Node %d has no value and there is no default value.", nodeId));
+        }
+        return (long) defaultValue;
+    }
+
+    @Override
+    public OptionalLong getMaxPropertyValue() {
+        return values.getMaxValue();
+    }
+
+    @Override
+    public long release() {
+        if (values != null) {
+            long freed = values.release();
+            values = null;
+            return freed;
+        }
+        return 0L;
+    }
+
+    @Override
+    public long size() {
+        return values.size();
+    }
+}
@@ -31,6 +31,8 @@ import org.neo4j.graphalgo.api.GraphStore;
 import org.neo4j.graphalgo.api.GraphStoreFactory;
 import org.neo4j.graphalgo.config.GraphCreateFromStoreConfig;
 import org.neo4j.graphalgo.core.GraphDimensionsStoreReader;
+import org.neo4j.graphalgo.core.huge.AdjacencyEncoding;
+import org.neo4j.graphalgo.core.huge.AdjacencyIndex;
 import org.neo4j.graphalgo.core.huge.AdjacencyList;
 import org.neo4j.graphalgo.core.huge.AdjacencyOffsets;
 import org.neo4j.graphalgo.core.huge.HugeGraph;
@@ -39,6 +41,7 @@ import org.neo4j.graphalgo.core.utils.ProgressLogger;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
 import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.partition.DegreePrefixSum;
 
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -60,10 +63,22 @@ public final class NativeFactory extends GraphStoreFactory<GraphCreateFromStoreC
 
     @Override
     public MemoryEstimation memoryEstimation() {
-        return getMemoryEstimation(storeConfig.nodeProjections(), storeConfig.relationshipProjections());
+        return getMemoryEstimation(
+            storeConfig.nodeProjections(),
+            storeConfig.relationshipProjections(),
+            storeConfig.adjacencyCompression()
+        );
     }
 
     public static MemoryEstimation getMemoryEstimation(NodeProjections nodeProjections, RelationshipProjections relationshipProjections) {
+        return getMemoryEstimation(nodeProjections, relationshipProjections, AdjacencyEncoding.VAR_LONG);
+    }
+
+    public static MemoryEstimation getMemoryEstimation(
+        NodeProjections nodeProjections,
+        RelationshipProjections relationshipProjections,
+        AdjacencyEncoding adjacencyEncoding
+    ) {
         MemoryEstimations.Builder builder = MemoryEstimations.builder(HugeGraph.class);
 
         // node information
@@ -71,7 +86,7 @@ public final class NativeFactory extends GraphStoreFactory<GraphCreateFromStoreC
 
         // nodeProperties
         nodeProjections.allProperties()
-            .forEach(property -> builder.add(property, NodePropertyMap.memoryEstimation()));
+            .forEach(property -> builder.add(property, NodePropertiesBuilder.memoryEstimation()));
 
         // relationships
         relationshipProjections.projections().forEach((relationshipType, relationshipProjection) -> {
@@ -81,12 +96,22 @@ public final class NativeFactory extends GraphStoreFactory<GraphCreateFromStoreC
             // adjacency list
             builder.add(
                 formatWithLocale("adjacency list for '%s'", relationshipType),
-                AdjacencyList.compressedMemoryEstimation(relationshipType, undirected)
+                AdjacencyList.compressedMemoryEstimation(relationshipType, undirected, adjacencyEncoding)
             );
             builder.add(
                 formatWithLocale("adjacency offsets for '%s'", relationshipType),
                 AdjacencyOffsets.memoryEstimation()
             );
+            builder.add(
+                formatWithLocale("degree prefix sums for '%s'", relationshipType),
+                DegreePrefixSum.memoryEstimation()
+            );
+            if (relationshipProjection.indexRelationships()) {
+                builder.add(
+                    formatWithLocale("adjacency index for '%s'", relationshipType),
+                    AdjacencyIndex.memoryEstimation(relationshipType, undirected)
+                );
+            }
             // all properties per projection
             relationshipProjection.properties().mappings().forEach(resolvedPropertyMapping -> {
                 builder.add(
@@ -98,6 +123,27 @@ public final class NativeFactory extends GraphStoreFactory<GraphCreateFromStoreC
                     AdjacencyOffsets.memoryEstimation()
                 );
             });
+
+            if (relationshipProjection.indexInverse() && !undirected) {
+                builder.add(
+                    formatWithLocale("inverse adjacency list for '%s'", relationshipType),
+                    AdjacencyList.compressedMemoryEstimation(relationshipType, false, adjacencyEncoding)
+                );
+                builder.add(
+                    formatWithLocale("inverse adjacency offsets for '%s'", relationshipType),
+                    AdjacencyOffsets.memoryEstimation()
+                );
+                relationshipProjection.properties().mappings().forEach(resolvedPropertyMapping -> {
+                    builder.add(
+                        formatWithLocale("inverse property '%s.%s", relationshipType, resolvedPropertyMapping.propertyKey()),
+                        AdjacencyList.uncompressedMemoryEstimation(relationshipType, false)
+                    );
+                    builder.add(
+                        formatWithLocale("inverse property offset '%s.%s", relationshipType, resolvedPropertyMapping.propertyKey()),
+                        AdjacencyOffsets.memoryEstimation()
+                    );
+                });
+            }
         });
 
         return builder.build();
@@ -175,7 +221,11 @@ public final class NativeFactory extends GraphStoreFactory<GraphCreateFromStoreC
             .stream()
             .collect(Collectors.toMap(
                 Map.Entry::getKey,
-                projectionEntry -> new RelationshipsBuilder(projectionEntry.getValue(), tracker)
+                projectionEntry -> new RelationshipsBuilder(
+                    projectionEntry.getValue(),
+                    graphCreateConfig.adjacencyCompression(),
+                    tracker
+                )
             ));
 
         ObjectLongMap<RelationshipType> relationshipCounts = new ScanningRelationshipsImporter(
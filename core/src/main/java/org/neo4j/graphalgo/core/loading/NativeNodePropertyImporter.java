@@ -34,6 +34,10 @@ import org.neo4j.internal.kernel.api.PropertyCursor;
 import org.neo4j.internal.kernel.api.Read;
 import org.neo4j.io.pagecache.tracing.cursor.PageCursorTracer;
 import org.neo4j.memory.EmptyMemoryTracker;
+import org.neo4j.values.storable.FloatArray;
+import org.neo4j.values.storable.FloatingPointArray;
+import org.neo4j.values.storable.IntegralValue;
+import org.neo4j.values.storable.NumberArray;
 import org.neo4j.values.storable.NumberValue;
 import org.neo4j.values.storable.Value;
 import org.neo4j.values.storable.Values;
@@ -139,11 +143,29 @@ public final class NativeNodePropertyImporter {
         if (builders != null) {
             Value value = propertyCursor.propertyValue();
 
-            if (value instanceof NumberValue) {
+            if (value instanceof IntegralValue) {
+                long longValue = ((IntegralValue) value).longValue();
+                for (NodePropertiesBuilder builder : builders) {
+                    builder.set(nodeId, longValue);
+                    propertiesImported++;
+                }
+            } else if (value instanceof NumberValue) {
                 for (NodePropertiesBuilder builder : builders) {
                     builder.set(nodeId, ((NumberValue) value).doubleValue());
                     propertiesImported++;
                 }
+            } else if (value instanceof FloatArray) {
+                float[] vector = ((FloatArray) value).asObjectCopy();
+                for (NodePropertiesBuilder builder : builders) {
+                    builder.set(nodeId, vector);
+                    propertiesImported++;
+                }
+            } else if (value instanceof NumberArray) {
+                double[] vector = doubleVector((NumberArray) value);
+                for (NodePropertiesBuilder builder : builders) {
+                    builder.set(nodeId, vector);
+                    propertiesImported++;
+                }
             } else if (!Values.NO_VALUE.equals(value)) {
                 throw new IllegalArgumentException(formatWithLocale(
                     "Unsupported type [%s] of value %s. Please use a numeric property.",
@@ -156,6 +178,20 @@ public final class NativeNodePropertyImporter {
         return propertiesImported;
     }
 
+    private static double[] doubleVector(NumberArray array) {
+        double[] vector = new double[array.length()];
+        if (array instanceof FloatingPointArray) {
+            for (int i = 0; i < vector.length; i++) {
+                vector[i] = ((FloatingPointArray) array).doubleValue(i);
+            }
+        } else {
+            for (int i = 0; i < vector.length; i++) {
+                vector[i] = ((NumberValue) array.value(i)).doubleValue();
+            }
+        }
+        return vector;
+    }
+
     public static final class Builder {
         private long nodeCount;
         private Map<NodeLabel, PropertyMappings> propertyMappingsByLabel;
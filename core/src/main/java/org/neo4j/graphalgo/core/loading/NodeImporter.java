@@ -72,7 +72,12 @@ public class NodeImporter {
     long importCypherNodes(NodesBatchBuffer buffer, List<Map<String, Number>> cypherNodeProperties, CypherNodePropertyImporter propertyImporter) {
         return importNodes(buffer, (nodeReference, labelIds, propertiesReference, internalId) -> {
             if (propertyImporter != null) {
-                return propertyImporter.importProperties(internalId, labelIds, cypherNodeProperties.get((int) propertiesReference));
+                return propertyImporter.importProperties(
+                    internalId,
+                    labelIds,
+                    cypherNodeProperties.get((int) propertiesReference),
+                    labelTokenNodeLabelMapping
+                );
             } else {
                 return 0;
             }
@@ -123,6 +128,14 @@ public class NodeImporter {
     }
 
     private void setNodeLabelInformation(int batchLength, long startIndex, long[][] labelIds) {
+        // The label bit sets can be shared between importers that run concurrently
+        // and neither the map nor the bit sets are thread-safe.
+        synchronized (nodeLabelBitSetMapping) {
+            setNodeLabelInformationUnsynchronized(batchLength, startIndex, labelIds);
+        }
+    }
+
+    private void setNodeLabelInformationUnsynchronized(int batchLength, long startIndex, long[][] labelIds) {
         int cappedBatchLength = Math.min(labelIds.length, batchLength);
         for (int i = 0; i < cappedBatchLength; i++) {
             long[] labelIdsForNode = labelIds[i];
@@ -20,17 +20,54 @@
 package org.neo4j.graphalgo.core.loading;
 
 import org.neo4j.graphalgo.api.NodeProperties;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
 import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeSparseDoubleMatrix;
+import org.neo4j.graphalgo.core.utils.paged.HugeSparseFloatMatrix;
 import org.neo4j.graphalgo.core.utils.paged.PagedLongDoubleMap;
+import org.neo4j.graphalgo.core.utils.paged.PagedLongLongMap;
 
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
 import static org.neo4j.kernel.api.StatementConstants.NO_SUCH_PROPERTY_KEY;
 
+/**
+ * Collects the values of a node property, which may be set concurrently for different nodes.
+ * <p>
+ * The type of the built properties follows the values that have been set:
+ * only integral values result in a {@link LongNodePropertyColumn}, a mix of integral and floating point values in
+ * double values, and vectors in a {@link FloatArrayNodePropertyColumn} or {@link DoubleArrayNodePropertyColumn}.
+ * Storage for integral values and vectors is only allocated when the first such value is set.
+ * All storage is sparse and grows with the highest node id, so {@code numberOfNodes} is only a sizing hint.
+ */
 public final class NodePropertiesBuilder {
 
+    private static final MemoryEstimation MEMORY_ESTIMATION = MemoryEstimations
+        .builder(NodePropertiesBuilder.class)
+        // scalar properties end up in exactly one of the maps, which need the same amount of memory per value
+        .add("properties", PagedLongLongMap.memoryEstimation())
+        .build();
+
     private final double defaultValue;
     private final int propertyId;
     private final PagedLongDoubleMap properties;
     private final String propertyKey;
+    private final long numberOfNodes;
+    private final int concurrency;
+    private final AllocationTracker tracker;
+
+    private volatile boolean hasDoubleValues;
+    private volatile PagedLongLongMap longValues;
+    private volatile HugeSparseFloatMatrix floatVectors;
+    private volatile HugeSparseDoubleMatrix doubleVectors;
+    private volatile int dimension;
+
+    /**
+     * Vector properties are not part of the estimation, since their dimension is not known upfront.
+     */
+    static MemoryEstimation memoryEstimation() {
+        return MEMORY_ESTIMATION;
+    }
 
     public static NodePropertiesBuilder of(
         long numberOfNodes,
@@ -42,18 +79,32 @@ public final class NodePropertiesBuilder {
     ) {
         assert propertyId != NO_SUCH_PROPERTY_KEY;
         PagedLongDoubleMap properties = PagedLongDoubleMap.of(numberOfNodes, tracker, concurrency);
-        return new NodePropertiesBuilder(defaultValue, propertyId, properties, propertyKey);
+        return new NodePropertiesBuilder(
+            defaultValue,
+            propertyId,
+            properties,
+            propertyKey,
+            numberOfNodes,
+            concurrency,
+            tracker
+        );
     }
 
     private NodePropertiesBuilder(
             final double defaultValue,
             final int propertyId,
             final PagedLongDoubleMap properties,
-            final String propertyKey) {
+            final String propertyKey,
+            final long numberOfNodes,
+            final int concurrency,
+            final AllocationTracker tracker) {
         this.defaultValue = defaultValue;
         this.propertyId = propertyId;
         this.properties = properties;
         this.propertyKey = propertyKey;
+        this.numberOfNodes = numberOfNodes;
+        this.concurrency = concurrency;
+        this.tracker = tracker;
     }
 
     double defaultValue() {
@@ -69,10 +120,107 @@ public final class NodePropertiesBuilder {
     }
 
     public void set(long index, double value) {
+        if (!hasDoubleValues) {
+            hasDoubleValues = true;
+        }
         properties.put(index, value);
     }
 
+    public void set(long index, long value) {
+        PagedLongLongMap values = longValues;
+        if (values == null) {
+            values = initLongValues();
+        }
+        values.put(index, value);
+    }
+
+    public void set(long index, float[] vector) {
+        checkNotEmpty(vector.length);
+        HugeSparseFloatMatrix vectors = floatVectors;
+        if (vectors == null) {
+            vectors = initFloatVectors(vector.length);
+        }
+        checkDimension(vector.length);
+        vectors.setRow(index, vector);
+    }
+
+    public void set(long index, double[] vector) {
+        checkNotEmpty(vector.length);
+        HugeSparseDoubleMatrix vectors = doubleVectors;
+        if (vectors == null) {
+            vectors = initDoubleVectors(vector.length);
+        }
+        checkDimension(vector.length);
+        vectors.setRow(index, vector);
+    }
+
     public NodeProperties build() {
+        boolean hasScalars = hasDoubleValues || longValues != null;
+        if (floatVectors != null || doubleVectors != null) {
+            if (hasScalars || (floatVectors != null && doubleVectors != null)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Node property `%s` mixes values of different types, which is only supported for numbers.",
+                    propertyKey
+                ));
+            }
+            properties.release();
+            return floatVectors != null
+                ? new FloatArrayNodePropertyColumn(floatVectors)
+                : new DoubleArrayNodePropertyColumn(doubleVectors);
+        }
+        if (longValues == null) {
+            return new NodePropertyMap(properties, defaultValue);
+        }
+        if (!hasDoubleValues) {
+            properties.release();
+            return new LongNodePropertyColumn(longValues, defaultValue);
+        }
+        // integral values are merged into the floating point values, which can hold both
+        longValues.forEach(properties::put);
+        longValues.release();
         return new NodePropertyMap(properties, defaultValue);
     }
+
+    private synchronized PagedLongLongMap initLongValues() {
+        if (longValues == null) {
+            longValues = PagedLongLongMap.of(numberOfNodes, tracker, concurrency);
+        }
+        return longValues;
+    }
+
+    private synchronized HugeSparseFloatMatrix initFloatVectors(int vectorDimension) {
+        if (floatVectors == null) {
+            dimension = vectorDimension;
+            floatVectors = HugeSparseFloatMatrix.of(numberOfNodes, vectorDimension, (float) defaultValue, tracker);
+        }
+        return floatVectors;
+    }
+
+    private synchronized HugeSparseDoubleMatrix initDoubleVectors(int vectorDimension) {
+        if (doubleVectors == null) {
+            dimension = vectorDimension;
+            doubleVectors = HugeSparseDoubleMatrix.of(numberOfNodes, vectorDimension, defaultValue, tracker);
+        }
+        return doubleVectors;
+    }
+
+    private void checkNotEmpty(int vectorDimension) {
+        if (vectorDimension == 0) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Node property `%s` contains an empty vector, which is not supported.",
+                propertyKey
+            ));
+        }
+    }
+
+    private void checkDimension(int vectorDimension) {
+        if (vectorDimension != dimension) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Node property `%s` contains vectors of different lengths, expected %d but got %d.",
+                propertyKey,
+                dimension,
+                vectorDimension
+            ));
+        }
+    }
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.loading;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Controls how relationship properties are stored after they have been imported.
+ *
+ * @see RelationshipPropertyCompressor
+ */
+public enum RelationshipPropertyCompression {
+    /**
+     * Every value is stored as a double.
+     */
+    NONE,
+    /**
+     * Values are stored as dictionary indices, scaled ints or floats if that does not lose any precision.
+     */
+    LOSSLESS,
+    /**
+     * Like {@link #LOSSLESS}, but values that can not be stored more compactly are reduced to float precision.
+     */
+    FLOAT;
+
+    public static RelationshipPropertyCompression of(String value) {
+        try {
+            return RelationshipPropertyCompression.valueOf(value.toUpperCase(Locale.ENGLISH));
+        } catch (IllegalArgumentException e) {
+            String availableCompressions = Arrays
+                .stream(RelationshipPropertyCompression.values())
+                .map(RelationshipPropertyCompression::name)
+                .collect(Collectors.joining(", "));
+            throw new IllegalArgumentException(formatWithLocale(
+                "Relationship property compression `%s` is not supported. Must be one of: %s.",
+                value,
+                availableCompressions
+            ));
+        }
+    }
+
+    public static RelationshipPropertyCompression parse(Object object) {
+        if (object == null) {
+            return null;
+        }
+        if (object instanceof String) {
+            return of((String) object);
+        }
+        if (object instanceof RelationshipPropertyCompression) {
+            return (RelationshipPropertyCompression) object;
+        }
+        return null;
+    }
+}
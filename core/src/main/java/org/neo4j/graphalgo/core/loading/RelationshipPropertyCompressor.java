@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.loading;
+
+import com.carrotsearch.hppc.LongHashSet;
+import com.carrotsearch.hppc.cursors.LongCursor;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.huge.AdjacencyList;
+import org.neo4j.graphalgo.core.huge.AdjacencyOffsets;
+import org.neo4j.graphalgo.core.huge.PropertyEncoding;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+
+import static org.neo4j.graphalgo.core.huge.AdjacencyList.PAGE_MASK;
+import static org.neo4j.graphalgo.core.huge.AdjacencyList.PAGE_SHIFT;
+import static org.neo4j.graphalgo.core.loading.AdjacencyCompression.readDegree;
+import static org.neo4j.graphalgo.core.loading.AdjacencyCompression.writeDegree;
+import static org.neo4j.graphalgo.core.utils.paged.PageUtil.indexInPage;
+import static org.neo4j.graphalgo.core.utils.paged.PageUtil.pageIndex;
+
+/**
+ * Re-encodes an imported relationship property list, which stores every value as a double,
+ * with the most compact {@link PropertyEncoding} that its values allow.
+ *
+ * The values are scanned in parallel to collect their distinct values, whether they are exact floats
+ * and which decimal scales turn them into ints without losing precision.
+ * The encoding with the smallest memory footprint is then used to rewrite the list.
+ */
+public final class RelationshipPropertyCompressor {
+
+    private static final int MAX_SCALE_EXPONENT = 4;
+    private static final int ALL_SCALES = (1 << (MAX_SCALE_EXPONENT + 1)) - 1;
+    private static final int MAX_DICTIONARY_SIZE = 1 << Short.SIZE;
+
+    private RelationshipPropertyCompressor() {}
+
+    /**
+     * Returns the compressed property list, or the given one if it can not be compressed.
+     * The given offsets are updated in place to point into the compressed list.
+     */
+    public static AdjacencyList compress(
+        AdjacencyList properties,
+        AdjacencyOffsets offsets,
+        RelationshipPropertyCompression compression,
+        int concurrency,
+        ExecutorService executor,
+        AllocationTracker tracker
+    ) {
+        if (compression == RelationshipPropertyCompression.NONE || properties.propertyEncoding() != PropertyEncoding.DOUBLE) {
+            return properties;
+        }
+
+        byte[][] pages = properties.pages();
+        long[][] offsetPages = offsets.pages();
+
+        List<ValueStatistics> statistics = Arrays
+            .stream(offsetPages)
+            .map(offsetPage -> new ValueStatistics(pages, offsetPage))
+            .collect(Collectors.toList());
+        ParallelUtil.runWithConcurrency(concurrency, statistics, executor);
+
+        PropertyEncoding encoding = chooseEncoding(statistics, compression);
+        if (encoding == PropertyEncoding.DOUBLE) {
+            return properties;
+        }
+
+        AdjacencyListBuilder builder = AdjacencyListBuilder.newBuilder(tracker);
+        List<Runnable> tasks = Arrays
+            .stream(offsetPages)
+            .map(offsetPage -> (Runnable) () -> rewrite(pages, offsetPage, encoding, builder.newAllocator()))
+            .collect(Collectors.toList());
+        ParallelUtil.runWithConcurrency(concurrency, tasks, executor);
+
+        tracker.remove(properties.release());
+        tracker.add(encoding.memoryUsage());
+        return builder.build(encoding);
+    }
+
+    static PropertyEncoding chooseEncoding(
+        Iterable<ValueStatistics> statistics,
+        RelationshipPropertyCompression compression
+    ) {
+        LongHashSet distinctValues = new LongHashSet();
+        boolean tooManyDistinctValues = false;
+        boolean floats = true;
+        int scales = ALL_SCALES;
+        long valueCount = 0L;
+
+        for (ValueStatistics statistic : statistics) {
+            if (tooManyDistinctValues || statistic.distinctValues == null) {
+                tooManyDistinctValues = true;
+            } else {
+                distinctValues.addAll(statistic.distinctValues);
+                tooManyDistinctValues = distinctValues.size() > MAX_DICTIONARY_SIZE;
+            }
+            floats &= statistic.floats;
+            scales &= statistic.scales;
+            valueCount += statistic.valueCount;
+        }
+
+        if (valueCount == 0) {
+            return PropertyEncoding.DOUBLE;
+        }
+
+        PropertyEncoding best = PropertyEncoding.DOUBLE;
+        if (!tooManyDistinctValues) {
+            double[] dictionary = new double[distinctValues.size()];
+            int i = 0;
+            for (LongCursor value : distinctValues) {
+                dictionary[i++] = Double.longBitsToDouble(value.value);
+            }
+            best = smaller(best, PropertyEncoding.dictionary(dictionary), valueCount);
+        }
+        if (scales != 0) {
+            best = smaller(best, PropertyEncoding.scaledInts(Math.pow(10, Integer.numberOfTrailingZeros(scales))), valueCount);
+        }
+        if (floats || compression == RelationshipPropertyCompression.FLOAT) {
+            best = smaller(best, PropertyEncoding.floats(), valueCount);
+        }
+        return best;
+    }
+
+    private static PropertyEncoding smaller(PropertyEncoding current, PropertyEncoding candidate, long valueCount) {
+        return memoryUsage(candidate, valueCount) < memoryUsage(current, valueCount) ? candidate : current;
+    }
+
+    private static long memoryUsage(PropertyEncoding encoding, long valueCount) {
+        return valueCount * encoding.bytesPerValue() + encoding.memoryUsage();
+    }
+
+    private static void rewrite(
+        byte[][] pages,
+        long[] offsetPage,
+        PropertyEncoding encoding,
+        AdjacencyListBuilder.Allocator allocator
+    ) {
+        if (offsetPage == null) {
+            return;
+        }
+        boolean prepared = false;
+        for (int i = 0; i < offsetPage.length; i++) {
+            long offset = offsetPage[i];
+            if (offset == 0L) {
+                continue;
+            }
+            if (!prepared) {
+                allocator.prepare();
+                prepared = true;
+            }
+
+            byte[] page = pages[pageIndex(offset, PAGE_SHIFT)];
+            int position = indexInPage(offset, PAGE_MASK);
+            int degree = readDegree(page, position);
+            position += Integer.BYTES;
+
+            long address = allocator.allocate(Integer.BYTES + degree * encoding.bytesPerValue());
+            int out = writeDegree(allocator.page, allocator.offset, degree);
+            for (int j = 0; j < degree; j++) {
+                out = encoding.write(allocator.page, out, PropertyEncoding.DOUBLE.read(page, position));
+                position += Long.BYTES;
+            }
+            allocator.offset = out;
+            offsetPage[i] = address;
+        }
+    }
+
+    static final class ValueStatistics implements Runnable {
+
+        private final byte[][] pages;
+        private final long[] offsetPage;
+
+        private LongHashSet distinctValues;
+        private boolean floats;
+        private int scales;
+        private long valueCount;
+
+        ValueStatistics(byte[][] pages, long[] offsetPage) {
+            this.pages = pages;
+            this.offsetPage = offsetPage;
+            this.distinctValues = new LongHashSet();
+            this.floats = true;
+            this.scales = ALL_SCALES;
+        }
+
+        @Override
+        public void run() {
+            if (offsetPage == null) {
+                return;
+            }
+            for (long offset : offsetPage) {
+                if (offset == 0L) {
+                    continue;
+                }
+                byte[] page = pages[pageIndex(offset, PAGE_SHIFT)];
+                int position = indexInPage(offset, PAGE_MASK);
+                int degree = readDegree(page, position);
+                position += Integer.BYTES;
+                for (int i = 0; i < degree; i++) {
+                    accept(PropertyEncoding.DOUBLE.read(page, position));
+                    position += Long.BYTES;
+                }
+            }
+        }
+
+        void accept(double value) {
+            long bits = Double.doubleToLongBits(value);
+            if (distinctValues != null) {
+                distinctValues.add(bits);
+                if (distinctValues.size() > MAX_DICTIONARY_SIZE) {
+                    distinctValues = null;
+                }
+            }
+            if (floats && Double.doubleToLongBits((float) value) != bits) {
+                floats = false;
+            }
+            if (scales != 0) {
+                scales &= exactScales(value, bits);
+            }
+            valueCount++;
+        }
+
+        /**
+         * Returns a bit set of the exponents {@code k}, for which {@code value * 10^k} rounds to an int
+         * that can be divided by {@code 10^k} to get the exact value back.
+         */
+        private static int exactScales(double value, long bits) {
+            int exponents = 0;
+            double scale = 1D;
+            for (int exponent = 0; exponent <= MAX_SCALE_EXPONENT; exponent++) {
+                double scaled = Math.rint(value * scale);
+                if (Math.abs(scaled) <= Integer.MAX_VALUE && Double.doubleToLongBits((int) scaled / scale) == bits) {
+                    exponents |= 1 << exponent;
+                }
+                scale *= 10;
+            }
+            return exponents;
+        }
+    }
+}
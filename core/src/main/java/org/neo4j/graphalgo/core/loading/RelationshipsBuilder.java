@@ -20,21 +20,27 @@
 package org.neo4j.graphalgo.core.loading;
 
 
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.graphalgo.Orientation;
 import org.neo4j.graphalgo.RelationshipProjection;
 import org.neo4j.graphalgo.core.Aggregation;
+import org.neo4j.graphalgo.core.huge.AdjacencyEncoding;
 import org.neo4j.graphalgo.core.huge.AdjacencyList;
 import org.neo4j.graphalgo.core.huge.AdjacencyOffsets;
 import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
 
 import java.util.Arrays;
+import java.util.Optional;
 
 public class RelationshipsBuilder {
 
     private static final AdjacencyListBuilder[] EMPTY_PROPERTY_BUILDERS = new AdjacencyListBuilder[0];
 
     private final RelationshipProjection projection;
+    private final AdjacencyEncoding encoding;
     final AdjacencyListBuilder adjacencyListBuilder;
     final AdjacencyListBuilder[] propertyBuilders;
+    private final @Nullable RelationshipsBuilder inverse;
 
     AdjacencyOffsets globalAdjacencyOffsets;
     AdjacencyOffsets[] globalPropertyOffsets;
@@ -42,10 +48,19 @@ public class RelationshipsBuilder {
     public RelationshipsBuilder(
         RelationshipProjection projection,
         AllocationTracker tracker
+    ) {
+        this(projection, AdjacencyEncoding.VAR_LONG, tracker);
+    }
+
+    public RelationshipsBuilder(
+        RelationshipProjection projection,
+        AdjacencyEncoding encoding,
+        AllocationTracker tracker
     ) {
         this.projection = projection;
+        this.encoding = encoding;
 
-        adjacencyListBuilder = AdjacencyListBuilder.newBuilder(tracker);
+        adjacencyListBuilder = AdjacencyListBuilder.newBuilder(tracker, encoding);
 
         if (projection.properties().isEmpty()) {
             propertyBuilders = EMPTY_PROPERTY_BUILDERS;
@@ -53,6 +68,15 @@ public class RelationshipsBuilder {
             propertyBuilders = new AdjacencyListBuilder[projection.properties().numberOfMappings()];
             Arrays.setAll(propertyBuilders, i -> AdjacencyListBuilder.newBuilder(tracker));
         }
+
+        if (projection.indexInverse() && projection.orientation() != Orientation.UNDIRECTED) {
+            RelationshipProjection inverseProjection = RelationshipProjection.copyOf(projection)
+                .withOrientation(projection.orientation().inverse())
+                .withIndexInverse(false);
+            inverse = new RelationshipsBuilder(inverseProjection, encoding, tracker);
+        } else {
+            inverse = null;
+        }
     }
 
     final ThreadLocalRelationshipsBuilder threadLocalRelationshipsBuilder(
@@ -67,7 +91,8 @@ public class RelationshipsBuilder {
                 .toArray(AdjacencyListBuilder.Allocator[]::new),
             adjacencyOffsets,
             propertyOffsets,
-            aggregations
+            aggregations,
+            encoding
         );
     }
 
@@ -100,6 +125,14 @@ public class RelationshipsBuilder {
         return this.projection;
     }
 
+    /**
+     * The builder for the inverse adjacency of this type, which is fed from the same
+     * relationship batches. Only present if the projection requested an inverse index.
+     */
+    public Optional<RelationshipsBuilder> inverse() {
+        return Optional.ofNullable(inverse);
+    }
+
     // TODO: This returns only the first of possibly multiple properties
     public AdjacencyOffsets globalPropertyOffsets() {
         return globalPropertyOffsets[0];
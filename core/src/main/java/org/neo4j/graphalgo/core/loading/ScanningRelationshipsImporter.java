@@ -146,12 +146,31 @@ final class ScanningRelationshipsImporter extends ScanningRecordsImporter<Relati
         );
 
         RelationshipImporter importer = new RelationshipImporter(loadingContext.tracker(), adjacencyBuilder);
+
+        // the inverse index is fed from the same batches, its counter is discarded
+        // since it would only count the same relationships a second time
+        Aggregation[] finalAggregations = aggregations;
+        RelationshipImporter inverseImporter = relationshipsBuilder.inverse()
+            .map(inverseBuilder -> AdjacencyBuilder.compressing(
+                inverseBuilder,
+                numberOfPages,
+                pageSize,
+                tracker,
+                new LongAdder(),
+                propertyKeyIds,
+                defaultValues,
+                finalAggregations
+            ))
+            .map(inverseAdjacencyBuilder -> new RelationshipImporter(loadingContext.tracker(), inverseAdjacencyBuilder))
+            .orElse(null);
+
         int typeId = dimensions.relationshipTypeTokenMapping().get(relationshipType);
         return new SingleTypeRelationshipImporter.Builder(
             relationshipType,
             projection,
             typeId,
             importer,
+            inverseImporter,
             relationshipCounter,
             graphCreateConfig.validateRelationships()
         );
@@ -19,6 +19,8 @@
  */
 package org.neo4j.graphalgo.core.loading;
 
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.graphalgo.Orientation;
 import org.neo4j.graphalgo.RelationshipProjection;
 import org.neo4j.graphalgo.RelationshipType;
 import org.neo4j.graphalgo.api.IdMapping;
@@ -27,6 +29,7 @@ import org.neo4j.internal.kernel.api.CursorFactory;
 import org.neo4j.internal.kernel.api.Read;
 
 import java.util.concurrent.atomic.LongAdder;
+import java.util.Collection;
 import java.util.stream.Stream;
 
 final class SingleTypeRelationshipImporter {
@@ -57,6 +60,7 @@ final class SingleTypeRelationshipImporter {
         private final RelationshipType relationshipType;
         private final RelationshipProjection projection;
         private final RelationshipImporter importer;
+        private final @Nullable RelationshipImporter inverseImporter;
         private final LongAdder relationshipCounter;
         private final int typeId;
         private boolean validateRelationships;
@@ -69,11 +73,24 @@ final class SingleTypeRelationshipImporter {
             RelationshipImporter importer,
             LongAdder relationshipCounter,
             boolean validateRelationships
+        ) {
+            this(relationshipType, projection, typeToken, importer, null, relationshipCounter, validateRelationships);
+        }
+
+        Builder(
+            RelationshipType relationshipType,
+            RelationshipProjection projection,
+            int typeToken,
+            RelationshipImporter importer,
+            @Nullable RelationshipImporter inverseImporter,
+            LongAdder relationshipCounter,
+            boolean validateRelationships
         ) {
             this.relationshipType = relationshipType;
             this.projection = projection;
             this.typeId = typeToken;
             this.importer = importer;
+            this.inverseImporter = inverseImporter;
             this.relationshipCounter = relationshipCounter;
             this.loadProperties = projection.properties().hasMappings();
             this.validateRelationships = validateRelationships;
@@ -93,6 +110,25 @@ final class SingleTypeRelationshipImporter {
 
         WithImporter loadImporter(boolean loadProperties) {
             RelationshipImporter.Imports imports = importer.imports(projection.orientation(), loadProperties);
+            if (inverseImporter != null) {
+                RelationshipImporter.Imports inverseImports = inverseImporter.imports(
+                    projection.orientation().inverse(),
+                    loadProperties
+                );
+                RelationshipImporter.Imports forwardImports = imports;
+                // sorting by target swaps source and target within the batch,
+                // so the natural import has to run before the reverse import
+                imports = projection.orientation() == Orientation.NATURAL
+                    ? (batches, propertyReader) -> {
+                        long imported = forwardImports.importRelationships(batches, propertyReader);
+                        inverseImports.importRelationships(batches, propertyReader);
+                        return imported;
+                    }
+                    : (batches, propertyReader) -> {
+                        inverseImports.importRelationships(batches, propertyReader);
+                        return forwardImports.importRelationships(batches, propertyReader);
+                    };
+            }
             return new WithImporter(imports);
         }
 
@@ -104,7 +140,12 @@ final class SingleTypeRelationshipImporter {
             }
 
             Stream<Runnable> flushTasks() {
-                return importer.flushTasks().stream();
+                Stream<Runnable> flushTasks = importer.flushTasks().stream();
+                if (inverseImporter != null) {
+                    Collection<Runnable> inverseFlushTasks = inverseImporter.flushTasks();
+                    flushTasks = Stream.concat(flushTasks, inverseFlushTasks.stream());
+                }
+                return flushTasks;
             }
 
             SingleTypeRelationshipImporter withBuffer(IdMapping idMap, int bulkSize, RelationshipImporter.PropertyReader propertyReader) {
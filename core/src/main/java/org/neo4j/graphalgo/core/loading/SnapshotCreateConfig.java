@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.loading;
+
+import org.neo4j.graphalgo.config.GraphCreateConfig;
+import org.neo4j.graphalgo.config.GraphCreateFromCypherConfig;
+import org.neo4j.graphalgo.config.GraphCreateFromStoreConfig;
+import org.neo4j.graphalgo.config.RandomGraphGeneratorConfig;
+import org.neo4j.graphalgo.core.CypherMapWrapper;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.neo4j.graphalgo.config.GraphCreateFromCypherConfig.NODE_QUERY_KEY;
+import static org.neo4j.graphalgo.config.GraphCreateFromCypherConfig.RELATIONSHIP_QUERY_KEY;
+import static org.neo4j.graphalgo.config.GraphCreateFromStoreConfig.NODE_PROJECTION_KEY;
+import static org.neo4j.graphalgo.config.GraphCreateFromStoreConfig.RELATIONSHIP_PROJECTION_KEY;
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Stores the create config of a graph in a snapshot, so that a restored graph
+ * keeps its projections, e.g. the orientation of its relationships.
+ * <p>
+ * The config is written as the map it would have been created from.
+ * Generated graphs are restored as native projections of their node and relationship projections.
+ */
+final class SnapshotCreateConfig {
+
+    private static final String CYPHER = "cypher";
+    private static final String STORE = "store";
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte LONG = 2;
+    private static final byte DOUBLE = 3;
+    private static final byte BOOLEAN = 4;
+    private static final byte LIST = 5;
+    private static final byte MAP = 6;
+
+    private SnapshotCreateConfig() {}
+
+    static void write(DataOutput out, GraphCreateConfig config) throws IOException {
+        Map<String, Object> values = new LinkedHashMap<>();
+        String kind;
+        if (config instanceof GraphCreateFromCypherConfig) {
+            GraphCreateFromCypherConfig cypherConfig = (GraphCreateFromCypherConfig) config;
+            kind = CYPHER;
+            values.put(NODE_QUERY_KEY, cypherConfig.nodeQuery());
+            values.put(RELATIONSHIP_QUERY_KEY, cypherConfig.relationshipQuery());
+            values.put("parameters", cypherConfig.parameters());
+            values.put("partitionCount", cypherConfig.partitionCount());
+        } else if (config instanceof GraphCreateFromStoreConfig) {
+            GraphCreateFromStoreConfig storeConfig = (GraphCreateFromStoreConfig) config;
+            kind = STORE;
+            values.put(NODE_PROJECTION_KEY, storeConfig.nodeProjections().toObject());
+            values.put(RELATIONSHIP_PROJECTION_KEY, storeConfig.relationshipProjections().toObject());
+        } else if (config instanceof RandomGraphGeneratorConfig) {
+            RandomGraphGeneratorConfig generatorConfig = (RandomGraphGeneratorConfig) config;
+            kind = STORE;
+            values.put(NODE_PROJECTION_KEY, generatorConfig.nodeProjections().toObject());
+            values.put(RELATIONSHIP_PROJECTION_KEY, generatorConfig.relationshipProjections().toObject());
+        } else {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Snapshots are not supported for graphs created with %s.",
+                config.getClass().getSimpleName()
+            ));
+        }
+        values.put("readConcurrency", config.readConcurrency());
+        values.put(GraphCreateConfig.NODECOUNT_KEY, config.nodeCount());
+        values.put(GraphCreateConfig.RELCOUNT_KEY, config.relationshipCount());
+        values.put("validateRelationships", config.validateRelationships());
+        values.put("adjacencyCompression", config.adjacencyCompression().name());
+        values.put("relationshipPropertyCompression", config.relationshipPropertyCompression().name());
+
+        out.writeUTF(config.username());
+        out.writeUTF(kind);
+        writeValue(out, values);
+    }
+
+    /**
+     * Reads the config written by {@link #write(DataOutput, GraphCreateConfig)} for the user that created the graph.
+     */
+    static GraphCreateConfig read(DataInput in, String graphName) throws IOException {
+        String username = in.readUTF();
+        String kind = in.readUTF();
+        @SuppressWarnings("unchecked")
+        Map<String, Object> values = (Map<String, Object>) readValue(in);
+        CypherMapWrapper config = CypherMapWrapper.create(values);
+        if (CYPHER.equals(kind)) {
+            return GraphCreateFromCypherConfig.of(username, graphName, null, null, config);
+        }
+        return GraphCreateFromStoreConfig.of(username, graphName, null, null, config);
+    }
+
+    static void skip(DataInput in) throws IOException {
+        in.readUTF();
+        in.readUTF();
+        readValue(in);
+    }
+
+    private static void writeValue(DataOutput out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof String) {
+            out.writeByte(STRING);
+            out.writeUTF((String) value);
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            out.writeByte(LONG);
+            out.writeLong(((Number) value).longValue());
+        } else if (value instanceof Double || value instanceof Float) {
+            out.writeByte(DOUBLE);
+            out.writeDouble(((Number) value).doubleValue());
+        } else if (value instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Enum) {
+            out.writeByte(STRING);
+            out.writeUTF(((Enum<?>) value).name());
+        } else if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            out.writeByte(LIST);
+            out.writeInt(list.size());
+            for (Object element : list) {
+                writeValue(out, element);
+            }
+        } else if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            out.writeByte(MAP);
+            out.writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                out.writeUTF(String.valueOf(entry.getKey()));
+                writeValue(out, entry.getValue());
+            }
+        } else {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Can not store configuration value `%s` of type %s in a snapshot.",
+                value,
+                value.getClass().getSimpleName()
+            ));
+        }
+    }
+
+    private static Object readValue(DataInput in) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case STRING:
+                return in.readUTF();
+            case LONG:
+                return in.readLong();
+            case DOUBLE:
+                return in.readDouble();
+            case BOOLEAN:
+                return in.readBoolean();
+            case LIST:
+                int length = in.readInt();
+                List<Object> list = new ArrayList<>(length);
+                for (int i = 0; i < length; i++) {
+                    list.add(readValue(in));
+                }
+                return list;
+            case MAP:
+                int size = in.readInt();
+                Map<String, Object> map = new LinkedHashMap<>();
+                for (int i = 0; i < size; i++) {
+                    String key = in.readUTF();
+                    map.put(key, readValue(in));
+                }
+                return map;
+            default:
+                throw new IllegalArgumentException(formatWithLocale("Unknown configuration value type %d in snapshot.", type));
+        }
+    }
+}
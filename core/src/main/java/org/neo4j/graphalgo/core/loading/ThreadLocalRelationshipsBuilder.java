@@ -19,8 +19,10 @@
  */
 package org.neo4j.graphalgo.core.loading;
 
+import org.apache.lucene.util.ArrayUtil;
 import org.apache.lucene.util.LongsRef;
 import org.neo4j.graphalgo.core.Aggregation;
+import org.neo4j.graphalgo.core.huge.AdjacencyEncoding;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
@@ -38,16 +40,21 @@ class ThreadLocalRelationshipsBuilder {
     private final long[][] propertyOffsets;
     private final boolean noAggregation;
     private final Aggregation[] aggregations;
+    private final AdjacencyEncoding encoding;
+    private byte[] packedBuffer;
 
     ThreadLocalRelationshipsBuilder(
         AdjacencyListBuilder.Allocator adjacencyAllocator,
         AdjacencyListBuilder.Allocator[] propertiesAllocators,
         long[] adjacencyOffsets,
         long[][] propertyOffsets,
-        Aggregation[] aggregations
+        Aggregation[] aggregations,
+        AdjacencyEncoding encoding
     ) {
 
         this.aggregations = aggregations;
+        this.encoding = encoding;
+        this.packedBuffer = new byte[0];
 
         this.noAggregation = Stream.of(aggregations).allMatch(aggregation -> aggregation == Aggregation.NONE);
 
@@ -97,7 +104,10 @@ class ThreadLocalRelationshipsBuilder {
         byte[] storage = array.storage();
         AdjacencyCompression.copyFrom(buffer, array);
         int degree = AdjacencyCompression.applyDeltaEncoding(buffer, aggregations[0]);
-        int requiredBytes = AdjacencyCompression.compress(buffer, storage);
+        if (encoding == AdjacencyEncoding.PACKED) {
+            storage = packedStorage(buffer);
+        }
+        int requiredBytes = compress(buffer, storage);
         long address = copyIds(storage, requiredBytes, degree);
         adjacencyOffsets[localId] = address;
         array.release();
@@ -113,7 +123,10 @@ class ThreadLocalRelationshipsBuilder {
         long[][] weights = array.weights();
         AdjacencyCompression.copyFrom(buffer, array);
         int degree = AdjacencyCompression.applyDeltaEncoding(buffer, weights, aggregations, noAggregation);
-        int requiredBytes = AdjacencyCompression.compress(buffer, storage);
+        if (encoding == AdjacencyEncoding.PACKED) {
+            storage = packedStorage(buffer);
+        }
+        int requiredBytes = compress(buffer, storage);
 
         adjacencyOffsets[localId] = copyIds(storage, requiredBytes, degree);
         copyProperties(weights, degree, localId, propertyOffsets);
@@ -122,6 +135,24 @@ class ThreadLocalRelationshipsBuilder {
         return degree;
     }
 
+    private int compress(LongsRef buffer, byte[] storage) {
+        return encoding == AdjacencyEncoding.PACKED
+            ? BitPackedEncoding.encode(buffer.longs, buffer.length, storage)
+            : AdjacencyCompression.compress(buffer, storage);
+    }
+
+    /**
+     * Bit-packed blocks can be larger than the variable-length storage of the compressed array,
+     * so they are written into a buffer owned by this builder, which is flushed by a single task.
+     */
+    private byte[] packedStorage(LongsRef buffer) {
+        int requiredBytes = BitPackedEncoding.encodedSize(buffer.longs, buffer.length);
+        if (packedBuffer.length < requiredBytes) {
+            packedBuffer = new byte[ArrayUtil.oversize(requiredBytes, Byte.BYTES)];
+        }
+        return packedBuffer;
+    }
+
     private long copyIds(byte[] targets, int requiredBytes, int degree) {
         // sizeOf(degree) + compression bytes
         long address = adjacencyAllocator.allocate(Integer.BYTES + requiredBytes);
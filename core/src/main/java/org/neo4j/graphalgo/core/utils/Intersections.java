@@ -81,6 +81,26 @@ public class Intersections {
         return intersection;
     }
 
+    // assume both are sorted, writes the common values into `intersection` and returns their count
+    public static int intersection(long[] values1, int len1, long[] values2, int len2, long[] intersection) {
+        if (len1 == 0 || len2 == 0) return 0;
+        int off2 = 0;
+        int resIdx = 0;
+        for (int i = 0; i < len1; i++) {
+            long value1 = values1[i];
+            if (value1 > values2[off2]) {
+                while (++off2 != len2 && value1 > values2[off2]) ;
+                if (off2 == len2) break;
+            }
+            if (value1 == values2[off2]) {
+                intersection[resIdx++] = value1;
+                off2++;
+                if (off2 == len2) break;
+            }
+        }
+        return resIdx;
+    }
+
     private static int[] EMPTY = new int[0];
 
     public static int[] getIntersection(int[] values1, int[] values2) {
@@ -25,23 +25,45 @@ import java.util.concurrent.atomic.AtomicLong;
 
 abstract class HugeArrayBuilder<Array, Huge extends HugeArray<Array, ?, Huge>> {
 
-    private final Huge array;
+    private volatile Huge array;
     private final long length;
+    private final boolean growable;
     private final AtomicLong allocationIndex;
     private final CloseableThreadLocal<BulkAdder<Array>> adders;
 
     HugeArrayBuilder(Huge array, final long length) {
+        this(array, length, false);
+    }
+
+    /**
+     * @param growable if {@code true}, the builder grows the array on demand instead of
+     *                 rejecting allocations beyond {@code length} and trims it to the
+     *                 allocated size on {@link #build()}.
+     */
+    HugeArrayBuilder(Huge array, final long length, boolean growable) {
         this.array = array;
         this.length = length;
+        this.growable = growable;
         this.allocationIndex = new AtomicLong();
-        this.adders = CloseableThreadLocal.withInitial(this::newBulkAdder);
+        this.adders = CloseableThreadLocal.withInitial(() -> newBulkAdder(this.array));
     }
 
-    private BulkAdder<Array> newBulkAdder() {
+    /**
+     * Returns an array of the given length that shares its storage with the given array,
+     * i.e. elements that are written into either array, also before or during the resize,
+     * are visible in the other one.
+     * Only called for growable builders.
+     */
+    abstract Huge resize(Huge array, long newLength);
+
+    private BulkAdder<Array> newBulkAdder(Huge array) {
         return new BulkAdder<>(array, array.newCursor());
     }
 
     public final BulkAdder<Array> allocate(final long nodes) {
+        if (growable) {
+            return allocateGrowing(nodes);
+        }
         long startIndex = allocationIndex.getAndAccumulate(nodes, this::upperAllocation);
         if (startIndex == length) {
             return null;
@@ -51,12 +73,44 @@ abstract class HugeArrayBuilder<Array, Huge extends HugeArray<Array, ?, Huge>> {
         return adder;
     }
 
+    private BulkAdder<Array> allocateGrowing(final long nodes) {
+        long startIndex = allocationIndex.getAndAdd(nodes);
+        long endIndex = startIndex + nodes;
+        Huge current = ensureCapacity(endIndex);
+        BulkAdder<Array> adder = adders.get();
+        if (adder.array != current) {
+            // the cursor of the adder is bound to a smaller array
+            adder = newBulkAdder(current);
+            adders.set(adder);
+        }
+        adder.reset(startIndex, endIndex);
+        return adder;
+    }
+
+    private Huge ensureCapacity(long minLength) {
+        Huge current = array;
+        if (current.size() < minLength) {
+            synchronized (this) {
+                current = array;
+                if (current.size() < minLength) {
+                    long newLength = Math.max(minLength, current.size() + (current.size() >> 1));
+                    current = resize(current, newLength);
+                    array = current;
+                }
+            }
+        }
+        return current;
+    }
+
     private long upperAllocation(long lower, long nodes) {
         return Math.min(length, lower + nodes);
     }
 
     public final Huge build() {
         adders.close();
+        if (growable) {
+            array = resize(array, allocationIndex.get());
+        }
         return array;
     }
 
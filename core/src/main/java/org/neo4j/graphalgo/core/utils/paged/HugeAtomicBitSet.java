@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.paged;
+
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfInstance;
+
+/**
+ * A fixed-size bit set that can contain more than 2 bn. bits and supports
+ * concurrent, lock-free updates of individual bits.
+ * <p>
+ * Bits are stored in 64 bit words in a {@link HugeAtomicLongArray}. Word-wise
+ * access is exposed to allow callers to iterate sparse sets efficiently.
+ */
+public final class HugeAtomicBitSet {
+
+    private static final int NUM_BITS = 64;
+
+    private final HugeAtomicLongArray bits;
+    private final long numBits;
+    private final long numWords;
+
+    public static long memoryEstimation(long size) {
+        long wordsSize = HugeAtomicLongArray.memoryEstimation(wordCount(size));
+        return wordsSize + sizeOfInstance(HugeAtomicBitSet.class);
+    }
+
+    public static HugeAtomicBitSet create(long size, AllocationTracker tracker) {
+        HugeAtomicLongArray bits = HugeAtomicLongArray.newArray(wordCount(size), tracker);
+        return new HugeAtomicBitSet(bits, size);
+    }
+
+    private HugeAtomicBitSet(HugeAtomicLongArray bits, long numBits) {
+        this.bits = bits;
+        this.numBits = numBits;
+        this.numWords = bits.size();
+    }
+
+    /**
+     * Returns the state of the bit at the given index.
+     */
+    public boolean get(long index) {
+        assert (index < numBits);
+        long word = bits.get(index >>> 6);
+        return (word & (1L << index)) != 0;
+    }
+
+    /**
+     * Sets the bit at the given index to true.
+     */
+    public void set(long index) {
+        assert (index < numBits);
+        long wordIndex = index >>> 6;
+        long bitmask = 1L << index;
+        long oldWord = bits.get(wordIndex);
+        while ((oldWord & bitmask) == 0 && !bits.compareAndSet(wordIndex, oldWord, oldWord | bitmask)) {
+            oldWord = bits.get(wordIndex);
+        }
+    }
+
+    /**
+     * Sets the bit at the given index to false.
+     */
+    public void clear(long index) {
+        assert (index < numBits);
+        long wordIndex = index >>> 6;
+        long bitmask = ~(1L << index);
+        long oldWord = bits.get(wordIndex);
+        while ((oldWord & ~bitmask) != 0 && !bits.compareAndSet(wordIndex, oldWord, oldWord & bitmask)) {
+            oldWord = bits.get(wordIndex);
+        }
+    }
+
+    /**
+     * Sets the bit at the given index to false and returns its previous state.
+     */
+    public boolean getAndClear(long index) {
+        assert (index < numBits);
+        long wordIndex = index >>> 6;
+        long bitmask = 1L << index;
+        long oldWord = bits.get(wordIndex);
+        while ((oldWord & bitmask) != 0) {
+            if (bits.compareAndSet(wordIndex, oldWord, oldWord & ~bitmask)) {
+                return true;
+            }
+            oldWord = bits.get(wordIndex);
+        }
+        return false;
+    }
+
+    /**
+     * Resets all bits in the bit set.
+     * <p>
+     * Note: this method is not thread-safe.
+     */
+    public void clear() {
+        for (long wordIndex = 0; wordIndex < numWords; wordIndex++) {
+            if (bits.get(wordIndex) != 0L) {
+                bits.set(wordIndex, 0L);
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the first set bit that is greater or equal to the given index.
+     * If no such bit exists, {@code -1} is returned.
+     */
+    public long nextSetBit(long index) {
+        if (index >= numBits) {
+            return -1;
+        }
+        long wordIndex = index >>> 6;
+        long word = bits.get(wordIndex) & (-1L << index);
+        while (word == 0) {
+            if (++wordIndex >= numWords) {
+                return -1;
+            }
+            word = bits.get(wordIndex);
+        }
+        return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    /**
+     * Returns the 64 bit word at the given word index, i.e. the bits {@code [wordIndex * 64, wordIndex * 64 + 64)}.
+     */
+    public long word(long wordIndex) {
+        return bits.get(wordIndex);
+    }
+
+    /**
+     * Returns true iff no bit is set.
+     */
+    public boolean isEmpty() {
+        return nextSetBit(0) == -1;
+    }
+
+    /**
+     * Returns the number of set bits in the bit set.
+     */
+    public long cardinality() {
+        long setBitCount = 0;
+        for (long wordIndex = 0; wordIndex < numWords; wordIndex++) {
+            setBitCount += Long.bitCount(bits.get(wordIndex));
+        }
+        return setBitCount;
+    }
+
+    /**
+     * Returns the number of bits in the bitset.
+     */
+    public long size() {
+        return numBits;
+    }
+
+    public long release() {
+        return bits.release();
+    }
+
+    private static long wordCount(long size) {
+        return (size + NUM_BITS - 1) / NUM_BITS;
+    }
+}
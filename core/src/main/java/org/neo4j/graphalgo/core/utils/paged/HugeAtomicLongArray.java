@@ -104,6 +104,15 @@ public abstract class HugeAtomicLongArray {
      */
     public abstract void update(long index, LongUnaryOperator updateFunction);
 
+    /**
+     * Atomically adds the given delta to the element at index {@code index}.
+     *
+     * @param index the index
+     * @param delta the value to add
+     * @return the previous value
+     */
+    public abstract long getAndAdd(long index, long delta);
+
     /**
      * Returns the length of this array.
      * <p>
@@ -234,6 +243,11 @@ public abstract class HugeAtomicLongArray {
             } while (!ARRAY_HANDLE.weakCompareAndSet(page, (int) index, prev, next));
         }
 
+        @Override
+        public long getAndAdd(long index, long delta) {
+            return (long) ARRAY_HANDLE.getAndAdd(page, (int) index, delta);
+        }
+
         @Override
         public long size() {
             return size;
@@ -333,6 +347,13 @@ public abstract class HugeAtomicLongArray {
             } while (!ARRAY_HANDLE.compareAndSet(page, indexInPage, prev, next));
         }
 
+        @Override
+        public long getAndAdd(long index, long delta) {
+            int pageIndex = pageIndex(index);
+            int indexInPage = indexInPage(index);
+            return (long) ARRAY_HANDLE.getAndAdd(pages[pageIndex], indexInPage, delta);
+        }
+
         @Override
         public long size() {
             return size;
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.paged;
+
+import java.util.Arrays;
+
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfFloatArray;
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfInstance;
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfObjectArray;
+
+/**
+ * A dense matrix of floats with a fixed number of columns, e.g. one embedding vector per node.
+ * <p>
+ * The values are stored row by row in flat {@code float[]} pages.
+ * A page holds a power of two number of rows and a row never spans two pages,
+ * so the values of a row are contiguous and row operations run over a single array.
+ * Compared to one {@code float[]} per row, this saves the array header and the reference for every row.
+ */
+public final class HugeFloatMatrix {
+
+    private static final int PAGE_SIZE = PageUtil.pageSizeFor(Float.BYTES);
+
+    private final long rows;
+    private final int columns;
+    private final int rowShift;
+    private final long rowMask;
+    private float[][] pages;
+
+    public static HugeFloatMatrix newMatrix(long rows, int columns, AllocationTracker tracker) {
+        HugeFloatMatrix matrix = new HugeFloatMatrix(rows, columns);
+        tracker.add(matrix.memoryUsage());
+        return matrix;
+    }
+
+    public static long memoryEstimation(long rows, int columns) {
+        return new HugeFloatMatrix(rows, columns, false).memoryUsage();
+    }
+
+    private HugeFloatMatrix(long rows, int columns) {
+        this(rows, columns, true);
+    }
+
+    private HugeFloatMatrix(long rows, int columns, boolean allocate) {
+        if (rows < 0 || columns <= 0) {
+            throw new IllegalArgumentException("Invalid matrix dimensions: " + rows + " x " + columns);
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.rowShift = Integer.numberOfTrailingZeros(Integer.highestOneBit(Math.max(1, PAGE_SIZE / columns)));
+        this.rowMask = (1L << rowShift) - 1;
+        int numPages = PageUtil.numPagesFor(rows, rowShift, rowMask);
+        this.pages = new float[numPages][];
+        if (allocate) {
+            for (int page = 0; page < numPages; page++) {
+                pages[page] = new float[Math.multiplyExact(rowsInPage(page), columns)];
+            }
+        }
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    public int columns() {
+        return columns;
+    }
+
+    public float get(long row, int column) {
+        assert column < columns;
+        return page(row)[offset(row) + column];
+    }
+
+    public void set(long row, int column, float value) {
+        assert column < columns;
+        page(row)[offset(row) + column] = value;
+    }
+
+    public void addTo(long row, int column, float delta) {
+        assert column < columns;
+        page(row)[offset(row) + column] += delta;
+    }
+
+    /**
+     * Returns a copy of the values of the given row.
+     */
+    public float[] getRow(long row) {
+        int offset = offset(row);
+        return Arrays.copyOfRange(page(row), offset, offset + columns);
+    }
+
+    public void setRow(long row, float[] values) {
+        assert values.length == columns;
+        System.arraycopy(values, 0, page(row), offset(row), columns);
+    }
+
+    public void fillRow(long row, float value) {
+        int offset = offset(row);
+        Arrays.fill(page(row), offset, offset + columns, value);
+    }
+
+    /**
+     * Adds the values of a row of another matrix with the same number of columns to the given row.
+     */
+    public void addRow(long row, HugeFloatMatrix other, long otherRow) {
+        assert other.columns == columns;
+        float[] page = page(row);
+        int offset = offset(row);
+        float[] otherPage = other.page(otherRow);
+        int otherOffset = other.offset(otherRow);
+        for (int i = 0; i < columns; i++) {
+            page[offset + i] += otherPage[otherOffset + i];
+        }
+    }
+
+    /**
+     * Adds the values of a row of another matrix, multiplied by {@code factor}, to the columns
+     * of the given row starting at {@code column}.
+     */
+    public void addScaledRow(long row, int column, HugeFloatMatrix other, long otherRow, float factor) {
+        assert column + other.columns <= columns;
+        float[] page = page(row);
+        int offset = offset(row) + column;
+        float[] otherPage = other.page(otherRow);
+        int otherOffset = other.offset(otherRow);
+        for (int i = 0; i < other.columns; i++) {
+            page[offset + i] += factor * otherPage[otherOffset + i];
+        }
+    }
+
+    /**
+     * Copies a row of another matrix into the columns of the given row starting at {@code column}.
+     */
+    public void copyRow(long row, int column, HugeFloatMatrix other, long otherRow) {
+        assert column + other.columns <= columns;
+        System.arraycopy(other.page(otherRow), other.offset(otherRow), page(row), offset(row) + column, other.columns);
+    }
+
+    public void scaleRow(long row, float factor) {
+        float[] page = page(row);
+        int offset = offset(row);
+        for (int i = offset; i < offset + columns; i++) {
+            page[i] *= factor;
+        }
+    }
+
+    public float sumOfSquares(long row) {
+        float[] page = page(row);
+        int offset = offset(row);
+        float sum = 0.0f;
+        for (int i = offset; i < offset + columns; i++) {
+            sum += page[i] * page[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Destroys the data, allowing the underlying storage arrays to be collected as garbage.
+     * The matrix is unusable after calling this method.
+     * Calling this method multiple times returns 0 after the first call.
+     *
+     * @return the amount of memory freed, in bytes.
+     */
+    public long release() {
+        if (pages != null) {
+            long freed = memoryUsage();
+            pages = null;
+            return freed;
+        }
+        return 0L;
+    }
+
+    private float[] page(long row) {
+        assert row < rows;
+        return pages[PageUtil.pageIndex(row, rowShift)];
+    }
+
+    private int offset(long row) {
+        return PageUtil.indexInPage(row, rowMask) * columns;
+    }
+
+    private int rowsInPage(int page) {
+        long rowsPerPage = rowMask + 1;
+        return (int) Math.min(rowsPerPage, rows - page * rowsPerPage);
+    }
+
+    private long memoryUsage() {
+        long memoryUsage = sizeOfInstance(HugeFloatMatrix.class) + sizeOfObjectArray(pages.length);
+        for (int page = 0; page < pages.length; page++) {
+            memoryUsage += sizeOfFloatArray((long) rowsInPage(page) * columns);
+        }
+        return memoryUsage;
+    }
+}
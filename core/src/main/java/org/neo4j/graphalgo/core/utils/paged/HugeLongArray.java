@@ -228,6 +228,26 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
         return new SingleHugeLongArray(values.length, values);
     }
 
+    /**
+     * Creates a paged array whose pages all have the full page size, so that it can be
+     * resized with {@link #resizeGrowablePagedArray(HugeLongArray, long, AllocationTracker)}.
+     */
+    static HugeLongArray newGrowablePagedArray(long size, AllocationTracker tracker) {
+        return PagedHugeLongArray.resize(new long[0][], 0L, size, tracker);
+    }
+
+    /**
+     * Returns a paged array of the given size that shares all pages with the given array,
+     * which must have been created by {@link #newGrowablePagedArray(long, AllocationTracker)}.
+     * Missing pages are allocated with the full page size, pages beyond the new size are dropped.
+     * As pages are shared and not copied, writes into either array are visible in the other one.
+     * Only the difference in memory usage is tracked, the given array must not be released afterwards.
+     */
+    static HugeLongArray resizeGrowablePagedArray(HugeLongArray array, long newSize, AllocationTracker tracker) {
+        PagedHugeLongArray pagedArray = (PagedHugeLongArray) array;
+        return PagedHugeLongArray.resize(pagedArray.pages, pagedArray.memoryUsed, newSize, tracker);
+    }
+
     /* test-only */
     static HugeLongArray newPagedArray(long size, AllocationTracker tracker) {
         return PagedHugeLongArray.of(size, tracker);
@@ -397,6 +417,28 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
             return new PagedHugeLongArray(size, pages, memoryUsed);
         }
 
+        private static HugeLongArray resize(long[][] pages, long memoryUsed, long newSize, AllocationTracker tracker) {
+            int numPages = numberOfPages(newSize);
+            long[][] newPages = Arrays.copyOf(pages, numPages);
+
+            long newMemoryUsed = sizeOfObjectArray(numPages);
+            final long pageBytes = sizeOfLongArray(PAGE_SIZE);
+            for (int i = 0; i < numPages; i++) {
+                if (newPages[i] == null) {
+                    newPages[i] = new long[PAGE_SIZE];
+                }
+                newMemoryUsed += pageBytes;
+            }
+
+            if (newMemoryUsed > memoryUsed) {
+                tracker.add(newMemoryUsed - memoryUsed);
+            } else {
+                tracker.remove(memoryUsed - newMemoryUsed);
+            }
+
+            return new PagedHugeLongArray(newSize, newPages, newMemoryUsed);
+        }
+
         private final long size;
         private long[][] pages;
         private final long memoryUsed;
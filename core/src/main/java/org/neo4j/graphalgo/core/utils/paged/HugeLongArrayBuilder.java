@@ -21,12 +21,35 @@ package org.neo4j.graphalgo.core.utils.paged;
 
 public final class HugeLongArrayBuilder extends HugeArrayBuilder<long[], HugeLongArray> {
 
+    private final AllocationTracker tracker;
+
     public static HugeLongArrayBuilder of(long length, AllocationTracker tracker) {
         HugeLongArray array = HugeLongArray.newArray(length, tracker);
         return new HugeLongArrayBuilder(array, length);
     }
 
+    /**
+     * Creates a builder that does not require the final number of elements upfront.
+     * The underlying paged array grows by whole pages as elements are allocated,
+     * concurrent writers keep writing into the pages they were given, and
+     * {@link #build()} returns an array that is trimmed to the number of allocated elements.
+     */
+    public static HugeLongArrayBuilder growing(long initialCapacity, AllocationTracker tracker) {
+        HugeLongArray array = HugeLongArray.newGrowablePagedArray(initialCapacity, tracker);
+        return new HugeLongArrayBuilder(array, initialCapacity, true, tracker);
+    }
+
     private HugeLongArrayBuilder(HugeLongArray array, final long length) {
-        super(array, length);
+        this(array, length, false, AllocationTracker.EMPTY);
+    }
+
+    private HugeLongArrayBuilder(HugeLongArray array, long length, boolean growable, AllocationTracker tracker) {
+        super(array, length, growable);
+        this.tracker = tracker;
+    }
+
+    @Override
+    HugeLongArray resize(HugeLongArray array, long newLength) {
+        return HugeLongArray.resizeGrowablePagedArray(array, newLength, tracker);
     }
 }
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.paged;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.apache.lucene.util.ArrayUtil.oversize;
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.BYTES_OBJECT_REF;
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfFloatArray;
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfObjectArray;
+
+/**
+ * A growing matrix of floats with a fixed number of columns, laid out like {@link HugeFloatMatrix}.
+ * <p>
+ * Pages are only allocated when a row in their range is set, and are filled with a default value.
+ * Rows that have never been set, including rows beyond the current capacity, read as the default value.
+ * Rows can be set concurrently, as long as every row is set by a single thread.
+ */
+public final class HugeSparseFloatMatrix {
+
+    private static final int PAGE_SIZE = PageUtil.pageSizeFor(Float.BYTES);
+
+    private final int columns;
+    private final float defaultValue;
+    private final int rowShift;
+    private final long rowMask;
+    private final AllocationTracker tracker;
+    private final ReentrantLock newPageLock;
+
+    private volatile AtomicReferenceArray<float[]> pages;
+
+    public static HugeSparseFloatMatrix of(long rows, int columns, float defaultValue, AllocationTracker tracker) {
+        if (rows < 0 || columns <= 0) {
+            throw new IllegalArgumentException("Invalid matrix dimensions: " + rows + " x " + columns);
+        }
+        return new HugeSparseFloatMatrix(rows, columns, defaultValue, tracker);
+    }
+
+    private HugeSparseFloatMatrix(long rows, int columns, float defaultValue, AllocationTracker tracker) {
+        this.columns = columns;
+        this.defaultValue = defaultValue;
+        this.rowShift = Integer.numberOfTrailingZeros(Integer.highestOneBit(Math.max(1, PAGE_SIZE / columns)));
+        this.rowMask = (1L << rowShift) - 1;
+        this.tracker = tracker;
+        this.newPageLock = new ReentrantLock(true);
+        int numPages = PageUtil.numPagesFor(rows, rowShift, rowMask);
+        this.pages = new AtomicReferenceArray<>(numPages);
+        tracker.add(sizeOfObjectArray(numPages));
+    }
+
+    /**
+     * The number of rows the matrix can hold without growing.
+     */
+    public long rows() {
+        return PageUtil.capacityFor(pages.length(), rowShift);
+    }
+
+    public int columns() {
+        return columns;
+    }
+
+    public float defaultValue() {
+        return defaultValue;
+    }
+
+    public float get(long row, int column) {
+        assert column < columns;
+        float[] page = pageOrNull(row);
+        return page == null ? defaultValue : page[offset(row) + column];
+    }
+
+    /**
+     * Returns a copy of the values of the given row.
+     */
+    public float[] getRow(long row) {
+        float[] page = pageOrNull(row);
+        if (page == null) {
+            float[] values = new float[columns];
+            Arrays.fill(values, defaultValue);
+            return values;
+        }
+        int offset = offset(row);
+        return Arrays.copyOfRange(page, offset, offset + columns);
+    }
+
+    public void setRow(long row, float[] values) {
+        assert values.length == columns;
+        System.arraycopy(values, 0, page(row), offset(row), columns);
+    }
+
+    /**
+     * Destroys the data, allowing the underlying storage arrays to be collected as garbage.
+     * The matrix is unusable after calling this method.
+     * Calling this method multiple times returns 0 after the first call.
+     *
+     * @return the amount of memory freed, in bytes.
+     */
+    public long release() {
+        AtomicReferenceArray<float[]> pages = this.pages;
+        if (pages != null) {
+            this.pages = null;
+            long freed = sizeOfObjectArray(pages.length());
+            for (int pageIndex = 0; pageIndex < pages.length(); pageIndex++) {
+                float[] page = pages.get(pageIndex);
+                if (page != null) {
+                    freed += sizeOfFloatArray(page.length);
+                }
+            }
+            tracker.remove(freed);
+            return freed;
+        }
+        return 0L;
+    }
+
+    private float[] pageOrNull(long row) {
+        AtomicReferenceArray<float[]> pages = this.pages;
+        int pageIndex = PageUtil.pageIndex(row, rowShift);
+        return pageIndex < pages.length() ? pages.get(pageIndex) : null;
+    }
+
+    private float[] page(long row) {
+        int pageIndex = PageUtil.pageIndex(row, rowShift);
+        AtomicReferenceArray<float[]> pages = this.pages;
+        if (pageIndex < pages.length()) {
+            float[] page = pages.get(pageIndex);
+            if (page != null) {
+                return page;
+            }
+        }
+        return allocatePage(pageIndex);
+    }
+
+    private float[] allocatePage(int pageIndex) {
+        newPageLock.lock();
+        try {
+            AtomicReferenceArray<float[]> pages = this.pages;
+            if (pageIndex >= pages.length()) {
+                AtomicReferenceArray<float[]> newPages = new AtomicReferenceArray<>(oversize(pageIndex + 1, BYTES_OBJECT_REF));
+                for (int i = 0; i < pages.length(); i++) {
+                    newPages.set(i, pages.get(i));
+                }
+                tracker.add(sizeOfObjectArray(newPages.length()) - sizeOfObjectArray(pages.length()));
+                this.pages = newPages;
+                pages = newPages;
+            }
+            float[] page = pages.get(pageIndex);
+            if (page == null) {
+                page = new float[Math.multiplyExact((int) (rowMask + 1), columns)];
+                if (defaultValue != 0F) {
+                    Arrays.fill(page, defaultValue);
+                }
+                tracker.add(sizeOfFloatArray(page.length));
+                pages.set(pageIndex, page);
+            }
+            return page;
+        } finally {
+            newPageLock.unlock();
+        }
+    }
+
+    private int offset(long row) {
+        return PageUtil.indexInPage(row, rowMask) * columns;
+    }
+}
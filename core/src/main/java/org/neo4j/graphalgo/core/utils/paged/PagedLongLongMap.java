@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.paged;
+
+import com.carrotsearch.hppc.IntLongMap;
+import com.carrotsearch.hppc.cursors.IntLongCursor;
+import org.neo4j.graphalgo.core.utils.BiLongConsumer;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.mem.MemoryRange;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.stream.StreamSupport;
+
+import static org.neo4j.graphalgo.core.concurrency.ParallelUtil.parallelStream;
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfObjectArray;
+
+/**
+ * The long valued counterpart of {@link PagedLongDoubleMap}.
+ * Pages are only allocated for ranges of keys that have a value and the map grows beyond its initial size if needed.
+ * Since every value is valid, absent keys are detected with {@link #containsKey(long)} instead of a marker value.
+ */
+public final class PagedLongLongMap {
+
+    private static final int PAGE_SHIFT = 14;
+    static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final long PAGE_MASK = PAGE_SIZE - 1;
+
+    private static final MemoryEstimation MEMORY_REQUIREMENTS = MemoryEstimations
+            .builder(PagedLongLongMap.class)
+            .add(MemoryEstimations.setup("pages[]", dimensions -> {
+                int numPages = PageUtil.numPagesFor(dimensions.nodeCount(), PAGE_SHIFT, PAGE_MASK);
+                long pagesArraySize = sizeOfObjectArray(numPages);
+                MemoryEstimation pagesSize = MemoryEstimations.andThen(
+                        TrackingIntLongHashMap.memoryEstimation(),
+                        range -> range.times(numPages).union(MemoryRange.empty()));
+                return MemoryEstimations.builder()
+                        .add(pagesSize)
+                        .fixed("pages wrapper", pagesArraySize)
+                        .build();
+            })).build();
+
+    public static PagedLongLongMap of(long size, AllocationTracker tracker, int concurrency) {
+        int numPages = PageUtil.numPagesFor(size, PAGE_SHIFT, PAGE_MASK);
+        tracker.add(sizeOfObjectArray(numPages));
+        TrackingIntLongHashMap[] pages = new TrackingIntLongHashMap[numPages];
+        return new PagedLongLongMap(pages, tracker, concurrency);
+    }
+
+    public static MemoryEstimation memoryEstimation() {
+        return MEMORY_REQUIREMENTS;
+    }
+
+    private final AllocationTracker tracker;
+    private TrackingIntLongHashMap[] pages;
+    private final int concurrency;
+
+    private PagedLongLongMap(
+        TrackingIntLongHashMap[] pages,
+        AllocationTracker tracker,
+        int concurrency
+    ) {
+        this.pages = pages;
+        this.tracker = tracker;
+        this.concurrency = concurrency;
+    }
+
+    public long size() {
+        return parallelStream(Arrays.stream(pages), concurrency, stream -> stream
+                .filter(Objects::nonNull)
+                .mapToLong(TrackingIntLongHashMap::size)
+                .sum());
+    }
+
+    public boolean containsKey(long index) {
+        int pageIndex = pageIndex(index);
+        if (pageIndex < pages.length) {
+            IntLongMap page = pages[pageIndex];
+            return page != null && page.containsKey(indexInPage(index));
+        }
+        return false;
+    }
+
+    public long getOrDefault(long index, long defaultValue) {
+        int pageIndex = pageIndex(index);
+        if (pageIndex < pages.length) {
+            IntLongMap page = pages[pageIndex];
+            if (page != null) {
+                int indexInPage = indexInPage(index);
+                return page.getOrDefault(indexInPage, defaultValue);
+            }
+        }
+        return defaultValue;
+    }
+
+    public void put(long index, long value) {
+        int pageIndex = pageIndex(index);
+        TrackingIntLongHashMap subMap = subMap(pageIndex);
+        int indexInPage = indexInPage(index);
+        subMap.putSync(indexInPage, value);
+    }
+
+    /**
+     * Calls the consumer with every key and its value, in no particular order.
+     */
+    public void forEach(BiLongConsumer consumer) {
+        for (int pageIndex = 0; pageIndex < pages.length; pageIndex++) {
+            TrackingIntLongHashMap page = pages[pageIndex];
+            if (page != null) {
+                long base = (long) pageIndex << PAGE_SHIFT;
+                for (IntLongCursor cursor : page) {
+                    consumer.apply(base + cursor.key, cursor.value);
+                }
+            }
+        }
+    }
+
+    private TrackingIntLongHashMap subMap(int pageIndex) {
+        if (pageIndex >= pages.length) {
+            return growNewSubMap(pageIndex);
+        }
+        TrackingIntLongHashMap subMap = pages[pageIndex];
+        if (subMap != null) {
+            return subMap;
+        }
+        return forceNewSubMap(pageIndex);
+    }
+
+    private synchronized TrackingIntLongHashMap growNewSubMap(int pageIndex) {
+        if (pageIndex >= pages.length) {
+            long allocated = sizeOfObjectArray(1 + pageIndex) - sizeOfObjectArray(pages.length);
+            tracker.add(allocated);
+            pages = Arrays.copyOf(pages, 1 + pageIndex);
+        }
+        return forceNewSubMap(pageIndex);
+    }
+
+    private synchronized TrackingIntLongHashMap forceNewSubMap(int pageIndex) {
+        TrackingIntLongHashMap subMap = pages[pageIndex];
+        if (subMap == null) {
+            subMap = new TrackingIntLongHashMap(tracker);
+            pages[pageIndex] = subMap;
+        }
+        return subMap;
+    }
+
+    public OptionalLong getMaxValue() {
+        return parallelStream(Arrays.stream(pages), concurrency, stream -> stream
+                .filter(Objects::nonNull)
+                .flatMapToLong(page -> StreamSupport
+                    .stream(page.values().spliterator(), false)
+                    .mapToLong(cursor -> cursor.value))
+                .max());
+    }
+
+    public long release() {
+        if (pages != null) {
+            TrackingIntLongHashMap[] pages = this.pages;
+            this.pages = null;
+            long released = sizeOfObjectArray(pages.length);
+            for (TrackingIntLongHashMap page : pages) {
+                if (page != null) {
+                    released += page.instanceSize();
+                }
+            }
+            tracker.remove(released);
+            return released;
+        }
+        return 0L;
+    }
+
+    private static int pageIndex(long index) {
+        return (int) (index >>> PAGE_SHIFT);
+    }
+
+    private static int indexInPage(long index) {
+        return (int) (index & PAGE_MASK);
+    }
+}
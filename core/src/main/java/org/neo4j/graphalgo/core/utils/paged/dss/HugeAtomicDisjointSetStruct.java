@@ -99,7 +99,7 @@ public final class HugeAtomicDisjointSetStruct implements DisjointSetStruct {
             capacity,
             PageFiller.of(concurrency, nodeId -> {
                 double communityIdValue = communityMapping.nodeProperty(nodeId, Double.NaN);
-                return Double.isNaN(communityIdValue) ? -1L : (long) communityIdValue;
+                return Double.isNaN(communityIdValue) ? -1L : communityMapping.longValue(nodeId);
             }),
             tracker
         );
@@ -87,7 +87,7 @@ public final class IncrementalDisjointSetStruct extends SequentialDisjointSetStr
             double communityIdValue = communityMapping.nodeProperty(nodeId, Double.NaN);
 
             if (!Double.isNaN(communityIdValue)) {
-                long communityId = (long) communityIdValue;
+                long communityId = communityMapping.longValue(nodeId);
 
                 long internalCommunityId = internalMapping.getOrDefault(communityId, -1);
                 if (internalCommunityId != -1) {
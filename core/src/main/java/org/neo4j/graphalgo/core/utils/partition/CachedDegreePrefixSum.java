@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.partition;
+
+import org.neo4j.graphalgo.api.Degrees;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Holds the {@link DegreePrefixSum} of a graph whose degrees do not change,
+ * computing it on first access and keeping it until it is released.
+ */
+public final class CachedDegreePrefixSum {
+
+    private volatile DegreePrefixSum prefixSum;
+    private AllocationTracker tracker;
+
+    /**
+     * Returns the cached prefix sums, computing them with the given executor if they do not exist yet.
+     * The memory is tracked by the given tracker until {@link #release()} is called.
+     */
+    public DegreePrefixSum get(
+        Degrees degrees,
+        long nodeCount,
+        int concurrency,
+        ExecutorService executor,
+        AllocationTracker tracker
+    ) {
+        DegreePrefixSum prefixSum = this.prefixSum;
+        if (prefixSum == null) {
+            synchronized (this) {
+                prefixSum = this.prefixSum;
+                if (prefixSum == null) {
+                    prefixSum = DegreePrefixSum.of(degrees, nodeCount, concurrency, executor, tracker);
+                    this.tracker = tracker;
+                    this.prefixSum = prefixSum;
+                }
+            }
+        }
+        return prefixSum;
+    }
+
+    public synchronized void release() {
+        DegreePrefixSum prefixSum = this.prefixSum;
+        if (prefixSum != null) {
+            this.prefixSum = null;
+            prefixSum.release(tracker);
+            tracker = null;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.partition;
+
+import org.neo4j.graphalgo.api.Degrees;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Inclusive prefix sums over the node degrees of a graph.
+ * <p>
+ * The prefix sums are used to split the node id space into partitions of
+ * roughly equal cost, where the cost of a node is its degree plus one.
+ * Each partition boundary is found using a binary search, so computing
+ * {@code k} partitions takes {@code O(k log n)} time regardless of the
+ * number of relationships.
+ */
+public final class DegreePrefixSum {
+
+    private final HugeLongArray prefixSums;
+    private final long nodeCount;
+
+    public static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(DegreePrefixSum.class)
+            .perNode("prefix sums", HugeLongArray::memoryEstimation)
+            .build();
+    }
+
+    public static DegreePrefixSum of(
+        Degrees degrees,
+        long nodeCount,
+        int concurrency,
+        ExecutorService executor,
+        AllocationTracker tracker
+    ) {
+        HugeLongArray prefixSums = HugeLongArray.newArray(nodeCount, tracker);
+        if (nodeCount == 0) {
+            return new DegreePrefixSum(prefixSums, nodeCount);
+        }
+
+        long batchSize = ParallelUtil.threadCount(Math.max(1, concurrency), nodeCount);
+        int batchCount = Math.toIntExact(ParallelUtil.threadCount(batchSize, nodeCount));
+
+        // first pass: local prefix sums per batch
+        List<Runnable> localSums = new ArrayList<>(batchCount);
+        for (int batch = 0; batch < batchCount; batch++) {
+            long start = batch * batchSize;
+            long end = Math.min(nodeCount, start + batchSize);
+            localSums.add(() -> {
+                long sum = 0L;
+                for (long nodeId = start; nodeId < end; nodeId++) {
+                    sum += degrees.degree(nodeId);
+                    prefixSums.set(nodeId, sum);
+                }
+            });
+        }
+        ParallelUtil.run(localSums, executor);
+
+        // second pass: shift every batch by the total of all preceding batches
+        List<Runnable> shifts = new ArrayList<>(batchCount);
+        long offset = 0L;
+        for (int batch = 0; batch < batchCount; batch++) {
+            long start = batch * batchSize;
+            long end = Math.min(nodeCount, start + batchSize);
+            long batchOffset = offset;
+            offset += prefixSums.get(end - 1);
+            if (batchOffset > 0L) {
+                shifts.add(() -> {
+                    for (long nodeId = start; nodeId < end; nodeId++) {
+                        prefixSums.addTo(nodeId, batchOffset);
+                    }
+                });
+            }
+        }
+        ParallelUtil.run(shifts, executor);
+
+        return new DegreePrefixSum(prefixSums, nodeCount);
+    }
+
+    private DegreePrefixSum(HugeLongArray prefixSums, long nodeCount) {
+        this.prefixSums = prefixSums;
+        this.nodeCount = nodeCount;
+    }
+
+    public long nodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * @return the sum of the degrees of all nodes.
+     */
+    public long totalDegree() {
+        return nodeCount == 0 ? 0L : prefixSums.get(nodeCount - 1);
+    }
+
+    /**
+     * @return the sum of the degrees of all nodes up to and including {@code nodeId}.
+     */
+    public long degreeSum(long nodeId) {
+        return prefixSums.get(nodeId);
+    }
+
+    /**
+     * Splits the node id space into at most {@code partitionCount} consecutive,
+     * non-empty partitions of roughly equal cost. No partition exceeds
+     * {@link Partition#MAX_NODE_COUNT} nodes, which might increase the number
+     * of partitions for very large graphs.
+     */
+    public List<Partition> partitions(int partitionCount) {
+        if (partitionCount <= 0) {
+            throw new IllegalArgumentException("Partition count must be positive, but got " + partitionCount);
+        }
+        List<Partition> partitions = new ArrayList<>(partitionCount);
+        long totalCost = cost(nodeCount - 1);
+        long start = 0L;
+        for (int i = 1; i <= partitionCount && start < nodeCount; i++) {
+            long end = i == partitionCount
+                ? nodeCount
+                : firstNodeWithCost(start, (long) ((double) totalCost * i / partitionCount)) + 1;
+            while (end - start > Partition.MAX_NODE_COUNT) {
+                partitions.add(new Partition(start, Partition.MAX_NODE_COUNT));
+                start += Partition.MAX_NODE_COUNT;
+            }
+            if (end > start) {
+                partitions.add(new Partition(start, end - start));
+                start = end;
+            }
+        }
+        return partitions;
+    }
+
+    public void release(AllocationTracker tracker) {
+        tracker.remove(prefixSums.release());
+    }
+
+    private long cost(long nodeId) {
+        return nodeId < 0 ? 0L : prefixSums.get(nodeId) + nodeId + 1;
+    }
+
+    // smallest node id in [from, nodeCount) whose accumulated cost is at least the given cost
+    private long firstNodeWithCost(long from, long cost) {
+        long low = from;
+        long high = nodeCount - 1;
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            if (cost(mid) < cost) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
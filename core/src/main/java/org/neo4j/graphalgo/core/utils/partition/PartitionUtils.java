@@ -23,14 +23,23 @@ import org.neo4j.graphalgo.core.utils.collection.primitive.PrimitiveLongIterator
 import org.neo4j.graphalgo.api.Degrees;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import static org.neo4j.graphalgo.core.utils.partition.Partition.MAX_NODE_COUNT;
 
 public final class PartitionUtils {
 
+    /**
+     * Number of partitions created per thread for degree-balanced partitioning.
+     * Having more partitions than threads allows threads that finish early
+     * to pick up the remaining partitions instead of idling.
+     */
+    public static final int PARTITIONS_PER_THREAD = 4;
+
     private PartitionUtils() {}
 
     public static List<Partition> numberAlignedPartitioning(
@@ -51,6 +60,37 @@ public final class PartitionUtils {
         return tasks;
     }
 
+    /**
+     * Splits the graph into {@code concurrency * }{@link #PARTITIONS_PER_THREAD} partitions
+     * of roughly equal cost, based on the {@link Graph#degreePrefixSum(int, ExecutorService, AllocationTracker) degree prefix sums}.
+     * The partitions are intended to be run via {@link ParallelUtil#runWithConcurrency},
+     * which hands out the next partition to whichever thread becomes available first.
+     */
+    public static List<Partition> degreeBalancedPartitions(
+        Graph graph,
+        int concurrency,
+        ExecutorService executor,
+        AllocationTracker tracker
+    ) {
+        return degreeBalancedPartitions(
+            graph,
+            concurrency,
+            Math.max(1, concurrency) * PARTITIONS_PER_THREAD,
+            executor,
+            tracker
+        );
+    }
+
+    public static List<Partition> degreeBalancedPartitions(
+        Graph graph,
+        int concurrency,
+        int partitionCount,
+        ExecutorService executor,
+        AllocationTracker tracker
+    ) {
+        return graph.degreePrefixSum(concurrency, executor, tracker).partitions(partitionCount);
+    }
+
     public static List<Partition> degreePartition(Graph graph, long batchSize) {
         return degreePartition(graph.nodeIterator(), graph, batchSize);
     }
@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.queue;
+
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryEstimations;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.graphalgo.core.utils.paged.HugeDoubleArray;
+import org.neo4j.graphalgo.core.utils.paged.HugeLongArray;
+
+/**
+ * An indexed d-ary min-heap over node ids in {@code [0, capacity)}, supporting
+ * decrease-key in log(size) time.
+ * <p>
+ * Unlike {@link LongPriorityQueue}, costs are kept in an array parallel to the heap,
+ * so that sifting never touches a hash map, and the position of each element is tracked
+ * in a dense array indexed by element. A position is only trusted if the heap slot it
+ * points to holds the element, which allows {@link #clear()} to run in constant time
+ * without resetting the positions.
+ * <p>
+ * The heap itself grows on demand, only the positions are allocated for the full capacity.
+ */
+public final class HugeLongPriorityQueue {
+
+    public static final int DEFAULT_ARITY = 4;
+
+    private static final long INITIAL_HEAP_CAPACITY = 1024L;
+
+    public static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(HugeLongPriorityQueue.class)
+            .perNode("positions", HugeLongArray::memoryEstimation)
+            .fixed("heap", HugeLongArray.memoryEstimation(INITIAL_HEAP_CAPACITY))
+            .fixed("heap costs", HugeDoubleArray.memoryEstimation(INITIAL_HEAP_CAPACITY))
+            .build();
+    }
+
+    private final int arity;
+    private final long capacity;
+    private final AllocationTracker tracker;
+
+    private HugeLongArray heap;
+    private HugeDoubleArray heapCosts;
+    private HugeLongArray positions;
+    private long size;
+
+    public static HugeLongPriorityQueue min(long capacity, AllocationTracker tracker) {
+        return new HugeLongPriorityQueue(capacity, DEFAULT_ARITY, tracker);
+    }
+
+    public HugeLongPriorityQueue(long capacity, int arity, AllocationTracker tracker) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Arity must be at least 2, but got " + arity);
+        }
+        this.arity = arity;
+        this.capacity = capacity;
+        this.tracker = tracker;
+        long heapCapacity = Math.max(1L, Math.min(capacity, INITIAL_HEAP_CAPACITY));
+        this.heap = HugeLongArray.newArray(heapCapacity, tracker);
+        this.heapCosts = HugeDoubleArray.newArray(heapCapacity, tracker);
+        this.positions = HugeLongArray.newArray(capacity, tracker);
+        this.size = 0;
+    }
+
+    /**
+     * Adds an element that is not yet contained in the queue in log(size) time.
+     */
+    public void add(long element, double cost) {
+        assert element >= 0 && element < capacity;
+        assert !contains(element);
+        ensureCapacityForInsert();
+        place(element, cost, size);
+        siftUp(size++);
+    }
+
+    /**
+     * Lowers the cost of an element that is contained in the queue in log(size) time.
+     */
+    public void decreaseKey(long element, double cost) {
+        long position = positions.get(element);
+        assert contains(element);
+        assert cost <= heapCosts.get(position);
+        heapCosts.set(position, cost);
+        siftUp(position);
+    }
+
+    /**
+     * Adds the element or updates its cost if it is already contained in the queue.
+     */
+    public void set(long element, double cost) {
+        if (!contains(element)) {
+            add(element, cost);
+            return;
+        }
+        long position = positions.get(element);
+        double oldCost = heapCosts.get(position);
+        heapCosts.set(position, cost);
+        if (cost < oldCost) {
+            siftUp(position);
+        } else {
+            siftDown(position);
+        }
+    }
+
+    public boolean contains(long element) {
+        long position = positions.get(element);
+        return position < size && heap.get(position) == element;
+    }
+
+    /**
+     * @return the cost of an element that is contained in the queue.
+     */
+    public double cost(long element) {
+        assert contains(element);
+        return heapCosts.get(positions.get(element));
+    }
+
+    /**
+     * @return the least element of the queue in constant time.
+     */
+    public long top() {
+        return size > 0 ? heap.get(0) : -1L;
+    }
+
+    public double topCost() {
+        return heapCosts.get(0);
+    }
+
+    /**
+     * Removes and returns the least element of the queue in log(size) time.
+     *
+     * @return the least element of the queue or -1 if the queue is empty.
+     */
+    public long pop() {
+        if (size == 0) {
+            return -1L;
+        }
+        long result = heap.get(0);
+        size--;
+        if (size > 0) {
+            place(heap.get(size), heapCosts.get(size), 0);
+            siftDown(0);
+        }
+        return result;
+    }
+
+    /**
+     * @return the number of elements currently stored in the queue.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @return true iff there are currently no elements stored in the queue.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return true iff there is currently at least one element stored in the queue.
+     */
+    public boolean nonEmpty() {
+        return size != 0;
+    }
+
+    /**
+     * Removes all entries from the queue in constant time.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Removes all entries from the queue, releases all buffers.
+     * The queue can no longer be used afterwards.
+     */
+    public void release() {
+        size = 0;
+        tracker.remove(heap.release());
+        tracker.remove(heapCosts.release());
+        tracker.remove(positions.release());
+        heap = null;
+        heapCosts = null;
+        positions = null;
+    }
+
+    private void siftUp(long position) {
+        long element = heap.get(position);
+        double cost = heapCosts.get(position);
+        while (position > 0) {
+            long parent = (position - 1) / arity;
+            double parentCost = heapCosts.get(parent);
+            if (cost >= parentCost) {
+                break;
+            }
+            place(heap.get(parent), parentCost, position);
+            position = parent;
+        }
+        place(element, cost, position);
+    }
+
+    private void siftDown(long position) {
+        long element = heap.get(position);
+        double cost = heapCosts.get(position);
+        long firstChild;
+        while ((firstChild = position * arity + 1) < size) {
+            long lastChild = Math.min(firstChild + arity, size);
+            long minChild = firstChild;
+            double minCost = heapCosts.get(firstChild);
+            for (long child = firstChild + 1; child < lastChild; child++) {
+                double childCost = heapCosts.get(child);
+                if (childCost < minCost) {
+                    minChild = child;
+                    minCost = childCost;
+                }
+            }
+            if (minCost >= cost) {
+                break;
+            }
+            place(heap.get(minChild), minCost, position);
+            position = minChild;
+        }
+        place(element, cost, position);
+    }
+
+    private void place(long element, double cost, long position) {
+        heap.set(position, element);
+        heapCosts.set(position, cost);
+        positions.set(element, position);
+    }
+
+    private void ensureCapacityForInsert() {
+        long heapCapacity = heap.size();
+        if (size < heapCapacity) {
+            return;
+        }
+        long newCapacity = Math.min(capacity, heapCapacity + (heapCapacity >> 1) + 1);
+        HugeLongArray newHeap = heap.copyOf(newCapacity, tracker);
+        HugeDoubleArray newHeapCosts = heapCosts.copyOf(newCapacity, tracker);
+        tracker.remove(heap.release());
+        tracker.remove(heapCosts.release());
+        heap = newHeap;
+        heapCosts = newHeapCosts;
+    }
+}
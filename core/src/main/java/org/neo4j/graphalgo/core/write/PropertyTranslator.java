@@ -146,7 +146,30 @@ public interface PropertyTranslator<T> {
             T data,
             long nodeId) {
             final double[] value = toDoubleArray(data, nodeId);
-            return Values.doubleArray(value);
+            return value == null ? null : Values.doubleArray(value);
+        }
+    }
+
+    interface OfFloatArray<T> extends PropertyTranslator<T> {
+        float[] toFloatArray(final T data, final long nodeId);
+
+        @Override
+        default NumberType numberType() {
+            return NumberType.NO_NUMBER;
+        }
+
+        @Override
+        default double toDouble(final T data, final long nodeId) {
+            throw new UnsupportedOperationException("Can not translate list property to single double value.");
+        }
+
+        @Override
+        default Value toProperty(
+            int propertyId,
+            T data,
+            long nodeId) {
+            final float[] value = toFloatArray(data, nodeId);
+            return value == null ? null : Values.floatArray(value);
         }
     }
 
@@ -157,7 +180,7 @@ public interface PropertyTranslator<T> {
 
     }
 
-    final class OfLongIfChanged<T> implements PropertyTranslator<T> {
+    final class OfLongIfChanged<T> implements OfLong<T> {
 
         private final NodeProperties currentProperties;
         private final DataAccessFunction<T> newPropertiesFn;
@@ -176,6 +199,11 @@ public interface PropertyTranslator<T> {
             this.newPropertiesFn = newPropertiesFn;
         }
 
+        @Override
+        public long toLong(final T data, final long nodeId) {
+            return newPropertiesFn.getValue(data, nodeId);
+        }
+
         @Override
         public double toDouble(final T data, final long nodeId) {
             return newPropertiesFn.getValue(data, nodeId);
@@ -190,7 +218,7 @@ public interface PropertyTranslator<T> {
         public Value toProperty(int propertyId, T data, long nodeId) {
             double seedValue = currentProperties.nodeProperty(nodeId, Double.NaN);
             long computedValue = newPropertiesFn.getValue(data, nodeId);
-            return Double.isNaN(seedValue) || ((long) seedValue != computedValue) ? Values.longValue(computedValue) : null;
+            return Double.isNaN(seedValue) || (currentProperties.longValue(nodeId) != computedValue) ? Values.longValue(computedValue) : null;
         }
     }
 
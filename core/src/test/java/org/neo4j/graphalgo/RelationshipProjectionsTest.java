@@ -37,6 +37,8 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
 import static org.hamcrest.text.MatchesPattern.matchesPattern;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.neo4j.graphalgo.AbstractRelationshipProjection.INDEX_INVERSE_KEY;
+import static org.neo4j.graphalgo.AbstractRelationshipProjection.INDEX_RELATIONSHIPS_KEY;
 import static org.neo4j.graphalgo.AbstractRelationshipProjection.ORIENTATION_KEY;
 import static org.neo4j.graphalgo.AbstractRelationshipProjection.TYPE_KEY;
 import static org.neo4j.graphalgo.ElementProjection.PROPERTIES_KEY;
@@ -165,6 +167,58 @@ class RelationshipProjectionsTest {
         );
     }
 
+    @Test
+    void shouldParseInverseIndex() {
+        Map<String, Object> projection = map(
+            "MY_TYPE", map(
+                "type", "T",
+                "orientation", "NATURAL",
+                "indexInverse", true
+            )
+        );
+
+        RelationshipProjections actual = RelationshipProjections.fromObject(projection);
+        RelationshipProjection expected = RelationshipProjection
+            .builder()
+            .type("T")
+            .indexInverse(true)
+            .build();
+
+        assertThat(actual.getFilter(RelationshipType.of("MY_TYPE")), equalTo(expected));
+        assertThat(expected.toObject().get(INDEX_INVERSE_KEY), equalTo(true));
+        assertThat(RelationshipProjection.of("T", Orientation.NATURAL).toObject().containsKey(INDEX_INVERSE_KEY), equalTo(false));
+    }
+
+    @Test
+    void shouldParseIndexRelationships() {
+        Map<String, Object> projection = map(
+            "MY_TYPE", map(
+                "type", "T",
+                "indexRelationships", true
+            )
+        );
+
+        RelationshipProjections actual = RelationshipProjections.fromObject(projection);
+        RelationshipProjection expected = RelationshipProjection
+            .builder()
+            .type("T")
+            .indexRelationships(true)
+            .build();
+
+        assertThat(actual.getFilter(RelationshipType.of("MY_TYPE")), equalTo(expected));
+        assertThat(expected.toObject().get(INDEX_RELATIONSHIPS_KEY), equalTo(true));
+        assertThat(RelationshipProjection.of("T", Orientation.NATURAL).toObject().containsKey(INDEX_RELATIONSHIPS_KEY), equalTo(false));
+    }
+
+    @Test
+    void shouldFailOnInvalidInverseIndex() {
+        IllegalArgumentException ex = assertThrows(
+            IllegalArgumentException.class,
+            () -> RelationshipProjections.fromObject(map("T", map(TYPE_KEY, "T", INDEX_INVERSE_KEY, "yes")))
+        );
+        assertThat(ex.getMessage(), matchesPattern("'yes' is not a valid value for  the key 'indexInverse'"));
+    }
+
     @Test
     void shouldFailOnUnsupportedType() {
         IllegalArgumentException ex = assertThrows(
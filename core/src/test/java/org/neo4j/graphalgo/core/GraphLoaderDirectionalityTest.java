@@ -19,9 +19,11 @@
  */
 package org.neo4j.graphalgo.core;
 
+import org.junit.jupiter.api.Test;
 import org.neo4j.graphalgo.BaseTest;
 import org.neo4j.graphalgo.CypherLoaderBuilder;
 import org.neo4j.graphalgo.Orientation;
+import org.neo4j.graphalgo.RelationshipProjection;
 import org.neo4j.graphalgo.StoreLoaderBuilder;
 import org.neo4j.graphalgo.TestSupport;
 import org.neo4j.graphalgo.TestSupport.AllGraphStoreFactoryTypesTest;
@@ -29,6 +31,10 @@ import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.config.GraphCreateFromCypherConfig;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.neo4j.graphalgo.GraphHelper.assertInverseRelationships;
 import static org.neo4j.graphalgo.GraphHelper.assertRelationships;
 import static org.neo4j.graphalgo.TestSupport.FactoryType.CYPHER;
 import static org.neo4j.graphalgo.compat.GraphDatabaseApiProxy.applyInTransaction;
@@ -187,6 +193,58 @@ class GraphLoaderDirectionalityTest extends BaseTest {
         );
     }
 
+    @Test
+    void loadNaturalWithInverseIndex() {
+        Graph graph = loadGraphWithInverseIndex(Orientation.NATURAL);
+
+        assertTrue(graph.hasInverseIndex());
+        assertEquals(5L, graph.relationshipCount());
+        assertRelationships(graph, 0, 0, 1);
+        assertRelationships(graph, 1, 1, 2, 3);
+        assertInverseRelationships(graph, 0, 0);
+        assertInverseRelationships(graph, 1, 0, 1);
+        assertInverseRelationships(graph, 2, 1);
+        assertInverseRelationships(graph, 3, 1);
+        assertEquals(1, graph.inverseDegree(0));
+        assertEquals(2, graph.inverseDegree(1));
+    }
+
+    @Test
+    void loadReverseWithInverseIndex() {
+        Graph graph = loadGraphWithInverseIndex(Orientation.REVERSE);
+
+        assertTrue(graph.hasInverseIndex());
+        assertRelationships(graph, 1, 0, 1);
+        assertInverseRelationships(graph, 0, 0, 1);
+        assertInverseRelationships(graph, 1, 1, 2, 3);
+        assertInverseRelationships(graph, 2);
+        assertInverseRelationships(graph, 3);
+        assertEquals(3, graph.inverseDegree(1));
+        assertEquals(0, graph.inverseDegree(2));
+    }
+
+    @Test
+    void failOnInverseRelationshipsWithoutIndex() {
+        Graph graph = loadDirectedGraph(TestSupport.FactoryType.NATIVE, RELATIONSHIP_QUERY_OUTGOING, Orientation.NATURAL);
+
+        assertFalse(graph.hasInverseIndex());
+        assertThrows(UnsupportedOperationException.class, () -> graph.inverseDegree(0));
+    }
+
+    private Graph loadGraphWithInverseIndex(Orientation orientation) {
+        runQuery(DB_CYPHER);
+        GraphLoader graphLoader = new StoreLoaderBuilder()
+            .api(db)
+            .addRelationshipProjection(RelationshipProjection.builder()
+                .type("REL")
+                .orientation(orientation)
+                .aggregation(Aggregation.SINGLE)
+                .indexInverse(true)
+                .build())
+            .build();
+        return applyInTransaction(db, tx -> graphLoader.graph());
+    }
+
     private void runUndirectedNodeWithSelfReference(TestSupport.FactoryType factoryType, String cypher) {
         Graph graph = loadGraph(
             cypher,
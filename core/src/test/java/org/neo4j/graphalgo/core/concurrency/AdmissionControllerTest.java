@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.concurrency;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.core.concurrency.AdmissionController.JobPriority;
+import org.neo4j.graphalgo.core.concurrency.AdmissionController.Reservation;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdmissionControllerTest {
+
+    private static final Duration NO_WAIT = Duration.ZERO;
+    private static final Duration LONG_WAIT = Duration.ofSeconds(30);
+
+    @Test
+    void shouldReserveAndReleaseMemoryAndThreads() {
+        var controller = new AdmissionController(() -> 4, () -> 1000);
+
+        try (Reservation reservation = controller.admit("job", JobPriority.INTERACTIVE, 400, 2, NO_WAIT)) {
+            assertEquals(400, reservation.bytes());
+            assertEquals(2, reservation.concurrency());
+            assertEquals(400, controller.reservedBytes());
+            assertEquals(2, controller.reservedThreads());
+        }
+
+        assertEquals(0, controller.reservedBytes());
+        assertEquals(0, controller.reservedThreads());
+    }
+
+    @Test
+    void shouldReleaseOnlyOnce() {
+        var controller = new AdmissionController(() -> 4, () -> 1000);
+
+        var first = controller.admit("first", JobPriority.INTERACTIVE, 400, 1, NO_WAIT);
+        var second = controller.admit("second", JobPriority.INTERACTIVE, 400, 1, NO_WAIT);
+        first.close();
+        first.close();
+
+        assertEquals(400, controller.reservedBytes());
+        second.close();
+        assertEquals(0, controller.reservedBytes());
+    }
+
+    @Test
+    void shouldRejectJobsExceedingFreeMemory() {
+        var controller = new AdmissionController(() -> 4, () -> 1000);
+
+        var exception = assertThrows(
+            IllegalStateException.class,
+            () -> controller.admit("job", JobPriority.INTERACTIVE, 1001, 1, LONG_WAIT)
+        );
+
+        assertTrue(exception.getMessage().contains("Job `job` was rejected since its estimated memory"));
+        assertEquals(0, controller.reservedBytes());
+    }
+
+    @Test
+    void shouldRejectJobsThatDoNotFitInTime() {
+        var controller = new AdmissionController(() -> 4, () -> 1000);
+
+        try (Reservation ignored = controller.admit("first", JobPriority.INTERACTIVE, 600, 1, NO_WAIT)) {
+            var second = CompletableFuture.supplyAsync(
+                () -> controller.admit("second", JobPriority.INTERACTIVE, 600, 1, Duration.ofMillis(10))
+            );
+            var exception = assertThrows(ExecutionException.class, () -> second.get(10, TimeUnit.SECONDS));
+            assertTrue(exception.getCause().getMessage().contains("did not become available within"));
+            assertEquals(600, controller.reservedBytes());
+        }
+    }
+
+    @Test
+    void shouldQueueJobsUntilMemoryIsReleased() throws Exception {
+        var queued = new CountDownLatch(1);
+        var controller = new AdmissionController(() -> 4, () -> 1000, jobName -> queued.countDown());
+        var first = controller.admit("first", JobPriority.INTERACTIVE, 600, 1, NO_WAIT);
+
+        var second = CompletableFuture.supplyAsync(
+            () -> controller.admit("second", JobPriority.INTERACTIVE, 600, 1, LONG_WAIT)
+        );
+
+        assertTrue(queued.await(10, TimeUnit.SECONDS));
+        assertFalse(second.isDone());
+
+        first.close();
+        try (Reservation reservation = second.get(10, TimeUnit.SECONDS)) {
+            assertEquals(600, controller.reservedBytes());
+            assertEquals(600, reservation.bytes());
+        }
+    }
+
+    @Test
+    void shouldAdmitInteractiveJobsBeforeBatchJobs() throws Exception {
+        var batchQueued = new CountDownLatch(1);
+        var interactiveQueued = new CountDownLatch(1);
+        var controller = new AdmissionController(() -> 4, () -> 1000, jobName -> {
+            if (jobName.equals("batch")) {
+                batchQueued.countDown();
+            } else if (jobName.equals("interactive")) {
+                interactiveQueued.countDown();
+            }
+        });
+        var first = controller.admit("first", JobPriority.BATCH, 600, 1, NO_WAIT);
+
+        var batchAdmitted = new CountDownLatch(1);
+        var interactiveAdmitted = new CountDownLatch(1);
+
+        var batch = CompletableFuture.runAsync(() -> {
+            try (Reservation ignored = controller.admit("batch", JobPriority.BATCH, 600, 1, LONG_WAIT)) {
+                assertEquals(0, interactiveAdmitted.getCount());
+                batchAdmitted.countDown();
+            }
+        });
+        assertTrue(batchQueued.await(10, TimeUnit.SECONDS));
+
+        var interactive = CompletableFuture.runAsync(() -> {
+            try (Reservation ignored = controller.admit("interactive", JobPriority.INTERACTIVE, 600, 1, LONG_WAIT)) {
+                interactiveAdmitted.countDown();
+                assertEquals(1, batchAdmitted.getCount());
+            }
+        });
+        assertTrue(interactiveQueued.await(10, TimeUnit.SECONDS));
+
+        first.close();
+        interactive.get(10, TimeUnit.SECONDS);
+        batch.get(10, TimeUnit.SECONDS);
+        assertEquals(0, controller.reservedBytes());
+    }
+
+    @Test
+    void shouldKeepTheRequestedConcurrencyWithoutContention() {
+        var controller = new AdmissionController(() -> 4, () -> 1000);
+
+        try (Reservation batch = controller.admit("batch", JobPriority.BATCH, 0, 8, NO_WAIT)) {
+            assertEquals(8, batch.concurrency());
+            assertEquals(8, controller.reservedThreads());
+        }
+        try (Reservation interactive = controller.admit("interactive", JobPriority.INTERACTIVE, 0, 3, NO_WAIT)) {
+            try (Reservation batch = controller.admit("batch", JobPriority.BATCH, 0, 1, NO_WAIT)) {
+                assertEquals(1, batch.concurrency());
+            }
+            try (Reservation interactive2 = controller.admit("interactive2", JobPriority.INTERACTIVE, 0, 4, NO_WAIT)) {
+                assertEquals(4, interactive2.concurrency());
+            }
+        }
+    }
+
+    @Test
+    void shouldQueueBatchJobsUntilThreadsAreReleased() throws Exception {
+        var queued = new CountDownLatch(1);
+        var controller = new AdmissionController(() -> 4, () -> 1000, jobName -> queued.countDown());
+        var interactive = controller.admit("interactive", JobPriority.INTERACTIVE, 0, 3, NO_WAIT);
+
+        var batch = CompletableFuture.supplyAsync(
+            () -> controller.admit("batch", JobPriority.BATCH, 0, 2, LONG_WAIT)
+        );
+
+        assertTrue(queued.await(10, TimeUnit.SECONDS));
+        assertFalse(batch.isDone());
+
+        interactive.close();
+        try (Reservation reservation = batch.get(10, TimeUnit.SECONDS)) {
+            assertEquals(2, reservation.concurrency());
+            assertEquals(2, controller.reservedThreads());
+        }
+    }
+
+    @Test
+    void shouldRejectBatchJobsWhoseThreadsDoNotBecomeAvailable() {
+        var controller = new AdmissionController(() -> 4, () -> 1000);
+
+        try (Reservation ignored = controller.admit("interactive", JobPriority.INTERACTIVE, 0, 4, NO_WAIT)) {
+            var batch = CompletableFuture.supplyAsync(
+                () -> controller.admit("batch", JobPriority.BATCH, 0, 1, Duration.ofMillis(10))
+            );
+            var exception = assertThrows(ExecutionException.class, () -> batch.get(10, TimeUnit.SECONDS));
+            assertTrue(exception.getCause().getMessage().contains("and concurrency (1) did not become available within"));
+        }
+    }
+
+    @Test
+    void shouldNotQueueJobsBehindReservationsOfTheirOwnThread() {
+        var controller = new AdmissionController(() -> 4, () -> 1000);
+
+        try (Reservation first = controller.admit("first", JobPriority.BATCH, 600, 4, NO_WAIT)) {
+            try (Reservation second = controller.admit("second", JobPriority.BATCH, 600, 4, NO_WAIT)) {
+                assertEquals(4, second.concurrency());
+                assertEquals(1200, controller.reservedBytes());
+                assertEquals(8, controller.reservedThreads());
+            }
+        }
+
+        assertEquals(0, controller.reservedBytes());
+        assertEquals(0, controller.reservedThreads());
+    }
+
+    @Test
+    void shouldStillWaitForThreadsReservedByOtherThreads() throws Exception {
+        var controller = new AdmissionController(() -> 4, () -> 1000);
+        var other = CompletableFuture
+            .supplyAsync(() -> controller.admit("other", JobPriority.INTERACTIVE, 0, 2, NO_WAIT))
+            .get(10, TimeUnit.SECONDS);
+
+        try (Reservation ignored = controller.admit("first", JobPriority.BATCH, 0, 2, NO_WAIT)) {
+            try (Reservation second = controller.admit("second", JobPriority.BATCH, 0, 2, NO_WAIT)) {
+                assertEquals(6, controller.reservedThreads());
+            }
+            var exception = assertThrows(
+                IllegalStateException.class,
+                () -> controller.admit("third", JobPriority.BATCH, 0, 3, Duration.ofMillis(10))
+            );
+            assertTrue(exception.getMessage().contains("and concurrency (3) did not become available within"));
+        } finally {
+            other.close();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.huge;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.graphalgo.BaseTest;
+import org.neo4j.graphalgo.PropertyMapping;
+import org.neo4j.graphalgo.RelationshipProjection;
+import org.neo4j.graphalgo.StoreLoaderBuilder;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.core.Aggregation;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class AdjacencyIndexTest extends BaseTest {
+
+    private static final int TARGET_COUNT = 2 * AdjacencyIndex.DEGREE_THRESHOLD;
+
+    @BeforeEach
+    void setup() {
+        // every second target is connected twice to the hub, the first relationship wins property lookups
+        runQuery(
+            "CREATE (hub:Hub)" +
+            " WITH hub" +
+            " UNWIND range(1, $targets) AS i" +
+            " CREATE (hub)-[:TYPE {weight: i}]->(target:Node)" +
+            " FOREACH (_ IN CASE WHEN i % 2 = 0 THEN [1] ELSE [] END |" +
+            "   CREATE (hub)-[:TYPE {weight: -i}]->(target)" +
+            " )",
+            Map.of("targets", TARGET_COUNT)
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void shouldLookupRelationshipsOfHighDegreeNodes(boolean indexRelationships) {
+        Graph graph = load(indexRelationships, AllocationTracker.EMPTY);
+
+        long hub = 0;
+        int degree = graph.degree(hub);
+        assertTrue(degree >= AdjacencyIndex.DEGREE_THRESHOLD);
+
+        long[] targets = new long[degree];
+        Map<Long, Double> firstProperties = new HashMap<>();
+        int[] index = {0};
+        graph.forEachRelationship(hub, Double.NaN, (source, target, property) -> {
+            targets[index[0]++] = target;
+            firstProperties.putIfAbsent(target, property);
+            return true;
+        });
+
+        for (int i = 0; i < degree; i++) {
+            assertEquals(targets[i], graph.getTarget(hub, i));
+        }
+        assertEquals(HugeGraph.GetTargetConsumer.TARGET_NOT_FOUND, graph.getTarget(hub, degree));
+
+        for (long target = 0; target < graph.nodeCount(); target++) {
+            Double expected = firstProperties.get(target);
+            if (expected == null) {
+                assertFalse(graph.exists(hub, target));
+                assertEquals(42.0, graph.relationshipProperty(hub, target, 42.0));
+            } else {
+                assertTrue(graph.exists(hub, target));
+                assertEquals(expected, graph.relationshipProperty(hub, target));
+            }
+        }
+    }
+
+    @Test
+    void shouldTrackIndexWithGraphStore() {
+        AllocationTracker withoutIndex = AllocationTracker.create();
+        AllocationTracker withIndex = AllocationTracker.create();
+        load(false, withoutIndex);
+        load(true, withIndex);
+
+        assertTrue(withIndex.tracked() > withoutIndex.tracked());
+    }
+
+    private Graph load(boolean indexRelationships, AllocationTracker tracker) {
+        return new StoreLoaderBuilder()
+            .api(db)
+            .tracker(tracker)
+            .addRelationshipProjection(RelationshipProjection.builder()
+                .type("TYPE")
+                .indexRelationships(indexRelationships)
+                .build())
+            .addRelationshipProperty(PropertyMapping.of("weight", 0, Aggregation.NONE))
+            .build()
+            .graph();
+    }
+}
@@ -20,6 +20,7 @@
 package org.neo4j.graphalgo.core.huge;
 
 import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.RelationshipType;
 import org.neo4j.graphalgo.core.GraphDimensions;
 import org.neo4j.graphalgo.core.ImmutableGraphDimensions;
 import org.neo4j.graphalgo.core.utils.BitUtil;
@@ -28,9 +29,11 @@ import org.neo4j.graphalgo.core.utils.mem.MemoryTree;
 import org.neo4j.graphalgo.core.utils.paged.PageUtil;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.neo4j.graphalgo.core.huge.AdjacencyList.PAGE_MASK;
 import static org.neo4j.graphalgo.core.huge.AdjacencyList.PAGE_SHIFT;
 import static org.neo4j.graphalgo.core.huge.AdjacencyList.computeAdjacencyByteSize;
+import static org.neo4j.graphalgo.core.huge.AdjacencyList.computePackedAdjacencyByteSize;
 import static org.neo4j.graphalgo.core.utils.BitUtil.ceilDiv;
 
 class AdjacencyListTest {
@@ -142,6 +145,56 @@ class AdjacencyListTest {
         assertEquals(expected, computeAdjacencyByteSize(avgDegree, nodeCount, delta));
     }
 
+    @Test
+    void shouldComputePackedAdjacencyByteSize() {
+        long avgDegree = 100;
+        long nodeCount = 1_000_000;
+        long maxDelta = 999_999;
+        // ceil(encodedVLongSize(nodeCount) / 2)
+        long firstAdjacencyIdAvgByteSize = 2;
+        // the second block starts with a var-long delta of 20 bits
+        long blockStartByteSize = 3;
+        // two blocks with 63 and 35 packed deltas of 20 bits each, plus a width and a padding byte per block
+        long packedByteSize = 2 * 2 + ceilDiv(98 * 20, 8);
+        int degreeByteSize = 4;
+        long expected = (degreeByteSize + firstAdjacencyIdAvgByteSize + blockStartByteSize + packedByteSize) * nodeCount;
+
+        assertEquals(expected, computePackedAdjacencyByteSize(avgDegree, nodeCount, maxDelta));
+    }
+
+    @Test
+    void shouldComputePackedAdjacencyByteSizeForSingleTargets() {
+        // a block with a single target has no packed deltas
+        assertEquals((4 + 1) * 100, computePackedAdjacencyByteSize(1, 100, 99));
+        assertEquals(400, computePackedAdjacencyByteSize(0, 100, 99));
+    }
+
+    @Test
+    void shouldEstimatePackedAdjacencyWithTheLargestPossibleDelta() {
+        GraphDimensions dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(1_000_000)
+            .maxRelCount(100_000_000)
+            .build();
+
+        MemoryRange varLong = AdjacencyList
+            .compressedMemoryEstimation(RelationshipType.ALL_RELATIONSHIPS, false, AdjacencyEncoding.VAR_LONG)
+            .estimate(dimensions, 1)
+            .memoryUsage();
+        MemoryRange packed = AdjacencyList
+            .compressedMemoryEstimation(RelationshipType.ALL_RELATIONSHIPS, false, AdjacencyEncoding.PACKED)
+            .estimate(dimensions, 1)
+            .memoryUsage();
+
+        long worstCaseAdjacencySize = computePackedAdjacencyByteSize(100, 1_000_000, 999_999);
+        int maxPages = PageUtil.numPagesFor(worstCaseAdjacencySize, PAGE_SHIFT, PAGE_MASK);
+        long bytesPerPage = BitUtil.align(16 + 262144L, 8);
+        long classSize = 24;
+
+        assertEquals(maxPages * bytesPerPage + BitUtil.align(16 + maxPages * 4, 8) + classSize, packed.max);
+        assertTrue(packed.min < varLong.min);
+        assertTrue(packed.max > varLong.max);
+    }
+
     @Test
     void shouldComputeAdjacencyByteSizeNoNodes() {
         long avgDegree = 0;
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.loading;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.neo4j.graphalgo.Orientation;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.api.RelationshipIntersect;
+import org.neo4j.graphalgo.core.Aggregation;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.huge.AdjacencyEncoding;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BitPackedEncodingTest {
+
+    private static final long NODE_COUNT = 5_000;
+    private static final int HUB_DEGREE = 2_000;
+
+    @Test
+    void shouldComputeEncodedSize() {
+        long[] deltas = new long[130];
+        deltas[0] = 1_000;
+        for (int i = 1; i < deltas.length; i++) {
+            deltas[i] = i % 8;
+        }
+        deltas[64] = 300;
+        deltas[128] = 5;
+        byte[] out = new byte[BitPackedEncoding.encodedSize(deltas, deltas.length)];
+
+        // per block: first delta as vlong, one byte bit width and the packed deltas (3 bits for the full blocks, 1 bit for the last)
+        assertEquals((2 + 1 + 24) + (2 + 1 + 24) + (1 + 1 + 1), out.length);
+        assertEquals(out.length, BitPackedEncoding.encode(deltas, deltas.length, out));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Aggregation.class, names = {"NONE", "SINGLE", "SUM", "MAX"})
+    void shouldDecodeTheSameGraphAsVarLongEncoding(Aggregation aggregation) {
+        Graph expected = generate(AdjacencyEncoding.VAR_LONG, Orientation.NATURAL, aggregation);
+        Graph actual = generate(AdjacencyEncoding.PACKED, Orientation.NATURAL, aggregation);
+
+        for (long nodeId = 0; nodeId < NODE_COUNT; nodeId++) {
+            assertEquals(expected.degree(nodeId), actual.degree(nodeId));
+            assertEquals(relationships(expected, nodeId), relationships(actual, nodeId));
+        }
+    }
+
+    @Test
+    void shouldLookupRelationshipsOfPackedHighDegreeNodes() {
+        Graph expected = generate(AdjacencyEncoding.VAR_LONG, Orientation.NATURAL, Aggregation.NONE);
+        Graph actual = generate(AdjacencyEncoding.PACKED, Orientation.NATURAL, Aggregation.NONE);
+
+        long hub = 0;
+        assertTrue(actual.degree(hub) > 256);
+        for (long target = 0; target < NODE_COUNT; target++) {
+            assertEquals(expected.exists(hub, target), actual.exists(hub, target));
+            assertEquals(expected.relationshipProperty(hub, target, Double.NaN), actual.relationshipProperty(hub, target, Double.NaN));
+        }
+        for (int index = 0; index < actual.degree(hub); index++) {
+            assertEquals(expected.getTarget(hub, index), actual.getTarget(hub, index));
+        }
+    }
+
+    @Test
+    void shouldIntersectPackedAdjacencyLists() {
+        Graph expected = generate(AdjacencyEncoding.VAR_LONG, Orientation.UNDIRECTED, Aggregation.SINGLE);
+        Graph actual = generate(AdjacencyEncoding.PACKED, Orientation.UNDIRECTED, Aggregation.SINGLE);
+
+        RelationshipIntersect expectedIntersect = expected.intersection();
+        RelationshipIntersect actualIntersect = actual.intersection();
+        for (long nodeId = 0; nodeId < NODE_COUNT; nodeId++) {
+            List<String> expectedTriangles = new ArrayList<>();
+            List<String> actualTriangles = new ArrayList<>();
+            expectedIntersect.intersectAll(nodeId, (a, b, c) -> expectedTriangles.add(a + "," + b + "," + c));
+            actualIntersect.intersectAll(nodeId, (a, b, c) -> actualTriangles.add(a + "," + b + "," + c));
+            assertEquals(expectedTriangles, actualTriangles);
+        }
+    }
+
+    private static List<String> relationships(Graph graph, long nodeId) {
+        List<String> relationships = new ArrayList<>();
+        graph.forEachRelationship(nodeId, Double.NaN, (source, target, property) -> {
+            relationships.add(target + ":" + property);
+            return true;
+        });
+        return relationships;
+    }
+
+    private static Graph generate(AdjacencyEncoding encoding, Orientation orientation, Aggregation aggregation) {
+        HugeGraphUtil.IdMapBuilder idMapBuilder = HugeGraphUtil.idMapBuilder(NODE_COUNT, Pools.DEFAULT, AllocationTracker.EMPTY);
+        for (long i = 0; i < NODE_COUNT; i++) {
+            idMapBuilder.addNode(i);
+        }
+        IdMap idMap = idMapBuilder.build();
+
+        HugeGraphUtil.RelationshipsBuilder relationshipsBuilder = HugeGraphUtil.createRelImporter(
+            idMap,
+            orientation,
+            true,
+            aggregation,
+            encoding,
+            Pools.DEFAULT,
+            AllocationTracker.EMPTY
+        );
+
+        Random random = new Random(42L);
+        // a hub with parallel relationships, spanning multiple blocks
+        for (int i = 0; i < HUB_DEGREE; i++) {
+            long target = random.nextInt((int) NODE_COUNT);
+            relationshipsBuilder.add(0, target, target);
+        }
+        // many small and a few larger adjacency lists with small and large gaps
+        for (long source = 1; source < NODE_COUNT; source++) {
+            int degree = random.nextInt(source % 100 == 0 ? 500 : 20);
+            int range = source % 3 == 0 ? 64 : (int) NODE_COUNT;
+            for (int i = 0; i < degree; i++) {
+                long target = random.nextInt(range);
+                relationshipsBuilder.add(source, target, source + target);
+            }
+        }
+
+        return HugeGraphUtil.create(idMap, relationshipsBuilder.build(), AllocationTracker.EMPTY);
+    }
+}
@@ -25,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.graphalgo.BaseTest;
 import org.neo4j.graphalgo.CypherLoaderBuilder;
 import org.neo4j.graphalgo.NodeLabel;
@@ -210,6 +211,75 @@ class CypherFactoryTest extends BaseTest {
         assertGraphEquals(fromGdl("(a { nodeProp: 42 })-[{ w: 21 }]->(a)"), graph);
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {2, 7})
+    void testLoadPartitionedCypher(int partitionCount) {
+        String nodeStatement = "MATCH (n) WHERE id(n) % $partitionCount = $partition RETURN id(n) AS id";
+        String relStatement = "MATCH (n)-[r:REL]->(m) WHERE id(n) % $partitionCount = $partition " +
+                              "RETURN id(n) AS source, id(m) AS target, r.prop AS weight";
+
+        loadAndTestGraph(new CypherLoaderBuilder()
+            .api(db)
+            .nodeQuery(nodeStatement)
+            .relationshipQuery(relStatement)
+            .partitionCount(partitionCount));
+    }
+
+    @Test
+    void testLoadPartitionedCypherWithLabelsAndProperties() {
+        clearDb();
+        runQuery("CREATE" +
+                 "  (a:A {p: 1})" +
+                 ", (b:B {p: 2})" +
+                 ", (c:A:B {p: 3})" +
+                 ", (d:C {p: 4})" +
+                 ", (a)-[:REL {w: 1}]->(b)" +
+                 ", (b)-[:REL {w: 2}]->(c)" +
+                 ", (c)-[:REL {w: 3}]->(d)" +
+                 ", (d)-[:REL {w: 4}]->(a)");
+
+        GraphLoader loader = new CypherLoaderBuilder()
+            .api(db)
+            .nodeQuery("MATCH (n) WHERE id(n) % $partitionCount = $partition RETURN id(n) AS id, labels(n) AS labels, n.p AS p")
+            .relationshipQuery("MATCH (n)-[r]->(m) WHERE id(r) % $partitionCount = $partition RETURN id(n) AS source, id(m) AS target, r.w AS w")
+            .partitionCount(3)
+            .build();
+
+        GraphStore graphStore = applyInTransaction(db, tx -> loader.graphStore());
+
+        assertEquals(4, graphStore.nodeCount());
+        assertEquals(4, graphStore.relationshipCount());
+
+        Function<List<String>, Graph> getGraph = (List<String> labels) -> graphStore.getGraph(
+            labels.stream().map(NodeLabel::of).collect(Collectors.toList()),
+            Collections.singletonList(ALL_RELATIONSHIPS),
+            Optional.of("w")
+        );
+        assertEquals(2, getGraph.apply(Collections.singletonList("A")).nodeCount());
+        assertEquals(2, getGraph.apply(Collections.singletonList("B")).nodeCount());
+        assertEquals(1, getGraph.apply(Collections.singletonList("C")).nodeCount());
+
+        Graph graph = getGraph.apply(Arrays.asList("A", "B", "C"));
+        assertGraphEquals(
+            fromGdl("(a {p: 1.0})-[{w: 1.0}]->(b {p: 2.0})-[{w: 2.0}]->(c {p: 3.0})-[{w: 3.0}]->(d {p: 4.0})-[{w: 4.0}]->(a)"),
+            graph
+        );
+    }
+
+    @Test
+    void testFailOnReservedPartitionParameter() {
+        IllegalArgumentException ex = assertThrows(
+            IllegalArgumentException.class,
+            () -> new CypherLoaderBuilder()
+                .api(db)
+                .parameters(MapUtil.map("partition", 0))
+                .partitionCount(2)
+                .build()
+        );
+
+        assertEquals("Query parameter `partition` is reserved for partitioned Cypher projections.", ex.getMessage());
+    }
+
     @Test
     void testLoadingGraphWithLabelInformation() {
         clearDb();
@@ -330,24 +400,24 @@ class CypherFactoryTest extends BaseTest {
                 "Topology Only",
                 "MATCH (n) RETURN id(n) as id",
                 "MATCH (n)-[r]->(m) RETURN id(n) AS source, id(m) AS target",
-                522928,
-                522928
+                602992,
+                602992
             ),
 
             Arguments.of(
                 "Node properties",
                 "MATCH (n) RETURN id(n) as id, n.id as idProp",
                 "MATCH (n)-[r]->(m) RETURN id(n) AS source, id(m) AS target",
-                523000,
-                719720
+                603064,
+                799784
             ),
 
             Arguments.of(
                 "Relationship properties",
                 "MATCH (n) RETURN id(n) as id",
                 "MATCH (n)-[r]->(m) RETURN id(n) AS source, id(m) AS target, r.prop as prop",
-                867304,
-                867304
+                947368,
+                947368
             )
         );
     }
@@ -356,11 +426,13 @@ class CypherFactoryTest extends BaseTest {
         String nodeStatement,
         String relStatement
     ) {
-        CypherLoaderBuilder builder = new CypherLoaderBuilder()
+        loadAndTestGraph(new CypherLoaderBuilder()
             .api(db)
             .nodeQuery(nodeStatement)
-            .relationshipQuery(relStatement);
+            .relationshipQuery(relStatement));
+    }
 
+    private void loadAndTestGraph(CypherLoaderBuilder builder) {
         Graph graph = applyInTransaction(db, tx -> builder.build().graph());
 
         assertEquals(COUNT, graph.nodeCount());
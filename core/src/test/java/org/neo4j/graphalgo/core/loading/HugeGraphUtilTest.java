@@ -25,9 +25,13 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.neo4j.graphalgo.Orientation;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.core.Aggregation;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
 import org.neo4j.graphalgo.core.concurrency.Pools;
 import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
 
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -129,6 +133,42 @@ class HugeGraphUtilTest {
         assertGraphEquals(expectedWithoutAggregation(Orientation.UNDIRECTED), graph);
     }
 
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("validProjections")
+    void weightedWithThreadLocalImporters(Orientation orientation) {
+        int nodeCount = 4;
+        HugeGraphUtil.IdMapBuilder idMapBuilder = HugeGraphUtil.idMapBuilder(
+            nodeCount,
+            Pools.DEFAULT,
+            AllocationTracker.EMPTY
+        );
+
+        for (int i = 0; i < nodeCount; i++) {
+            idMapBuilder.addNode(i);
+        }
+
+        IdMap idMap = idMapBuilder.build();
+        HugeGraphUtil.RelationshipsBuilder relationshipsBuilder = HugeGraphUtil.createRelImporter(
+            idMap,
+            orientation,
+            true,
+            Aggregation.SUM,
+            Pools.DEFAULT,
+            AllocationTracker.EMPTY
+        );
+
+        List<Runnable> tasks = IntStream.range(0, nodeCount).mapToObj(i -> (Runnable) () -> {
+            HugeGraphUtil.ThreadLocalImporter importer = relationshipsBuilder.threadLocalImporter();
+            importer.addFromInternal(idMap.toMappedNodeId(i), idMap.toMappedNodeId((i + 1) % nodeCount), i);
+            importer.addFromInternal(idMap.toMappedNodeId(i), idMap.toMappedNodeId((i + 1) % nodeCount), i);
+            importer.flush();
+        }).collect(Collectors.toList());
+        ParallelUtil.runWithConcurrency(4, tasks, Pools.DEFAULT);
+
+        Graph graph = HugeGraphUtil.create(idMap, relationshipsBuilder.build(), AllocationTracker.EMPTY);
+        assertGraphEquals(expectedWithAggregation(orientation), graph);
+    }
+
     private Graph generateGraph(Orientation orientation, Aggregation aggregation) {
         int nodeCount = 4;
 
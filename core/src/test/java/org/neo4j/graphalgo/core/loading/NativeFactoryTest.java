@@ -27,10 +27,13 @@ import org.neo4j.graphalgo.RelationshipProjections;
 import org.neo4j.graphalgo.RelationshipType;
 import org.neo4j.graphalgo.core.GraphDimensions;
 import org.neo4j.graphalgo.core.ImmutableGraphDimensions;
+import org.neo4j.graphalgo.core.huge.AdjacencyIndex;
 import org.neo4j.graphalgo.core.utils.mem.MemoryEstimation;
+import org.neo4j.graphalgo.core.utils.mem.MemoryRange;
 import org.neo4j.graphalgo.core.utils.mem.MemoryTree;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class NativeFactoryTest {
 
@@ -47,8 +50,8 @@ class NativeFactoryTest {
         );
 
         MemoryTree estimate = memoryEstimation.estimate(dimensions, 1);
-        assertEquals(3_405_981_448L, estimate.memoryUsage().min);
-        assertEquals(4_606_168_240L, estimate.memoryUsage().max);
+        assertEquals(4_205_981_512L, estimate.memoryUsage().min);
+        assertEquals(5_406_168_304L, estimate.memoryUsage().max);
     }
 
     @Test
@@ -71,7 +74,34 @@ class NativeFactoryTest {
         long idMapMemoryUsage = IdMap.memoryEstimation().estimate(dimensions, 1).memoryUsage().min;
         int instanceSize = 72;
 
-        assertEquals(3_205_950_312L * 2 - idMapMemoryUsage - instanceSize, estimate.memoryUsage().min);
-        assertEquals(6_011_568_216L, estimate.memoryUsage().max);
+        assertEquals(4_005_950_376L * 2 - idMapMemoryUsage - instanceSize, estimate.memoryUsage().min);
+        assertEquals(7_611_568_344L, estimate.memoryUsage().max);
+    }
+
+    @Test
+    void memoryEstimationWithAdjacencyIndex() {
+        GraphDimensions dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(100_000_000L)
+            .maxRelCount(500_000_000L)
+            .build();
+
+        MemoryTree withoutIndex = NativeFactory.getMemoryEstimation(
+            NodeProjections.all(),
+            RelationshipProjections.single(RelationshipType.ALL_RELATIONSHIPS, RelationshipProjection.ALL)
+        ).estimate(dimensions, 1);
+        MemoryTree withIndex = NativeFactory.getMemoryEstimation(
+            NodeProjections.all(),
+            RelationshipProjections.single(
+                RelationshipType.ALL_RELATIONSHIPS,
+                RelationshipProjection.builder().type("*").indexRelationships(true).build()
+            )
+        ).estimate(dimensions, 1);
+        MemoryRange index = AdjacencyIndex
+            .memoryEstimation(RelationshipType.ALL_RELATIONSHIPS, false)
+            .estimate(dimensions, 1)
+            .memoryUsage();
+
+        assertTrue(index.min < index.max);
+        assertEquals(withoutIndex.memoryUsage().add(index), withIndex.memoryUsage());
     }
 }
\ No newline at end of file
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.loading;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.api.NodeProperties;
+import org.neo4j.graphalgo.api.ValueType;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NodePropertiesBuilderTest {
+
+    private static final int NODE_COUNT = 10;
+    private static final double DEFAULT_VALUE = 42.0;
+
+    @Test
+    void shouldBuildLongColumn() {
+        NodePropertiesBuilder builder = builder();
+        builder.set(0, 1L);
+        builder.set(1, Long.MAX_VALUE);
+        NodeProperties properties = builder.build();
+
+        assertTrue(properties instanceof LongNodePropertyColumn);
+        assertEquals(ValueType.LONG, properties.valueType());
+        assertEquals(1L, properties.longValue(0));
+        assertEquals(Long.MAX_VALUE, properties.longValue(1));
+        assertEquals(DEFAULT_VALUE, properties.nodeProperty(2));
+        assertEquals(OptionalLong.of(Long.MAX_VALUE), properties.getMaxPropertyValue());
+    }
+
+    @Test
+    void shouldStoreMinValueInLongColumn() {
+        NodePropertiesBuilder builder = builder();
+        builder.set(0, Long.MIN_VALUE);
+        NodeProperties properties = builder.build();
+
+        assertEquals(Long.MIN_VALUE, properties.longValue(0));
+        assertEquals((double) Long.MIN_VALUE, properties.nodeProperty(0));
+        assertEquals(DEFAULT_VALUE, properties.nodeProperty(1));
+        assertEquals(OptionalLong.of(Long.MIN_VALUE), properties.getMaxPropertyValue());
+    }
+
+    @Test
+    void shouldGrowBeyondInitialNodeCount() {
+        // partitioned Cypher loading does not know the node count upfront
+        NodePropertiesBuilder longs = NodePropertiesBuilder.of(0, AllocationTracker.EMPTY, DEFAULT_VALUE, 0, "prop", 1);
+        longs.set(100_000, 1337L);
+        NodeProperties longProperties = longs.build();
+        assertEquals(1337L, longProperties.longValue(100_000));
+        assertEquals(DEFAULT_VALUE, longProperties.nodeProperty(200_000));
+
+        NodePropertiesBuilder vectors = NodePropertiesBuilder.of(0, AllocationTracker.EMPTY, DEFAULT_VALUE, 0, "prop", 1);
+        vectors.set(100_000, new double[]{1.0, 2.0});
+        NodeProperties vectorProperties = vectors.build();
+        assertArrayEquals(new double[]{1.0, 2.0}, vectorProperties.doubleArrayValue(100_000));
+        assertArrayEquals(new double[]{DEFAULT_VALUE, DEFAULT_VALUE}, vectorProperties.doubleArrayValue(200_000));
+    }
+
+    @Test
+    void shouldMergeLongValuesBeyondInitialNodeCount() {
+        NodePropertiesBuilder builder = NodePropertiesBuilder.of(0, AllocationTracker.EMPTY, DEFAULT_VALUE, 0, "prop", 1);
+        builder.set(0, 1.5D);
+        builder.set(100_000, 1L);
+        NodeProperties properties = builder.build();
+
+        assertEquals(ValueType.DOUBLE, properties.valueType());
+        assertEquals(1.0, properties.nodeProperty(100_000));
+    }
+
+    @Test
+    void shouldFailOnLongValueWithoutDefault() {
+        NodePropertiesBuilder builder = NodePropertiesBuilder.of(NODE_COUNT, AllocationTracker.EMPTY, Double.NaN, 0, "prop", 1);
+        builder.set(0, 1L);
+        NodeProperties properties = builder.build();
+
+        assertTrue(Double.isNaN(properties.nodeProperty(1)));
+        assertThrows(IllegalStateException.class, () -> properties.longValue(1));
+    }
+
+    @Test
+    void shouldFallBackToDoublesForMixedNumbers() {
+        NodePropertiesBuilder builder = builder();
+        builder.set(0, 1L);
+        builder.set(1, 1.5D);
+        NodeProperties properties = builder.build();
+
+        assertEquals(ValueType.DOUBLE, properties.valueType());
+        assertEquals(1.0, properties.nodeProperty(0));
+        assertEquals(1.5, properties.nodeProperty(1));
+        assertEquals(DEFAULT_VALUE, properties.nodeProperty(2));
+    }
+
+    @Test
+    void shouldBuildDoubleVectorColumn() {
+        NodePropertiesBuilder builder = builder();
+        builder.set(0, new double[]{1.0, 2.0});
+        builder.set(3, new double[]{3.0, 4.0});
+        NodeProperties properties = builder.build();
+
+        assertEquals(ValueType.DOUBLE_ARRAY, properties.valueType());
+        assertArrayEquals(new double[]{1.0, 2.0}, properties.doubleArrayValue(0));
+        assertArrayEquals(new double[]{3.0, 4.0}, properties.doubleArrayValue(3));
+        assertArrayEquals(new double[]{DEFAULT_VALUE, DEFAULT_VALUE}, properties.doubleArrayValue(1));
+    }
+
+    @Test
+    void shouldBuildFloatVectorColumn() {
+        NodePropertiesBuilder builder = builder();
+        builder.set(2, new float[]{1.0F, 2.0F, 3.0F});
+        NodeProperties properties = builder.build();
+
+        assertEquals(ValueType.FLOAT_ARRAY, properties.valueType());
+        assertArrayEquals(new float[]{1.0F, 2.0F, 3.0F}, properties.floatArrayValue(2));
+        assertArrayEquals(new double[]{1.0, 2.0, 3.0}, properties.doubleArrayValue(2));
+        assertArrayEquals(new float[]{42.0F, 42.0F, 42.0F}, properties.floatArrayValue(0));
+    }
+
+    @Test
+    void shouldFailOnEmptyVector() {
+        NodePropertiesBuilder builder = builder();
+        IllegalArgumentException ex = assertThrows(
+            IllegalArgumentException.class,
+            () -> builder.set(0, new double[0])
+        );
+        assertTrue(ex.getMessage().contains("empty vector"));
+    }
+
+    @Test
+    void shouldFailOnDimensionMismatch() {
+        NodePropertiesBuilder builder = builder();
+        builder.set(0, new float[]{1.0F, 2.0F});
+        assertThrows(IllegalArgumentException.class, () -> builder.set(1, new float[]{1.0F}));
+    }
+
+    @Test
+    void shouldFailOnVectorsMixedWithScalars() {
+        NodePropertiesBuilder builder = builder();
+        builder.set(0, new double[]{1.0});
+        builder.set(1, 1L);
+        assertThrows(IllegalArgumentException.class, builder::build);
+    }
+
+    private static NodePropertiesBuilder builder() {
+        return NodePropertiesBuilder.of(NODE_COUNT, AllocationTracker.EMPTY, DEFAULT_VALUE, 0, "prop", 1);
+    }
+}
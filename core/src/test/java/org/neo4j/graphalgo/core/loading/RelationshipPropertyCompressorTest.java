@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.loading;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.Orientation;
+import org.neo4j.graphalgo.api.Graph;
+import org.neo4j.graphalgo.core.Aggregation;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.huge.AdjacencyList;
+import org.neo4j.graphalgo.core.huge.HugeGraph;
+import org.neo4j.graphalgo.core.huge.ImmutablePropertyCSR;
+import org.neo4j.graphalgo.core.huge.PropertyEncoding;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Random;
+import java.util.function.LongToDoubleFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class RelationshipPropertyCompressorTest {
+
+    private static final int NODE_COUNT = 1000;
+
+    private IdMap idMap;
+
+    @BeforeEach
+    void setup() {
+        HugeGraphUtil.IdMapBuilder idMapBuilder = HugeGraphUtil.idMapBuilder(
+            NODE_COUNT,
+            Pools.DEFAULT,
+            AllocationTracker.EMPTY
+        );
+        for (int i = 0; i < NODE_COUNT; i++) {
+            idMapBuilder.addNode(i);
+        }
+        idMap = idMapBuilder.build();
+    }
+
+    @Test
+    void shouldNotCompressWithoutCompression() {
+        HugeGraph.Relationships relationships = relationships(nodeId -> 42.0);
+        AdjacencyList compressed = compress(relationships, RelationshipPropertyCompression.NONE);
+        assertSame(relationships.properties().get().list(), compressed);
+    }
+
+    @Test
+    void shouldStoreConstantValues() {
+        assertRoundTrip(nodeId -> 42.0, RelationshipPropertyCompression.LOSSLESS, PropertyEncoding.Type.CONSTANT);
+    }
+
+    @Test
+    void shouldStoreLowCardinalityValuesInByteDictionary() {
+        assertRoundTrip(nodeId -> nodeId % 3 - 0.5, RelationshipPropertyCompression.LOSSLESS, PropertyEncoding.Type.BYTE_DICTIONARY);
+    }
+
+    @Test
+    void shouldStoreMediumCardinalityValuesInShortDictionary() {
+        assertRoundTrip(nodeId -> Math.sqrt(nodeId % 300), RelationshipPropertyCompression.LOSSLESS, PropertyEncoding.Type.SHORT_DICTIONARY);
+    }
+
+    @Test
+    void shouldStoreDecimalsAsScaledInts() {
+        assertRoundTrip(nodeId -> nodeId / 100.0, RelationshipPropertyCompression.LOSSLESS, PropertyEncoding.Type.SCALED_INT);
+    }
+
+    @Test
+    void shouldStoreExactFloatsAsFloats() {
+        Random random = new Random(42);
+        float[] values = new float[2 * NODE_COUNT];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextFloat() * 1e10F;
+        }
+        assertRoundTrip(nodeId -> values[(int) nodeId], RelationshipPropertyCompression.LOSSLESS, PropertyEncoding.Type.FLOAT);
+    }
+
+    @Test
+    void shouldKeepDoublesWhenLossless() {
+        Random random = new Random(42);
+        double[] values = random.doubles(2 * NODE_COUNT).toArray();
+        HugeGraph.Relationships relationships = relationships(nodeId -> values[(int) nodeId]);
+        AdjacencyList compressed = compress(relationships, RelationshipPropertyCompression.LOSSLESS);
+        assertSame(relationships.properties().get().list(), compressed);
+    }
+
+    @Test
+    void shouldReducePrecisionToFloats() {
+        Random random = new Random(42);
+        double[] values = random.doubles(2 * NODE_COUNT).toArray();
+        HugeGraph.Relationships relationships = relationships(nodeId -> values[(int) nodeId]);
+        AdjacencyList compressed = compress(relationships, RelationshipPropertyCompression.FLOAT);
+        assertEquals(PropertyEncoding.Type.FLOAT, compressed.propertyEncoding().type());
+
+        Graph graph = graph(relationships, compressed);
+        graph.forEachNode(nodeId -> {
+            graph.forEachRelationship(nodeId, Double.NaN, (source, target, property) -> {
+                int index = (int) (target == (source + 1) % NODE_COUNT ? source : source + NODE_COUNT);
+                assertEquals((float) values[index], property);
+                return true;
+            });
+            return true;
+        });
+    }
+
+    private void assertRoundTrip(
+        LongToDoubleFunction weights,
+        RelationshipPropertyCompression compression,
+        PropertyEncoding.Type expectedType
+    ) {
+        HugeGraph.Relationships relationships = relationships(weights);
+        AdjacencyList compressed = compress(relationships, compression);
+        assertEquals(expectedType, compressed.propertyEncoding().type());
+
+        Graph graph = graph(relationships, compressed);
+        graph.forEachNode(nodeId -> {
+            graph.forEachRelationship(nodeId, Double.NaN, (source, target, property) -> {
+                double expected = weights.applyAsDouble(target == (source + 1) % NODE_COUNT ? source : source + NODE_COUNT);
+                assertEquals(expected, property);
+                assertEquals(expected, graph.relationshipProperty(source, target, Double.NaN));
+                return true;
+            });
+            return true;
+        });
+    }
+
+    private HugeGraph.Relationships relationships(LongToDoubleFunction weights) {
+        HugeGraphUtil.RelationshipsBuilder relationshipsBuilder = HugeGraphUtil.createRelImporter(
+            idMap,
+            Orientation.NATURAL,
+            true,
+            Aggregation.NONE,
+            Pools.DEFAULT,
+            AllocationTracker.EMPTY
+        );
+        for (int i = 0; i < NODE_COUNT; i++) {
+            relationshipsBuilder.add(i, (i + 1) % NODE_COUNT, weights.applyAsDouble(i));
+            relationshipsBuilder.add(i, (i + 7) % NODE_COUNT, weights.applyAsDouble(i + NODE_COUNT));
+        }
+        return relationshipsBuilder.build();
+    }
+
+    private AdjacencyList compress(HugeGraph.Relationships relationships, RelationshipPropertyCompression compression) {
+        HugeGraph.PropertyCSR properties = relationships.properties().orElseThrow(IllegalStateException::new);
+        return RelationshipPropertyCompressor.compress(
+            properties.list(),
+            properties.offsets(),
+            compression,
+            4,
+            Pools.DEFAULT,
+            AllocationTracker.EMPTY
+        );
+    }
+
+    private Graph graph(HugeGraph.Relationships relationships, AdjacencyList compressed) {
+        HugeGraph.PropertyCSR properties = relationships.properties().orElseThrow(IllegalStateException::new);
+        return HugeGraph.create(
+            idMap,
+            Collections.emptyMap(),
+            relationships.topology(),
+            Optional.of(ImmutablePropertyCSR.of(
+                compressed,
+                properties.offsets(),
+                properties.elementCount(),
+                properties.orientation(),
+                properties.defaultPropertyValue()
+            )),
+            AllocationTracker.EMPTY
+        );
+    }
+}
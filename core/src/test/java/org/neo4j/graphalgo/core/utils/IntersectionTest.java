@@ -75,4 +75,18 @@ class IntersectionTest {
             assertEquals(row[2][0], Intersections.intersection4(row[0],row[1]), Arrays.toString(row));
         }
     }
+
+    @Test
+    void intersectionInto() {
+        for (long[][] row : data) {
+            long[] out = new long[Math.min(row[0].length, row[1].length)];
+            int count = Intersections.intersection(row[0], row[0].length, row[1], row[1].length, out);
+            assertEquals(row[2][0], count, Arrays.toString(row));
+            for (int i = 0; i < count; i++) {
+                long value = out[i];
+                assertEquals(1, Arrays.stream(row[0]).filter(v -> v == value).count());
+                assertEquals(1, Arrays.stream(row[1]).filter(v -> v == value).count());
+            }
+        }
+    }
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.paged;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HugeAtomicBitSetTest {
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 63, 64, 65, 1000})
+    void testGetSetClear(long size) {
+        HugeAtomicBitSet bitSet = HugeAtomicBitSet.create(size, AllocationTracker.EMPTY);
+        for (long i = 0; i < size; i += 3) {
+            bitSet.set(i);
+        }
+        for (long i = 0; i < size; i++) {
+            assertEquals(i % 3 == 0, bitSet.get(i));
+        }
+        for (long i = 0; i < size; i += 3) {
+            bitSet.clear(i);
+        }
+        assertTrue(bitSet.isEmpty());
+    }
+
+    @Test
+    void testNextSetBit() {
+        HugeAtomicBitSet bitSet = HugeAtomicBitSet.create(200, AllocationTracker.EMPTY);
+        assertEquals(-1, bitSet.nextSetBit(0));
+        bitSet.set(3);
+        bitSet.set(64);
+        bitSet.set(199);
+        assertEquals(3, bitSet.nextSetBit(0));
+        assertEquals(3, bitSet.nextSetBit(3));
+        assertEquals(64, bitSet.nextSetBit(4));
+        assertEquals(199, bitSet.nextSetBit(65));
+        assertEquals(-1, bitSet.nextSetBit(200));
+    }
+
+    @Test
+    void testGetAndClear() {
+        HugeAtomicBitSet bitSet = HugeAtomicBitSet.create(100, AllocationTracker.EMPTY);
+        bitSet.set(42);
+        bitSet.set(43);
+        assertTrue(bitSet.getAndClear(42));
+        assertFalse(bitSet.getAndClear(42));
+        assertFalse(bitSet.get(42));
+        assertTrue(bitSet.get(43));
+    }
+
+    @Test
+    void testCardinalityAndClear() {
+        HugeAtomicBitSet bitSet = HugeAtomicBitSet.create(130, AllocationTracker.EMPTY);
+        bitSet.set(0);
+        bitSet.set(0);
+        bitSet.set(65);
+        bitSet.set(129);
+        assertEquals(3, bitSet.cardinality());
+        assertEquals(1L << 1, bitSet.word(1));
+        bitSet.clear();
+        assertEquals(0, bitSet.cardinality());
+        assertFalse(bitSet.get(65));
+    }
+
+    @Test
+    void testConcurrentSet() throws InterruptedException {
+        int threads = 8;
+        long size = 64 * 100;
+        HugeAtomicBitSet bitSet = HugeAtomicBitSet.create(size, AllocationTracker.EMPTY);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            executor.submit(() -> {
+                for (long i = offset; i < size; i += threads) {
+                    bitSet.set(i);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(size, bitSet.cardinality());
+    }
+}
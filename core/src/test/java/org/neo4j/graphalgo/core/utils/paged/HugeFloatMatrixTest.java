@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.paged;
+
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.LongRange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HugeFloatMatrixTest {
+
+    @Property
+    void testSetAndGet(
+        @ForAll @LongRange(min = 0, max = 9999) long row,
+        @ForAll @IntRange(min = 0, max = 99) int column,
+        @ForAll float value
+    ) {
+        HugeFloatMatrix matrix = HugeFloatMatrix.newMatrix(10_000, 100, AllocationTracker.EMPTY);
+        matrix.set(row, column, value);
+        assertEquals(value, matrix.get(row, column));
+        assertEquals(value, matrix.getRow(row)[column]);
+    }
+
+    @Test
+    void shouldKeepRowsApart() {
+        HugeFloatMatrix matrix = HugeFloatMatrix.newMatrix(5_000, 3, AllocationTracker.EMPTY);
+        for (long row = 0; row < matrix.rows(); row++) {
+            matrix.setRow(row, new float[]{row, row + 1, row + 2});
+        }
+        for (long row = 0; row < matrix.rows(); row++) {
+            assertArrayEquals(new float[]{row, row + 1, row + 2}, matrix.getRow(row));
+        }
+    }
+
+    @Test
+    void shouldSupportRowsLargerThanAPage() {
+        HugeFloatMatrix matrix = HugeFloatMatrix.newMatrix(3, 10_000, AllocationTracker.EMPTY);
+        matrix.fillRow(1, 1.0f);
+        assertEquals(0.0f, matrix.sumOfSquares(0));
+        assertEquals(10_000.0f, matrix.sumOfSquares(1));
+        assertEquals(0.0f, matrix.sumOfSquares(2));
+    }
+
+    @Test
+    void shouldCombineRows() {
+        HugeFloatMatrix vectors = HugeFloatMatrix.newMatrix(2, 2, AllocationTracker.EMPTY);
+        vectors.setRow(0, new float[]{1, 2});
+        vectors.setRow(1, new float[]{3, 4});
+
+        vectors.addRow(0, vectors, 1);
+        assertArrayEquals(new float[]{4, 6}, vectors.getRow(0));
+
+        vectors.scaleRow(0, 0.5f);
+        assertArrayEquals(new float[]{2, 3}, vectors.getRow(0));
+
+        HugeFloatMatrix concatenated = HugeFloatMatrix.newMatrix(2, 4, AllocationTracker.EMPTY);
+        concatenated.copyRow(1, 0, vectors, 0);
+        concatenated.copyRow(1, 2, vectors, 1);
+        assertArrayEquals(new float[]{2, 3, 3, 4}, concatenated.getRow(1));
+
+        concatenated.addScaledRow(1, 2, vectors, 0, 2.0f);
+        assertArrayEquals(new float[]{2, 3, 7, 10}, concatenated.getRow(1));
+        assertArrayEquals(new float[]{0, 0, 0, 0}, concatenated.getRow(0));
+    }
+
+    @Test
+    void shouldTrackMemory() {
+        AllocationTracker tracker = AllocationTracker.create();
+        HugeFloatMatrix matrix = HugeFloatMatrix.newMatrix(100_000, 16, tracker);
+        assertEquals(HugeFloatMatrix.memoryEstimation(100_000, 16), tracker.tracked());
+        tracker.remove(matrix.release());
+        assertEquals(0L, tracker.tracked());
+        assertEquals(0L, matrix.release());
+    }
+}
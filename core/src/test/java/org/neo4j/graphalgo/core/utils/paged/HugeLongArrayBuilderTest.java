@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.paged;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.neo4j.graphalgo.core.utils.paged.HugeArrays.PAGE_SIZE;
+
+final class HugeLongArrayBuilderTest {
+
+    @Test
+    void shouldRejectAllocationsBeyondLength() {
+        HugeLongArrayBuilder builder = HugeLongArrayBuilder.of(10, AllocationTracker.EMPTY);
+        add(builder, 0, 10);
+
+        assertNull(builder.allocate(1));
+
+        HugeLongArray array = builder.build();
+        assertEquals(10, builder.size());
+        assertEquals(10, array.size());
+    }
+
+    @Test
+    void shouldGrowBeyondInitialCapacity() {
+        HugeLongArrayBuilder builder = HugeLongArrayBuilder.growing(0, AllocationTracker.EMPTY);
+        int batchSize = 1000;
+        long count = 3L * PAGE_SIZE + 42;
+        for (long start = 0; start < count; start += batchSize) {
+            add(builder, start, (int) Math.min(batchSize, count - start));
+        }
+
+        HugeLongArray array = builder.build();
+
+        assertEquals(count, builder.size());
+        assertEquals(count, array.size());
+        for (long i = 0; i < count; i++) {
+            assertEquals(i, array.get(i));
+        }
+    }
+
+    @Test
+    void shouldGrowConcurrently() {
+        HugeLongArrayBuilder builder = HugeLongArrayBuilder.growing(42, AllocationTracker.EMPTY);
+        int batchSize = 777;
+        int batchesPerTask = 100;
+        int taskCount = 8;
+
+        List<Runnable> tasks = IntStream.range(0, taskCount)
+            .mapToObj(task -> (Runnable) () -> {
+                for (int batch = 0; batch < batchesPerTask; batch++) {
+                    long firstValue = ((long) task * batchesPerTask + batch) * batchSize;
+                    add(builder, firstValue, batchSize);
+                }
+            })
+            .collect(Collectors.toList());
+        ParallelUtil.run(tasks, Pools.DEFAULT);
+
+        HugeLongArray array = builder.build();
+        long count = (long) taskCount * batchesPerTask * batchSize;
+        assertEquals(count, array.size());
+
+        HugeAtomicBitSet seen = HugeAtomicBitSet.create(count, AllocationTracker.EMPTY);
+        for (long i = 0; i < count; i++) {
+            seen.set(array.get(i));
+        }
+        assertEquals(count, seen.cardinality());
+    }
+
+    @Test
+    void shouldTrackGrowingMemory() {
+        AllocationTracker tracker = AllocationTracker.create();
+        HugeLongArrayBuilder builder = HugeLongArrayBuilder.growing(0, tracker);
+        add(builder, 0, 2 * PAGE_SIZE + 1);
+
+        HugeLongArray array = builder.build();
+
+        assertTrue(tracker.tracked() > 0);
+        assertEquals(array.sizeOf(), tracker.tracked());
+        tracker.remove(array.release());
+        assertEquals(0, tracker.tracked());
+    }
+
+    private static void add(HugeLongArrayBuilder builder, long firstValue, int count) {
+        HugeLongArrayBuilder.BulkAdder<long[]> adder = builder.allocate(count);
+        long value = firstValue;
+        while (adder.nextBuffer()) {
+            for (int i = 0; i < adder.length; i++) {
+                adder.buffer[adder.offset + i] = value++;
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.paged;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfIntArray;
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfLongArray;
+import static org.neo4j.graphalgo.core.utils.mem.MemoryUsage.sizeOfObjectArray;
+
+final class PagedLongLongMapTest {
+
+    @Test
+    void canGetMaxValueFromEmptyMap() {
+        PagedLongLongMap map = PagedLongLongMap.of(100_000, AllocationTracker.EMPTY, 4);
+        assertEquals(OptionalLong.empty(), map.getMaxValue());
+    }
+
+    @Test
+    void canReadFromPut() {
+        PagedLongLongMap map = PagedLongLongMap.of(4L, AllocationTracker.EMPTY, 4);
+        map.put(1L, 42L);
+
+        assertTrue(map.containsKey(1L));
+        assertEquals(42L, map.getOrDefault(1L, 0L));
+
+        // different key
+        assertFalse(map.containsKey(2L));
+        assertEquals(0L, map.getOrDefault(2L, 0L));
+    }
+
+    @Test
+    void storesEveryLongValue() {
+        PagedLongLongMap map = PagedLongLongMap.of(4L, AllocationTracker.EMPTY, 4);
+        map.put(0L, Long.MIN_VALUE);
+        map.put(1L, Long.MAX_VALUE);
+
+        assertTrue(map.containsKey(0L));
+        assertEquals(Long.MIN_VALUE, map.getOrDefault(0L, 0L));
+        assertEquals(Long.MAX_VALUE, map.getOrDefault(1L, 0L));
+        assertEquals(OptionalLong.of(Long.MAX_VALUE), map.getMaxValue());
+    }
+
+    @Test
+    void growsBeyondInitialSize() {
+        PagedLongLongMap map = PagedLongLongMap.of(0L, AllocationTracker.EMPTY, 4);
+        map.put(100_000L, 1337L);
+
+        assertEquals(1L, map.size());
+        assertTrue(map.containsKey(100_000L));
+        assertFalse(map.containsKey(1_000_000L));
+        assertEquals(1337L, map.getOrDefault(100_000L, 0L));
+    }
+
+    @Test
+    void visitsAllEntries() {
+        PagedLongLongMap map = PagedLongLongMap.of(0L, AllocationTracker.EMPTY, 4);
+        Map<Long, Long> expected = new HashMap<>();
+        for (long i = 0; i < 50_000L; i += 7) {
+            map.put(i, -i);
+            expected.put(i, -i);
+        }
+
+        Map<Long, Long> actual = new HashMap<>();
+        map.forEach(actual::put);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void resizeOnGrowthAndTrackMemoryUsage() {
+        AllocationTracker tracker = AllocationTracker.create();
+        PagedLongLongMap map = PagedLongLongMap.of(0L, tracker, 4);
+        assertEquals(sizeOfObjectArray(0), tracker.tracked());
+
+        map.put(0L, 1L);
+        map.put(1L << 14, 2L);
+        long expected =
+            2L * sizeOfIntArray(9) // keys of 2 maps
+            + 2L * sizeOfLongArray(9) // values of 2 maps
+            + sizeOfObjectArray(2); // 2 pages
+        assertEquals(expected, tracker.tracked());
+    }
+
+    @Test
+    void releaseMemory() {
+        AllocationTracker tracker = AllocationTracker.create();
+        PagedLongLongMap map = PagedLongLongMap.of(4, tracker, 4);
+
+        for (long i = 0L; i < 20L; i++) {
+            map.put(i, i * 1337L);
+        }
+        long tracked = tracker.tracked();
+        assertEquals(tracked, map.release());
+        assertEquals(0L, tracker.tracked());
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.partition;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.graphalgo.api.Degrees;
+import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DegreePrefixSumTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 4, 7})
+    void computesPrefixSums(int concurrency) {
+        int nodeCount = 1000;
+        Degrees degrees = nodeId -> (int) (nodeId % 13);
+
+        DegreePrefixSum prefixSum = DegreePrefixSum.of(
+            degrees,
+            nodeCount,
+            concurrency,
+            Pools.DEFAULT,
+            AllocationTracker.EMPTY
+        );
+
+        long expected = 0L;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            expected += degrees.degree(nodeId);
+            assertEquals(expected, prefixSum.degreeSum(nodeId));
+        }
+        assertEquals(expected, prefixSum.totalDegree());
+    }
+
+    @Test
+    void partitionsCoverAllNodes() {
+        int nodeCount = 1337;
+        DegreePrefixSum prefixSum = DegreePrefixSum.of(
+            nodeId -> (int) (nodeId % 5),
+            nodeCount,
+            4,
+            Pools.DEFAULT,
+            AllocationTracker.EMPTY
+        );
+
+        for (int partitionCount = 1; partitionCount <= 64; partitionCount++) {
+            List<Partition> partitions = prefixSum.partitions(partitionCount);
+            assertTrue(partitions.size() <= partitionCount);
+
+            long expectedStart = 0L;
+            for (Partition partition : partitions) {
+                assertEquals(expectedStart, partition.startNode);
+                assertTrue(partition.nodeCount > 0);
+                expectedStart += partition.nodeCount;
+            }
+            assertEquals(nodeCount, expectedStart);
+        }
+    }
+
+    @Test
+    void isolatesHighDegreeNodes() {
+        // two super nodes carry most of the relationships
+        Degrees degrees = nodeId -> nodeId == 10 || nodeId == 90 ? 1000 : 1;
+        DegreePrefixSum prefixSum = DegreePrefixSum.of(degrees, 100, 2, Pools.DEFAULT, AllocationTracker.EMPTY);
+
+        List<Partition> partitions = prefixSum.partitions(4);
+
+        assertEquals(4, partitions.size());
+        assertEquals(0, partitions.get(0).startNode);
+        assertEquals(11, partitions.get(0).nodeCount);
+        assertEquals(11, partitions.get(1).startNode);
+        // the second super node ends up in its own partition together with its predecessors
+        assertEquals(91, partitions.get(2).startNode + partitions.get(2).nodeCount);
+    }
+
+    @Test
+    void emptyGraph() {
+        DegreePrefixSum prefixSum = DegreePrefixSum.of(nodeId -> 0, 0, 4, Pools.DEFAULT, AllocationTracker.EMPTY);
+
+        assertEquals(0L, prefixSum.totalDegree());
+        assertTrue(prefixSum.partitions(4).isEmpty());
+    }
+
+    @Test
+    void cachedPrefixSumIsComputedOnce() {
+        AtomicInteger degreeCalls = new AtomicInteger();
+        Degrees degrees = nodeId -> {
+            degreeCalls.incrementAndGet();
+            return 1;
+        };
+        AllocationTracker tracker = AllocationTracker.create();
+        CachedDegreePrefixSum cache = new CachedDegreePrefixSum();
+
+        DegreePrefixSum prefixSum = cache.get(degrees, 100, 4, Pools.DEFAULT, tracker);
+        assertSame(prefixSum, cache.get(degrees, 100, 4, Pools.DEFAULT, tracker));
+        assertEquals(100, degreeCalls.get());
+        assertTrue(tracker.tracked() > 0);
+
+        cache.release();
+        assertEquals(0L, tracker.tracked());
+        assertNotSame(prefixSum, cache.get(degrees, 100, 4, Pools.DEFAULT, tracker));
+    }
+}
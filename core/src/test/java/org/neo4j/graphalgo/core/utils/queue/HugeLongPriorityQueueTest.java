@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.core.utils.queue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static io.qala.datagen.RandomShortApi.integer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class HugeLongPriorityQueueTest {
+
+    @Test
+    void testIsEmpty() {
+        HugeLongPriorityQueue queue = HugeLongPriorityQueue.min(integer(10, 20), AllocationTracker.EMPTY);
+        assertEquals(0, queue.size());
+        assertTrue(queue.isEmpty());
+        assertEquals(-1, queue.pop());
+    }
+
+    @Test
+    void testClear() {
+        int capacity = integer(3, 10);
+        HugeLongPriorityQueue queue = HugeLongPriorityQueue.min(capacity, AllocationTracker.EMPTY);
+        for (int i = 0; i < capacity; i++) {
+            queue.add(i, integer(1, 5));
+        }
+        assertEquals(capacity, queue.size());
+        queue.clear();
+        assertEquals(0, queue.size());
+        for (int i = 0; i < capacity; i++) {
+            assertFalse(queue.contains(i));
+        }
+    }
+
+    @Test
+    void testGrowing() {
+        int capacity = integer(2000, 5000);
+        HugeLongPriorityQueue queue = HugeLongPriorityQueue.min(capacity, AllocationTracker.EMPTY);
+        for (int i = capacity - 1; i >= 0; i--) {
+            queue.add(i, i);
+        }
+        assertEquals(capacity, queue.size());
+        for (int i = 0; i < capacity; i++) {
+            assertEquals(i, queue.pop());
+        }
+    }
+
+    @Test
+    void testContains() {
+        HugeLongPriorityQueue queue = HugeLongPriorityQueue.min(10, AllocationTracker.EMPTY);
+        queue.add(4, 1.0);
+        queue.add(2, 2.0);
+        assertTrue(queue.contains(4));
+        assertTrue(queue.contains(2));
+        assertFalse(queue.contains(0));
+        assertEquals(4, queue.pop());
+        assertFalse(queue.contains(4));
+        assertTrue(queue.contains(2));
+    }
+
+    @Test
+    void testDecreaseKey() {
+        HugeLongPriorityQueue queue = HugeLongPriorityQueue.min(10, AllocationTracker.EMPTY);
+        queue.add(1, 3.0);
+        queue.add(2, 2.0);
+        queue.add(3, 1.0);
+        queue.decreaseKey(1, 0.5);
+        assertEquals(1, queue.top());
+        assertEquals(0.5, queue.topCost());
+        assertEquals(0.5, queue.cost(1));
+    }
+
+    @Test
+    void testSetIncreasesKey() {
+        HugeLongPriorityQueue queue = HugeLongPriorityQueue.min(10, AllocationTracker.EMPTY);
+        queue.set(1, 1.0);
+        queue.set(2, 2.0);
+        queue.set(1, 3.0);
+        assertEquals(2, queue.pop());
+        assertEquals(1, queue.pop());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3, 4, 8})
+    void testRandomOperationsAgainstSortedCosts(int arity) {
+        int capacity = 1000;
+        Random random = new Random(42L);
+        HugeLongPriorityQueue queue = new HugeLongPriorityQueue(capacity, arity, AllocationTracker.EMPTY);
+        double[] costs = new double[capacity];
+        for (int i = 0; i < capacity; i++) {
+            costs[i] = random.nextDouble() * 100;
+            queue.add(i, costs[i]);
+        }
+        for (int i = 0; i < capacity; i += 3) {
+            costs[i] /= 2;
+            queue.decreaseKey(i, costs[i]);
+        }
+        double[] expected = costs.clone();
+        Arrays.sort(expected);
+        for (double cost : expected) {
+            assertEquals(cost, queue.topCost());
+            long top = queue.pop();
+            assertEquals(cost, costs[(int) top]);
+        }
+        assertTrue(queue.isEmpty());
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.catalog;
+
+import org.neo4j.graphalgo.BaseProc;
+import org.neo4j.graphalgo.api.GraphStore;
+import org.neo4j.graphalgo.config.GraphCreateConfig;
+import org.neo4j.graphalgo.core.CypherMapWrapper;
+import org.neo4j.graphalgo.core.loading.GraphStoreCatalog;
+import org.neo4j.graphalgo.core.loading.GraphStoreSnapshot;
+import org.neo4j.graphalgo.core.utils.export.GraphStoreSnapshotConfig;
+import org.neo4j.graphalgo.core.utils.paged.AllocationTracker;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+import static org.neo4j.procedure.Mode.READ;
+
+public class GraphStoreSnapshotProc extends BaseProc {
+
+    static final String SNAPSHOT_DIRECTORY = "gds-snapshots";
+
+    @Procedure(name = "gds.beta.graph.snapshot", mode = READ)
+    @Description("Writes a named graph into a binary snapshot on disk.")
+    public Stream<GraphStoreSnapshotResult> snapshot(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        var cypherConfig = CypherMapWrapper.create(configuration);
+        var snapshotConfig = GraphStoreSnapshotConfig.of(getUsername(), cypherConfig);
+        validateConfig(cypherConfig, snapshotConfig);
+
+        var snapshotDirectory = snapshotDirectory(graphName);
+
+        var result = runWithExceptionLogging(
+            "Graph snapshot failed", () -> {
+                var catalogEntry = GraphStoreCatalog.get(getUsername(), graphName);
+                var graphStore = catalogEntry.graphStore();
+
+                var start = System.nanoTime();
+                try {
+                    GraphStoreSnapshot.write(
+                        graphStore,
+                        catalogEntry.config(),
+                        snapshotDirectory,
+                        snapshotConfig.concurrency()
+                    );
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                var end = System.nanoTime();
+
+                return new GraphStoreSnapshotResult(graphName, graphStore, TimeUnit.NANOSECONDS.toMillis(end - start));
+            }
+        );
+
+        return Stream.of(result);
+    }
+
+    @Procedure(name = "gds.beta.graph.restore", mode = READ)
+    @Description("Restores a named graph from a binary snapshot on disk into the graph catalog.")
+    public Stream<GraphStoreSnapshotResult> restore(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        var cypherConfig = CypherMapWrapper.create(configuration);
+        var snapshotConfig = GraphStoreSnapshotConfig.of(getUsername(), cypherConfig);
+        validateConfig(cypherConfig, snapshotConfig);
+        validateGraphName(getUsername(), graphName);
+
+        var snapshotDirectory = snapshotDirectory(graphName);
+        if (!GraphStoreSnapshot.exists(snapshotDirectory)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "No snapshot found for graph with name '%s'.",
+                graphName
+            ));
+        }
+
+        var result = runWithExceptionLogging(
+            "Graph restore failed", () -> {
+                var start = System.nanoTime();
+                GraphCreateConfig createConfig;
+                GraphStore graphStore;
+                try {
+                    createConfig = GraphStoreSnapshot.readCreateConfig(snapshotDirectory, graphName);
+                    if (!createConfig.username().equals(getUsername())) {
+                        throw new IllegalArgumentException(formatWithLocale(
+                            "No snapshot found for graph with name '%s'.",
+                            graphName
+                        ));
+                    }
+                    graphStore = GraphStoreSnapshot.read(
+                        snapshotDirectory,
+                        snapshotConfig.concurrency(),
+                        AllocationTracker.create()
+                    );
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                var end = System.nanoTime();
+
+                GraphStoreCatalog.set(createConfig, graphStore);
+
+                return new GraphStoreSnapshotResult(graphName, graphStore, TimeUnit.NANOSECONDS.toMillis(end - start));
+            }
+        );
+
+        return Stream.of(result);
+    }
+
+    /**
+     * Snapshots are stored per database and user, so that users can neither restore
+     * nor overwrite the snapshots of graphs created by other users.
+     */
+    private Path snapshotDirectory(String graphName) {
+        CypherMapWrapper.failOnBlank("graphName", graphName);
+        var snapshotRoot = api.databaseLayout()
+            .getNeo4jLayout()
+            .homeDirectory()
+            .toPath()
+            .resolve(SNAPSHOT_DIRECTORY)
+            .resolve(api.databaseName())
+            .resolve(userDirectory(getUsername()))
+            .normalize();
+        var snapshotDirectory = snapshotRoot.resolve(graphName).normalize();
+        if (!snapshotDirectory.getParent().equals(snapshotRoot)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The graph name '%s' cannot be used as a snapshot name.",
+                graphName
+            ));
+        }
+        return snapshotDirectory;
+    }
+
+    /**
+     * Encodes the user name, so that it can neither be empty nor escape the database directory.
+     */
+    static String userDirectory(String username) {
+        return "user-" + URLEncoder.encode(username, StandardCharsets.UTF_8);
+    }
+
+    public static class GraphStoreSnapshotResult {
+        public final String graphName;
+        public final long nodeCount;
+        public final long relationshipCount;
+        public final long relationshipTypeCount;
+        public final long nodePropertyCount;
+        public final long relationshipPropertyCount;
+        public final long snapshotMillis;
+
+        GraphStoreSnapshotResult(String graphName, GraphStore graphStore, long snapshotMillis) {
+            this.graphName = graphName;
+            this.nodeCount = graphStore.nodeCount();
+            this.relationshipCount = graphStore.relationshipCount();
+            this.relationshipTypeCount = graphStore.relationshipTypes().size();
+            this.nodePropertyCount = graphStore.nodePropertyCount();
+            this.relationshipPropertyCount = graphStore.relationshipPropertyCount();
+            this.snapshotMillis = snapshotMillis;
+        }
+    }
+}
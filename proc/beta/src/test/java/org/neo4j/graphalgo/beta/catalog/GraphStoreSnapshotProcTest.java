@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2017-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.graphalgo.beta.catalog;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.graphalgo.BaseProcTest;
+import org.neo4j.graphalgo.GdsCypher;
+import org.neo4j.graphalgo.Orientation;
+import org.neo4j.graphalgo.RelationshipType;
+import org.neo4j.graphalgo.api.GraphStore;
+import org.neo4j.graphalgo.catalog.GraphCreateProc;
+import org.neo4j.graphalgo.config.GraphCreateConfig;
+import org.neo4j.graphalgo.config.GraphCreateFromStoreConfig;
+import org.neo4j.graphalgo.core.loading.GraphStoreCatalog;
+import org.neo4j.graphalgo.utils.ExceptionUtil;
+import org.neo4j.io.fs.FileUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Optional;
+
+import static java.util.Collections.emptyMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.neo4j.graphalgo.TestSupport.assertGraphEquals;
+
+class GraphStoreSnapshotProcTest extends BaseProcTest {
+
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:A { prop1: 0, prop2: 42 })" +
+        ", (b:A { prop1: 1, prop2: 43 })" +
+        ", (c:B { prop1: 2, prop2: 44 })" +
+        ", (d:B { prop1: 3 })" +
+        ", (a)-[:REL1 { weight1: 42}]->(a)" +
+        ", (a)-[:REL1 { weight1: 43}]->(b)" +
+        ", (b)-[:REL2 { weight2: 44}]->(a)" +
+        ", (b)-[:REL2 { weight2: 45}]->(c)" +
+        ", (c)-[:REL3 { weight3: 46}]->(d)" +
+        ", (d)-[:REL3 { weight3: 47}]->(a)";
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(GraphCreateProc.class, GraphStoreSnapshotProc.class);
+        runQuery(DB_CYPHER);
+
+        runQuery(GdsCypher.call()
+            .withNodeLabel("A")
+            .withNodeLabel("B")
+            .withNodeProperty("prop1")
+            .withNodeProperty("prop2")
+            .withRelationshipType("REL1")
+            .withRelationshipType("REL2")
+            .withRelationshipType("REL3")
+            .withRelationshipProperty("weight1")
+            .withRelationshipProperty("weight2")
+            .withRelationshipProperty("weight3")
+            .graphCreate("test-graph")
+            .yields());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+        FileUtils.deleteRecursively(new File(
+            db.databaseLayout().getNeo4jLayout().homeDirectory(),
+            GraphStoreSnapshotProc.SNAPSHOT_DIRECTORY
+        ));
+    }
+
+    @Test
+    void snapshotAndRestoreGraph() {
+        runQueryWithRowConsumer("CALL gds.beta.graph.snapshot('test-graph')", row -> {
+            assertEquals("test-graph", row.getString("graphName"));
+            assertEquals(4, row.getNumber("nodeCount").longValue());
+            assertEquals(6, row.getNumber("relationshipCount").longValue());
+            assertEquals(3, row.getNumber("relationshipTypeCount").longValue());
+        });
+
+        GraphStore expected = GraphStoreCatalog.get(getUsername(), "test-graph").graphStore();
+        GraphStoreCatalog.remove(getUsername(), "test-graph", ignore -> {});
+
+        runQueryWithRowConsumer("CALL gds.beta.graph.restore('test-graph', { concurrency: 2 })", row -> {
+            assertEquals("test-graph", row.getString("graphName"));
+            assertEquals(4, row.getNumber("nodeCount").longValue());
+            assertEquals(6, row.getNumber("relationshipCount").longValue());
+            assertEquals(3, row.getNumber("relationshipTypeCount").longValue());
+            assertEquals(expected.nodePropertyCount(), row.getNumber("nodePropertyCount").longValue());
+            assertEquals(expected.relationshipPropertyCount(), row.getNumber("relationshipPropertyCount").longValue());
+        });
+
+        GraphStore actual = GraphStoreCatalog.get(getUsername(), "test-graph").graphStore();
+        assertEquals(expected.nodeLabels(), actual.nodeLabels());
+        assertEquals(expected.relationshipTypes(), actual.relationshipTypes());
+        assertGraphEquals(expected.getUnion(), actual.getUnion());
+        for (String type : new String[]{"REL1", "REL2", "REL3"}) {
+            RelationshipType relationshipType = RelationshipType.of(type);
+            Optional<String> property = Optional.of("weight" + type.charAt(3));
+            assertGraphEquals(
+                expected.getGraph(relationshipType, property),
+                actual.getGraph(relationshipType, property)
+            );
+        }
+        for (String propertyKey : new String[]{"prop1", "prop2"}) {
+            for (long nodeId = 0; nodeId < expected.nodeCount(); nodeId++) {
+                assertEquals(
+                    expected.nodePropertyValues(propertyKey).nodeProperty(nodeId),
+                    actual.nodePropertyValues(propertyKey).nodeProperty(nodeId)
+                );
+            }
+        }
+    }
+
+    @Test
+    void restoresTheCreateConfig() {
+        runQuery(
+            "CALL gds.graph.create('undirected-graph', 'A', {REL1: {type: 'REL1', orientation: 'UNDIRECTED'}})"
+        );
+        runQuery("CALL gds.beta.graph.snapshot('undirected-graph')");
+
+        GraphCreateFromStoreConfig expected = (GraphCreateFromStoreConfig) GraphStoreCatalog
+            .get(getUsername(), "undirected-graph")
+            .config();
+        GraphStoreCatalog.remove(getUsername(), "undirected-graph", ignore -> {});
+
+        runQuery("CALL gds.beta.graph.restore('undirected-graph')");
+
+        GraphCreateConfig actual = GraphStoreCatalog.get(getUsername(), "undirected-graph").config();
+        assertTrue(actual instanceof GraphCreateFromStoreConfig);
+        assertEquals("undirected-graph", actual.graphName());
+        assertEquals(getUsername(), actual.username());
+        assertEquals(expected.nodeProjections(), ((GraphCreateFromStoreConfig) actual).nodeProjections());
+        assertEquals(expected.relationshipProjections(), ((GraphCreateFromStoreConfig) actual).relationshipProjections());
+        assertEquals(
+            Orientation.UNDIRECTED,
+            ((GraphCreateFromStoreConfig) actual).relationshipProjections().getFilter(RelationshipType.of("REL1")).orientation()
+        );
+    }
+
+    @Test
+    void snapshotsAreScopedByUser() {
+        runQuery("alice", "CALL gds.graph.create('user-graph', '*', '*')", emptyMap());
+        runQuery("alice", "CALL gds.beta.graph.snapshot('user-graph')", emptyMap());
+
+        Exception exception = assertThrows(
+            Exception.class,
+            () -> runQuery("bob", "CALL gds.beta.graph.restore('user-graph')", emptyMap())
+        );
+        assertEquals(
+            "No snapshot found for graph with name 'user-graph'.",
+            ExceptionUtil.rootCause(exception).getMessage()
+        );
+
+        // a graph with the same name of another user does not overwrite the snapshot
+        runQuery("bob", "CALL gds.graph.create('user-graph', 'A', '*')", emptyMap());
+        runQuery("bob", "CALL gds.beta.graph.snapshot('user-graph')", emptyMap());
+        GraphStoreCatalog.removeAllLoadedGraphs();
+
+        runQueryWithRowConsumer(
+            "alice",
+            "CALL gds.beta.graph.restore('user-graph')",
+            row -> assertEquals(4, row.getNumber("nodeCount").longValue())
+        );
+        runQueryWithRowConsumer(
+            "bob",
+            "CALL gds.beta.graph.restore('user-graph')",
+            row -> assertEquals(2, row.getNumber("nodeCount").longValue())
+        );
+    }
+
+    @Test
+    void failsToRestoreOverExistingGraph() {
+        runQuery("CALL gds.beta.graph.snapshot('test-graph')");
+
+        assertError(
+            "CALL gds.beta.graph.restore('test-graph')",
+            "A graph with name 'test-graph' already exists."
+        );
+    }
+
+    @Test
+    void failsToRestoreMissingSnapshot() {
+        assertError(
+            "CALL gds.beta.graph.restore('missing-graph')",
+            "No snapshot found for graph with name 'missing-graph'."
+        );
+    }
+
+    @Test
+    void failsOnGraphNamesOutsideOfTheSnapshotDirectory() {
+        assertError(
+            "CALL gds.beta.graph.snapshot('../test-graph')",
+            "The graph name '../test-graph' cannot be used as a snapshot name."
+        );
+    }
+}
@@ -103,9 +103,9 @@ public class K1ColoringMutateProcTest extends K1ColoringProcBaseTest<K1ColoringM
 
         assertCypherResult(query, Arrays.asList(MapUtil.map(
             "nodeCount", 4L,
-            "bytesMin", 304104L,
-            "bytesMax", 304104L,
-            "requiredMemory", "296 KiB"
+            "bytesMin", 304200L,
+            "bytesMax", 304200L,
+            "requiredMemory", "297 KiB"
         )));
     }
 }
@@ -104,13 +104,14 @@ public class GraphWriteNodePropertiesProc extends CatalogProc {
 
             Collection<NodePropertyExporter.NodeProperty<?>> writeNodeProperties =
                 config.nodeProperties().stream()
-                    .map(nodePropertyKey ->
-                        ImmutableNodeProperty.of(
+                    .map(nodePropertyKey -> {
+                        NodeProperties nodeProperties = subGraph.nodeProperties(nodePropertyKey);
+                        return ImmutableNodeProperty.of(
                             nodePropertyKey,
-                            subGraph.nodeProperties(nodePropertyKey),
-                            NodeProperties.translatorFor(graphStore.nodePropertyType(nodeLabel, nodePropertyKey))
-                        )
-                    )
+                            nodeProperties,
+                            NodeProperties.translatorFor(nodeProperties.valueType())
+                        );
+                    })
                     .collect(Collectors.toList());
 
             exporter.write(writeNodeProperties);
@@ -37,6 +37,7 @@ import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.neo4j.graphalgo.compat.MapUtil.map;
 
 class GraphCreateProcEstimateTest extends BaseProcTest {
@@ -82,8 +83,8 @@ class GraphCreateProcEstimateTest extends BaseProcTest {
 
         runQueryWithRowConsumer(query, map("relProjection", relProjection),
             row -> {
-                assertEquals(303552, row.getNumber("bytesMax").longValue());
-                assertEquals(303552, row.getNumber("bytesMin").longValue());
+                assertEquals(303712, row.getNumber("bytesMax").longValue());
+                assertEquals(303712, row.getNumber("bytesMin").longValue());
                 assertEquals(expectedPercentage, row.getNumber("heapPercentageMin").doubleValue());
                 assertEquals(expectedPercentage, row.getNumber("heapPercentageMax").doubleValue());
             }
@@ -104,8 +105,8 @@ class GraphCreateProcEstimateTest extends BaseProcTest {
 
         runQueryWithRowConsumer(query, map("relProjection", relProjection),
             row -> {
-                assertEquals(30315240, row.getNumber("bytesMin").longValue());
-                assertEquals(30315240, row.getNumber("bytesMax").longValue());
+                assertEquals(38315304, row.getNumber("bytesMin").longValue());
+                assertEquals(38315304, row.getNumber("bytesMax").longValue());
                 assertEquals(expectedPercentage, row.getNumber("heapPercentageMin").doubleValue());
                 assertEquals(expectedPercentage, row.getNumber("heapPercentageMax").doubleValue());
             }
@@ -122,8 +123,8 @@ class GraphCreateProcEstimateTest extends BaseProcTest {
 
         runQueryWithRowConsumer(query, map("relProjection", relProjection),
             row -> {
-                assertEquals(573984, row.getNumber("bytesMin").longValue());
-                assertEquals(573984, row.getNumber("bytesMax").longValue());
+                assertEquals(574144, row.getNumber("bytesMin").longValue());
+                assertEquals(574144, row.getNumber("bytesMax").longValue());
             }
         );
     }
@@ -137,8 +138,8 @@ class GraphCreateProcEstimateTest extends BaseProcTest {
             query,
             map("nodeQuery", nodeQuery, "relationshipQuery", relationshipQuery),
             row -> {
-                assertEquals(303504, row.getNumber("bytesMin").longValue());
-                assertEquals(303504, row.getNumber("bytesMax").longValue());
+                assertEquals(303664, row.getNumber("bytesMin").longValue());
+                assertEquals(303664, row.getNumber("bytesMax").longValue());
             }
         );
     }
@@ -153,8 +154,8 @@ class GraphCreateProcEstimateTest extends BaseProcTest {
             query,
             map("nodeQuery", nodeQuery, "relationshipQuery", relationshipQuery),
             row -> {
-                assertEquals(573936, row.getNumber("bytesMin").longValue());
-                assertEquals(573936, row.getNumber("bytesMax").longValue());
+                assertEquals(574096, row.getNumber("bytesMin").longValue());
+                assertEquals(574096, row.getNumber("bytesMax").longValue());
             }
         );
     }
@@ -164,8 +165,8 @@ class GraphCreateProcEstimateTest extends BaseProcTest {
         String query = "CALL gds.graph.create.estimate('*', '*', {nodeCount: 42, relationshipCount: 1337})";
         runQueryWithRowConsumer(query,
             row -> {
-                assertEquals(303792, row.getNumber("bytesMin").longValue());
-                assertEquals(303792, row.getNumber("bytesMax").longValue());
+                assertEquals(304192, row.getNumber("bytesMin").longValue());
+                assertEquals(304192, row.getNumber("bytesMax").longValue());
                 assertEquals(42, row.getNumber("nodeCount").longValue());
                 assertEquals(1337, row.getNumber("relationshipCount").longValue());
             }
@@ -177,21 +178,45 @@ class GraphCreateProcEstimateTest extends BaseProcTest {
         String query = "CALL gds.graph.create.estimate('*', '*', {nodeCount: 42, relationshipCount: 1337})";
         runQueryWithRowConsumer(query,
             row -> {
-                assertEquals(303792, row.getNumber("bytesMin").longValue());
-                assertEquals(303792, row.getNumber("bytesMax").longValue());
+                assertEquals(304192, row.getNumber("bytesMin").longValue());
+                assertEquals(304192, row.getNumber("bytesMax").longValue());
                 assertEquals(42, row.getNumber("nodeCount").longValue());
                 assertEquals(1337, row.getNumber("relationshipCount").longValue());
             }
         );
     }
 
+    @Test
+    void computeMemoryEstimationForPackedAdjacencyCompression() {
+        String query = "CALL gds.graph.create.estimate('*', '*', {" +
+                       "  nodeCount: 1000000," +
+                       "  relationshipCount: 100000000," +
+                       "  adjacencyCompression: $compression" +
+                       "})";
+        long[] varLongRange = new long[2];
+        long[] packedRange = new long[2];
+        runQueryWithRowConsumer(query, singletonMap("compression", "VAR_LONG"), row -> {
+            varLongRange[0] = row.getNumber("bytesMin").longValue();
+            varLongRange[1] = row.getNumber("bytesMax").longValue();
+        });
+        runQueryWithRowConsumer(query, singletonMap("compression", "PACKED"), row -> {
+            packedRange[0] = row.getNumber("bytesMin").longValue();
+            packedRange[1] = row.getNumber("bytesMax").longValue();
+        });
+
+        // consecutive targets pack into a single bit per delta
+        assertTrue(packedRange[0] < varLongRange[0]);
+        // a single large delta widens every delta of its block
+        assertTrue(packedRange[1] > varLongRange[1]);
+    }
+
     @Test
     void computeMemoryEstimationForVirtualGraphWithProperties() throws Exception {
         String query = "CALL gds.graph.create.estimate('*', {`FOO`: {type: '*', properties: 'weight'}}, {nodeCount: 42, relationshipCount: 1337})";
         runQueryWithRowConsumer(query,
             row -> {
-                assertEquals(574224, row.getNumber("bytesMin").longValue());
-                assertEquals(574224, row.getNumber("bytesMax").longValue());
+                assertEquals(574624, row.getNumber("bytesMin").longValue());
+                assertEquals(574624, row.getNumber("bytesMax").longValue());
             }
         );
     }
@@ -201,8 +226,8 @@ class GraphCreateProcEstimateTest extends BaseProcTest {
         String query = "CALL gds.graph.create.estimate('*', '*', {nodeCount: 5000000000, relationshipCount: 20000000000})";
         runQueryWithRowConsumer(query,
             row -> {
-                assertEquals(171461586832L, row.getNumber("bytesMin").longValue());
-                assertEquals(231466207480L, row.getNumber("bytesMax").longValue());
+                assertEquals(211467690424L, row.getNumber("bytesMin").longValue());
+                assertEquals(271472311072L, row.getNumber("bytesMax").longValue());
                 assertEquals(5000000000L, row.getNumber("nodeCount").longValue());
                 assertEquals(20000000000L, row.getNumber("relationshipCount").longValue());
             }
@@ -47,6 +47,7 @@ import org.neo4j.graphalgo.core.Aggregation;
 import org.neo4j.graphalgo.core.CypherMapWrapper;
 import org.neo4j.graphalgo.core.concurrency.ParallelUtil;
 import org.neo4j.graphalgo.core.concurrency.Pools;
+import org.neo4j.graphalgo.core.huge.AdjacencyEncoding;
 import org.neo4j.graphalgo.core.loading.GraphStoreCatalog;
 import org.neo4j.graphalgo.test.TestProc;
 import org.neo4j.graphalgo.utils.ExceptionUtil;
@@ -791,6 +792,58 @@ class GraphCreateProcTest extends BaseProcTest {
         }
     }
 
+    @Test
+    void loadWithPackedAdjacencyCompression() {
+        // enough targets per node to fill several blocks, with small and large deltas
+        runQuery("UNWIND range(0, 299) AS id CREATE (:Node {id: id})");
+        runQuery(
+            "MATCH (a:Node), (b:Node) WHERE a.id % 3 = 0 AND (b.id % 7 = 0 OR b.id > 250) " +
+            "CREATE (a)-[:LINK {weight: a.id + b.id}]->(b)"
+        );
+
+        String nativeQuery = "CALL gds.graph.create(" +
+                             "  $name, 'Node', {LINK: {type: 'LINK', orientation: 'UNDIRECTED', properties: 'weight'}}," +
+                             "  {adjacencyCompression: $compression}" +
+                             ")";
+        runQuery(nativeQuery, map("name", "nativeVarLong", "compression", "VAR_LONG"));
+        runQuery(nativeQuery, map("name", "nativePacked", "compression", "PACKED"));
+
+        String cypherQuery = "CALL gds.graph.create.cypher(" +
+                             "  $name," +
+                             "  'MATCH (n:Node) RETURN id(n) AS id'," +
+                             "  'MATCH (s:Node)-[r:LINK]->(t:Node) RETURN id(s) AS source, id(t) AS target, r.weight AS weight'," +
+                             "  {adjacencyCompression: $compression}" +
+                             ")";
+        runQuery(cypherQuery, map("name", "cypherVarLong", "compression", "VAR_LONG"));
+        runQuery(cypherQuery, map("name", "cypherPacked", "compression", "PACKED"));
+
+        assertEquals(
+            AdjacencyEncoding.PACKED,
+            GraphStoreCatalog.get("", "nativePacked").config().adjacencyCompression()
+        );
+        assertEquals(
+            AdjacencyEncoding.PACKED,
+            GraphStoreCatalog.get("", "cypherPacked").config().adjacencyCompression()
+        );
+
+        assertGraphEquals(
+            GraphStoreCatalog.get("", "nativeVarLong").graphStore().getUnion(),
+            GraphStoreCatalog.get("", "nativePacked").graphStore().getUnion()
+        );
+        assertGraphEquals(
+            GraphStoreCatalog.get("", "cypherVarLong").graphStore().getUnion(),
+            GraphStoreCatalog.get("", "cypherPacked").graphStore().getUnion()
+        );
+    }
+
+    @Test
+    void failsOnInvalidAdjacencyCompression() {
+        assertError(
+            "CALL gds.graph.create('g', 'A', 'REL', {adjacencyCompression: 'ZIP'})",
+            "Adjacency compression `ZIP` is not supported. Must be one of: VAR_LONG, PACKED."
+        );
+    }
+
     @Test
     void loadMultipleNodeProperties() {
         String testGraph =
@@ -23,7 +23,9 @@ import org.intellij.lang.annotations.Language;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.graphalgo.AlgoBaseProcTest;
 import org.neo4j.graphalgo.BaseProcTest;
 import org.neo4j.graphalgo.GdsCypher;
@@ -277,4 +279,19 @@ abstract class PageRankProcTest<CONFIG extends PageRankBaseConfig> extends BaseP
         CONFIG config = createConfig(createMinimalConfig(mapWrapper));
         assertEquals(0.85, config.dampingFactor());
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"push", "PULL"})
+    void testStrategyFromConfig(String strategy) {
+        CypherMapWrapper mapWrapper = CypherMapWrapper.create(MapUtil.map("strategy", strategy));
+        CONFIG config = createConfig(createMinimalConfig(mapWrapper));
+        assertEquals(PageRankStrategy.of(strategy), config.strategy());
+        assertEquals(PageRankStrategy.of(strategy).name(), config.toMap().get("strategy"));
+    }
+
+    @Test
+    void testDefaultStrategy() {
+        CONFIG config = createConfig(createMinimalConfig(CypherMapWrapper.empty()));
+        assertEquals(PageRankStrategy.PUSH, config.strategy());
+    }
 }
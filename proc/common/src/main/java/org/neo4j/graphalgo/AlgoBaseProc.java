@@ -33,16 +33,21 @@ import org.neo4j.graphalgo.config.ConfigurableSeedConfig;
 import org.neo4j.graphalgo.config.GraphCreateConfig;
 import org.neo4j.graphalgo.config.GraphCreateFromCypherConfig;
 import org.neo4j.graphalgo.config.GraphCreateFromStoreConfig;
+import org.neo4j.graphalgo.config.MutateConfig;
 import org.neo4j.graphalgo.config.MutatePropertyConfig;
 import org.neo4j.graphalgo.config.MutateRelationshipConfig;
 import org.neo4j.graphalgo.config.NodeWeightConfig;
 import org.neo4j.graphalgo.config.RandomGraphGeneratorConfig;
 import org.neo4j.graphalgo.config.RelationshipWeightConfig;
 import org.neo4j.graphalgo.config.SeedConfig;
+import org.neo4j.graphalgo.config.WriteConfig;
 import org.neo4j.graphalgo.core.CypherMapWrapper;
 import org.neo4j.graphalgo.core.GraphDimensions;
 import org.neo4j.graphalgo.core.GraphLoader;
 import org.neo4j.graphalgo.core.ImmutableGraphDimensions;
+import org.neo4j.graphalgo.core.concurrency.AdmissionController;
+import org.neo4j.graphalgo.core.concurrency.AdmissionController.JobPriority;
+import org.neo4j.graphalgo.core.concurrency.AdmissionController.Reservation;
 import org.neo4j.graphalgo.core.loading.GraphStoreCatalog;
 import org.neo4j.graphalgo.core.loading.GraphStoreWithConfig;
 import org.neo4j.graphalgo.core.loading.ImmutableGraphStoreWithConfig;
@@ -56,6 +61,7 @@ import org.neo4j.graphalgo.core.write.PropertyTranslator;
 import org.neo4j.graphalgo.results.MemoryEstimateResult;
 import org.neo4j.graphalgo.utils.StringJoining;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -74,6 +80,11 @@ public abstract class AlgoBaseProc<
 
     protected static final String STATS_DESCRIPTION = "Executes the algorithm and returns result statistics without writing the result to Neo4j.";
 
+    private static final Duration ADMISSION_TIMEOUT = Duration.ofMinutes(5);
+
+    // the reservation of the last computation result that holds one, see #holdsReservation()
+    private @Nullable Reservation heldReservation;
+
     public String algoName() {
         return this.getClass().getSimpleName();
     }
@@ -120,6 +131,19 @@ public abstract class AlgoBaseProc<
             .withTerminationFlag(terminationFlag);
     }
 
+    /**
+     * Builds the algorithm for a graph that has been created from the given graph store.
+     * Procedures that need further projections of the same graph store can override this.
+     */
+    protected ALGO newAlgorithm(
+        final Graph graph,
+        final GraphStore graphStore,
+        final CONFIG config,
+        final AllocationTracker tracker
+    ) {
+        return newAlgorithm(graph, config, tracker);
+    }
+
     protected abstract AlgorithmFactory<ALGO, CONFIG> algorithmFactory(CONFIG config);
 
     protected MemoryTreeWithDimensions memoryEstimation(CONFIG config) {
@@ -364,7 +388,51 @@ public abstract class AlgoBaseProc<
         Pair<CONFIG, Optional<String>> input = processInput(graphNameOrConfig, configuration);
         CONFIG config = input.getOne();
 
-        validateMemoryUsageIfImplemented(config);
+        long estimatedBytes = validateMemoryUsageIfImplemented(config);
+
+        JobPriority priority = jobPriority(config);
+        boolean holdReservation = priority == JobPriority.BATCH && holdsReservation();
+        if (holdReservation) {
+            releaseHeldReservation();
+        }
+        Reservation reservation = AdmissionController.instance().admit(
+            algoName(),
+            priority,
+            estimatedBytes,
+            config.concurrency(),
+            ADMISSION_TIMEOUT
+        );
+        if (!reservation.waited().isZero()) {
+            log.info(
+                "%s: waited %d ms for admission due to concurrently running procedures",
+                algoName(),
+                reservation.waited().toMillis()
+            );
+        }
+
+        if (holdReservation) {
+            heldReservation = reservation;
+            builder.reservation(reservation);
+            try {
+                return computeAdmitted(input, builder, tracker, releaseAlgorithm, releaseTopology);
+            } catch (Throwable e) {
+                reservation.close();
+                throw e;
+            }
+        }
+        try (Reservation ignored = reservation) {
+            return computeAdmitted(input, builder, tracker, releaseAlgorithm, releaseTopology);
+        }
+    }
+
+    private ComputationResult<ALGO, ALGO_RESULT, CONFIG> computeAdmitted(
+        Pair<CONFIG, Optional<String>> input,
+        ImmutableComputationResult.Builder<ALGO, ALGO_RESULT, CONFIG> builder,
+        AllocationTracker tracker,
+        boolean releaseAlgorithm,
+        boolean releaseTopology
+    ) {
+        CONFIG config = input.getOne();
 
         GraphStore graphStore;
         Graph graph;
@@ -387,7 +455,7 @@ public abstract class AlgoBaseProc<
                 .build();
         }
 
-        ALGO algo = newAlgorithm(graph, config, tracker);
+        ALGO algo = newAlgorithm(graph, graphStore, config, tracker);
 
         ALGO_RESULT result = runWithExceptionLogging(
             "Computation failed",
@@ -424,15 +492,45 @@ public abstract class AlgoBaseProc<
             "Procedure needs to implement org.neo4j.graphalgo.BaseAlgoProc.nodePropertyTranslator");
     }
 
-    private void validateMemoryUsageIfImplemented(CONFIG config) {
+    /**
+     * The priority used for admitting the computation of this procedure.
+     * Procedures that write or mutate results are batch jobs, all others are considered interactive.
+     * The reservation only covers the computation, unless it is held by the {@link ComputationResult},
+     * see {@link #holdsReservation()}. Results that are streamed lazily are not accounted for.
+     */
+    protected JobPriority jobPriority(CONFIG config) {
+        return config instanceof WriteConfig || config instanceof MutateConfig
+            ? JobPriority.BATCH
+            : JobPriority.INTERACTIVE;
+    }
+
+    /**
+     * Whether the {@link ComputationResult} of a batch job holds its reservation until the result is closed,
+     * so that writing or mutating the results is covered by the reservation as well.
+     * Procedures that return {@code true} must close every computation result they obtain.
+     * A procedure instance serves a single call, so a result whose reservation is still held
+     * when the procedure computes again has been abandoned and its reservation is released.
+     */
+    protected boolean holdsReservation() {
+        return false;
+    }
+
+    private void releaseHeldReservation() {
+        if (heldReservation != null) {
+            heldReservation.close();
+            heldReservation = null;
+        }
+    }
+
+    private long validateMemoryUsageIfImplemented(CONFIG config) {
         var sudoImplicitCreate = config.implicitCreateConfig().map(BaseConfig::sudo).orElse(false);
 
         if (sudoImplicitCreate) {
             log.debug("Sudo mode: Won't check for available memory.");
-            return;
+            return 0L;
         }
 
-        tryValidateMemoryUsage(config, this::memoryEstimation);
+        return tryValidateMemoryUsage(config, this::memoryEstimation);
     }
 
     protected Stream<MemoryEstimateResult> computeEstimate(
@@ -451,7 +549,7 @@ public abstract class AlgoBaseProc<
     }
 
     @ValueClass
-    public interface ComputationResult<A extends Algorithm<A, RESULT>, RESULT, CONFIG extends AlgoBaseConfig> {
+    public interface ComputationResult<A extends Algorithm<A, RESULT>, RESULT, CONFIG extends AlgoBaseConfig> extends AutoCloseable {
         long createMillis();
 
         long computeMillis();
@@ -474,5 +572,19 @@ public abstract class AlgoBaseProc<
         default boolean isGraphEmpty() {
             return false;
         }
+
+        /**
+         * The admission of a batch job, if it is held until the result is closed.
+         */
+        @Nullable
+        Reservation reservation();
+
+        @Override
+        default void close() {
+            Reservation reservation = reservation();
+            if (reservation != null) {
+                reservation.close();
+            }
+        }
     }
 }
@@ -121,18 +121,22 @@ public abstract class BaseProc {
         }
     }
 
-    protected <C extends BaseConfig> void tryValidateMemoryUsage(C config, Function<C, MemoryTreeWithDimensions> runEstimation) {
-        tryValidateMemoryUsage(config, runEstimation, GcListenerExtension::freeMemory);
+    /**
+     * @return the minimum estimated memory of the procedure in bytes,
+     *         or 0 if the check was skipped or no estimation is available
+     */
+    protected <C extends BaseConfig> long tryValidateMemoryUsage(C config, Function<C, MemoryTreeWithDimensions> runEstimation) {
+        return tryValidateMemoryUsage(config, runEstimation, GcListenerExtension::freeMemory);
     }
 
-    public <C extends BaseConfig> void tryValidateMemoryUsage(
+    public <C extends BaseConfig> long tryValidateMemoryUsage(
         C config,
         Function<C, MemoryTreeWithDimensions> runEstimation,
         AlgoBaseProc.FreeMemoryInspector inspector
     ) {
         if (config.sudo()) {
             log.debug("Sudo mode: Won't check for available memory.");
-            return;
+            return 0L;
         }
 
         MemoryTreeWithDimensions memoryTreeWithDimensions = null;
@@ -141,11 +145,12 @@ public abstract class BaseProc {
         } catch (MemoryEstimationNotImplementedException ignored) {
         }
         if (memoryTreeWithDimensions != null) {
-            validateMemoryUsage(memoryTreeWithDimensions, inspector);
+            return validateMemoryUsage(memoryTreeWithDimensions, inspector);
         }
+        return 0L;
     }
 
-    private void validateMemoryUsage(
+    private long validateMemoryUsage(
         MemoryTreeWithDimensions memoryTreeWithDimensions,
         AlgoBaseProc.FreeMemoryInspector inspector
     ) {
@@ -165,6 +170,7 @@ public abstract class BaseProc {
                 MemoryUsage.humanReadable(freeMemory)
             ));
         }
+        return minBytesProcedure;
     }
 
     @FunctionalInterface
@@ -22,15 +22,20 @@ package org.neo4j.graphalgo;
 import org.neo4j.graphalgo.api.Graph;
 import org.neo4j.graphalgo.api.GraphStore;
 import org.neo4j.graphalgo.api.NodeProperties;
+import org.neo4j.graphalgo.api.ValueType;
 import org.neo4j.graphalgo.config.MutatePropertyConfig;
 import org.neo4j.graphalgo.core.huge.NodeFilteredGraph;
 import org.neo4j.graphalgo.core.utils.ProgressTimer;
 import org.neo4j.graphalgo.core.write.PropertyTranslator;
 import org.neo4j.graphalgo.result.AbstractResultBuilder;
+import org.neo4j.values.storable.NumberType;
 
 import java.util.Collection;
+import java.util.function.LongToDoubleFunction;
 import java.util.stream.Stream;
 
+import static org.neo4j.graphalgo.utils.StringFormatting.formatWithLocale;
+
 public abstract class MutateProc<
     ALGO extends Algorithm<ALGO, ALGO_RESULT>,
     ALGO_RESULT,
@@ -41,20 +46,27 @@ public abstract class MutateProc<
 
     protected abstract AbstractResultBuilder<PROC_RESULT> resultBuilder(ComputationResult<ALGO, ALGO_RESULT, CONFIG> computeResult);
 
+    @Override
+    protected boolean holdsReservation() {
+        return true;
+    }
+
     protected Stream<PROC_RESULT> mutate(ComputationResult<ALGO, ALGO_RESULT, CONFIG> computeResult) {
-        CONFIG config = computeResult.config();
-        AbstractResultBuilder<PROC_RESULT> builder = resultBuilder(computeResult)
-            .withCreateMillis(computeResult.createMillis())
-            .withComputeMillis(computeResult.computeMillis())
-            .withNodeCount(computeResult.graph().nodeCount())
-            .withConfig(config);
-
-        if (computeResult.isGraphEmpty()) {
-            return Stream.of(builder.build());
-        } else {
-            updateGraphStore(builder, computeResult);
-            computeResult.graph().releaseProperties();
-            return Stream.of(builder.build());
+        try (computeResult) {
+            CONFIG config = computeResult.config();
+            AbstractResultBuilder<PROC_RESULT> builder = resultBuilder(computeResult)
+                .withCreateMillis(computeResult.createMillis())
+                .withComputeMillis(computeResult.computeMillis())
+                .withNodeCount(computeResult.graph().nodeCount())
+                .withConfig(config);
+
+            if (computeResult.isGraphEmpty()) {
+                return Stream.of(builder.build());
+            } else {
+                updateGraphStore(builder, computeResult);
+                computeResult.graph().releaseProperties();
+                return Stream.of(builder.build());
+            }
         }
     }
 
@@ -89,32 +101,138 @@ public abstract class MutateProc<
         ALGO_RESULT result,
         Graph graph
     ) {
+        NodeProperties resultProperties = resultProperties(resultPropertyTranslator, result, graph.nodeCount());
         if (graph instanceof NodeFilteredGraph) {
-            return new NodeProperties() {
+            return new FilteredResultProperties(resultProperties, (NodeFilteredGraph) graph);
+        }
+        return resultProperties;
+    }
+
+    /**
+     * Exposes the result through the typed accessor that matches the translator, so that e.g. long ids
+     * are not round-tripped through doubles.
+     */
+    private static <RESULT> NodeProperties resultProperties(
+        PropertyTranslator<RESULT> translator,
+        RESULT result,
+        long nodeCount
+    ) {
+        if (translator instanceof PropertyTranslator.OfLong) {
+            PropertyTranslator.OfLong<RESULT> longTranslator = (PropertyTranslator.OfLong<RESULT>) translator;
+            return new ResultProperties(ValueType.LONG, nodeCount, nodeId -> translator.toDouble(result, nodeId)) {
                 @Override
-                public double nodeProperty(long nodeId) {
-                    return !graph.contains(nodeId) ?
-                        PropertyMapping.DEFAULT_FALLBACK_VALUE :
-                        resultPropertyTranslator.toDouble(result, ((NodeFilteredGraph) graph).getMappedNodeId(nodeId));
+                public long longValue(long nodeId) {
+                    return longTranslator.toLong(result, nodeId);
                 }
-
+            };
+        }
+        if (translator instanceof PropertyTranslator.OfDoubleArray) {
+            PropertyTranslator.OfDoubleArray<RESULT> arrayTranslator = (PropertyTranslator.OfDoubleArray<RESULT>) translator;
+            return new ResultProperties(ValueType.DOUBLE_ARRAY, nodeCount, nodeId -> translator.toDouble(result, nodeId)) {
                 @Override
-                public long size() {
-                    return graph.nodeCount();
+                public double[] doubleArrayValue(long nodeId) {
+                    return arrayTranslator.toDoubleArray(result, nodeId);
                 }
             };
-        } else {
-            return new NodeProperties() {
+        }
+        if (translator instanceof PropertyTranslator.OfFloatArray) {
+            PropertyTranslator.OfFloatArray<RESULT> arrayTranslator = (PropertyTranslator.OfFloatArray<RESULT>) translator;
+            return new ResultProperties(ValueType.FLOAT_ARRAY, nodeCount, nodeId -> translator.toDouble(result, nodeId)) {
                 @Override
-                public double nodeProperty(long nodeId) {
-                    return resultPropertyTranslator.toDouble(result, nodeId);
+                public float[] floatArrayValue(long nodeId) {
+                    return arrayTranslator.toFloatArray(result, nodeId);
                 }
 
                 @Override
-                public long size() {
-                    return graph.nodeCount();
+                public double[] doubleArrayValue(long nodeId) {
+                    float[] vector = arrayTranslator.toFloatArray(result, nodeId);
+                    if (vector == null) {
+                        return null;
+                    }
+                    double[] doubleVector = new double[vector.length];
+                    for (int i = 0; i < vector.length; i++) {
+                        doubleVector[i] = vector[i];
+                    }
+                    return doubleVector;
                 }
             };
         }
+        ValueType valueType = translator.numberType() == NumberType.INTEGRAL ? ValueType.LONG : ValueType.DOUBLE;
+        return new ResultProperties(valueType, nodeCount, nodeId -> translator.toDouble(result, nodeId));
+    }
+
+    private static class ResultProperties implements NodeProperties {
+        private final ValueType valueType;
+        private final long nodeCount;
+        private final LongToDoubleFunction values;
+
+        ResultProperties(ValueType valueType, long nodeCount, LongToDoubleFunction values) {
+            this.valueType = valueType;
+            this.nodeCount = nodeCount;
+            this.values = values;
+        }
+
+        @Override
+        public ValueType valueType() {
+            return valueType;
+        }
+
+        @Override
+        public double nodeProperty(long nodeId) {
+            return values.applyAsDouble(nodeId);
+        }
+
+        @Override
+        public long size() {
+            return nodeCount;
+        }
+    }
+
+    /**
+     * Maps the nodes of the graph store to the nodes of the filtered graph the result has been computed for.
+     */
+    private static final class FilteredResultProperties implements NodeProperties {
+        private final NodeProperties properties;
+        private final NodeFilteredGraph graph;
+
+        FilteredResultProperties(NodeProperties properties, NodeFilteredGraph graph) {
+            this.properties = properties;
+            this.graph = graph;
+        }
+
+        @Override
+        public ValueType valueType() {
+            return properties.valueType();
+        }
+
+        @Override
+        public double nodeProperty(long nodeId) {
+            return !graph.contains(nodeId)
+                ? PropertyMapping.DEFAULT_FALLBACK_VALUE
+                : properties.nodeProperty(graph.getMappedNodeId(nodeId));
+        }
+
+        @Override
+        public long longValue(long nodeId) {
+            if (!graph.contains(nodeId)) {
+                throw new IllegalStateException(formatWithLocale("Node %d has no value, it is not part of the graph.", nodeId));
+            }
+            return properties.longValue(graph.getMappedNodeId(nodeId));
+        }
+
+        @Override
+        public double[] doubleArrayValue(long nodeId) {
+            return !graph.contains(nodeId) ? null : properties.doubleArrayValue(graph.getMappedNodeId(nodeId));
+        }
+
+        @Override
+        public float[] floatArrayValue(long nodeId) {
+            return !graph.contains(nodeId) ? null : properties.floatArrayValue(graph.getMappedNodeId(nodeId));
+        }
+
+        @Override
+        public long size() {
+            return graph.nodeCount();
+        }
     }
 }
@@ -40,19 +40,26 @@ public abstract class WriteProc<
 
     protected abstract AbstractResultBuilder<PROC_RESULT> resultBuilder(ComputationResult<ALGO, ALGO_RESULT, CONFIG> computeResult);
 
+    @Override
+    protected boolean holdsReservation() {
+        return true;
+    }
+
     protected Stream<PROC_RESULT> write(ComputationResult<ALGO, ALGO_RESULT, CONFIG> computeResult) {
-        CONFIG config = computeResult.config();
-        AbstractResultBuilder<PROC_RESULT> builder = resultBuilder(computeResult)
-            .withCreateMillis(computeResult.createMillis())
-            .withComputeMillis(computeResult.computeMillis())
-            .withNodeCount(computeResult.graph().nodeCount())
-            .withConfig(config);
+        try (computeResult) {
+            CONFIG config = computeResult.config();
+            AbstractResultBuilder<PROC_RESULT> builder = resultBuilder(computeResult)
+                .withCreateMillis(computeResult.createMillis())
+                .withComputeMillis(computeResult.computeMillis())
+                .withNodeCount(computeResult.graph().nodeCount())
+                .withConfig(config);
 
-        if (!computeResult.isGraphEmpty()) {
-            writeToNeo(builder, computeResult);
-            computeResult.graph().releaseProperties();
+            if (!computeResult.isGraphEmpty()) {
+                writeToNeo(builder, computeResult);
+                computeResult.graph().releaseProperties();
+            }
+            return Stream.of(builder.build());
         }
-        return Stream.of(builder.build());
     }
 
     private void writeToNeo(
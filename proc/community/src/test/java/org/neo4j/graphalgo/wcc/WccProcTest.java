@@ -149,6 +149,20 @@ abstract class WccProcTest<CONFIG extends WccBaseConfig> extends BaseProcTest im
         });
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {"union_find", "AFFOREST"})
+    void testStrategy(String strategy) {
+        CypherMapWrapper config = createMinimalConfig(CypherMapWrapper.create(MapUtil.map(
+            "strategy", strategy
+        )));
+
+        applyOnProcedure(proc -> {
+            CONFIG wccConfig = proc.newConfig(Optional.of("myGraph"), config);
+            assertEquals(WccStrategy.of(strategy), wccConfig.strategy());
+            assertEquals(WccStrategy.of(strategy).name(), wccConfig.toMap().get("strategy"));
+        });
+    }
+
     @Test
     void testFailSeedingAndConsecutiveIds() {
         CypherMapWrapper config = createMinimalConfig(CypherMapWrapper.create(anonymousGraphConfig(
@@ -58,7 +58,12 @@ public class NodeSimilarityMutateProc extends MutateProc<NodeSimilarity, NodeSim
         @Name(value = "graphName") Object graphNameOrConfig,
         @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
     ) {
-        return mutate(compute(graphNameOrConfig, configuration));
+        try (ComputationResult<NodeSimilarity, NodeSimilarityResult, NodeSimilarityMutateConfig> computationResult = compute(
+            graphNameOrConfig,
+            configuration
+        )) {
+            return mutate(computationResult);
+        }
     }
 
     @Procedure(value = "gds.nodeSimilarity.mutate.estimate", mode = READ)
@@ -53,7 +53,12 @@ public class NodeSimilarityWriteProc extends WriteProc<NodeSimilarity, NodeSimil
         @Name(value = "graphName") Object graphNameOrConfig,
         @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
     ) {
-        return write(compute(graphNameOrConfig, configuration));
+        try (ComputationResult<NodeSimilarity, NodeSimilarityResult, NodeSimilarityWriteConfig> computationResult = compute(
+            graphNameOrConfig,
+            configuration
+        )) {
+            return write(computationResult);
+        }
     }
 
     @Procedure(value = "gds.nodeSimilarity.write.estimate", mode = READ)
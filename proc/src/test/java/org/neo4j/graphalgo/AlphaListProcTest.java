@@ -23,6 +23,7 @@ import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.neo4j.graphalgo.centrality.ArticleRankProc;
+import org.neo4j.graphalgo.centrality.BatchedPersonalizedPageRankStreamProc;
 import org.neo4j.graphalgo.centrality.BetweennessCentralityProc;
 import org.neo4j.graphalgo.centrality.ClosenessCentralityProc;
 import org.neo4j.graphalgo.centrality.DegreeCentralityProc;
@@ -33,7 +34,11 @@ import org.neo4j.graphalgo.compat.MapUtil;
 import org.neo4j.graphalgo.embedding.RandomProjectionStreamProc;
 import org.neo4j.graphalgo.functions.IsFiniteFunc;
 import org.neo4j.graphalgo.functions.OneHotEncodingFunc;
+import org.neo4j.graphalgo.linkprediction.AdamicAdarStreamProc;
+import org.neo4j.graphalgo.linkprediction.CommonNeighborsStreamProc;
 import org.neo4j.graphalgo.linkprediction.LinkPredictionFunc;
+import org.neo4j.graphalgo.linkprediction.PreferentialAttachmentStreamProc;
+import org.neo4j.graphalgo.linkprediction.ResourceAllocationStreamProc;
 import org.neo4j.graphalgo.scc.SccProc;
 import org.neo4j.graphalgo.shortestpath.ShortestPathDeltaSteppingProc;
 import org.neo4j.graphalgo.shortestpaths.AllShortestPathsProc;
@@ -117,7 +122,12 @@ class AlphaListProcTest extends BaseProcTest {
         "gds.alpha.ml.ann.write",
         "gds.alpha.ml.ann.stream",
         "gds.alpha.randomProjection.stream",
-        "gds.alpha.shortestPath.astar.stream"
+        "gds.alpha.personalizedPageRank.stream",
+        "gds.alpha.shortestPath.astar.stream",
+        "gds.alpha.linkprediction.adamicAdar.stream",
+        "gds.alpha.linkprediction.resourceAllocation.stream",
+        "gds.alpha.linkprediction.commonNeighbors.stream",
+        "gds.alpha.linkprediction.preferentialAttachment.stream"
     ));
 
     private static final Collection<String> FUNCTIONS = new HashSet<>(asList(
@@ -148,11 +158,14 @@ class AlphaListProcTest extends BaseProcTest {
     @BeforeEach
     void setUp() throws Exception {
         registerProcedures(
+            AdamicAdarStreamProc.class,
             AllShortestPathsProc.class,
             ApproxNearestNeighborsProc.class,
             ArticleRankProc.class,
+            BatchedPersonalizedPageRankStreamProc.class,
             BetweennessCentralityProc.class,
             ClosenessCentralityProc.class,
+            CommonNeighborsStreamProc.class,
             DegreeCentralityProc.class,
             DijkstraProc.class,
             EigenvectorCentralityProc.class,
@@ -165,9 +178,11 @@ class AlphaListProcTest extends BaseProcTest {
             EuclideanProc.class,
             OverlapProc.class,
             PearsonProc.class,
+            PreferentialAttachmentStreamProc.class,
             RandomWalkProc.class,
             OneHotEncodingFunc.class,
             RandomProjectionStreamProc.class,
+            ResourceAllocationStreamProc.class,
             SpanningTreeProc.class,
             SampledBetweennessCentralityProc.class,
             ShortestPathDeltaSteppingProc.class,
@@ -200,10 +215,8 @@ class AlphaListProcTest extends BaseProcTest {
     void listFunctions() {
         Set<String> actual = listProcs("adamicAdar");
         actual.addAll(listProcs("linkprediction"));
-        Set<String> similarity = listProcs("similarity");
-        actual.addAll(similarity.stream()
-            .filter(name -> !name.matches(".*(stream|write|stats)$")).collect(
-            Collectors.toList()));
+        actual.addAll(listProcs("similarity"));
+        actual.removeIf(name -> name.matches(".*(stream|write|stats)$"));
         assertEquals(FUNCTIONS, actual);
     }
 
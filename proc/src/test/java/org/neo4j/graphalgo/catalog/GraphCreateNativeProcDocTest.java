@@ -96,7 +96,7 @@ class GraphCreateNativeProcDocTest extends BaseProcTest {
         String expected = "+-------------------------------------------------------------------------------+\n" +
                            "| requiredMemory          | bytesMin | bytesMax | nodeCount | relationshipCount |\n" +
                            "+-------------------------------------------------------------------------------+\n" +
-                           "| \"[561 KiB ... 564 KiB]\" | 574768   | 577952   | 100       | 1000              |\n" +
+                           "| \"[562 KiB ... 565 KiB]\" | 575632   | 578816   | 100       | 1000              |\n" +
                            "+-------------------------------------------------------------------------------+\n" +
                            "1 row\n";
 
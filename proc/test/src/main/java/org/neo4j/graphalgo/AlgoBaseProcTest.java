@@ -37,6 +37,7 @@ import org.neo4j.graphalgo.config.GraphCreateFromStoreConfig;
 import org.neo4j.graphalgo.core.CypherMapWrapper;
 import org.neo4j.graphalgo.core.GraphLoader;
 import org.neo4j.graphalgo.core.ImmutableGraphLoader;
+import org.neo4j.graphalgo.core.concurrency.AdmissionController;
 import org.neo4j.graphalgo.core.concurrency.ConcurrencyMonitor;
 import org.neo4j.graphalgo.core.loading.GraphStoreCatalog;
 import org.neo4j.internal.kernel.api.procs.ProcedureCallContext;
@@ -94,6 +95,11 @@ public interface AlgoBaseProcTest<ALGORITHM extends Algorithm<ALGORITHM, RESULT>
         GraphStoreCatalog.removeAllLoadedGraphs();
     }
 
+    @AfterEach
+    default void resetAdmissionController() {
+        AdmissionController.resetInstance();
+    }
+
     Class<? extends AlgoBaseProc<ALGORITHM, RESULT, CONFIG>> getProcedureClazz();
 
     GraphDatabaseAPI graphDb();
@@ -116,6 +122,23 @@ public interface AlgoBaseProcTest<ALGORITHM extends Algorithm<ALGORITHM, RESULT>
         return createMinimalConfig(CypherMapWrapper.create(anonymousGraphConfig(mapWrapper.toMap())));
     }
 
+    /**
+     * Computes the result and closes the computation before returning, so that the next computation
+     * does not have to wait for the admission held by batch procedures.
+     */
+    default RESULT computeResult(
+        AlgoBaseProc<ALGORITHM, RESULT, CONFIG> proc,
+        Object graphNameOrConfig,
+        Map<String, Object> configuration
+    ) {
+        try (AlgoBaseProc.ComputationResult<ALGORITHM, RESULT, CONFIG> computationResult = proc.compute(
+            graphNameOrConfig,
+            configuration
+        )) {
+            return computationResult.result();
+        }
+    }
+
     default void applyOnProcedure(Consumer<? super AlgoBaseProc<ALGORITHM, RESULT, CONFIG>> func) {
         try (GraphDatabaseApiProxy.Transactions transactions = newKernelTransaction(graphDb())) {
             AlgoBaseProc<ALGORITHM, RESULT, CONFIG> proc;
@@ -218,18 +241,10 @@ public interface AlgoBaseProcTest<ALGORITHM extends Algorithm<ALGORITHM, RESULT>
                 graphStore
             );
             Map<String, Object> configMap = createMinimalConfig(CypherMapWrapper.empty()).toMap();
-            AlgoBaseProc.ComputationResult<?, RESULT, CONFIG> resultOnLoadedGraph = proc.compute(
-                loadedGraphName,
-                configMap
-            );
-
             Map<String, Object> implicitConfigMap = createMinimalImplicitConfig(CypherMapWrapper.empty()).toMap();
-            AlgoBaseProc.ComputationResult<?, RESULT, CONFIG> resultOnImplicitGraph = proc.compute(
-                implicitConfigMap,
-                Collections.emptyMap()
-            );
-
-            assertResultEquals(resultOnImplicitGraph.result(), resultOnLoadedGraph.result());
+            RESULT resultOnLoadedGraph = computeResult(proc, loadedGraphName, configMap);
+            RESULT resultOnImplicitGraph = computeResult(proc, implicitConfigMap, Collections.emptyMap());
+            assertResultEquals(resultOnImplicitGraph, resultOnLoadedGraph);
         });
     }
 
@@ -246,18 +261,9 @@ public interface AlgoBaseProcTest<ALGORITHM extends Algorithm<ALGORITHM, RESULT>
         ))).toMap();
 
         applyOnProcedure((proc) -> {
-
-            AlgoBaseProc.ComputationResult<?, RESULT, CONFIG> resultOnImplicitGraphFromCypher = proc.compute(
-                cypherConfig,
-                Collections.emptyMap()
-            );
-
-            AlgoBaseProc.ComputationResult<?, RESULT, CONFIG> resultOnImplicitGraphFromStore = proc.compute(
-                storeConfig,
-                Collections.emptyMap()
-            );
-
-            assertResultEquals(resultOnImplicitGraphFromCypher.result(), resultOnImplicitGraphFromStore.result());
+            RESULT resultOnImplicitGraphFromCypher = computeResult(proc, cypherConfig, Collections.emptyMap());
+            RESULT resultOnImplicitGraphFromStore = computeResult(proc, storeConfig, Collections.emptyMap());
+            assertResultEquals(resultOnImplicitGraphFromCypher, resultOnImplicitGraphFromStore);
         });
     }
 
@@ -282,10 +288,9 @@ public interface AlgoBaseProcTest<ALGORITHM extends Algorithm<ALGORITHM, RESULT>
                 graphLoader(graphCreateConfig).graphStore()
             );
             Map<String, Object> configMap = createMinimalConfig(CypherMapWrapper.empty()).toMap();
-            AlgoBaseProc.ComputationResult<?, RESULT, CONFIG> resultRun1 = proc.compute(loadedGraphName, configMap);
-            AlgoBaseProc.ComputationResult<?, RESULT, CONFIG> resultRun2 = proc.compute(loadedGraphName, configMap);
-
-            assertResultEquals(resultRun1.result(), resultRun2.result());
+            RESULT resultRun1 = computeResult(proc, loadedGraphName, configMap);
+            RESULT resultRun2 = computeResult(proc, loadedGraphName, configMap);
+            assertResultEquals(resultRun1, resultRun2);
         });
     }
 
@@ -50,19 +50,20 @@ public interface ConsecutiveIdsConfigTest<ALGORITHM extends Algorithm<ALGORITHM,
 
 
         applyOnProcedure((proc) -> {
-            var computationResult = proc.compute(graphName, consecutiveIdsConfig);
-            var propertyTranslator = proc.nodePropertyTranslator(computationResult);
+            try (var computationResult = proc.compute(graphName, consecutiveIdsConfig)) {
+                var propertyTranslator = proc.nodePropertyTranslator(computationResult);
 
-            assertTrue(propertyTranslator instanceof PropertyTranslator.ConsecutivePropertyTranslator);
+                assertTrue(propertyTranslator instanceof PropertyTranslator.ConsecutivePropertyTranslator);
 
-            Set<Long> consecutiveIds = LongStream
-                .range(0, computationResult.graph().nodeCount())
-                .map(nodeId -> (long) propertyTranslator.toDouble(computationResult.result(), nodeId))
-                .boxed()
-                .collect(Collectors.toSet());
+                Set<Long> consecutiveIds = LongStream
+                    .range(0, computationResult.graph().nodeCount())
+                    .map(nodeId -> (long) propertyTranslator.toDouble(computationResult.result(), nodeId))
+                    .boxed()
+                    .collect(Collectors.toSet());
 
-            for (long i = 0; i < consecutiveIds.size(); i++) {
-                assertTrue(consecutiveIds.contains(i));
+                for (long i = 0; i < consecutiveIds.size(); i++) {
+                    assertTrue(consecutiveIds.contains(i));
+                }
             }
         });
     }
@@ -51,6 +51,18 @@ public final class GraphHelper {
         assertArrayEquals(expected, ids);
     }
 
+    public static void assertInverseRelationships(Graph graph, long node, long... expected) {
+        LongArrayList idList = new LongArrayList();
+        graph.forEachInverseRelationship(node, (s, t) -> {
+            idList.add(t);
+            return true;
+        });
+        long[] ids = idList.toArray();
+        Arrays.sort(ids);
+        Arrays.sort(expected);
+        assertArrayEquals(expected, ids);
+    }
+
     private GraphHelper() {
         throw new UnsupportedOperationException("No instances");
     }
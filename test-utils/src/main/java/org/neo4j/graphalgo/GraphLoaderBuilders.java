@@ -129,7 +129,8 @@ final class GraphLoaderBuilders {
         Optional<String> relationshipQuery,
         Optional<Integer> concurrency,
         Optional<Boolean> validateRelationships,
-        Optional<Map<String, Object>> parameters
+        Optional<Map<String, Object>> parameters,
+        Optional<Integer> partitionCount
     ) {
         GraphCreateFromCypherConfig graphCreateConfig = GraphCreateConfigBuilders.cypherConfig(
             userName.or(() -> securityContext.map(s -> s.subject().username())),
@@ -138,7 +139,8 @@ final class GraphLoaderBuilders {
             relationshipQuery,
             concurrency,
             validateRelationships,
-            parameters
+            parameters,
+            partitionCount
         );
 
         return createGraphLoader(